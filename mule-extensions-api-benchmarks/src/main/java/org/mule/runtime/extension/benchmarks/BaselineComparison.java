@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmarks;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.newBufferedReader;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Compares the JSON results of two JMH runs, reporting for each benchmark present in both how its time and its allocations
+ * changed from the baseline.
+ * <p>
+ * Allocations are read from the {@code gc.alloc.rate.norm} metric, which is only present when the runs were profiled with the
+ * {@link org.openjdk.jmh.profile.GCProfiler}.
+ *
+ * @since 1.10
+ */
+public class BaselineComparison {
+
+  private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+  private final Map<String, Result> baseline;
+  private final Map<String, Result> current;
+  private final double threshold;
+
+  /**
+   * Creates a new instance
+   *
+   * @param baseline  the results to compare against
+   * @param current   the results to compare
+   * @param threshold the percentage above which an increase of the time or the allocations of a benchmark is a regression
+   * @throws IOException if any of the results can't be read
+   */
+  public BaselineComparison(Path baseline, Path current, double threshold) throws IOException {
+    this.baseline = read(baseline);
+    this.current = read(current);
+    this.threshold = threshold;
+  }
+
+  /**
+   * Prints the comparison into the given {@code out}
+   *
+   * @param out where to print the comparison
+   * @return {@code true} if no regression was found, {@code false} otherwise
+   */
+  public boolean report(PrintStream out) {
+    boolean passed = true;
+    out.println(format("%-90s %14s %14s %9s %14s %14s %9s", "Benchmark", "Baseline", "Current", "Change",
+                       "Baseline B/op", "Current B/op", "Change"));
+
+    for (Entry<String, Result> entry : new TreeMap<>(current).entrySet()) {
+      Result base = baseline.get(entry.getKey());
+      if (base == null) {
+        continue;
+      }
+
+      Result result = entry.getValue();
+      double scoreChange = change(base.score, result.score);
+      double allocationChange = change(base.allocation, result.allocation);
+      boolean regression = scoreChange > threshold || allocationChange > threshold;
+      passed &= !regression;
+
+      out.println(format("%-90s %14.3f %14.3f %8.1f%% %14.1f %14.1f %8.1f%%%s", entry.getKey(),
+                         base.score, result.score, scoreChange,
+                         base.allocation, result.allocation, allocationChange,
+                         regression ? "  REGRESSION" : ""));
+    }
+
+    return passed;
+  }
+
+  private static double change(double base, double current) {
+    if (base <= 0 || Double.isNaN(base) || Double.isNaN(current)) {
+      return 0;
+    }
+    return (current - base) * 100 / base;
+  }
+
+  private static Map<String, Result> read(Path file) throws IOException {
+    Map<String, Result> results = new LinkedHashMap<>();
+    try (Reader reader = newBufferedReader(file, UTF_8)) {
+      JsonArray runs = new JsonParser().parse(reader).getAsJsonArray();
+      for (JsonElement element : runs) {
+        JsonObject run = element.getAsJsonObject();
+        double score = run.getAsJsonObject("primaryMetric").get("score").getAsDouble();
+        double allocation = Double.NaN;
+        JsonObject secondaryMetrics = run.getAsJsonObject("secondaryMetrics");
+        if (secondaryMetrics != null && secondaryMetrics.has(ALLOCATION_METRIC)) {
+          allocation = secondaryMetrics.getAsJsonObject(ALLOCATION_METRIC).get("score").getAsDouble();
+        }
+
+        results.put(key(run), new Result(score, allocation));
+      }
+    }
+    return results;
+  }
+
+  private static String key(JsonObject run) {
+    StringBuilder key = new StringBuilder(run.get("benchmark").getAsString());
+    JsonObject params = run.getAsJsonObject("params");
+    if (params != null) {
+      Map<String, String> sortedParams = new TreeMap<>();
+      for (Entry<String, JsonElement> param : params.entrySet()) {
+        sortedParams.put(param.getKey(), param.getValue().getAsString());
+      }
+      sortedParams.forEach((name, value) -> key.append(':').append(name).append('=').append(value));
+    }
+    return key.toString();
+  }
+
+  private static class Result {
+
+    private final double score;
+    private final double allocation;
+
+    private Result(double score, double allocation) {
+      this.score = score;
+      this.allocation = allocation;
+    }
+  }
+}
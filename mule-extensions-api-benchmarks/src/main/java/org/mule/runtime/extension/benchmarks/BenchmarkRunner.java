@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmarks;
+
+import static java.lang.Double.parseDouble;
+import static java.nio.file.Files.exists;
+import static java.nio.file.Paths.get;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ * <p>
+ * Runs the benchmarks matching the given regular expressions, or all of them if none is given, with the {@link GCProfiler} so
+ * that the allocations of each benchmark are reported along with its time. Results are written as JSON and, when a baseline
+ * from a previous run is given, compared against it through {@link BaselineComparison}. Accepted options:
+ * <ul>
+ * <li>{@code --result=<file>}: where to write the results. Defaults to {@code benchmarks.json}</li>
+ * <li>{@code --baseline=<file>}: the results of a previous run to compare against</li>
+ * <li>{@code --threshold=<percentage>}: how much slower, or how much more allocating, a benchmark may be than in the baseline
+ * before it's considered a regression. Defaults to {@code 10}</li>
+ * </ul>
+ * The process exits with status {@code 1} if any regression is found.
+ *
+ * @since 1.10
+ */
+public class BenchmarkRunner {
+
+  private static final String RESULT_OPTION = "--result=";
+  private static final String BASELINE_OPTION = "--baseline=";
+  private static final String THRESHOLD_OPTION = "--threshold=";
+
+  public static void main(String[] args) throws Exception {
+    Path result = get("benchmarks.json");
+    Path baseline = null;
+    double threshold = 10;
+    List<String> includes = new ArrayList<>();
+
+    for (String arg : args) {
+      if (arg.startsWith(RESULT_OPTION)) {
+        result = get(arg.substring(RESULT_OPTION.length()));
+      } else if (arg.startsWith(BASELINE_OPTION)) {
+        baseline = get(arg.substring(BASELINE_OPTION.length()));
+      } else if (arg.startsWith(THRESHOLD_OPTION)) {
+        threshold = parseDouble(arg.substring(THRESHOLD_OPTION.length()));
+      } else {
+        includes.add(arg);
+      }
+    }
+
+    if (baseline != null && !exists(baseline)) {
+      throw new IllegalArgumentException("Baseline '" + baseline + "' does not exist");
+    }
+
+    run(includes, result);
+
+    if (baseline != null && !new BaselineComparison(baseline, result, threshold).report(System.out)) {
+      System.exit(1);
+    }
+  }
+
+  private static void run(List<String> includes, Path result) throws RunnerException {
+    ChainedOptionsBuilder options = new OptionsBuilder()
+        .addProfiler(GCProfiler.class)
+        .resultFormat(ResultFormatType.JSON)
+        .result(result.toString());
+
+    if (includes.isEmpty()) {
+      options.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+    } else {
+      includes.forEach(options::include);
+    }
+
+    new Runner(options.build()).run();
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmarks;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+
+import static java.util.Collections.singleton;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.mule.runtime.api.dsl.DslResolvingContext;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures resolving the DSL syntax of all the operations and parameters of an {@link ExtensionModel}, both through a new
+ * {@link DslSyntaxResolver} and through the shared one.
+ *
+ * @since 1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(1)
+public class DslSyntaxResolutionBenchmark {
+
+  @Param({"10", "100"})
+  public int operations;
+
+  @Param({"5", "20"})
+  public int parameters;
+
+  private ExtensionModel extensionModel;
+  private DslResolvingContext dslResolvingContext;
+
+  @Setup
+  public void setup() {
+    extensionModel = new SyntheticExtensionLoader(operations, parameters, 10).load();
+    dslResolvingContext = getDefault(singleton(extensionModel));
+  }
+
+  @Benchmark
+  public void resolve(Blackhole blackhole) {
+    resolveAll(DslSyntaxResolver.getDefault(extensionModel, dslResolvingContext), blackhole);
+  }
+
+  @Benchmark
+  public void resolveShared(Blackhole blackhole) {
+    resolveAll(DslSyntaxResolver.getShared(extensionModel, dslResolvingContext), blackhole);
+  }
+
+  private void resolveAll(DslSyntaxResolver resolver, Blackhole blackhole) {
+    for (OperationModel operation : extensionModel.getOperationModels()) {
+      blackhole.consume(resolver.resolve(operation));
+      for (ParameterModel parameter : operation.getAllParameterModels()) {
+        blackhole.consume(resolver.resolve(parameter));
+      }
+    }
+  }
+}
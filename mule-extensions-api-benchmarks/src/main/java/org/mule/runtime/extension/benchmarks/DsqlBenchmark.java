@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmarks;
+
+import static org.mule.runtime.extension.internal.dsql.DefaultDsqlParser.getQueryCache;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.mule.runtime.extension.api.dsql.DsqlParser;
+import org.mule.runtime.extension.api.dsql.DsqlQuery;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing DSQL queries, both when the query was already parsed and when it has to be parsed from scratch.
+ *
+ * @since 1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(1)
+public class DsqlBenchmark {
+
+  private static final String QUERY = "dsql:SELECT id, name, email FROM Account "
+      + "WHERE ((age < 18 OR grade = 0) AND name = 'Juan') OR email = 'juan@mulesoft.com' "
+      + "ORDER BY name,age DESC LIMIT 10 OFFSET 20";
+
+  private final DsqlParser parser = DsqlParser.getInstance();
+
+  @Benchmark
+  public DsqlQuery parse() {
+    return parser.parse(QUERY);
+  }
+
+  @Benchmark
+  public DsqlQuery parseWithoutCache() {
+    getQueryCache().invalidateAll();
+    return parser.parse(QUERY);
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmarks;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+
+import static java.util.Collections.emptySet;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap retained by many copies of the same {@link ExtensionModel}, as when many applications use the same
+ * extension, with and without canonicalizing them.
+ * <p>
+ * Each invocation loads {@code copies} models and reports the heap they retain, measured after a full GC, in the
+ * {@code retainedBytes} secondary result.
+ *
+ * @since 1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ModelCanonicalizationBenchmark {
+
+  @Param({"false", "true"})
+  public boolean canonicalize;
+
+  @Param({"20"})
+  public int copies;
+
+  private SyntheticExtensionLoader loader;
+  private ExtensionModelLoadingRequest request;
+  private List<ExtensionModel> models;
+
+  /**
+   * The heap retained by the models loaded by the invocation.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class RetainedHeap {
+
+    public long retainedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      retainedBytes = 0;
+    }
+  }
+
+  @Setup
+  public void setup() {
+    loader = new SyntheticExtensionLoader(100, 20, 50);
+    request = builder(getClass().getClassLoader(), getDefault(emptySet()))
+        .setCanonicalizeModel(canonicalize)
+        .build();
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() {
+    models = null;
+  }
+
+  @Benchmark
+  public int load(RetainedHeap heap) {
+    long before = usedHeapAfterGc();
+
+    // kept in a field, so that the models are still reachable when measuring
+    models = new ArrayList<>(copies);
+    for (int i = 0; i < copies; i++) {
+      models.add(loader.loadExtensionModel(request));
+    }
+
+    heap.retainedBytes = usedHeapAfterGc() - before;
+    return models.size();
+  }
+
+  private static long usedHeapAfterGc() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
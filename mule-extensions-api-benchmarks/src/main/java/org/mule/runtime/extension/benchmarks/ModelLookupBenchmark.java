@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmarks;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.mule.runtime.api.meta.model.ComponentModel;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.extension.api.property.ClassLoaderModelProperty;
+import org.mule.runtime.extension.api.property.QNameModelProperty;
+
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the lookups performed on an {@link ExtensionModel} once it's loaded: finding operations and any kind of component by
+ * name, and reading model properties, both present and absent.
+ *
+ * @since 1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(1)
+public class ModelLookupBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int operations;
+
+  private ExtensionModel extensionModel;
+  private String[] operationNames;
+  private int next;
+
+  @Setup
+  public void setup() {
+    extensionModel = new SyntheticExtensionLoader(operations, 2, 2).load();
+    operationNames = extensionModel.getOperationModels().stream().map(OperationModel::getName).toArray(String[]::new);
+  }
+
+  @Benchmark
+  public Optional<OperationModel> getOperationModel() {
+    next = (next + 1) % operationNames.length;
+    return extensionModel.getOperationModel(operationNames[next]);
+  }
+
+  @Benchmark
+  public Optional<ComponentModel> findComponentModel() {
+    next = (next + 1) % operationNames.length;
+    return extensionModel.findComponentModel(operationNames[next]);
+  }
+
+  @Benchmark
+  public Optional<ComponentModel> findAbsentComponentModel() {
+    return extensionModel.findComponentModel("absent");
+  }
+
+  @Benchmark
+  public Optional<ClassLoaderModelProperty> getPresentModelProperty() {
+    return extensionModel.getModelProperty(ClassLoaderModelProperty.class);
+  }
+
+  @Benchmark
+  public Optional<QNameModelProperty> getAbsentModelProperty() {
+    return extensionModel.getModelProperty(QNameModelProperty.class);
+  }
+}
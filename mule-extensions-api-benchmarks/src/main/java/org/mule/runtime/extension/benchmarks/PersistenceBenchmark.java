@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.extension.api.persistence.ExtensionModelBinarySerializer;
+import org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer;
+
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures serializing and deserializing an {@link ExtensionModel} through the JSON and the binary formats.
+ * <p>
+ * The JSON serializer is measured both as it's used to, creating a new one for each model, and reusing a single one. Lazy
+ * deserialization is measured up to reading a single operation, which is the use case it optimizes.
+ * <p>
+ * The size of the serialized model is reported in the {@code jsonBytes} and {@code binaryBytes} secondary results of the
+ * benchmarks which serialize it reusing the serializer.
+ *
+ * @since 1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(1)
+public class PersistenceBenchmark {
+
+  @Param({"10", "100"})
+  public int operations;
+
+  private final ExtensionModelJsonSerializer reusableJsonSerializer = new ExtensionModelJsonSerializer(false, true);
+  private final ExtensionModelJsonSerializer lazyJsonSerializer = new ExtensionModelJsonSerializer(false, true, true);
+  private final ExtensionModelBinarySerializer binarySerializer = new ExtensionModelBinarySerializer();
+
+  private ExtensionModel extensionModel;
+  private String json;
+  private byte[] binary;
+
+  @Setup
+  public void setup() {
+    extensionModel = new SyntheticExtensionLoader(operations, 10, 10).load();
+    json = reusableJsonSerializer.serialize(extensionModel);
+    binary = binarySerializer.serialize(extensionModel);
+  }
+
+  @Benchmark
+  public String serializeJson() {
+    return new ExtensionModelJsonSerializer().serialize(extensionModel);
+  }
+
+  /**
+   * The size of the model serialized as JSON, encoded as UTF-8.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class JsonSize {
+
+    public long jsonBytes;
+
+    @Setup(Level.Iteration)
+    public void setup(PersistenceBenchmark benchmark) {
+      jsonBytes = benchmark.json.getBytes(UTF_8).length;
+    }
+  }
+
+  /**
+   * The size of the model serialized in the binary format.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class BinarySize {
+
+    public long binaryBytes;
+
+    @Setup(Level.Iteration)
+    public void setup(PersistenceBenchmark benchmark) {
+      binaryBytes = benchmark.binary.length;
+    }
+  }
+
+  @Benchmark
+  public String serializeJsonReusingSerializer(JsonSize size) {
+    return reusableJsonSerializer.serialize(extensionModel);
+  }
+
+  @Benchmark
+  public ExtensionModel deserializeJson() {
+    return new ExtensionModelJsonSerializer().deserialize(json);
+  }
+
+  @Benchmark
+  public ExtensionModel deserializeJsonReusingSerializer() {
+    return reusableJsonSerializer.deserialize(json);
+  }
+
+  @Benchmark
+  public Optional<OperationModel> deserializeJsonLazilyAndReadOperation() {
+    return lazyJsonSerializer.deserialize(json).getOperationModel("operation0");
+  }
+
+  @Benchmark
+  public byte[] serializeBinary(BinarySize size) {
+    return binarySerializer.serialize(extensionModel);
+  }
+
+  @Benchmark
+  public ExtensionModel deserializeBinary() {
+    return binarySerializer.deserialize(binary);
+  }
+}
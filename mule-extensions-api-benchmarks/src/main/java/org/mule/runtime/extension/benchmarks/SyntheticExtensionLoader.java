@@ -0,0 +1,134 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmarks;
+
+import static org.mule.metadata.api.builder.BaseTypeBuilder.create;
+import static org.mule.metadata.api.model.MetadataFormat.JAVA;
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.api.meta.Category.COMMUNITY;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+
+import static java.util.Collections.emptySet;
+
+import org.mule.metadata.api.builder.ObjectTypeBuilder;
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.metadata.api.model.ObjectType;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.XmlDslModel;
+import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclarer;
+import org.mule.runtime.api.meta.model.declaration.fluent.OperationDeclarer;
+import org.mule.runtime.api.meta.model.declaration.fluent.ParameterGroupDeclarer;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ExtensionModelLoader} which declares a synthetic extension of a given size, so that the benchmarks can measure how the
+ * work scales.
+ * <p>
+ * The extension has a configuration and {@code operations} operations, each one with {@code parameters} parameters. Half of
+ * the parameters are strings and the other half are of one of {@code types} object types. Each object type has
+ * {@code parameters} string fields and references the previous type, so that the types form a graph as deep as there are types.
+ *
+ * @since 1.10
+ */
+public class SyntheticExtensionLoader extends ExtensionModelLoader {
+
+  private static final String NAME = "synthetic";
+
+  private final int operations;
+  private final int parameters;
+  private final int types;
+
+  /**
+   * @param operations the amount of operations of the extension
+   * @param parameters the amount of parameters of each operation, and of fields of each type
+   * @param types      the amount of object types of the extension
+   */
+  public SyntheticExtensionLoader(int operations, int parameters, int types) {
+    this.operations = operations;
+    this.parameters = parameters;
+    this.types = types;
+  }
+
+  /**
+   * @return a new {@link ExtensionModel} of the synthetic extension
+   */
+  public ExtensionModel load() {
+    return loadExtensionModel(request());
+  }
+
+  /**
+   * @return a request for loading the synthetic extension without any dependency
+   */
+  public ExtensionModelLoadingRequest request() {
+    return builder(getClass().getClassLoader(), getDefault(emptySet())).build();
+  }
+
+  @Override
+  public String getId() {
+    return NAME;
+  }
+
+  @Override
+  protected void declareExtension(ExtensionLoadingContext context) {
+    ExtensionDeclarer declarer = context.getExtensionDeclarer()
+        .named(NAME)
+        .describedAs("Synthetic extension")
+        .onVersion("1.0.0")
+        .fromVendor("MuleSoft")
+        .withCategory(COMMUNITY)
+        .withXmlDsl(XmlDslModel.builder()
+            .setPrefix(NAME)
+            .setNamespace("http://www.mulesoft.org/schema/mule/" + NAME)
+            .setSchemaVersion("1.0.0")
+            .setXsdFileName("mule-" + NAME + ".xsd")
+            .setSchemaLocation("http://www.mulesoft.org/schema/mule/" + NAME + "/current/mule-" + NAME + ".xsd")
+            .build());
+
+    declarer.withConfig("config").describedAs("Synthetic configuration");
+
+    final MetadataType stringType = create(JAVA).stringType().build();
+    final MetadataType voidType = create(JAVA).voidType().build();
+    final List<ObjectType> objectTypes = createTypes(stringType);
+    objectTypes.forEach(declarer::withType);
+
+    for (int i = 0; i < operations; i++) {
+      OperationDeclarer operation = declarer.withOperation("operation" + i).describedAs("Synthetic operation " + i);
+      operation.withOutput().ofType(objectTypes.get(i % objectTypes.size()));
+      operation.withOutputAttributes().ofType(voidType);
+
+      ParameterGroupDeclarer group = operation.onDefaultParameterGroup();
+      for (int j = 0; j < parameters; j++) {
+        MetadataType type = j % 2 == 0 ? stringType : objectTypes.get((i + j) % objectTypes.size());
+        group.withOptionalParameter("parameter" + j).ofType(type).describedAs("Synthetic parameter " + j);
+      }
+    }
+  }
+
+  private List<ObjectType> createTypes(MetadataType stringType) {
+    List<ObjectType> objectTypes = new ArrayList<>(types);
+    ObjectType previous = null;
+    for (int i = 0; i < Math.max(types, 1); i++) {
+      ObjectTypeBuilder type = create(JAVA).objectType().id("org.mule.synthetic.SyntheticType" + i);
+      for (int j = 0; j < parameters; j++) {
+        type.addField().key("field" + j).value(stringType);
+      }
+      if (previous != null) {
+        type.addField().key("previous").value(previous);
+      }
+
+      previous = type.build();
+      objectTypes.add(previous);
+    }
+
+    return objectTypes;
+  }
+}
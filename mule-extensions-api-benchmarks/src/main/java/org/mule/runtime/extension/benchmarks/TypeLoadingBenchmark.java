@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmarks;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.extension.api.declaration.type.ExtensionsTypeLoaderFactory;
+import org.mule.runtime.extension.benchmarks.model.PurchaseOrder;
+import org.mule.runtime.extension.internal.loader.SharedClassTypeLoaders;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures introspecting a graph of POJOs into a {@link MetadataType}, both through a new type loader, as each extension
+ * loading context used to do, and through the loader shared by all the extensions of the same {@link ClassLoader}.
+ *
+ * @since 1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(1)
+public class TypeLoadingBenchmark {
+
+  private final ClassLoader classLoader = TypeLoadingBenchmark.class.getClassLoader();
+
+  @Benchmark
+  public MetadataType load() {
+    return ExtensionsTypeLoaderFactory.getDefault().createTypeLoader(classLoader).load(PurchaseOrder.class);
+  }
+
+  @Benchmark
+  public MetadataType loadShared() {
+    return SharedClassTypeLoaders.get(classLoader).load(PurchaseOrder.class);
+  }
+}
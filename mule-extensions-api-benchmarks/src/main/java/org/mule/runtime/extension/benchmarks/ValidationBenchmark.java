@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmarks;
+
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+import static org.mule.runtime.extension.internal.loader.ExtensionModelFactory.PARALLEL_VALIDATION_PROPERTY;
+import static org.mule.runtime.extension.internal.loader.ExtensionModelFactory.PROBLEMS_HANDLER;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+import org.mule.runtime.extension.privileged.loader.ProblemsHandler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures loading an extension model while validating it, which applies the validators that walk the model on a single shared
+ * walk, either sequentially or concurrently with the ones which don't, against loading it without validation.
+ * <p>
+ * The problems found by the validators are discarded, so that the measured work doesn't depend on whether the synthetic
+ * extension is valid.
+ *
+ * @since 1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = SECONDS)
+@Fork(1)
+public class ValidationBenchmark {
+
+  @Param({"none", "sequential", "parallel"})
+  public String validation;
+
+  @Param({"10", "100"})
+  public int operations;
+
+  private SyntheticExtensionLoader loader;
+  private ExtensionModelLoadingRequest request;
+
+  @Setup
+  public void setup() {
+    // read when the loader is created
+    System.setProperty(PARALLEL_VALIDATION_PROPERTY, String.valueOf("parallel".equals(validation)));
+    try {
+      loader = new SyntheticExtensionLoader(operations, 10, 10);
+    } finally {
+      System.clearProperty(PARALLEL_VALIDATION_PROPERTY);
+    }
+
+    ExtensionModelLoadingRequest syntheticRequest = loader.request();
+    request = builder(syntheticRequest, syntheticRequest.getDslResolvingContext())
+        .setForceExtensionValidation(!"none".equals(validation))
+        .addParameter(PROBLEMS_HANDLER, (ProblemsHandler) problemsReporter -> {
+        })
+        .build();
+  }
+
+  @Benchmark
+  public ExtensionModel load() {
+    return loader.loadExtensionModel(request);
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmarks.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A customer of a {@link PurchaseOrder}.
+ *
+ * @since 1.10
+ */
+public class Customer {
+
+  private String name;
+  private String email;
+  private List<Address> addresses;
+  private Map<String, String> preferences;
+  private boolean active;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  public void setEmail(String email) {
+    this.email = email;
+  }
+
+  public List<Address> getAddresses() {
+    return addresses;
+  }
+
+  public void setAddresses(List<Address> addresses) {
+    this.addresses = addresses;
+  }
+
+  public Map<String, String> getPreferences() {
+    return preferences;
+  }
+
+  public void setPreferences(Map<String, String> preferences) {
+    this.preferences = preferences;
+  }
+
+  public boolean isActive() {
+    return active;
+  }
+
+  public void setActive(boolean active) {
+    this.active = active;
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmarks.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A product of a {@link LineItem}.
+ *
+ * @since 1.10
+ */
+public class Product {
+
+  private String sku;
+  private String name;
+  private String description;
+  private List<String> tags;
+  private Map<String, String> attributes;
+  private Product replacement;
+
+  public String getSku() {
+    return sku;
+  }
+
+  public void setSku(String sku) {
+    this.sku = sku;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public void setDescription(String description) {
+    this.description = description;
+  }
+
+  public List<String> getTags() {
+    return tags;
+  }
+
+  public void setTags(List<String> tags) {
+    this.tags = tags;
+  }
+
+  public Map<String, String> getAttributes() {
+    return attributes;
+  }
+
+  public void setAttributes(Map<String, String> attributes) {
+    this.attributes = attributes;
+  }
+
+  public Product getReplacement() {
+    return replacement;
+  }
+
+  public void setReplacement(Product replacement) {
+    this.replacement = replacement;
+  }
+}
@@ -15,6 +15,7 @@ module org.mule.runtime.extensions.api.dsql {
   requires org.mule.runtime.extensions.api;
   
   requires antlr.runtime;
+  requires com.github.benmanes.caffeine;
 
   provides org.mule.runtime.extension.api.dsql.DsqlParser
       with org.mule.runtime.extension.internal.dsql.DefaultDsqlParser;
@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.extension.internal.dsql;
 
+import static java.lang.Integer.getInteger;
+
 import org.mule.runtime.extension.api.dsql.DsqlParser;
 import org.mule.runtime.extension.api.dsql.DsqlQuery;
 import org.mule.runtime.extension.api.dsql.QueryBuilder;
@@ -33,10 +35,29 @@ public final class DefaultDsqlParser extends DsqlParser {
   private static final String DSQL_QUERY_PREFIX = "dsql:";
 
   /**
-   * @return a new {@link DefaultDsqlParser} instance.
+   * System property to set the maximum amount of parsed queries which are kept in the {@link #getQueryCache() query cache}.
+   *
+   * @since 1.10
+   */
+  public static final String QUERY_CACHE_SIZE_PROPERTY = "mule.dsql.queryCache.size";
+
+  private static final DsqlQueryCache QUERY_CACHE = new DsqlQueryCache(getInteger(QUERY_CACHE_SIZE_PROPERTY, 256));
+
+  private static final DefaultDsqlParser INSTANCE = new DefaultDsqlParser();
+
+  /**
+   * @return the shared {@link DefaultDsqlParser} instance.
    */
   public static DefaultDsqlParser getInstance() {
-    return new DefaultDsqlParser();
+    return INSTANCE;
+  }
+
+  /**
+   * @return the {@link DsqlQueryCache} shared by all the instances of this class
+   * @since 1.10
+   */
+  public static DsqlQueryCache getQueryCache() {
+    return QUERY_CACHE;
   }
 
   /**
@@ -51,6 +72,9 @@ public final class DefaultDsqlParser extends DsqlParser {
 
   /**
    * Parses a {@link String} representing a dsql query into a proper {@link DsqlQuery} instance.
+   * <p>
+   * Parsed queries are immutable and are kept in the {@link #getQueryCache() query cache}, so parsing the same text again
+   * returns the same instance.
    *
    * @param dsqlQuery a {@link String} that represents a {@link DsqlQuery}.
    * @return a parsed {@link DsqlQuery} instance.
@@ -62,6 +86,10 @@ public final class DefaultDsqlParser extends DsqlParser {
       throw new IllegalArgumentException("Invalid Query: DSQL queries must start with the [dsql:] prefix");
     }
 
+    return QUERY_CACHE.get(dsqlQuery, this::doParse);
+  }
+
+  private DsqlQuery doParse(String dsqlQuery) {
     MuleDsqlLexer dsqlLexer = new MuleDsqlLexer(new ANTLRStringStream(dsqlQuery.substring(5)));
 
     CommonTokenStream dsqlTokens = new CommonTokenStream();
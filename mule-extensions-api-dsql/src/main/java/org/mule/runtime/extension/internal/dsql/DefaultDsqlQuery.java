@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.extension.internal.dsql;
 
+import static java.util.Collections.synchronizedMap;
 import static java.util.Collections.unmodifiableList;
 
 import org.mule.runtime.extension.api.dsql.Direction;
@@ -16,11 +17,16 @@ import org.mule.runtime.extension.api.dsql.Field;
 import org.mule.runtime.extension.api.dsql.QueryTranslator;
 import org.mule.runtime.extension.internal.expression.EmptyExpression;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 
 /**
  * Represents a parsed DSQL query.
+ * <p>
+ * Instances are immutable, so they can be cached and shared.
  *
  * @since 1.0
  */
@@ -61,6 +67,12 @@ public final class DefaultDsqlQuery extends DsqlQuery {
    */
   private final Integer offset;
 
+  /**
+   * Translations memoized by the type of the translator which produced them. Weakly keyed so that cached queries don't keep the
+   * translators classes from being unloaded.
+   */
+  private final Map<Class<? extends QueryTranslator>, String> translations = synchronizedMap(new WeakHashMap<>());
+
   /**
    * Creates a new instance.
    *
@@ -80,8 +92,8 @@ public final class DefaultDsqlQuery extends DsqlQuery {
                           Integer limit,
                           Integer offset) {
     this.type = type;
-    this.fields = fields;
-    this.orderByFields = orderByFields;
+    this.fields = unmodifiableList(new ArrayList<>(fields));
+    this.orderByFields = unmodifiableList(new ArrayList<>(orderByFields));
     this.direction = direction == null ? Direction.ASC : direction;
     this.filterExpression = filterExpression == null ? new EmptyExpression() : filterExpression;
     this.limit = limit;
@@ -93,7 +105,7 @@ public final class DefaultDsqlQuery extends DsqlQuery {
    */
   @Override
   public List<Field> getFields() {
-    return unmodifiableList(fields);
+    return fields;
   }
 
   /**
@@ -101,7 +113,7 @@ public final class DefaultDsqlQuery extends DsqlQuery {
    */
   @Override
   public List<Field> getOrderByFields() {
-    return unmodifiableList(orderByFields);
+    return orderByFields;
   }
 
   /**
@@ -174,4 +186,19 @@ public final class DefaultDsqlQuery extends DsqlQuery {
     return queryTranslator.getTranslation();
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The translation is memoized for each {@code queryTranslatorType}.
+   */
+  @Override
+  public String translate(Class<? extends QueryTranslator> queryTranslatorType) {
+    String translation = translations.get(queryTranslatorType);
+    if (translation == null) {
+      translation = super.translate(queryTranslatorType);
+      translations.put(queryTranslatorType, translation);
+    }
+    return translation;
+  }
+
 }
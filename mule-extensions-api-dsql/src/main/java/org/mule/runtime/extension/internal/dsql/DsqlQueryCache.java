@@ -0,0 +1,84 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsql;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
+import org.mule.runtime.extension.api.dsql.DsqlQuery;
+
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Bounded and thread-safe cache of parsed {@link DsqlQuery}s, keyed by the text of the query.
+ * <p>
+ * When the cache is full, the least valuable entries are evicted, based on how recently and how frequently they were used.
+ * Queries which fail to be parsed are not cached. Hit, miss and eviction counts are recorded so that the effectiveness of the
+ * cache can be monitored.
+ *
+ * @since 1.10
+ */
+public final class DsqlQueryCache {
+
+  private final Cache<String, DsqlQuery> queries;
+
+  /**
+   * Creates a new instance
+   *
+   * @param maxSize the maximum amount of queries to keep
+   */
+  public DsqlQueryCache(long maxSize) {
+    queries = newBuilder().maximumSize(maxSize).recordStats().build();
+  }
+
+  /**
+   * Returns the cached {@link DsqlQuery} for the given {@code query}, parsing it with the given {@code parser} if not present.
+   *
+   * @param query  the text of the query
+   * @param parser parses the text of the query. Invoked at most once per query while it remains cached.
+   * @return the parsed {@link DsqlQuery}
+   */
+  public DsqlQuery get(String query, Function<String, DsqlQuery> parser) {
+    return queries.get(query, parser);
+  }
+
+  /**
+   * @return the amount of lookups which found a parsed query
+   */
+  public long getHitCount() {
+    return queries.stats().hitCount();
+  }
+
+  /**
+   * @return the amount of lookups which required parsing a query
+   */
+  public long getMissCount() {
+    return queries.stats().missCount();
+  }
+
+  /**
+   * @return the amount of parsed queries which were evicted to keep the cache within its bounds
+   */
+  public long getEvictionCount() {
+    return queries.stats().evictionCount();
+  }
+
+  /**
+   * @return the approximate amount of queries currently cached
+   */
+  public long getSize() {
+    return queries.estimatedSize();
+  }
+
+  /**
+   * Discards all the cached queries.
+   */
+  public void invalidateAll() {
+    queries.invalidateAll();
+  }
+}
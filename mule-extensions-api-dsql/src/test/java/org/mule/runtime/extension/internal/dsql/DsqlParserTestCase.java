@@ -7,12 +7,14 @@
 package org.mule.runtime.extension.internal.dsql;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import org.mule.runtime.extension.internal.operator.EqualsOperator;
 import org.mule.runtime.extension.api.dsql.Direction;
 import org.mule.runtime.extension.api.dsql.DsqlParser;
 import org.mule.runtime.extension.api.dsql.DsqlQuery;
+import org.mule.runtime.extension.internal.exception.DsqlParsingException;
 import org.mule.runtime.extension.internal.expression.FieldComparison;
 import org.mule.runtime.extension.internal.operator.LessOperator;
 
@@ -90,4 +92,38 @@ public class DsqlParserTestCase {
     assertEquals("'#[flowVars[\"id\"]]'", ((FieldComparison) dsqlQuery.getFilterExpression()).getValue().toString());
     assertEquals("name", dsqlQuery.getOrderByFields().get(0).getName());
   }
+
+  @Test
+  public void parsedQueriesAreCached() {
+    DsqlQueryCache cache = DefaultDsqlParser.getQueryCache();
+    String query = "dsql:SELECT id FROM cachedQueryTest";
+    long hits = cache.getHitCount();
+
+    DsqlQuery dsqlQuery = PARSER.parse(query);
+    assertSame(dsqlQuery, PARSER.parse(query));
+    assertSame(dsqlQuery, DefaultDsqlParser.getInstance().parse(query));
+    assertTrue(cache.getHitCount() >= hits + 2);
+  }
+
+  @Test
+  public void failedParsesAreNotCached() {
+    DsqlQueryCache cache = DefaultDsqlParser.getQueryCache();
+    String query = "dsql:select from";
+    long misses = cache.getMissCount();
+
+    for (int i = 0; i < 2; i++) {
+      try {
+        PARSER.parse(query);
+        fail();
+      } catch (DsqlParsingException e) {
+        // expected
+      }
+    }
+    assertTrue(cache.getMissCount() >= misses + 2);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void parsedQueriesAreImmutable() {
+    PARSER.parse("dsql:SELECT id,name FROM immutableQueryTest").getFields().clear();
+  }
 }
@@ -9,8 +9,10 @@ package org.mule.runtime.extension.internal.dsql;
 import static org.mule.runtime.extension.internal.value.IdentifierValue.fromLiteral;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import org.mule.runtime.extension.api.dsql.Direction;
+import org.mule.runtime.extension.api.dsql.DsqlQuery;
 import org.mule.runtime.extension.api.dsql.EntityType;
 import org.mule.runtime.extension.api.dsql.Expression;
 import org.mule.runtime.extension.api.dsql.Field;
@@ -186,4 +188,27 @@ public class DsqlQueryTranslatorTestCase {
         "ORDER BY name,age ASC LIMIT 10 OFFSET 20";
     assertEquals(select, visitor.getTranslation());
   }
+
+  @Test
+  public void translationByTypeIsMemoized() {
+    QueryBuilder queryBuilder = DefaultQueryBuilder.getInstance();
+    queryBuilder.addField(new Field("name", "string"));
+    queryBuilder.setType(new EntityType("Account"));
+    DsqlQuery query = queryBuilder.build();
+
+    String translation = query.translate(DsqlQueryTranslator.class);
+    assertEquals("SELECT name FROM Account", translation);
+    assertSame(translation, query.translate(DsqlQueryTranslator.class));
+  }
+
+  @Test
+  public void builtQueryIsNotAffectedByBuilder() {
+    QueryBuilder queryBuilder = DefaultQueryBuilder.getInstance();
+    queryBuilder.addField(new Field("name", "string"));
+    queryBuilder.setType(new EntityType("Account"));
+    DsqlQuery query = queryBuilder.build();
+
+    queryBuilder.addField(new Field("lastName", "string"));
+    assertEquals(1, query.getFields().size());
+  }
 }
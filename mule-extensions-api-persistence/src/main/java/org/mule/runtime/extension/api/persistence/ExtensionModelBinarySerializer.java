@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.internal.persistence.CompactJsonTreeCodec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Serializer that converts an {@link ExtensionModel} into a compact binary representation and back.
+ * <p>
+ * The binary representation holds exactly the same information as the one produced by {@link ExtensionModelJsonSerializer}, so
+ * every model that can be persisted as JSON can be persisted in this format as well, with the same considerations. However,
+ * repeated strings such as element names, type ids, stereotypes and error identifiers are written only once, which makes it
+ * smaller and faster to read. It is meant for caching models between runs, not as an interchange format.
+ * <p>
+ * Instances are thread-safe and are meant to be shared.
+ *
+ * @since 1.10
+ */
+public class ExtensionModelBinarySerializer {
+
+  private final ExtensionModelJsonSerializer jsonSerializer = new ExtensionModelJsonSerializer(false, true);
+
+  /**
+   * Serializes an {@link ExtensionModel} into its binary representation
+   *
+   * @param extensionModel {@link ExtensionModel} to be serialized
+   * @return the binary representation of the {@link ExtensionModel}
+   */
+  public byte[] serialize(ExtensionModel extensionModel) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    serialize(extensionModel, out);
+    return out.toByteArray();
+  }
+
+  /**
+   * Serializes an {@link ExtensionModel} into its binary representation, writing it directly into the given
+   * {@code outputStream}.
+   * <p>
+   * The {@code outputStream} is flushed but not closed.
+   *
+   * @param extensionModel {@link ExtensionModel} to be serialized
+   * @param outputStream   the {@link OutputStream} in which the binary representation of the {@link ExtensionModel} is written
+   * @throws UncheckedIOException if the {@code outputStream} fails
+   */
+  public void serialize(ExtensionModel extensionModel, OutputStream outputStream) {
+    try {
+      CompactJsonTreeCodec.write(jsonSerializer.serializeToTree(extensionModel), outputStream);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not serialize extension model '" + extensionModel.getName() + "'", e);
+    }
+  }
+
+  /**
+   * Deserializes the binary representation of an {@link ExtensionModel}, to an actual instance of it.
+   *
+   * @param extensionModel serialized {@link ExtensionModel}
+   * @return an instance of {@link ExtensionModel} based in the binary representation
+   * @throws UncheckedIOException if the given content is not a valid binary representation
+   */
+  public ExtensionModel deserialize(byte[] extensionModel) {
+    return deserialize(new ByteArrayInputStream(extensionModel));
+  }
+
+  /**
+   * Deserializes the binary representation of an {@link ExtensionModel} which is read directly from the given
+   * {@code inputStream}.
+   * <p>
+   * The {@code inputStream} is not closed, but it may be consumed past the end of the serialized {@link ExtensionModel}.
+   *
+   * @param inputStream the {@link InputStream} from which the serialized {@link ExtensionModel} is read
+   * @return an instance of {@link ExtensionModel} based in the binary representation
+   * @throws UncheckedIOException if the {@code inputStream} fails or its content is not a valid binary representation
+   */
+  public ExtensionModel deserialize(InputStream inputStream) {
+    try {
+      return jsonSerializer.deserializeFromTree(CompactJsonTreeCodec.read(inputStream));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not deserialize extension model", e);
+    }
+  }
+}
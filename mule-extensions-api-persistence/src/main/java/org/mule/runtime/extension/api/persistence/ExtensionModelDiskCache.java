@@ -0,0 +1,220 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence;
+
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.createTempFile;
+import static java.nio.file.Files.deleteIfExists;
+import static java.nio.file.Files.isRegularFile;
+import static java.nio.file.Files.move;
+import static java.nio.file.Files.newOutputStream;
+import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Arrays.copyOfRange;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.artifact.ArtifactCoordinates;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+import org.mule.runtime.extension.internal.persistence.ClassLoaderContentHash;
+import org.mule.runtime.extension.internal.persistence.ExtensionModelCacheKey;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+
+/**
+ * Opt-in cache which persists the {@link ExtensionModel}s produced by {@link ExtensionModelLoader}s into a local directory, so
+ * that they don't have to be built again as long as the extension doesn't change.
+ * <p>
+ * Models are keyed by the {@link ArtifactCoordinates} of the extension, a digest of its content, and everything in the
+ * {@link ExtensionModelLoadingRequest} that may change the produced model, including a digest of the content of the extensions
+ * it depends on. Requests without {@link ArtifactCoordinates}, for which no digest of the content of the extension can be
+ * resolved, or with parameters other than {@link String}s, boxed primitives or enums, are not cached. By default, the content of the extension is
+ * the jars and directories of its {@link ClassLoader}, when it is a {@link java.net.URLClassLoader}.
+ * <p>
+ * A cached model is read rather than built, so the steps which take place while building it are skipped: the
+ * {@link org.mule.runtime.extension.api.loader.ExtensionLoadingListener}s of the request are not notified, and the model is not
+ * canonicalized even if {@link ExtensionModelLoadingRequest#isCanonicalizeModel() requested}. Whether canonicalization was
+ * requested is still part of the key, so that models built with and without it are never mixed up.
+ * <p>
+ * Each entry carries a digest of its serialized model, which is verified before reading it. Entries which are corrupted or
+ * can't be read are discarded, and the model is loaded again through the {@link ExtensionModelLoader}.
+ * <p>
+ * Cached models are stored through the {@link ExtensionModelBinarySerializer}, so the same considerations apply: only the
+ * {@link org.mule.runtime.api.meta.model.ModelProperty}s which are public are kept. Use this cache only where the non public
+ * model properties are not needed.
+ * <p>
+ * Instances are thread-safe. Many instances, even from different processes, may share the same directory.
+ *
+ * @since 1.10
+ */
+public class ExtensionModelDiskCache {
+
+  private static final Logger LOGGER = getLogger(ExtensionModelDiskCache.class);
+
+  private static final String EXTENSION = ".mxmc";
+  private static final String DIGEST_ALGORITHM = "SHA-256";
+  private static final int DIGEST_LENGTH = 32;
+
+  private final Path directory;
+  private final Function<ExtensionModelLoadingRequest, Optional<String>> contentHashResolver;
+  private final ExtensionModelBinarySerializer serializer = new ExtensionModelBinarySerializer();
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  /**
+   * Creates a new instance which resolves the content of each extension from the jars and directories of its
+   * {@link java.net.URLClassLoader}
+   *
+   * @param directory the directory in which the models are stored. It is created if it doesn't exist.
+   */
+  public ExtensionModelDiskCache(Path directory) {
+    this(directory, request -> ClassLoaderContentHash.compute(request.getExtensionClassLoader()));
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param directory           the directory in which the models are stored. It is created if it doesn't exist.
+   * @param contentHashResolver resolves a digest of the content of the extension to be loaded by a request, or
+   *                            {@link Optional#empty()} if it can't be resolved
+   */
+  public ExtensionModelDiskCache(Path directory,
+                                 Function<ExtensionModelLoadingRequest, Optional<String>> contentHashResolver) {
+    this.directory = directory;
+    this.contentHashResolver = contentHashResolver;
+  }
+
+  /**
+   * Returns the cached {@link ExtensionModel} for the given {@code request}, or loads it through the given {@code loader} and
+   * caches it.
+   *
+   * @param loader  the {@link ExtensionModelLoader} with which the extension is loaded
+   * @param request the {@link ExtensionModelLoadingRequest} with which the extension is loaded
+   * @return the {@link ExtensionModel}
+   */
+  public ExtensionModel loadExtensionModel(ExtensionModelLoader loader, ExtensionModelLoadingRequest request) {
+    Optional<String> key;
+    try {
+      key = ExtensionModelCacheKey.compute(loader, request, contentHashResolver);
+    } catch (UncheckedIOException e) {
+      LOGGER.warn("Could not compute the cache key of an extension. It will be loaded without caching it.", e);
+      key = Optional.empty();
+    }
+
+    if (!key.isPresent()) {
+      missCount.incrementAndGet();
+      return loader.loadExtensionModel(request);
+    }
+
+    Path file = directory.resolve(key.get() + EXTENSION);
+    ExtensionModel extensionModel = read(file);
+    if (extensionModel != null) {
+      hitCount.incrementAndGet();
+      return extensionModel;
+    }
+
+    missCount.incrementAndGet();
+    extensionModel = loader.loadExtensionModel(request);
+    write(file, extensionModel);
+    return extensionModel;
+  }
+
+  /**
+   * @return the amount of models which were read from the cache
+   */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * @return the amount of models which had to be loaded, either because they were not cached, the cached entry was not valid, or
+   *         the request could not be cached
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  private ExtensionModel read(Path file) {
+    if (!isRegularFile(file)) {
+      return null;
+    }
+
+    try {
+      byte[] content = readAllBytes(file);
+      if (content.length > DIGEST_LENGTH) {
+        byte[] expectedDigest = copyOfRange(content, 0, DIGEST_LENGTH);
+        byte[] model = copyOfRange(content, DIGEST_LENGTH, content.length);
+        if (MessageDigest.isEqual(expectedDigest, digest(model))) {
+          return serializer.deserialize(model);
+        }
+      }
+
+      LOGGER.warn("Discarding corrupted cached extension model '{}'", file);
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("Discarding cached extension model '" + file + "' which could not be read", e);
+    }
+
+    try {
+      deleteIfExists(file);
+    } catch (IOException e) {
+      LOGGER.warn("Could not delete cached extension model '" + file + "'", e);
+    }
+    return null;
+  }
+
+  private void write(Path file, ExtensionModel extensionModel) {
+    Path tempFile = null;
+    try {
+      byte[] model = serializer.serialize(extensionModel);
+
+      createDirectories(directory);
+      tempFile = createTempFile(directory, "extension-model", ".tmp");
+      try (OutputStream out = newOutputStream(tempFile)) {
+        out.write(digest(model));
+        out.write(model);
+      }
+
+      try {
+        move(tempFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        move(tempFile, file, REPLACE_EXISTING);
+      }
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("Could not cache extension model '" + extensionModel.getName() + "'", e);
+      if (tempFile != null) {
+        try {
+          deleteIfExists(tempFile);
+        } catch (IOException deleteException) {
+          e.addSuppressed(deleteException);
+        }
+      }
+    }
+  }
+
+  private static byte[] digest(byte[] content) {
+    try {
+      return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(content);
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform is required to support it
+      throw new IllegalStateException(e);
+    }
+  }
+}
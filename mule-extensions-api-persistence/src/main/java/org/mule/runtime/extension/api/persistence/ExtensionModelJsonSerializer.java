@@ -6,14 +6,13 @@
  */
 package org.mule.runtime.extension.api.persistence;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptySet;
-import static org.mule.runtime.extension.api.util.ExtensionMetadataTypeUtils.getId;
 
 import org.mule.metadata.api.model.MetadataType;
 import org.mule.metadata.api.model.ObjectType;
 import org.mule.metadata.persistence.MetadataTypeGsonTypeAdapter;
 import org.mule.metadata.persistence.ObjectTypeReferenceHandler;
-import org.mule.metadata.persistence.SerializationContext;
 import org.mule.metadata.persistence.type.adapter.OptionalTypeAdapterFactory;
 import org.mule.runtime.api.artifact.ArtifactCoordinates;
 import org.mule.runtime.api.meta.MuleVersion;
@@ -38,6 +37,7 @@ import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.api.meta.model.source.SourceCallbackModel;
 import org.mule.runtime.api.meta.model.stereotype.ImmutableStereotypeModel;
 import org.mule.runtime.api.meta.model.stereotype.StereotypeModel;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
 import org.mule.runtime.extension.api.model.ImmutableExtensionModel;
 import org.mule.runtime.extension.api.model.ImmutableOutputModel;
 import org.mule.runtime.extension.api.model.config.ImmutableConfigurationModel;
@@ -48,14 +48,17 @@ import org.mule.runtime.extension.api.model.parameter.ImmutableExclusiveParamete
 import org.mule.runtime.extension.api.model.parameter.ImmutableParameterGroupModel;
 import org.mule.runtime.extension.api.model.parameter.ImmutableParameterModel;
 import org.mule.runtime.extension.api.model.source.ImmutableSourceCallbackModel;
-import org.mule.runtime.extension.api.util.ExtensionMetadataTypeUtils;
 import org.mule.runtime.extension.internal.persistence.ArtifactCoordinatesTypeAdapter;
+import org.mule.runtime.extension.internal.persistence.CanonicalizingTypeAdapterFactory;
+import org.mule.runtime.extension.internal.persistence.ContextualObjectTypeReferenceHandler;
 import org.mule.runtime.extension.internal.persistence.ConstructModelTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.DefaultImplementationTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.ElementDslModelTypeAdapter;
 import org.mule.runtime.extension.internal.persistence.ErrorModelToIdentifierTypeAdapter;
+import org.mule.runtime.extension.internal.persistence.ExtensionModelSerializationContext;
 import org.mule.runtime.extension.internal.persistence.ExtensionModelTypeAdapter;
 import org.mule.runtime.extension.internal.persistence.FunctionModelTypeAdapterFactory;
+import org.mule.runtime.extension.internal.persistence.LazyComponentListTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.ImportedTypesModelTypeAdapter;
 import org.mule.runtime.extension.internal.persistence.MetadataKeyPartModelPropertyTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.ModelPropertyMapTypeAdapterFactory;
@@ -64,23 +67,33 @@ import org.mule.runtime.extension.internal.persistence.NestableElementModelTypeA
 import org.mule.runtime.extension.internal.persistence.NotificationModelToIdentifierTypeAdapter;
 import org.mule.runtime.extension.internal.persistence.OAuthGrantTypeTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.OperationModelTypeAdapterFactory;
-import org.mule.runtime.extension.internal.persistence.RestrictedTypesObjectTypeReferenceHandler;
 import org.mule.runtime.extension.internal.persistence.SourceModelTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.SubTypesModelTypeAdapter;
 import org.mule.runtime.extension.internal.persistence.XmlDslModelTypeAdapter;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.google.gson.TypeAdapter;
 import com.google.gson.TypeAdapterFactory;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * Serializer that can convert a {@link ExtensionModel} into a readable and processable JSON representation and from a JSON
@@ -97,12 +110,19 @@ import com.google.gson.reflect.TypeToken;
  * <li>When deserializing {@link ModelProperty}s, their full qualified name will be used, if the class is not found in the
  * ClassLoader the {@link ModelProperty} object will be discarded</li>
  * </ul>
+ * <p>
+ * Instances created through {@link #ExtensionModelJsonSerializer(boolean, boolean)} with {@code reusable} set to {@code true}
+ * build their type adapters only once and are thread-safe. The rest of the instances are not thread-safe.
  *
  * @since 1.0
  */
 public class ExtensionModelJsonSerializer {
 
   private final boolean prettyPrint;
+  private final boolean lazy;
+  private final boolean canonical;
+  private final Gson reusableGson;
+  private final ThreadLocal<ExtensionModelSerializationContext> currentContext = new ThreadLocal<>();
   private Set<ObjectType> registeredTypes = emptySet();
   private Set<ObjectType> importedTypes = emptySet();
 
@@ -121,25 +141,80 @@ public class ExtensionModelJsonSerializer {
    *                    readable or into compact and more performable format
    */
   public ExtensionModelJsonSerializer(boolean prettyPrint) {
-    this.prettyPrint = prettyPrint;
+    this(prettyPrint, false);
+  }
+
+  /**
+   * Creates a new instance of the {@link ExtensionModelJsonSerializer}.
+   * <p>
+   * When {@code reusable} is {@code true}, the {@link Gson} instances and all of its type adapters are built only once, and the
+   * state of each invocation is kept in its own {@link ExtensionModelSerializationContext}. The resulting instance is
+   * thread-safe and is meant to be shared. Otherwise, the whole adapter graph is rebuilt on each invocation.
+   *
+   * @param prettyPrint boolean indicating if the serialization of the {@link ExtensionModel} should be printed in a human
+   *                    readable or into compact and more performable format
+   * @param reusable    whether the adapter graph should be built once and shared between invocations
+   * @since 1.10
+   */
+  public ExtensionModelJsonSerializer(boolean prettyPrint, boolean reusable) {
+    this(prettyPrint, reusable, false);
+  }
+
+  /**
+   * Creates a new instance of the {@link ExtensionModelJsonSerializer}.
+   * <p>
+   * When {@code lazy} is {@code true}, the operations, sources and constructs of the deserialized {@link ExtensionModel}s, and
+   * of their configurations, are not deserialized up front. Only their names are, and each of them is deserialized the first
+   * time it is accessed, for example through {@link ExtensionModel#getOperationModel(String)}. This reduces the time and memory
+   * it takes to deserialize big models of which only a few components end up being used. Lazily deserialized models are
+   * thread-safe, but any problem deserializing a component is only raised when that component is accessed.
+   *
+   * @param prettyPrint boolean indicating if the serialization of the {@link ExtensionModel} should be printed in a human
+   *                    readable or into compact and more performable format
+   * @param reusable    whether the adapter graph should be built once and shared between invocations
+   * @param lazy        whether operations, sources and constructs should be deserialized on first access
+   * @since 1.10
+   */
+  public ExtensionModelJsonSerializer(boolean prettyPrint, boolean reusable, boolean lazy) {
+    this(prettyPrint, reusable, lazy, false);
   }
 
-  private Gson buildGson() {
-    final SerializationContext serializationContext = new SerializationContext();
+  /**
+   * Creates a new instance of the {@link ExtensionModelJsonSerializer}.
+   * <p>
+   * When {@code canonical} is {@code true}, the names, descriptions, types, stereotypes and display and layout models of the
+   * deserialized {@link ExtensionModel}s which are equal to those of other models deserialized or loaded the same way are
+   * shared with them rather than copied. This reduces the memory held by the models when many of them are kept at the same time,
+   * at the expense of some deserialization time.
+   * <p>
+   * Types which contain object types are the exception, since those may reference types which are still being deserialized.
+   * Those are shared by the models loaded with {@link ExtensionModelLoadingRequest.Builder#setCanonicalizeModel(boolean)
+   * canonicalization}, so a deserialized model only shares its types without object types with them.
+   *
+   * @param prettyPrint boolean indicating if the serialization of the {@link ExtensionModel} should be printed in a human
+   *                    readable or into compact and more performable format
+   * @param reusable    whether the adapter graph should be built once and shared between invocations
+   * @param lazy        whether operations, sources and constructs should be deserialized on first access
+   * @param canonical   whether the parts of the deserialized models which are equal to those of other models should be shared
+   * @since 1.10
+   */
+  public ExtensionModelJsonSerializer(boolean prettyPrint, boolean reusable, boolean lazy, boolean canonical) {
+    this.prettyPrint = prettyPrint;
+    this.lazy = lazy;
+    this.canonical = canonical;
+    this.reusableGson = reusable ? buildGson(currentContext::get) : null;
+  }
 
-    Map<String, ErrorModel> errorModelRepository = new HashMap<>();
-    Map<String, NotificationModel> notificationModelRepository = new HashMap<>();
-    Gson gsonDelegate =
-        gsonBuilder(serializationContext, prettyPrint, errorModelRepository, notificationModelRepository).create();
+  private Gson buildGson(Supplier<ExtensionModelSerializationContext> context) {
+    Gson gsonDelegate = gsonBuilder(context, prettyPrint).create();
 
-    return gsonBuilder(serializationContext, prettyPrint, errorModelRepository, notificationModelRepository)
+    return gsonBuilder(context, prettyPrint)
         .registerTypeAdapterFactory(new TypeAdapterFactory() {
 
           @Override
           public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
             if (ExtensionModel.class.isAssignableFrom(type.getRawType())) {
-              return (TypeAdapter<T>) new ExtensionModelTypeAdapter(gsonDelegate, serializationContext, errorModelRepository,
-                                                                    notificationModelRepository);
+              return (TypeAdapter<T>) new ExtensionModelTypeAdapter(gsonDelegate, context);
             }
 
             return null;
@@ -148,21 +223,8 @@ public class ExtensionModelJsonSerializer {
         .create();
   }
 
-  private GsonBuilder gsonBuilder(SerializationContext serializationContext, boolean prettyPrint,
-                                  Map<String, ErrorModel> errorModelRepository,
-                                  Map<String, NotificationModel> notificationModelRepository) {
-    Set<String> registeredTypeIds = registeredTypes.stream()
-        .map(ExtensionMetadataTypeUtils::getId)
-        .filter(Optional::isPresent)
-        .map(Optional::get).collect(Collectors.toSet());
-
-    importedTypes.forEach(type -> {
-      getId(type).ifPresent(registeredTypeIds::add);
-      serializationContext.registerObjectType(type);
-    });
-
-    final ObjectTypeReferenceHandler referenceHandler =
-        new RestrictedTypesObjectTypeReferenceHandler(serializationContext, registeredTypeIds);
+  private GsonBuilder gsonBuilder(Supplier<ExtensionModelSerializationContext> context, boolean prettyPrint) {
+    final ObjectTypeReferenceHandler referenceHandler = new ContextualObjectTypeReferenceHandler(context);
 
     final DefaultImplementationTypeAdapterFactory configurationModelTypeAdapterFactory =
         new DefaultImplementationTypeAdapterFactory<>(ConfigurationModel.class, ImmutableConfigurationModel.class);
@@ -192,8 +254,11 @@ public class ExtensionModelJsonSerializer {
         .registerTypeAdapter(SubTypesModel.class, new SubTypesModelTypeAdapter(referenceHandler))
         .registerTypeAdapter(XmlDslModel.class, new XmlDslModelTypeAdapter())
         .registerTypeAdapter(ParameterDslConfiguration.class, new ElementDslModelTypeAdapter())
-        .registerTypeAdapter(ErrorModel.class, new ErrorModelToIdentifierTypeAdapter(errorModelRepository))
-        .registerTypeAdapter(NotificationModel.class, new NotificationModelToIdentifierTypeAdapter(notificationModelRepository))
+        .registerTypeAdapter(ErrorModel.class,
+                             new ErrorModelToIdentifierTypeAdapter(() -> context.get().getErrorModelRepository()))
+        .registerTypeAdapter(NotificationModel.class,
+                             new NotificationModelToIdentifierTypeAdapter(() -> context.get()
+                                 .getNotificationModelRepository()))
         .registerTypeAdapter(ArtifactCoordinates.class, new ArtifactCoordinatesTypeAdapter())
         .registerTypeAdapterFactory(new OptionalTypeAdapterFactory())
         .registerTypeAdapterFactory(new ModelPropertyMapTypeAdapterFactory())
@@ -215,12 +280,65 @@ public class ExtensionModelJsonSerializer {
         .registerTypeAdapterFactory(stereotypeModelTypeAdapter)
         .registerTypeAdapterFactory(deprecationModelTypeAdapter);
 
+    if (lazy) {
+      gsonBuilder.registerTypeAdapterFactory(new LazyComponentListTypeAdapterFactory(context, this::runInContext));
+    }
+    if (canonical) {
+      // registered last so that it wraps the adapters registered above
+      gsonBuilder.registerTypeAdapterFactory(new CanonicalizingTypeAdapterFactory());
+    }
     if (prettyPrint) {
       gsonBuilder.setPrettyPrinting();
     }
     return gsonBuilder;
   }
 
+  /**
+   * Runs the given {@code function} over a {@link Gson} bound to the given {@code context}.
+   */
+  private <T> T withGson(ExtensionModelSerializationContext context, Function<Gson, T> function) {
+    if (reusableGson == null) {
+      return function.apply(buildGson(() -> context));
+    }
+
+    currentContext.set(context);
+    try {
+      return function.apply(reusableGson);
+    } finally {
+      currentContext.remove();
+    }
+  }
+
+  /**
+   * Runs the given {@code task} with the given {@code context} bound to the reusable {@link Gson}, restoring the previously
+   * bound one afterwards. Used to deserialize the components which were deferred by a lazy deserialization.
+   */
+  private void runInContext(ExtensionModelSerializationContext context, Runnable task) {
+    ExtensionModelSerializationContext previous = currentContext.get();
+    currentContext.set(context);
+    try {
+      task.run();
+    } finally {
+      if (previous == null) {
+        currentContext.remove();
+      } else {
+        currentContext.set(previous);
+      }
+    }
+  }
+
+  private ExtensionModelSerializationContext createContext() {
+    return reusableGson == null
+        ? new ExtensionModelSerializationContext(registeredTypes, importedTypes)
+        : new ExtensionModelSerializationContext();
+  }
+
+  private Set<ObjectType> getImportedTypes(ExtensionModel extensionModel) {
+    return extensionModel.getImportedTypes().stream()
+        .map(ImportedTypeModel::getImportedType)
+        .collect(Collectors.toSet());
+  }
+
   /**
    * Serializes an {@link ExtensionModel} into JSON
    *
@@ -228,20 +346,92 @@ public class ExtensionModelJsonSerializer {
    * @return {@link String} JSON representation of the {@link ExtensionModel}
    */
   public String serialize(ExtensionModel extensionModel) {
-    registeredTypes = extensionModel.getTypes();
-    importedTypes =
-        extensionModel.getImportedTypes().stream()
-            .map(ImportedTypeModel::getImportedType)
-            .collect(Collectors.toSet());
-    return buildGson().toJson(extensionModel);
+    StringWriter writer = new StringWriter();
+    serialize(extensionModel, writer);
+    return writer.toString();
+  }
+
+  /**
+   * Serializes an {@link ExtensionModel} into JSON, writing it directly into the given {@code writer}.
+   * <p>
+   * The {@code writer} is flushed but not closed.
+   *
+   * @param extensionModel {@link ExtensionModel} to be serialized
+   * @param writer         the {@link Writer} in which the JSON representation of the {@link ExtensionModel} is written
+   * @since 1.10
+   */
+  public void serialize(ExtensionModel extensionModel, Writer writer) {
+    Set<ObjectType> extensionImportedTypes = getImportedTypes(extensionModel);
+
+    if (reusableGson == null) {
+      registeredTypes = extensionModel.getTypes();
+      importedTypes = extensionImportedTypes;
+    }
+
+    withGson(new ExtensionModelSerializationContext(extensionModel.getTypes(), extensionImportedTypes), gson -> {
+      try {
+        JsonWriter jsonWriter = gson.newJsonWriter(writer);
+        gson.toJson(extensionModel, ExtensionModel.class, jsonWriter);
+        jsonWriter.flush();
+        return null;
+      } catch (IOException e) {
+        throw new JsonIOException(e);
+      }
+    });
+  }
+
+  /**
+   * Serializes an {@link ExtensionModel} into UTF-8 encoded JSON, writing it directly into the given {@code outputStream}.
+   * <p>
+   * The {@code outputStream} is flushed but not closed.
+   *
+   * @param extensionModel {@link ExtensionModel} to be serialized
+   * @param outputStream   the {@link OutputStream} in which the JSON representation of the {@link ExtensionModel} is written
+   * @since 1.10
+   */
+  public void serialize(ExtensionModel extensionModel, OutputStream outputStream) {
+    serialize(extensionModel, new OutputStreamWriter(outputStream, UTF_8));
+  }
+
+  /**
+   * Serializes an {@link ExtensionModel} into a {@link JsonElement} tree with the same structure as its JSON representation.
+   */
+  JsonElement serializeToTree(ExtensionModel extensionModel) {
+    Set<ObjectType> extensionImportedTypes = getImportedTypes(extensionModel);
+
+    if (reusableGson == null) {
+      registeredTypes = extensionModel.getTypes();
+      importedTypes = extensionImportedTypes;
+    }
+
+    return withGson(new ExtensionModelSerializationContext(extensionModel.getTypes(), extensionImportedTypes),
+                    gson -> gson.toJsonTree(extensionModel, ExtensionModel.class));
   }
 
   /**
+   * Serializes a {@link List} of {@link ExtensionModel} into JSON.
+   * <p>
+   * When this serializer is reusable, the types of all the given {@link ExtensionModel}s may be written as references.
+   * Otherwise, only the ones of the last {@link ExtensionModel} passed to {@link #serialize(ExtensionModel)} will.
+   *
    * @param extensionModelList List of {@link ExtensionModel} to be serialized
    * @return {@link String} JSON representation of the {@link List} of {@link ExtensionModel}
    */
   public String serializeList(List<ExtensionModel> extensionModelList) {
-    return buildGson().toJson(extensionModelList);
+    ExtensionModelSerializationContext context;
+    if (reusableGson == null) {
+      context = createContext();
+    } else {
+      Set<ObjectType> listRegisteredTypes = new LinkedHashSet<>();
+      Set<ObjectType> listImportedTypes = new LinkedHashSet<>();
+      extensionModelList.forEach(extensionModel -> {
+        listRegisteredTypes.addAll(extensionModel.getTypes());
+        listImportedTypes.addAll(getImportedTypes(extensionModel));
+      });
+      context = new ExtensionModelSerializationContext(listRegisteredTypes, listImportedTypes);
+    }
+
+    return withGson(context, gson -> gson.toJson(extensionModelList));
   }
 
   /**
@@ -251,7 +441,41 @@ public class ExtensionModelJsonSerializer {
    * @return an instance of {@link ExtensionModel} based in the JSON
    */
   public ExtensionModel deserialize(String extensionModel) {
-    return buildGson().fromJson(extensionModel, ImmutableExtensionModel.class);
+    return withGson(createContext(), gson -> gson.fromJson(extensionModel, ImmutableExtensionModel.class));
+  }
+
+  /**
+   * Deserializes a JSON representation of an {@link ExtensionModel} which is read directly from the given {@code reader}.
+   * <p>
+   * The {@code reader} is not closed.
+   *
+   * @param reader the {@link Reader} from which the serialized {@link ExtensionModel} is read
+   * @return an instance of {@link ExtensionModel} based in the JSON
+   * @since 1.10
+   */
+  public ExtensionModel deserialize(Reader reader) {
+    return withGson(createContext(), gson -> gson.fromJson(reader, ImmutableExtensionModel.class));
+  }
+
+  /**
+   * Deserializes a UTF-8 encoded JSON representation of an {@link ExtensionModel} which is read directly from the given
+   * {@code inputStream}.
+   * <p>
+   * The {@code inputStream} is not closed.
+   *
+   * @param inputStream the {@link InputStream} from which the serialized {@link ExtensionModel} is read
+   * @return an instance of {@link ExtensionModel} based in the JSON
+   * @since 1.10
+   */
+  public ExtensionModel deserialize(InputStream inputStream) {
+    return deserialize(new InputStreamReader(inputStream, UTF_8));
+  }
+
+  /**
+   * Deserializes an {@link ExtensionModel} from a tree obtained through {@link #serializeToTree(ExtensionModel)}.
+   */
+  ExtensionModel deserializeFromTree(JsonElement extensionModel) {
+    return withGson(createContext(), gson -> gson.fromJson(extensionModel, ImmutableExtensionModel.class));
   }
 
   /**
@@ -261,6 +485,7 @@ public class ExtensionModelJsonSerializer {
    * @return an instance of {@link ExtensionModel} based in the JSON
    */
   public List<ExtensionModel> deserializeList(String extensionModelList) {
-    return buildGson().fromJson(extensionModelList, new TypeToken<List<ImmutableExtensionModel>>() {}.getType());
+    return withGson(createContext(),
+                    gson -> gson.fromJson(extensionModelList, new TypeToken<List<ImmutableExtensionModel>>() {}.getType()));
   }
 }
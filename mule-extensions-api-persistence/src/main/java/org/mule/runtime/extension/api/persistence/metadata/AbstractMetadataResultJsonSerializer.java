@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.extension.api.persistence.metadata;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import org.mule.metadata.api.model.MetadataType;
 import org.mule.metadata.persistence.MetadataTypeGsonTypeAdapter;
 import org.mule.metadata.persistence.reduced.ReducedMetadataTypeGsonTypeAdapter;
@@ -46,8 +48,17 @@ import org.mule.runtime.extension.internal.persistence.metadata.ComponentResultT
 import org.mule.runtime.extension.internal.persistence.metadata.FailureCodeTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.metadata.MetadataKeyTypeAdapter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
 import com.google.gson.TypeAdapter;
 
 /**
@@ -141,4 +152,60 @@ abstract class AbstractMetadataResultJsonSerializer<T> {
    * @return an instance of {@link MetadataResult} based on the serialized JSON
    */
   public abstract MetadataResult<T> deserialize(String result);
+
+  /**
+   * Serializes the given {@link MetadataResult} writing its JSON representation directly into the given {@code writer}.
+   * <p>
+   * The {@code writer} is not closed.
+   *
+   * @param result the {@link MetadataResult} to be serialized
+   * @param writer the {@link Writer} in which the JSON representation of the {@link MetadataResult} is written
+   * @since 1.10
+   */
+  public abstract void serialize(MetadataResult<T> result, Writer writer);
+
+  /**
+   * Deserializes a JSON representation of an {@link MetadataResult} which is read directly from the given {@code reader}.
+   * <p>
+   * The {@code reader} is not closed.
+   *
+   * @param reader the {@link Reader} from which the serialized {@link MetadataResult} is read
+   * @return an instance of {@link MetadataResult} based on the serialized JSON
+   * @since 1.10
+   */
+  public abstract MetadataResult<T> deserialize(Reader reader);
+
+  /**
+   * Serializes the given {@link MetadataResult} writing its UTF-8 encoded JSON representation directly into the given
+   * {@code outputStream}.
+   * <p>
+   * The {@code outputStream} is flushed but not closed.
+   *
+   * @param result       the {@link MetadataResult} to be serialized
+   * @param outputStream the {@link OutputStream} in which the JSON representation of the {@link MetadataResult} is written
+   * @since 1.10
+   */
+  public void serialize(MetadataResult<T> result, OutputStream outputStream) {
+    Writer writer = new OutputStreamWriter(outputStream, UTF_8);
+    serialize(result, writer);
+    try {
+      writer.flush();
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+  }
+
+  /**
+   * Deserializes a UTF-8 encoded JSON representation of an {@link MetadataResult} which is read directly from the given
+   * {@code inputStream}.
+   * <p>
+   * The {@code inputStream} is not closed.
+   *
+   * @param inputStream the {@link InputStream} from which the serialized {@link MetadataResult} is read
+   * @return an instance of {@link MetadataResult} based on the serialized JSON
+   * @since 1.10
+   */
+  public MetadataResult<T> deserialize(InputStream inputStream) {
+    return deserialize(new InputStreamReader(inputStream, UTF_8));
+  }
 }
@@ -10,6 +10,9 @@ import org.mule.runtime.api.metadata.descriptor.ComponentMetadataTypesDescriptor
 import org.mule.runtime.api.metadata.resolving.MetadataResult;
 import org.mule.runtime.extension.internal.persistence.ComponentMetadataTypesDescriptorResult;
 
+import java.io.Reader;
+import java.io.Writer;
+
 import com.google.gson.reflect.TypeToken;
 
 /**
@@ -44,4 +47,16 @@ public class ComponentMetadataTypesDescriptorResultJsonSerializer
         gson.fromJson(metadataResult, new TypeToken<ComponentMetadataTypesDescriptorResult>() {}.getType());
     return result.toDescriptor();
   }
+
+  @Override
+  public void serialize(MetadataResult<ComponentMetadataTypesDescriptor> metadataResult, Writer writer) {
+    gson.toJson(new ComponentMetadataTypesDescriptorResult(metadataResult), writer);
+  }
+
+  @Override
+  public MetadataResult<ComponentMetadataTypesDescriptor> deserialize(Reader reader) {
+    ComponentMetadataTypesDescriptorResult result =
+        gson.fromJson(reader, new TypeToken<ComponentMetadataTypesDescriptorResult>() {}.getType());
+    return result.toDescriptor();
+  }
 }
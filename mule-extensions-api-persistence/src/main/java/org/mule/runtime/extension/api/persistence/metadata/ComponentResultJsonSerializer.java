@@ -11,6 +11,9 @@ import org.mule.runtime.api.metadata.descriptor.ComponentMetadataDescriptor;
 import org.mule.runtime.api.metadata.resolving.MetadataResult;
 import org.mule.runtime.extension.internal.persistence.ComponentMetadataResult;
 
+import java.io.Reader;
+import java.io.Writer;
+
 import com.google.gson.reflect.TypeToken;
 
 /**
@@ -51,4 +54,22 @@ public class ComponentResultJsonSerializer<T extends ComponentModel>
         gson.fromJson(metadataResult, new TypeToken<ComponentMetadataResult>() {}.getType());
     return result.toDescriptor();
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void serialize(MetadataResult<ComponentMetadataDescriptor<T>> metadataResult, Writer writer) {
+    gson.toJson(new ComponentMetadataResult<>(metadataResult), writer);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public MetadataResult<ComponentMetadataDescriptor<T>> deserialize(Reader reader) {
+    ComponentMetadataResult<T> result =
+        gson.fromJson(reader, new TypeToken<ComponentMetadataResult>() {}.getType());
+    return result.toDescriptor();
+  }
 }
@@ -15,6 +15,8 @@ import org.mule.runtime.extension.internal.persistence.metadata.TypeMetadata;
 
 import com.google.gson.reflect.TypeToken;
 
+import java.io.Reader;
+import java.io.Writer;
 import java.util.List;
 
 /**
@@ -40,6 +42,17 @@ public class EntityMetadataResultJsonSerializer extends AbstractMetadataResultJs
     return entityMetadataResult.toEntityMetadataResult();
   }
 
+  @Override
+  public void serialize(MetadataResult<TypeMetadataDescriptor> result, Writer writer) {
+    gson.toJson(new EntityMetadataResult(result), writer);
+  }
+
+  @Override
+  public MetadataResult<TypeMetadataDescriptor> deserialize(Reader reader) {
+    EntityMetadataResult entityMetadataResult = gson.fromJson(reader, new TypeToken<EntityMetadataResult>() {}.getType());
+    return entityMetadataResult.toEntityMetadataResult();
+  }
+
   /**
    * DTO that represents a {@link MetadataResult} of {@link TypeMetadataDescriptor} for serializing the metadata result of an
    * entity provided by DSQL.
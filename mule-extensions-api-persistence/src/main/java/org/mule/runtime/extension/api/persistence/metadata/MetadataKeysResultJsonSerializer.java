@@ -17,6 +17,8 @@ import org.mule.runtime.api.metadata.resolving.MetadataResult;
 
 import com.google.gson.reflect.TypeToken;
 
+import java.io.Reader;
+import java.io.Writer;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -54,6 +56,23 @@ public class MetadataKeysResultJsonSerializer extends AbstractMetadataResultJson
     return result.toKeysMetadataResult();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void serialize(MetadataResult metadataResult, Writer writer) {
+    gson.toJson(new MetadataKeysResult(metadataResult), writer);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public MetadataResult<MetadataKeysContainer> deserialize(Reader reader) {
+    MetadataKeysResult result = gson.fromJson(reader, new TypeToken<MetadataKeysResult>() {}.getType());
+    return result.toKeysMetadataResult();
+  }
+
   /**
    * DTO that represents a {@link MetadataResult} of {@link MetadataKeysContainer}
    *
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.internal.util.ModelCanonicalizationUtils.canonical;
+
+import org.mule.metadata.api.model.ArrayType;
+import org.mule.metadata.api.model.IntersectionType;
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.metadata.api.model.ObjectType;
+import org.mule.metadata.api.model.UnionType;
+import org.mule.metadata.api.visitor.MetadataTypeVisitor;
+import org.mule.runtime.api.meta.model.display.DisplayModel;
+import org.mule.runtime.api.meta.model.display.LayoutModel;
+import org.mule.runtime.api.meta.model.stereotype.StereotypeModel;
+import org.mule.runtime.api.util.Reference;
+import org.mule.runtime.extension.internal.util.ModelCanonicalizationUtils;
+
+import java.io.IOException;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A {@link TypeAdapterFactory} which replaces each deserialized {@link String}, {@link MetadataType}, {@link StereotypeModel},
+ * {@link DisplayModel} and {@link LayoutModel} with its canonical instance, as per
+ * {@link ModelCanonicalizationUtils#canonical(Object)}. Serialization is left untouched.
+ * <p>
+ * {@link MetadataType}s which reach an {@link ObjectType} are not canonicalized: those may be resolved from references to
+ * types which are still being read, as is the case of recursive types, so they may not be complete until the whole model is
+ * read. Computing their {@code equals} and {@code hashCode} for the pool before that would be wrong.
+ * <p>
+ * It must be the last registered factory, so that it wraps the adapters that would be used otherwise.
+ *
+ * @since 1.10
+ */
+public class CanonicalizingTypeAdapterFactory implements TypeAdapterFactory {
+
+  @Override
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    if (!isCanonicalizable(type.getRawType())) {
+      return null;
+    }
+
+    final TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+    return new TypeAdapter<T>() {
+
+      @Override
+      public void write(JsonWriter out, T value) throws IOException {
+        delegate.write(out, value);
+      }
+
+      @Override
+      public T read(JsonReader in) throws IOException {
+        T value = delegate.read(in);
+        if (value instanceof MetadataType && reachesObjectType((MetadataType) value)) {
+          return value;
+        }
+        return canonical(value);
+      }
+    };
+  }
+
+  private boolean reachesObjectType(MetadataType type) {
+    Reference<Boolean> reaches = new Reference<>(false);
+    type.accept(new MetadataTypeVisitor() {
+
+      @Override
+      public void visitObject(ObjectType objectType) {
+        reaches.set(true);
+      }
+
+      @Override
+      public void visitArrayType(ArrayType arrayType) {
+        arrayType.getType().accept(this);
+      }
+
+      @Override
+      public void visitIntersection(IntersectionType intersectionType) {
+        intersectionType.getTypes().forEach(t -> t.accept(this));
+      }
+
+      @Override
+      public void visitUnion(UnionType unionType) {
+        unionType.getTypes().forEach(t -> t.accept(this));
+      }
+    });
+    return reaches.get();
+  }
+
+  private boolean isCanonicalizable(Class<?> type) {
+    return String.class.equals(type)
+        || MetadataType.class.isAssignableFrom(type)
+        || StereotypeModel.class.isAssignableFrom(type)
+        || DisplayModel.class.equals(type)
+        || LayoutModel.class.equals(type);
+  }
+}
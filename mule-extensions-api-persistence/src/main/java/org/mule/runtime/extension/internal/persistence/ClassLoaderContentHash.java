@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.isDirectory;
+import static java.nio.file.Files.isRegularFile;
+import static java.nio.file.Files.newInputStream;
+import static java.nio.file.Files.walk;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Computes a digest of the content of the jars and directories from which a {@link URLClassLoader} loads its classes.
+ * <p>
+ * Only the content is considered: moving the same jars to a different location yields the same digest, while changing any
+ * class or resource yields a different one.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class ClassLoaderContentHash {
+
+  static final String ALGORITHM = "SHA-256";
+
+  private ClassLoaderContentHash() {}
+
+  /**
+   * @param classLoader a {@link ClassLoader}
+   * @return the hex encoded digest of the content of the given {@code classLoader}, or {@link Optional#empty()} if it is not a
+   *         {@link URLClassLoader} or it loads classes from somewhere other than local files.
+   * @throws UncheckedIOException if the content of the {@code classLoader} could not be read
+   */
+  public static Optional<String> compute(ClassLoader classLoader) {
+    if (!(classLoader instanceof URLClassLoader)) {
+      return empty();
+    }
+
+    URL[] urls = ((URLClassLoader) classLoader).getURLs();
+    if (urls.length == 0) {
+      return empty();
+    }
+
+    MessageDigest digest = newDigest();
+    byte[] buffer = new byte[8192];
+    try {
+      for (URL url : urls) {
+        if (!"file".equals(url.getProtocol())) {
+          return empty();
+        }
+
+        Path path = Paths.get(url.toURI());
+        if (isRegularFile(path)) {
+          update(digest, path, buffer);
+        } else if (isDirectory(path)) {
+          List<Path> files;
+          try (Stream<Path> paths = walk(path)) {
+            files = paths.filter(p -> isRegularFile(p)).sorted().collect(toList());
+          }
+          for (Path file : files) {
+            digest.update(path.relativize(file).toString().getBytes(UTF_8));
+            update(digest, file, buffer);
+          }
+        } else {
+          return empty();
+        }
+      }
+    } catch (URISyntaxException e) {
+      return empty();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read the content of " + classLoader, e);
+    }
+
+    return of(toHex(digest.digest()));
+  }
+
+  static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform is required to support it
+      throw new IllegalStateException(e);
+    }
+  }
+
+  static String toHex(byte[] bytes) {
+    StringBuilder hex = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+    return hex.toString();
+  }
+
+  private static void update(MessageDigest digest, Path file, byte[] buffer) throws IOException {
+    try (InputStream in = newInputStream(file)) {
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+  }
+}
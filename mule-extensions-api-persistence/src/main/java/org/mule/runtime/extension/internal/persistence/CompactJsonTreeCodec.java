@@ -0,0 +1,327 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static java.lang.Math.min;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Writes and reads {@link JsonElement} trees in a compact binary format.
+ * <p>
+ * Each string, either a member name or a value, is written only the first time it appears. Later occurrences are written as an
+ * index into the table of already seen strings. Element names, type ids, stereotypes and error identifiers are heavily repeated
+ * across a serialized model, so this makes the output a lot smaller than its JSON form. Since no text has to be tokenized and
+ * repeated strings are decoded only once, reading is also cheaper.
+ * <p>
+ * The format is:
+ * <ul>
+ * <li>A header made of four magic bytes followed by a format version byte</li>
+ * <li>A tagged value: a tag byte followed by its payload. Integral numbers are zigzag encoded variable length integers, objects
+ * and arrays are prefixed by their variable length size, and object members are written as name and value pairs</li>
+ * </ul>
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class CompactJsonTreeCodec {
+
+  private static final byte[] MAGIC = {'M', 'X', 'M', 'B'};
+  private static final byte VERSION = 1;
+
+  private static final byte NULL = 0;
+  private static final byte TRUE = 1;
+  private static final byte FALSE = 2;
+  private static final byte LONG = 3;
+  private static final byte DOUBLE = 4;
+  private static final byte NUMBER = 5;
+  private static final byte STRING = 6;
+  private static final byte ARRAY = 7;
+  private static final byte OBJECT = 8;
+
+  /**
+   * The maximum length, in bytes, of a single string. Longer ones can only come from corrupt content.
+   */
+  private static final int MAX_STRING_LENGTH = 16 * 1024 * 1024;
+
+  /**
+   * Strings longer than this are read in chunks of this size, so that memory is only allocated as their content is read.
+   */
+  private static final int STRING_CHUNK_SIZE = 8 * 1024;
+
+  private CompactJsonTreeCodec() {}
+
+  /**
+   * Writes the given {@code element} into the {@code outputStream}, which is flushed but not closed.
+   *
+   * @param element      the {@link JsonElement} to write
+   * @param outputStream the {@link OutputStream} to write into
+   * @throws IOException if the {@code outputStream} fails
+   */
+  public static void write(JsonElement element, OutputStream outputStream) throws IOException {
+    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream));
+    out.write(MAGIC);
+    out.writeByte(VERSION);
+    new Writer(out).write(element);
+    out.flush();
+  }
+
+  /**
+   * Reads a {@link JsonElement} from the given {@code inputStream}, which is not closed. Since reads are buffered, the
+   * {@code inputStream} may be consumed past the end of the element.
+   *
+   * @param inputStream the {@link InputStream} to read from
+   * @return the read {@link JsonElement}
+   * @throws IOException if the {@code inputStream} fails or its contents are not in the expected format
+   */
+  public static JsonElement read(InputStream inputStream) throws IOException {
+    DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+    for (byte expected : MAGIC) {
+      if (in.readByte() != expected) {
+        throw new IOException("Content is not a binary serialized extension model");
+      }
+    }
+
+    byte version = in.readByte();
+    if (version != VERSION) {
+      throw new IOException("Unsupported binary extension model format version: " + version);
+    }
+
+    return new Reader(in).read();
+  }
+
+  private static final class Writer {
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> strings = new HashMap<>();
+
+    private Writer(DataOutputStream out) {
+      this.out = out;
+    }
+
+    private void write(JsonElement element) throws IOException {
+      if (element == null || element.isJsonNull()) {
+        out.writeByte(NULL);
+      } else if (element.isJsonObject()) {
+        Set<Map.Entry<String, JsonElement>> members = element.getAsJsonObject().entrySet();
+        out.writeByte(OBJECT);
+        writeVarInt(members.size());
+        for (Map.Entry<String, JsonElement> member : members) {
+          writeString(member.getKey());
+          write(member.getValue());
+        }
+      } else if (element.isJsonArray()) {
+        JsonArray array = element.getAsJsonArray();
+        out.writeByte(ARRAY);
+        writeVarInt(array.size());
+        for (JsonElement item : array) {
+          write(item);
+        }
+      } else {
+        writePrimitive(element.getAsJsonPrimitive());
+      }
+    }
+
+    private void writePrimitive(JsonPrimitive primitive) throws IOException {
+      if (primitive.isBoolean()) {
+        out.writeByte(primitive.getAsBoolean() ? TRUE : FALSE);
+      } else if (primitive.isString()) {
+        out.writeByte(STRING);
+        writeString(primitive.getAsString());
+      } else {
+        Number number = primitive.getAsNumber();
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+          out.writeByte(LONG);
+          writeVarLong(number.longValue());
+        } else if (number instanceof Double || number instanceof Float) {
+          out.writeByte(DOUBLE);
+          out.writeDouble(number.doubleValue());
+        } else {
+          // keep the textual form so that neither precision nor the original representation are lost
+          out.writeByte(NUMBER);
+          writeString(number.toString());
+        }
+      }
+    }
+
+    private void writeString(String value) throws IOException {
+      Integer index = strings.get(value);
+      if (index != null) {
+        writeVarInt(index + 1);
+        return;
+      }
+
+      strings.put(value, strings.size());
+      byte[] bytes = value.getBytes(UTF_8);
+      writeVarInt(0);
+      writeVarInt(bytes.length);
+      out.write(bytes);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+      long zigzag = (value << 1) ^ (value >> 63);
+      while ((zigzag & ~0x7FL) != 0) {
+        out.writeByte((int) ((zigzag & 0x7F) | 0x80));
+        zigzag >>>= 7;
+      }
+      out.writeByte((int) zigzag);
+    }
+
+    private void writeVarInt(int value) throws IOException {
+      while ((value & ~0x7F) != 0) {
+        out.writeByte((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      out.writeByte(value);
+    }
+  }
+
+  private static final class Reader {
+
+    private final DataInputStream in;
+    private final List<String> strings = new ArrayList<>();
+
+    private Reader(DataInputStream in) {
+      this.in = in;
+    }
+
+    private JsonElement read() throws IOException {
+      byte tag = in.readByte();
+      switch (tag) {
+        case NULL:
+          return JsonNull.INSTANCE;
+        case TRUE:
+          return new JsonPrimitive(true);
+        case FALSE:
+          return new JsonPrimitive(false);
+        case LONG:
+          return new JsonPrimitive(readVarLong());
+        case DOUBLE:
+          return new JsonPrimitive(in.readDouble());
+        case NUMBER:
+          return new JsonPrimitive(readNumber());
+        case STRING:
+          return new JsonPrimitive(readString());
+        case ARRAY:
+          int length = readVarInt();
+          JsonArray array = new JsonArray();
+          for (int i = 0; i < length; i++) {
+            array.add(read());
+          }
+          return array;
+        case OBJECT:
+          int size = readVarInt();
+          JsonObject object = new JsonObject();
+          for (int i = 0; i < size; i++) {
+            String name = readString();
+            object.add(name, read());
+          }
+          return object;
+        default:
+          throw new IOException("Invalid element tag in binary extension model: " + tag);
+      }
+    }
+
+    private BigDecimal readNumber() throws IOException {
+      String value = readString();
+      try {
+        return new BigDecimal(value);
+      } catch (NumberFormatException e) {
+        throw new IOException("Invalid number in binary extension model: " + value, e);
+      }
+    }
+
+    private String readString() throws IOException {
+      int ref = readVarInt();
+      if (ref > 0) {
+        if (ref > strings.size()) {
+          throw new IOException("Invalid string reference in binary extension model: " + ref);
+        }
+        return strings.get(ref - 1);
+      }
+
+      String value = new String(readStringBytes(readVarInt()), UTF_8);
+      strings.add(value);
+      return value;
+    }
+
+    private byte[] readStringBytes(int length) throws IOException {
+      if (length > MAX_STRING_LENGTH) {
+        throw new IOException("Invalid string length in binary extension model: " + length);
+      }
+
+      if (length <= STRING_CHUNK_SIZE) {
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+      }
+
+      // a truncated content fails once its end is reached, without allocating the whole declared length beforehand
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream(STRING_CHUNK_SIZE);
+      byte[] chunk = new byte[STRING_CHUNK_SIZE];
+      int remaining = length;
+      while (remaining > 0) {
+        int read = in.read(chunk, 0, min(remaining, STRING_CHUNK_SIZE));
+        if (read < 0) {
+          throw new EOFException("Truncated string in binary extension model, " + remaining + " bytes missing");
+        }
+        bytes.write(chunk, 0, read);
+        remaining -= read;
+      }
+      return bytes.toByteArray();
+    }
+
+    private long readVarLong() throws IOException {
+      long zigzag = 0;
+      for (int shift = 0; shift < 64; shift += 7) {
+        byte b = in.readByte();
+        zigzag |= (long) (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+      }
+      throw new IOException("Malformed variable length number in binary extension model");
+    }
+
+    private int readVarInt() throws IOException {
+      int value = 0;
+      for (int shift = 0; shift < 32; shift += 7) {
+        byte b = in.readByte();
+        value |= (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          if (value < 0) {
+            break;
+          }
+          return value;
+        }
+      }
+      throw new IOException("Malformed variable length number in binary extension model");
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import org.mule.metadata.api.builder.TypeBuilder;
+import org.mule.metadata.api.model.ObjectType;
+import org.mule.metadata.persistence.ObjectTypeReferenceHandler;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Implementation of {@link ObjectTypeReferenceHandler} which delegates into the
+ * {@link ExtensionModelSerializationContext#getReferenceHandler() reference handler} of the context that is current at the moment
+ * of each invocation.
+ *
+ * @since 1.10
+ */
+public final class ContextualObjectTypeReferenceHandler implements ObjectTypeReferenceHandler {
+
+  private final Supplier<ExtensionModelSerializationContext> context;
+
+  /**
+   * Creates a new instance
+   *
+   * @param context supplies the {@link ExtensionModelSerializationContext} of the ongoing invocation
+   */
+  public ContextualObjectTypeReferenceHandler(Supplier<ExtensionModelSerializationContext> context) {
+    this.context = context;
+  }
+
+  @Override
+  public Optional<TypeBuilder> readReference(String typeReference) {
+    return context.get().getReferenceHandler().readReference(typeReference);
+  }
+
+  @Override
+  public boolean shouldWriteReference(ObjectType type) {
+    return context.get().getReferenceHandler().shouldWriteReference(type);
+  }
+
+  @Override
+  public Optional<String> writeReference(ObjectType type, JsonWriter writer) {
+    return context.get().getReferenceHandler().writeReference(type, writer);
+  }
+}
@@ -13,8 +13,8 @@ import org.mule.runtime.api.component.ComponentIdentifier;
 import org.mule.runtime.api.meta.model.error.ErrorModel;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
@@ -28,10 +28,21 @@ import com.google.gson.stream.JsonWriter;
  */
 public class ErrorModelToIdentifierTypeAdapter extends TypeAdapter<ErrorModel> {
 
-  private Map<String, ErrorModel> errorModelRepository = new HashMap<>();
+  private final Supplier<Map<String, ErrorModel>> errorModelRepository;
 
   public ErrorModelToIdentifierTypeAdapter(Map<String, ErrorModel> errorModelMap) {
-    errorModelRepository = errorModelMap;
+    this(() -> errorModelMap);
+  }
+
+  /**
+   * Creates a new instance which resolves the repository to use on each invocation, so that the same adapter can be shared by
+   * many serializations.
+   *
+   * @param errorModelRepository supplies the repository of the ongoing serialization
+   * @since 1.10
+   */
+  public ErrorModelToIdentifierTypeAdapter(Supplier<Map<String, ErrorModel>> errorModelRepository) {
+    this.errorModelRepository = errorModelRepository;
   }
 
   @Override
@@ -41,6 +52,6 @@ public class ErrorModelToIdentifierTypeAdapter extends TypeAdapter<ErrorModel> {
 
   @Override
   public ErrorModel read(JsonReader in) throws IOException {
-    return deserialize(in.nextString(), errorModelRepository);
+    return deserialize(in.nextString(), errorModelRepository.get());
   }
 }
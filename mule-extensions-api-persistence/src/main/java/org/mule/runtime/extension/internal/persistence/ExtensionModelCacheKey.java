@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static com.google.common.cache.CacheBuilder.newBuilder;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Optional.empty;
+
+import org.mule.runtime.api.artifact.ArtifactCoordinates;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.loader.DeclarationEnricher;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.persistence.ExtensionModelBinarySerializer;
+
+import java.security.MessageDigest;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import com.google.common.cache.Cache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Computes the key under which the {@link ExtensionModel} produced by an {@link ExtensionModelLoader} for an
+ * {@link ExtensionModelLoadingRequest} is cached.
+ * <p>
+ * The key is a digest of everything that may change the produced model: the loader, the {@link ArtifactCoordinates} of the
+ * extension, the digest of its content, the configuration of the request, its parameters, the extensions available through its
+ * {@link org.mule.runtime.api.dsl.DslResolvingContext} along with a digest of their content, and the version of the Extensions
+ * API itself.
+ * <p>
+ * Only parameters which are {@link String}s, boxed primitives or enums have a well defined representation to be digested.
+ * Requests with parameters of any other type are not cached.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class ExtensionModelCacheKey {
+
+  private static final Set<Class<?>> KEYABLE_PARAMETER_TYPES =
+      new HashSet<>(asList(String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+                           Float.class, Double.class));
+
+  private static final ExtensionModelBinarySerializer SERIALIZER = new ExtensionModelBinarySerializer();
+
+  // the digest of each extension is computed once, for as long as the extension is in use
+  private static final Cache<ExtensionModel, String> EXTENSION_CONTENT_HASHES = newBuilder().weakKeys().build();
+
+  private ExtensionModelCacheKey() {}
+
+  /**
+   * @param loader              the {@link ExtensionModelLoader} which produces the model
+   * @param request             the {@link ExtensionModelLoadingRequest} from which the model is produced
+   * @param contentHashResolver resolves the digest of the content of the extension
+   * @return the hex encoded key, or {@link Optional#empty()} if the request has no {@link ArtifactCoordinates}, the digest of
+   *         the content of the extension could not be resolved, or the request has parameters which can't be digested
+   */
+  public static Optional<String> compute(ExtensionModelLoader loader, ExtensionModelLoadingRequest request,
+                                         Function<ExtensionModelLoadingRequest, Optional<String>> contentHashResolver) {
+    ArtifactCoordinates coordinates = request.getArtifactCoordinates();
+    if (coordinates == null) {
+      return empty();
+    }
+
+    Optional<String> contentHash = contentHashResolver.apply(request);
+    if (!contentHash.isPresent()) {
+      return empty();
+    }
+
+    MessageDigest digest = ClassLoaderContentHash.newDigest();
+    update(digest, ExtensionModelLoader.class.getPackage().getImplementationVersion());
+    update(digest, loader.getClass().getName());
+    update(digest, loader.getId());
+    update(digest, coordinates.getGroupId());
+    update(digest, coordinates.getArtifactId());
+    update(digest, coordinates.getVersion());
+    update(digest, contentHash.get());
+    update(digest, request.isOCSEnabled());
+    update(digest, request.isForceExtensionValidation());
+    update(digest, request.isResolveMinMuleVersion());
+    update(digest, request.isCanonicalizeModel());
+
+    for (DeclarationEnricher enricher : request.getEnrichers()) {
+      update(digest, enricher.getClass().getName());
+    }
+    for (ExtensionModelValidator validator : request.getValidators()) {
+      update(digest, validator.getClass().getName());
+    }
+
+    for (Map.Entry<String, Object> parameter : new TreeMap<>(request.getParameters()).entrySet()) {
+      Object value = parameter.getValue();
+      update(digest, parameter.getKey());
+      if (value instanceof Enum) {
+        update(digest, ((Enum<?>) value).getDeclaringClass().getName());
+        update(digest, ((Enum<?>) value).name());
+      } else if (value != null && KEYABLE_PARAMETER_TYPES.contains(value.getClass())) {
+        update(digest, value.getClass().getName());
+        update(digest, value);
+      } else {
+        return empty();
+      }
+    }
+
+    TreeSet<String> extensions = new TreeSet<>();
+    for (ExtensionModel extension : request.getDslResolvingContext().getExtensions()) {
+      Optional<String> extensionContentHash = contentHash(extension);
+      if (!extensionContentHash.isPresent()) {
+        return empty();
+      }
+      extensions.add(extension.getName() + ":" + extension.getVersion() + ":" + extensionContentHash.get());
+    }
+    for (String extension : extensions) {
+      update(digest, extension);
+    }
+
+    return Optional.of(ClassLoaderContentHash.toHex(digest.digest()));
+  }
+
+  private static Optional<String> contentHash(ExtensionModel extension) {
+    try {
+      return Optional.of(EXTENSION_CONTENT_HASHES.get(extension, () -> {
+        MessageDigest digest = ClassLoaderContentHash.newDigest();
+        digest.update(SERIALIZER.serialize(extension));
+        return ClassLoaderContentHash.toHex(digest.digest());
+      }));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      // an extension which can't be serialized can't be told apart from other versions of it
+      return empty();
+    }
+  }
+
+  private static void update(MessageDigest digest, Object value) {
+    byte[] bytes = String.valueOf(value).getBytes(UTF_8);
+    // length prefixed, so that the boundaries between values can't be shifted
+    digest.update((byte) (bytes.length >>> 24));
+    digest.update((byte) (bytes.length >>> 16));
+    digest.update((byte) (bytes.length >>> 8));
+    digest.update((byte) bytes.length);
+    digest.update(bytes);
+  }
+}
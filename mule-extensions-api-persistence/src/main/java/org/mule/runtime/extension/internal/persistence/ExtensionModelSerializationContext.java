@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.api.util.ExtensionMetadataTypeUtils.getId;
+
+import static java.util.Collections.emptySet;
+
+import org.mule.metadata.api.model.ObjectType;
+import org.mule.metadata.persistence.JsonMetadataTypeLoader;
+import org.mule.metadata.persistence.JsonMetadataTypeWriter;
+import org.mule.metadata.persistence.ObjectTypeReferenceHandler;
+import org.mule.metadata.persistence.SerializationContext;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.error.ErrorModel;
+import org.mule.runtime.api.meta.model.notification.NotificationModel;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holds the state that is bound to a single serialization or deserialization of {@link ExtensionModel}s: the
+ * {@link SerializationContext} which tracks type references, the {@link ErrorModel} and {@link NotificationModel} repositories
+ * and the {@link ObjectTypeReferenceHandler} restricted to the catalog types of the model being serialized.
+ * <p>
+ * Keeping this state outside of the type adapters allows the adapter graph to be built once and shared, while each invocation
+ * works on its own instance of this class.
+ * <p>
+ * Instances are not thread-safe and are meant to be used by one invocation only.
+ *
+ * @since 1.10
+ */
+public final class ExtensionModelSerializationContext {
+
+  private final SerializationContext serializationContext = new SerializationContext();
+  private final Map<String, ErrorModel> errorModelRepository = new HashMap<>();
+  private final Map<String, NotificationModel> notificationModelRepository = new HashMap<>();
+  private final JsonMetadataTypeLoader typeLoader = new JsonMetadataTypeLoader();
+  private final JsonMetadataTypeWriter typeWriter = new JsonMetadataTypeWriter();
+  private final ObjectTypeReferenceHandler referenceHandler;
+
+  /**
+   * Creates a new context which doesn't allow references to any type.
+   */
+  public ExtensionModelSerializationContext() {
+    this(emptySet(), emptySet());
+  }
+
+  /**
+   * Creates a new context
+   *
+   * @param registeredTypes the types in the {@link ExtensionModel} catalog, which can be written as references
+   * @param importedTypes   the types imported by the {@link ExtensionModel}, which can be written as references
+   */
+  public ExtensionModelSerializationContext(Set<ObjectType> registeredTypes, Set<ObjectType> importedTypes) {
+    Set<String> registeredTypeIds = new HashSet<>();
+    registeredTypes.forEach(type -> getId(type).ifPresent(registeredTypeIds::add));
+
+    importedTypes.forEach(type -> {
+      getId(type).ifPresent(registeredTypeIds::add);
+      serializationContext.registerObjectType(type);
+    });
+
+    referenceHandler = new RestrictedTypesObjectTypeReferenceHandler(serializationContext, registeredTypeIds);
+  }
+
+  public SerializationContext getSerializationContext() {
+    return serializationContext;
+  }
+
+  public Map<String, ErrorModel> getErrorModelRepository() {
+    return errorModelRepository;
+  }
+
+  public Map<String, NotificationModel> getNotificationModelRepository() {
+    return notificationModelRepository;
+  }
+
+  public ObjectTypeReferenceHandler getReferenceHandler() {
+    return referenceHandler;
+  }
+
+  JsonMetadataTypeLoader getTypeLoader() {
+    return typeLoader;
+  }
+
+  JsonMetadataTypeWriter getTypeWriter() {
+    return typeWriter;
+  }
+}
@@ -15,7 +15,6 @@ import static java.util.Collections.emptySet;
 import org.mule.metadata.api.model.ObjectType;
 import org.mule.metadata.persistence.JsonMetadataTypeLoader;
 import org.mule.metadata.persistence.JsonMetadataTypeWriter;
-import org.mule.metadata.persistence.SerializationContext;
 import org.mule.runtime.api.artifact.ArtifactCoordinates;
 import org.mule.runtime.api.meta.Category;
 import org.mule.runtime.api.meta.MuleVersion;
@@ -43,6 +42,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.google.gson.Gson;
@@ -90,22 +90,24 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
   private static final String ARTIFACT_COORDINATES = "artifactCoordinates";
 
   private final Gson gsonDelegate;
-  private final JsonMetadataTypeLoader typeLoader = new JsonMetadataTypeLoader();
-  private final JsonMetadataTypeWriter typeWriter = new JsonMetadataTypeWriter();
-  private final SerializationContext serializationContext;
-  private final ErrorModelSerializerDelegate errorModelDelegate;
-  private final NotificationModelSerializerDelegate notificationModelDelegate;
-
-  public ExtensionModelTypeAdapter(Gson gsonDelegate, SerializationContext serializationContext,
-                                   Map<String, ErrorModel> errorModelMap, Map<String, NotificationModel> notificationModelMap) {
+  private final Supplier<ExtensionModelSerializationContext> context;
+
+  /**
+   * Creates a new instance
+   *
+   * @param gsonDelegate the {@link Gson} used to handle the inner components of the {@link ExtensionModel}
+   * @param context      supplies the {@link ExtensionModelSerializationContext} of the ongoing invocation. Resolved on each
+   *                     {@link #write(JsonWriter, ExtensionModel)} and {@link #read(JsonReader)} so that this adapter can be
+   *                     shared.
+   */
+  public ExtensionModelTypeAdapter(Gson gsonDelegate, Supplier<ExtensionModelSerializationContext> context) {
     this.gsonDelegate = gsonDelegate;
-    this.serializationContext = serializationContext;
-    this.errorModelDelegate = new ErrorModelSerializerDelegate(errorModelMap);
-    this.notificationModelDelegate = new NotificationModelSerializerDelegate(notificationModelMap, gsonDelegate);
+    this.context = context;
   }
 
   @Override
   public void write(JsonWriter out, ExtensionModel model) throws IOException {
+    final ExtensionModelSerializationContext context = this.context.get();
     out.beginObject();
 
     out.name(NAME).value(model.getName());
@@ -130,7 +132,7 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
     writeWithDelegate(model.getPrivilegedArtifacts(), PRIVILEGED_ARTIFACTS, out, new TypeToken<Set<String>>() {});
     writeWithDelegate(model.getExternalLibraryModels(), EXTERNAL_LIBRARIES, out, new TypeToken<Set<ExternalLibraryModel>>() {});
 
-    writeImportedTypes(out, model.getImportedTypes());
+    writeImportedTypes(out, model.getImportedTypes(), context.getTypeWriter());
 
     writeWithDelegate(model.getDisplayModel().orElse(null), DISPLAY_MODEL, out, new TypeToken<DisplayModel>() {});
     writeWithDelegate(model.getConfigurationModels(), CONFIGURATIONS, out, new TypeToken<List<ConfigurationModel>>() {});
@@ -145,18 +147,20 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
       writeWithDelegate(model.getArtifactCoordinates().get(), ARTIFACT_COORDINATES, out, new TypeToken<ArtifactCoordinates>() {});
     }
 
-    notificationModelDelegate.writeNotifications(model.getNotificationModels(), out);
-    errorModelDelegate.writeErrors(model.getErrorModels(), out);
+    new NotificationModelSerializerDelegate(context.getNotificationModelRepository(), gsonDelegate)
+        .writeNotifications(model.getNotificationModels(), out);
+    new ErrorModelSerializerDelegate(context.getErrorModelRepository()).writeErrors(model.getErrorModels(), out);
     writeExtensionLevelModelProperties(out, model);
-    writeTypes(TYPES, out, model.getTypes());
+    writeTypes(TYPES, out, model.getTypes(), context.getTypeWriter());
     out.endObject();
   }
 
   @Override
   public ExtensionModel read(JsonReader in) throws IOException {
+    final ExtensionModelSerializationContext context = this.context.get();
     JsonObject json = new JsonParser().parse(in).getAsJsonObject();
 
-    Set<ObjectType> types = parseTypes(TYPES, json);
+    Set<ObjectType> types = parseTypes(TYPES, json, context);
     MuleVersion minMuleVersion = null;
     if (json.has(MIN_MULE_VERSION)) {
       minMuleVersion = new MuleVersion(json.get(MIN_MULE_VERSION).getAsString());
@@ -165,16 +169,18 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
     Map<String, NotificationModel> parsedNotifications;
     if (json.has(NOTIFICATIONS)) {
       JsonArray notifications = json.get(NOTIFICATIONS).getAsJsonArray();
-      parsedNotifications = notificationModelDelegate.parseNotifications(notifications);
+      parsedNotifications = new NotificationModelSerializerDelegate(context.getNotificationModelRepository(), gsonDelegate)
+          .parseNotifications(notifications);
     } else {
       parsedNotifications = Collections.emptyMap();
     }
 
     JsonArray errors = json.get(ERRORS).getAsJsonArray();
 
-    Map<String, ErrorModel> parsedErrors = errorModelDelegate.parseErrors(errors);
+    Map<String, ErrorModel> parsedErrors =
+        new ErrorModelSerializerDelegate(context.getErrorModelRepository()).parseErrors(errors);
 
-    Set<ImportedTypeModel> importedTypes = parseImportedTypes(json);
+    Set<ImportedTypeModel> importedTypes = parseImportedTypes(json, context);
     Set<String> resources = parseWithDelegate(json, RESOURCES, new TypeToken<Set<String>>() {});
     Set<SubTypesModel> subTypes = parseWithDelegate(json, SUB_TYPES, new TypeToken<Set<SubTypesModel>>() {});
     Set<String> privilegedPackages = parseWithDelegate(json, PRIVILEGED_PACKAGES, new TypeToken<Set<String>>() {});
@@ -231,7 +237,7 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
     gsonDelegate.toJson(value, typeToken.getType(), out);
   }
 
-  private Set<ObjectType> parseTypes(String label, JsonObject json) {
+  private Set<ObjectType> parseTypes(String label, JsonObject json, ExtensionModelSerializationContext context) {
     final Set<ObjectType> types = new LinkedHashSet<>();
     final JsonElement jsonElement = json.get(label);
     JsonArray typesArray = jsonElement != null ? jsonElement.getAsJsonArray() : null;
@@ -240,6 +246,7 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
       return emptySet();
     }
 
+    final JsonMetadataTypeLoader typeLoader = context.getTypeLoader();
     typesArray.forEach(typeElement -> typeLoader.load(typeElement).ifPresent(type -> {
       if (!(type instanceof ObjectType)) {
         throw new IllegalArgumentException(format("Was expecting an object type but %s was found instead",
@@ -250,7 +257,7 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
               + "with a 'typeId' can be part of the 'types' catalog"));
 
       final ObjectType objectType = (ObjectType) type;
-      serializationContext.registerObjectType(objectType);
+      context.getSerializationContext().registerObjectType(objectType);
       types.add(objectType);
     }));
 
@@ -269,13 +276,14 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
     return versions.isEmpty() ? DEFAULT_SUPPORTED_JAVA_VERSIONS : versions;
   }
 
-  private Set<ImportedTypeModel> parseImportedTypes(JsonObject json) {
-    return parseTypes(IMPORTED_TYPES, json)
+  private Set<ImportedTypeModel> parseImportedTypes(JsonObject json, ExtensionModelSerializationContext context) {
+    return parseTypes(IMPORTED_TYPES, json, context)
         .stream().map(ImportedTypeModel::new)
         .collect(Collectors.toSet());
   }
 
-  private void writeTypes(String label, JsonWriter out, Set<ObjectType> additionalTypes) throws IOException {
+  private void writeTypes(String label, JsonWriter out, Set<ObjectType> additionalTypes, JsonMetadataTypeWriter typeWriter)
+      throws IOException {
     out.name(label);
     out.beginArray();
     final Set<ObjectType> objectTypes = new LinkedHashSet<>();
@@ -286,11 +294,12 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
     out.endArray();
   }
 
-  private void writeImportedTypes(JsonWriter out, Set<ImportedTypeModel> importedTypeModels) throws IOException {
+  private void writeImportedTypes(JsonWriter out, Set<ImportedTypeModel> importedTypeModels, JsonMetadataTypeWriter typeWriter)
+      throws IOException {
     writeTypes(IMPORTED_TYPES, out, importedTypeModels
         .stream()
         .map(ImportedTypeModel::getImportedType)
-        .collect(Collectors.toCollection(LinkedHashSet::new)));
+        .collect(Collectors.toCollection(LinkedHashSet::new)), typeWriter);
   }
 
   private void writeExtensionLevelModelProperties(JsonWriter out, ExtensionModel model) throws IOException {
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import org.mule.runtime.api.meta.NamedObject;
+import org.mule.runtime.api.meta.model.construct.ConstructModel;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.source.SourceModel;
+import org.mule.runtime.api.util.Reference;
+import org.mule.runtime.extension.internal.util.LazyNamedModelList;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A {@link TypeAdapterFactory} which reads lists of {@link OperationModel}, {@link SourceModel} and {@link ConstructModel} into
+ * {@link LazyNamedModelList}s, wherever those lists appear in the model.
+ * <p>
+ * Only the name of each component is read up front. The rest of the component is kept as its compact JSON encoding and is only
+ * deserialized the first time it is accessed, after which the encoding is released. Since that may happen long after the
+ * deserialization of the extension model is over, and from any thread, the {@link ExtensionModelSerializationContext} of the
+ * original deserialization is captured and bound again, with exclusive access, for each deferred component. It is released once
+ * all the components of the list have been read.
+ * <p>
+ * Lists are written as usual, which materializes all of their components.
+ *
+ * @since 1.10
+ */
+public class LazyComponentListTypeAdapterFactory implements TypeAdapterFactory {
+
+  private static final String NAME = "name";
+
+  private static final List<TypeToken<?>> LAZY_TYPES = new ArrayList<>();
+
+  static {
+    LAZY_TYPES.add(new TypeToken<List<OperationModel>>() {});
+    LAZY_TYPES.add(new TypeToken<List<SourceModel>>() {});
+    LAZY_TYPES.add(new TypeToken<List<ConstructModel>>() {});
+  }
+
+  private final Supplier<ExtensionModelSerializationContext> context;
+  private final BiConsumer<ExtensionModelSerializationContext, Runnable> contextBinder;
+
+  /**
+   * Creates a new instance
+   *
+   * @param context       supplies the {@link ExtensionModelSerializationContext} of the ongoing deserialization
+   * @param contextBinder runs the given task with the given {@link ExtensionModelSerializationContext} bound, so that the
+   *                      {@code context} supplier returns it while the task runs
+   */
+  public LazyComponentListTypeAdapterFactory(Supplier<ExtensionModelSerializationContext> context,
+                                             BiConsumer<ExtensionModelSerializationContext, Runnable> contextBinder) {
+    this.context = context;
+    this.contextBinder = contextBinder;
+  }
+
+  @Override
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    if (!LAZY_TYPES.contains(type)) {
+      return null;
+    }
+
+    TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+    TypeAdapter<NamedObject> itemAdapter =
+        (TypeAdapter<NamedObject>) gson.getAdapter(TypeToken.get(((ParameterizedType) type.getType()).getActualTypeArguments()[0]));
+
+    return (TypeAdapter<T>) new LazyComponentListTypeAdapter((TypeAdapter<List<NamedObject>>) delegate, itemAdapter);
+  }
+
+  private class LazyComponentListTypeAdapter extends TypeAdapter<List<NamedObject>> {
+
+    private final TypeAdapter<List<NamedObject>> delegate;
+    private final TypeAdapter<NamedObject> itemAdapter;
+
+    private LazyComponentListTypeAdapter(TypeAdapter<List<NamedObject>> delegate, TypeAdapter<NamedObject> itemAdapter) {
+      this.delegate = delegate;
+      this.itemAdapter = itemAdapter;
+    }
+
+    @Override
+    public void write(JsonWriter out, List<NamedObject> value) throws IOException {
+      delegate.write(out, value);
+    }
+
+    @Override
+    public List<NamedObject> read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+
+      JsonArray array = new JsonParser().parse(in).getAsJsonArray();
+      List<String> names = new ArrayList<>(array.size());
+      byte[][] encodedItems = new byte[array.size()][];
+      for (int i = 0; i < array.size(); i++) {
+        JsonElement item = array.get(i);
+        JsonElement name = item.isJsonObject() ? item.getAsJsonObject().get(NAME) : null;
+        if (name == null || !name.isJsonPrimitive()) {
+          // not something that can be indexed by name, so it can't be deferred
+          return delegate.fromJsonTree(array);
+        }
+
+        names.add(name.getAsString());
+        encodedItems[i] = item.toString().getBytes(UTF_8);
+      }
+
+      return new LazyNamedModelList<>(names, new DeferredItems(itemAdapter, contextBinder, context.get(), names, encodedItems));
+    }
+  }
+
+  /**
+   * Reads the deferred components of a single list. It only holds what reading them requires, and releases the
+   * {@link ExtensionModelSerializationContext} once every component has been read.
+   * <p>
+   * Invoked by the {@link LazyNamedModelList} at most once per successfully read position, with exclusive access.
+   */
+  private static final class DeferredItems implements IntFunction<NamedObject> {
+
+    private final TypeAdapter<NamedObject> itemAdapter;
+    private final BiConsumer<ExtensionModelSerializationContext, Runnable> contextBinder;
+    private final List<String> names;
+    private final byte[][] encodedItems;
+    private ExtensionModelSerializationContext readContext;
+    private int pending;
+
+    private DeferredItems(TypeAdapter<NamedObject> itemAdapter,
+                          BiConsumer<ExtensionModelSerializationContext, Runnable> contextBinder,
+                          ExtensionModelSerializationContext readContext, List<String> names, byte[][] encodedItems) {
+      this.itemAdapter = itemAdapter;
+      this.contextBinder = contextBinder;
+      this.readContext = readContext;
+      this.names = names;
+      this.encodedItems = encodedItems;
+      this.pending = encodedItems.length;
+    }
+
+    @Override
+    public NamedObject apply(int index) {
+      // the encoding is only released once it has been read, so that a failure is reported again on the next access
+      NamedObject item = readItem(encodedItems[index], names.get(index));
+      encodedItems[index] = null;
+      if (--pending == 0) {
+        readContext = null;
+      }
+      return item;
+    }
+
+    private NamedObject readItem(byte[] encodedItem, String name) {
+      final ExtensionModelSerializationContext context = readContext;
+      Reference<NamedObject> item = new Reference<>();
+      synchronized (context) {
+        contextBinder.accept(context, () -> {
+          try {
+            item.set(itemAdapter.fromJson(new InputStreamReader(new ByteArrayInputStream(encodedItem), UTF_8)));
+          } catch (IOException e) {
+            throw new ExtensionModelSerializationException("Could not deserialize component '" + name + "'", e);
+          }
+        });
+      }
+      return item.get();
+    }
+  }
+}
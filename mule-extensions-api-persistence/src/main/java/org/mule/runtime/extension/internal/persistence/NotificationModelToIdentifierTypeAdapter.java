@@ -13,8 +13,8 @@ import org.mule.runtime.api.component.ComponentIdentifier;
 import org.mule.runtime.api.meta.model.notification.NotificationModel;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
@@ -29,10 +29,21 @@ import com.google.gson.stream.JsonWriter;
  */
 public class NotificationModelToIdentifierTypeAdapter extends TypeAdapter<NotificationModel> {
 
-  private Map<String, NotificationModel> notificationModelRepository = new HashMap<>();
+  private final Supplier<Map<String, NotificationModel>> notificationModelRepository;
 
   public NotificationModelToIdentifierTypeAdapter(Map<String, NotificationModel> notificationModelMap) {
-    notificationModelRepository = notificationModelMap;
+    this(() -> notificationModelMap);
+  }
+
+  /**
+   * Creates a new instance which resolves the repository to use on each invocation, so that the same adapter can be shared by
+   * many serializations.
+   *
+   * @param notificationModelRepository supplies the repository of the ongoing serialization
+   * @since 1.10
+   */
+  public NotificationModelToIdentifierTypeAdapter(Supplier<Map<String, NotificationModel>> notificationModelRepository) {
+    this.notificationModelRepository = notificationModelRepository;
   }
 
   @Override
@@ -42,6 +53,6 @@ public class NotificationModelToIdentifierTypeAdapter extends TypeAdapter<Notifi
 
   @Override
   public NotificationModel read(JsonReader in) throws IOException {
-    return deserialize(in.nextString(), notificationModelRepository);
+    return deserialize(in.nextString(), notificationModelRepository.get());
   }
 }
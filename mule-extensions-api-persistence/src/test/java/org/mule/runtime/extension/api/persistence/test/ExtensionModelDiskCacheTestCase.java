@@ -0,0 +1,235 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence.test;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.api.meta.Category.COMMUNITY;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+
+import static java.nio.file.Files.list;
+import static java.nio.file.Files.write;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.core.Is.is;
+
+import org.mule.runtime.api.artifact.ArtifactCoordinates;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.XmlDslModel;
+import org.mule.runtime.api.test.meta.model.tck.TestCoreExtensionDeclarer;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+import org.mule.runtime.extension.api.persistence.ExtensionModelDiskCache;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ExtensionModelDiskCacheTestCase {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final AtomicInteger declarations = new AtomicInteger();
+  private final AtomicReference<String> contentHash = new AtomicReference<>("hash");
+
+  private final ExtensionModelLoader loader = new ExtensionModelLoader() {
+
+    @Override
+    public String getId() {
+      return "test";
+    }
+
+    @Override
+    protected void declareExtension(ExtensionLoadingContext context) {
+      declarations.incrementAndGet();
+      new TestCoreExtensionDeclarer().declareOn(context.getExtensionDeclarer());
+    }
+  };
+
+  private ExtensionModelDiskCache cache;
+
+  @Before
+  public void before() {
+    cache = new ExtensionModelDiskCache(folder.getRoot().toPath(), request -> Optional.ofNullable(contentHash.get()));
+  }
+
+  @Test
+  public void warmLoadSkipsDeclaration() {
+    ExtensionModel loaded = cache.loadExtensionModel(loader, request("1.0.0"));
+    ExtensionModel cached = cache.loadExtensionModel(loader, request("1.0.0"));
+
+    assertThat(declarations.get(), is(1));
+    assertThat(cache.getHitCount(), is(1L));
+    assertThat(cache.getMissCount(), is(1L));
+    assertThat(cached.getName(), is(loaded.getName()));
+    assertThat(cached.getOperationModels().size(), is(loaded.getOperationModels().size()));
+
+    // a different cache over the same directory, like after a restart
+    ExtensionModelDiskCache restarted =
+        new ExtensionModelDiskCache(folder.getRoot().toPath(), request -> Optional.of("hash"));
+    restarted.loadExtensionModel(loader, request("1.0.0"));
+    assertThat(declarations.get(), is(1));
+    assertThat(restarted.getHitCount(), is(1L));
+  }
+
+  @Test
+  public void changedContentIsLoadedAgain() {
+    cache.loadExtensionModel(loader, request("1.0.0"));
+    contentHash.set("otherHash");
+    cache.loadExtensionModel(loader, request("1.0.0"));
+    cache.loadExtensionModel(loader, request("1.0.1"));
+
+    assertThat(declarations.get(), is(3));
+    assertThat(cache.getHitCount(), is(0L));
+  }
+
+  @Test
+  public void corruptedEntryIsLoadedAgain() throws Exception {
+    cache.loadExtensionModel(loader, request("1.0.0"));
+    List<Path> entries = entries();
+    assertThat(entries, hasSize(1));
+    write(entries.get(0), "corrupted".getBytes());
+
+    ExtensionModel extensionModel = cache.loadExtensionModel(loader, request("1.0.0"));
+    assertThat(extensionModel.getOperationModels().isEmpty(), is(false));
+    assertThat(declarations.get(), is(2));
+
+    cache.loadExtensionModel(loader, request("1.0.0"));
+    assertThat(declarations.get(), is(2));
+    assertThat(cache.getHitCount(), is(1L));
+  }
+
+  @Test
+  public void requestsWithoutContentHashAreNotCached() throws Exception {
+    contentHash.set(null);
+    cache.loadExtensionModel(loader, request("1.0.0"));
+    cache.loadExtensionModel(loader, request("1.0.0"));
+
+    assertThat(declarations.get(), is(2));
+    assertThat(entries(), hasSize(0));
+  }
+
+  @Test
+  public void requestsWithoutCoordinatesAreNotCached() throws Exception {
+    ExtensionModelLoadingRequest request = builder(getClass().getClassLoader(), getDefault(emptySet())).build();
+    cache.loadExtensionModel(loader, request);
+    cache.loadExtensionModel(loader, request);
+
+    assertThat(declarations.get(), is(2));
+    assertThat(entries(), hasSize(0));
+  }
+
+  @Test
+  public void requestsWithUnsupportedParametersAreNotCached() throws Exception {
+    ExtensionModelLoadingRequest request = requestBuilder("1.0.0").addParameter("parameter", new Object()).build();
+    cache.loadExtensionModel(loader, request);
+    cache.loadExtensionModel(loader, request);
+
+    assertThat(declarations.get(), is(2));
+    assertThat(entries(), hasSize(0));
+  }
+
+  @Test
+  public void supportedParametersAreKeyedByTypeAndValue() {
+    cache.loadExtensionModel(loader, requestBuilder("1.0.0").addParameter("parameter", 1).build());
+    cache.loadExtensionModel(loader, requestBuilder("1.0.0").addParameter("parameter", "1").build());
+    cache.loadExtensionModel(loader, requestBuilder("1.0.0").addParameter("parameter", SECONDS).build());
+    cache.loadExtensionModel(loader, requestBuilder("1.0.0").addParameter("parameter", 1).build());
+
+    assertThat(declarations.get(), is(3));
+    assertThat(cache.getHitCount(), is(1L));
+  }
+
+  @Test
+  public void canonicalizationIsPartOfTheKey() {
+    cache.loadExtensionModel(loader, request("1.0.0"));
+    cache.loadExtensionModel(loader, requestBuilder("1.0.0").setCanonicalizeModel(true).build());
+
+    assertThat(declarations.get(), is(2));
+    assertThat(cache.getHitCount(), is(0L));
+  }
+
+  @Test
+  public void changedDependencyIsLoadedAgain() {
+    cache.loadExtensionModel(loader, requestBuilder("1.0.0", dependency("A dependency")).build());
+    cache.loadExtensionModel(loader, requestBuilder("1.0.0", dependency("A changed dependency")).build());
+    assertThat(declarations.get(), is(2));
+
+    cache.loadExtensionModel(loader, requestBuilder("1.0.0", dependency("A dependency")).build());
+    assertThat(declarations.get(), is(2));
+    assertThat(cache.getHitCount(), is(1L));
+  }
+
+  private ExtensionModel dependency(String description) {
+    ExtensionModelLoader dependencyLoader = new ExtensionModelLoader() {
+
+      @Override
+      public String getId() {
+        return "dependency";
+      }
+
+      @Override
+      protected void declareExtension(ExtensionLoadingContext context) {
+        // same name and version, only the content changes
+        context.getExtensionDeclarer().named("dependency")
+            .describedAs(description)
+            .onVersion("1.0.0")
+            .fromVendor("MuleSoft")
+            .withCategory(COMMUNITY)
+            .withXmlDsl(XmlDslModel.builder().setPrefix("dependency").build())
+            .withConfig("config").describedAs("config");
+      }
+    };
+    return dependencyLoader.loadExtensionModel(builder(getClass().getClassLoader(), getDefault(emptySet())).build());
+  }
+
+  private List<Path> entries() throws Exception {
+    try (Stream<Path> entries = list(folder.getRoot().toPath())) {
+      return entries.collect(toList());
+    }
+  }
+
+  private ExtensionModelLoadingRequest request(String version) {
+    return requestBuilder(version).build();
+  }
+
+  private ExtensionModelLoadingRequest.Builder requestBuilder(String version, ExtensionModel... dependencies) {
+    return builder(getClass().getClassLoader(), getDefault(new HashSet<>(asList(dependencies))))
+        .setArtifactCoordinates(new ArtifactCoordinates() {
+
+          @Override
+          public String getGroupId() {
+            return "org.mule.tests";
+          }
+
+          @Override
+          public String getArtifactId() {
+            return "test-extension";
+          }
+
+          @Override
+          public String getVersion() {
+            return version;
+          }
+        });
+  }
+}
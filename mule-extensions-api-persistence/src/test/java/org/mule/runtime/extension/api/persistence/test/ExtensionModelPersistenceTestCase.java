@@ -11,13 +11,19 @@ import static org.mule.metadata.java.api.utils.JavaTypeUtils.getType;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsCollectionContaining.hasItem;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
 import org.mule.metadata.api.annotation.TypeAliasAnnotation;
 import org.mule.metadata.api.model.ArrayType;
 import org.mule.metadata.api.model.MetadataType;
@@ -33,18 +39,31 @@ import org.mule.runtime.extension.api.test.dsl.model.ComplexFieldsType;
 import org.mule.runtime.extension.api.test.dsl.model.ExtensibleType;
 import org.mule.runtime.extension.api.model.ImmutableExtensionModel;
 import org.mule.runtime.extension.api.model.connection.ImmutableConnectionProviderModel;
+import org.mule.runtime.extension.api.persistence.ExtensionModelBinarySerializer;
+import org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer;
+import org.mule.runtime.extension.internal.util.LazyNamedModelList;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 
 import org.apache.commons.io.IOUtils;
 
 import org.junit.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
 
 public class ExtensionModelPersistenceTestCase extends BasePersistenceTestCase {
 
@@ -180,6 +199,250 @@ public class ExtensionModelPersistenceTestCase extends BasePersistenceTestCase {
     assertThat(deserializedConnectionProvider.getMinMuleVersion(), is(originalConnectionProvider.getMinMuleVersion()));
   }
 
+  @Test
+  public void streamingSerialization() throws IOException {
+    StringWriter writer = new StringWriter();
+    extensionModelJsonSerializer.serialize(originalExtensionModel, writer);
+    assertSerializedJson(writer.toString(), SERIALIZED_EXTENSION_MODEL_JSON);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    extensionModelJsonSerializer.serialize(originalExtensionModel, out);
+    assertSerializedJson(new String(out.toByteArray(), UTF_8), SERIALIZED_EXTENSION_MODEL_JSON);
+  }
+
+  @Test
+  public void streamingDeserialization() throws IOException {
+    ExtensionModel fromReader = extensionModelJsonSerializer
+        .deserialize(new StringReader(getResourceAsString(SERIALIZED_EXTENSION_MODEL_JSON)));
+    ExtensionModel fromStream =
+        extensionModelJsonSerializer.deserialize(this.getClass().getResourceAsStream(SERIALIZED_EXTENSION_MODEL_JSON));
+
+    for (ExtensionModel extensionModel : asList(fromReader, fromStream)) {
+      assertThat(extensionModel, instanceOf(ImmutableExtensionModel.class));
+      assertThat(extensionModel.getName(), is(originalExtensionModel.getName()));
+      assertThat(extensionModel.getTypes(), hasItem(exportedType));
+      assertThat(extensionModel.getOperationModel(GET_CAR_OPERATION_NAME).isPresent(), is(true));
+    }
+  }
+
+  @Test
+  public void reusableSerializerJsonStructure() throws IOException {
+    ExtensionModelJsonSerializer reusableSerializer = new ExtensionModelJsonSerializer(true, true);
+    assertSerializedJson(reusableSerializer.serialize(originalExtensionModel), SERIALIZED_EXTENSION_MODEL_JSON);
+    assertSerializedJson(reusableSerializer.serializeList(extensionModelList), LIST_OF_SERIALIZED_EXTENSION_MODEL_JSON);
+  }
+
+  @Test
+  public void reusableSerializerRoundTrip() {
+    ExtensionModelJsonSerializer reusableSerializer = new ExtensionModelJsonSerializer(true, true);
+    ExtensionModel extensionModel = reusableSerializer.deserialize(reusableSerializer.serialize(originalExtensionModel));
+
+    assertThat(extensionModel, instanceOf(ImmutableExtensionModel.class));
+    assertThat(extensionModel.getTypes(), hasItem(exportedType));
+    assertThat(extensionModel.getOperationModel(GET_CAR_OPERATION_NAME).isPresent(), is(true));
+  }
+
+  @Test
+  public void reusableSerializerIsThreadSafe() throws Exception {
+    ExtensionModelJsonSerializer reusableSerializer = new ExtensionModelJsonSerializer(true, true);
+    String expected = reusableSerializer.serialize(originalExtensionModel);
+
+    ExecutorService executor = newFixedThreadPool(4);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        results.add(executor.submit(() -> reusableSerializer
+            .serialize(reusableSerializer.deserialize(reusableSerializer.serialize(originalExtensionModel)))));
+      }
+
+      for (Future<String> result : results) {
+        JSONAssert.assertEquals(expected, result.get(), true);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void lazyDeserializationDefersComponents() {
+    ExtensionModelJsonSerializer lazySerializer = new ExtensionModelJsonSerializer(false, true, true);
+    ExtensionModel extensionModel = lazySerializer.deserialize(serializedExtensionModel.toString());
+
+    assertThat(extensionModel.getOperationModels(), instanceOf(LazyNamedModelList.class));
+    LazyNamedModelList<OperationModel> operations = (LazyNamedModelList<OperationModel>) extensionModel.getOperationModels();
+    int getCarIndex = operations.getNames().indexOf(GET_CAR_OPERATION_NAME);
+    assertThat(operations.isLoaded(getCarIndex), is(false));
+
+    OperationModel getCar = extensionModel.getOperationModel(GET_CAR_OPERATION_NAME).get();
+    assertThat(getCar.getName(), is(GET_CAR_OPERATION_NAME));
+    assertThat(operations.isLoaded(getCarIndex), is(true));
+    for (int i = 0; i < operations.size(); i++) {
+      assertThat(operations.isLoaded(i), is(i == getCarIndex));
+    }
+  }
+
+  @Test
+  public void findComponentModelOnlyMaterializesMatch() {
+    ExtensionModel extensionModel =
+        new ExtensionModelJsonSerializer(false, true, true).deserialize(serializedExtensionModel.toString());
+    LazyNamedModelList<OperationModel> operations = (LazyNamedModelList<OperationModel>) extensionModel.getOperationModels();
+    int getCarIndex = operations.getNames().indexOf(GET_CAR_OPERATION_NAME);
+
+    assertThat(extensionModel.findComponentModel(GET_CAR_OPERATION_NAME).get().getName(), is(GET_CAR_OPERATION_NAME));
+    assertThat(extensionModel.findComponentModel("notAComponent").isPresent(), is(false));
+    for (int i = 0; i < operations.size(); i++) {
+      assertThat(operations.isLoaded(i), is(i == getCarIndex));
+    }
+  }
+
+  @Test
+  public void lazilyDeserializedComponentsResolveTypeReferences() {
+    ExtensionModel extensionModel =
+        new ExtensionModelJsonSerializer(false, true, true).deserialize(serializedExtensionModel.toString());
+
+    SourceModel sourceModel = (SourceModel) extensionModel.findComponentModel(SOURCE_NAME).get();
+    ParameterModel complexParameter = sourceModel.getAllParameterModels().stream()
+        .filter(p -> p.getName().equals(COMPLEX_PARAMETER_NAME))
+        .findFirst().get();
+
+    assertComplexParameter(complexParameter);
+  }
+
+  @Test
+  public void lazilyDeserializedComponentFailureIsReportedOnEachAccess() {
+    JsonObject corrupted = new JsonParser().parse(serializedExtensionModel.toString()).getAsJsonObject();
+    for (JsonElement operation : corrupted.getAsJsonArray(OPERATIONS_NODE)) {
+      if (operation.getAsJsonObject().get("name").getAsString().equals(GET_CAR_OPERATION_NAME)) {
+        operation.getAsJsonObject().add("description", new JsonObject());
+      }
+    }
+    ExtensionModel extensionModel = new ExtensionModelJsonSerializer(false, true, true).deserialize(corrupted.toString());
+
+    RuntimeException first = getOperationFailure(extensionModel);
+    RuntimeException second = getOperationFailure(extensionModel);
+    assertThat(first, is(not(instanceOf(NullPointerException.class))));
+    assertThat(second.getClass(), equalTo(first.getClass()));
+  }
+
+  private RuntimeException getOperationFailure(ExtensionModel extensionModel) {
+    try {
+      extensionModel.getOperationModel(GET_CAR_OPERATION_NAME);
+    } catch (RuntimeException e) {
+      return e;
+    }
+    throw new AssertionError("Reading the operation was expected to fail");
+  }
+
+  @Test
+  public void lazilyDeserializedModelSerialization() throws IOException {
+    ExtensionModelJsonSerializer lazySerializer = new ExtensionModelJsonSerializer(false, true, true);
+    ExtensionModel extensionModel = lazySerializer.deserialize(serializedExtensionModel.toString());
+
+    assertSerializedJson(lazySerializer.serialize(extensionModel), SERIALIZED_EXTENSION_MODEL_JSON);
+  }
+
+  @Test
+  public void binarySerializationRoundTrip() throws IOException {
+    ExtensionModelBinarySerializer binarySerializer = new ExtensionModelBinarySerializer();
+    ExtensionModel extensionModel = binarySerializer.deserialize(binarySerializer.serialize(originalExtensionModel));
+
+    assertThat(extensionModel, instanceOf(ImmutableExtensionModel.class));
+    assertThat(extensionModel.getTypes(), hasItem(exportedType));
+    assertThat(extensionModel.getOperationModel(GET_CAR_OPERATION_NAME).isPresent(), is(true));
+    assertSerializedJson(extensionModelJsonSerializer.serialize(extensionModel), SERIALIZED_EXTENSION_MODEL_JSON);
+  }
+
+  @Test
+  public void binarySerializationIsSmallerThanJson() {
+    byte[] binary = new ExtensionModelBinarySerializer().serialize(originalExtensionModel);
+    byte[] json = new ExtensionModelJsonSerializer(false, true).serialize(originalExtensionModel).getBytes(UTF_8);
+
+    assertThat(binary.length < json.length, is(true));
+  }
+
+  @Test(expected = UncheckedIOException.class)
+  public void binaryDeserializationOfJsonFails() {
+    new ExtensionModelBinarySerializer().deserialize(serializedExtensionModel.toString().getBytes(UTF_8));
+  }
+
+  @Test(expected = UncheckedIOException.class)
+  public void binaryDeserializationOfCorruptStringLengthFails() {
+    // a string declaring a length of almost 2GB, which must not be allocated
+    new ExtensionModelBinarySerializer().deserialize(new byte[] {'M', 'X', 'M', 'B', 1, 6, 0,
+        (byte) 0xF0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07});
+  }
+
+  @Test(expected = UncheckedIOException.class)
+  public void binaryDeserializationOfTruncatedStringFails() {
+    // a string declaring a length of 1000000 bytes, followed by just a few of them
+    new ExtensionModelBinarySerializer().deserialize(new byte[] {'M', 'X', 'M', 'B', 1, 6, 0,
+        (byte) 0xC0, (byte) 0x84, 0x3D, 'a', 'b', 'c'});
+  }
+
+  @Test
+  public void canonicalDeserializationSharesEqualParts() throws IOException {
+    ExtensionModelJsonSerializer canonicalSerializer = new ExtensionModelJsonSerializer(false, true, false, true);
+    ExtensionModel first = canonicalSerializer.deserialize(serializedExtensionModel.toString());
+    ExtensionModel second = canonicalSerializer.deserialize(serializedExtensionModel.toString());
+
+    ParameterModel firstParameter = getSourceParameter(first, CAR_NAME_PARAMETER_NAME);
+    ParameterModel secondParameter = getSourceParameter(second, CAR_NAME_PARAMETER_NAME);
+    assertThat(secondParameter.getType(), is(sameInstance(firstParameter.getType())));
+    assertThat(secondParameter.getName(), is(sameInstance(firstParameter.getName())));
+    assertThat(second.getDescription(), is(sameInstance(first.getDescription())));
+
+    assertSerializedJson(canonicalSerializer.serialize(second), SERIALIZED_EXTENSION_MODEL_JSON);
+  }
+
+  @Test
+  public void canonicalDeserializationOfRecursiveTypes() throws IOException {
+    ExtensionModelJsonSerializer canonicalSerializer = new ExtensionModelJsonSerializer(false, true, false, true);
+    ExtensionModel first = canonicalSerializer.deserialize(serializedExtensionModel.toString());
+    ExtensionModel second = canonicalSerializer.deserialize(serializedExtensionModel.toString());
+
+    ParameterModel firstParameter = getSourceParameter(first, COMPLEX_PARAMETER_NAME);
+    ParameterModel secondParameter = getSourceParameter(second, COMPLEX_PARAMETER_NAME);
+    assertComplexParameter(secondParameter);
+    assertThat(secondParameter.getType(), is(equalTo(firstParameter.getType())));
+
+    ObjectType complexType = (ObjectType) secondParameter.getType();
+    MetadataType recursiveChild = complexType.getFieldByName("recursiveChild").get().getValue();
+    assertThat(recursiveChild, is(instanceOf(ObjectType.class)));
+    assertThat(getType(recursiveChild), equalTo(ComplexFieldsType.class));
+    assertThat(((ObjectType) recursiveChild).getFields(), hasSize(complexType.getFields().size()));
+
+    assertSerializedJson(canonicalSerializer.serialize(first), SERIALIZED_EXTENSION_MODEL_JSON);
+    assertSerializedJson(canonicalSerializer.serialize(second), SERIALIZED_EXTENSION_MODEL_JSON);
+  }
+
+  @Test
+  public void canonicalDeserializationOnlySharesTypesWithoutObjectTypes() throws IOException {
+    ExtensionModelJsonSerializer canonicalSerializer = new ExtensionModelJsonSerializer(false, true, false, true);
+    ExtensionModel first = canonicalSerializer.deserialize(serializedExtensionModel.toString());
+    ExtensionModel second = canonicalSerializer.deserialize(serializedExtensionModel.toString());
+
+    MetadataType firstObjectType = getSourceParameter(first, COMPLEX_PARAMETER_NAME).getType();
+    MetadataType secondObjectType = getSourceParameter(second, COMPLEX_PARAMETER_NAME).getType();
+    assertThat(secondObjectType, is(instanceOf(ObjectType.class)));
+    assertThat(secondObjectType, is(equalTo(firstObjectType)));
+    assertThat(secondObjectType, is(not(sameInstance(firstObjectType))));
+
+    OperationModel firstOperation = first.getOperationModel(GET_CAR_OPERATION_NAME).get();
+    OperationModel secondOperation = second.getOperationModel(GET_CAR_OPERATION_NAME).get();
+    assertThat(secondOperation.getOutput().getType(), is(sameInstance(firstOperation.getOutput().getType())));
+    assertThat(getSourceParameter(second, CAR_NAME_PARAMETER_NAME).getType(),
+               is(sameInstance(getSourceParameter(first, CAR_NAME_PARAMETER_NAME).getType())));
+
+    assertSerializedJson(canonicalSerializer.serialize(second), SERIALIZED_EXTENSION_MODEL_JSON);
+  }
+
+  private ParameterModel getSourceParameter(ExtensionModel extensionModel, String parameterName) {
+    SourceModel sourceModel = (SourceModel) extensionModel.findComponentModel(SOURCE_NAME).get();
+    return sourceModel.getAllParameterModels().stream()
+        .filter(p -> p.getName().equals(parameterName))
+        .findFirst().get();
+  }
+
   private Set<String> getExtensionTypeIds(JsonObject jsonExtensionModel) {
     final JsonArray typesArray = jsonExtensionModel.getAsJsonArray("types");
     Set<String> typesSet = new HashSet<>();
@@ -20,6 +20,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.text.IsEmptyString.isEmptyString;
 import static org.mockito.Mockito.mock;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import org.mule.runtime.api.metadata.MetadataKey;
 import org.mule.runtime.api.metadata.MetadataKeyBuilder;
 import org.mule.runtime.api.metadata.MetadataKeysContainer;
@@ -32,6 +34,8 @@ import org.mule.runtime.extension.api.metadata.NullMetadataKey;
 import org.mule.runtime.extension.api.persistence.metadata.EntityMetadataResultJsonSerializer;
 import org.mule.runtime.extension.api.persistence.metadata.MetadataKeysResultJsonSerializer;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -161,6 +165,25 @@ public class MetadataKeyResultPersistenceTestCase extends AbstractMetadataPersis
     assertSerializedJson(serialized, METADATA_ENTITY_RESULT_FAILURE_JSON);
   }
 
+  @Test
+  public void streamSuccessMetadataKeysResult() throws IOException {
+    Set<MetadataKey> keys = new LinkedHashSet<>();
+    keys.add(newKey(FIRST_KEY_ID).build());
+    keys.add(newKey(SECOND_KEY_ID).build());
+    MetadataResult<MetadataKeysContainer> successResult = success(builder.add(CATEGORY_NAME, keys).build());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    keysResultSerializer.serialize(successResult, out);
+    assertSerializedJson(new String(out.toByteArray(), UTF_8), METADATA_KEYS_RESULT_JSON);
+
+    MetadataResult<MetadataKeysContainer> metadataResult =
+        keysResultSerializer.deserialize(new ByteArrayInputStream(out.toByteArray()));
+    assertThat(metadataResult.isSuccess(), is(true));
+    Iterator<MetadataKey> iterator = metadataResult.get().getKeys(CATEGORY_NAME).get().iterator();
+    assertThat(iterator.next().getDisplayName(), is(FIRST_KEY_ID));
+    assertThat(iterator.next().getDisplayName(), is(SECOND_KEY_ID));
+  }
+
   @Test
   public void deserializeMetadataKeysResult() throws IOException {
     String resource = getResourceAsString(METADATA_KEYS_RESULT_JSON);
@@ -127,13 +127,15 @@ module org.mule.runtime.extensions.api {
 
   // W-15399821 Add visibility for legacy code
   exports org.mule.runtime.extension.internal.client to
-      org.mule.runtime.extensions.support;
+      org.mule.runtime.extensions.support,
+      org.mule.runtime.extensions.api.test;
 
   exports org.mule.runtime.extension.internal.dsl to
       org.mule.runtime.extensions.api.test;
   exports org.mule.runtime.extension.internal.dsl.xml to
       org.mule.runtime.artifact.ast.xmlParser;
   exports org.mule.runtime.extension.internal.loader to
+      org.mule.runtime.extensions.support,
       org.mule.runtime.extensions.api.test;
   exports org.mule.runtime.extension.internal.loader.util to
       org.mule.runtime.ast.extension,
@@ -145,12 +147,29 @@ module org.mule.runtime.extensions.api {
   exports org.mule.runtime.extension.internal.loader.validator to
       org.mule.runtime.extensions.api.test;
 
+  exports org.mule.runtime.extension.internal.notification to
+      org.mule.runtime.extensions.support,
+      org.mule.runtime.extensions.api.test;
+
   exports org.mule.runtime.extension.internal.property to
       org.mule.runtime.extensions.api.test;
 
+  exports org.mule.runtime.extension.internal.runtime.config to
+      org.mule.runtime.extensions.support,
+      org.mule.runtime.extensions.api.test;
+
   exports org.mule.runtime.extension.internal.semantic to
       org.mule.runtime.extensions.api.test;
 
+  exports org.mule.runtime.extension.internal.streaming to
+      org.mule.runtime.extensions.support,
+      org.mule.runtime.extensions.api.test;
+
+  exports org.mule.runtime.extension.internal.util to
+      org.mule.runtime.extensions.api.persistence,
+      org.mule.runtime.extensions.api.persistence.test,
+      org.mule.runtime.extensions.api.test;
+
   // Introspection by kryo used by mule serializer
   opens org.mule.runtime.extension.api.exception to
       kryo.shaded;
@@ -83,6 +83,22 @@ public final class ExtensionConstants {
   public static final String STREAMING_STRATEGY_PARAMETER_DESCRIPTION =
       "Configure if repeatable streams should be used and their behaviour";
 
+  /**
+   * The name of the parameter for configuring how many pages a paged operation fetches ahead of its consumer
+   *
+   * @since 1.10
+   */
+  public static final String PAGE_PREFETCH_PARAMETER_NAME = "pagePrefetch";
+
+  /**
+   * The description of the parameter for configuring how many pages a paged operation fetches ahead of its consumer
+   *
+   * @since 1.10
+   */
+  public static final String PAGE_PREFETCH_PARAMETER_DESCRIPTION =
+      "The maximum amount of pages to fetch in the background, ahead of the ones being consumed. Use 0 to fetch each page only "
+          + "when it is needed";
+
   /**
    * The name of the parameter for configuring the reconnection configuration
    */
@@ -296,6 +312,7 @@ public final class ExtensionConstants {
                                                                            REDELIVERY_POLICY_PARAMETER_NAME,
                                                                            TARGET_PARAMETER_NAME,
                                                                            STREAMING_STRATEGY_PARAMETER_NAME,
+                                                                           PAGE_PREFETCH_PARAMETER_NAME,
                                                                            TRANSACTIONAL_ACTION_PARAMETER_NAME,
                                                                            SCHEDULING_STRATEGY_PARAMETER_NAME);
   /**
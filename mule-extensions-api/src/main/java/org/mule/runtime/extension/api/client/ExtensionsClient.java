@@ -16,6 +16,7 @@ import org.mule.runtime.extension.api.client.source.SourceParameterizer;
 import org.mule.runtime.extension.api.client.source.SourceResultHandler;
 import org.mule.runtime.extension.api.runtime.operation.Result;
 import org.mule.runtime.extension.api.runtime.source.Source;
+import org.mule.runtime.extension.internal.client.DefaultPreparedOperation;
 import org.mule.sdk.api.annotation.MinMuleVersion;
 
 import java.util.concurrent.CompletableFuture;
@@ -81,6 +82,27 @@ public interface ExtensionsClient {
                                                  String operation,
                                                  Consumer<OperationParameterizer> parameters);
 
+  /**
+   * Locates an operation and applies the given {@code parameters} to it once, returning a {@link PreparedOperation} through which
+   * it can be executed many times with different parameters, either one by one or pipelined.
+   * <p>
+   * Use this method when executing the same operation many times, such as when upserting or looking up each one of many records,
+   * so that locating the operation and resolving its configuration and static parameters is not repeated on each execution.
+   * <p>
+   * The default implementation applies the prepared {@code parameters} on each execution through
+   * {@link #execute(String, String, Consumer)}.
+   *
+   * @param extension  the name of the extension that contains the operation to be executed.
+   * @param operation  the name of the operation to be executed.
+   * @param parameters consumes an {@link OperationParameterizer} used to configure all the executions of the operation
+   * @return a {@link PreparedOperation}
+   * @since 1.10
+   */
+  @MinMuleVersion("4.10.0")
+  default PreparedOperation prepare(String extension, String operation, Consumer<OperationParameterizer> parameters) {
+    return new DefaultPreparedOperation(this, extension, operation, parameters);
+  }
+
   /**
    * Creates and initialises a {@link Source} using a given parameterization.
    * <p>
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.client;
+
+import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.sdk.api.annotation.MinMuleVersion;
+
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+
+/**
+ * Notified of the outcome of each execution of a
+ * {@link PreparedOperation#executeAll(Iterator, BiConsumer, PipelinedExecutionOptions, PipelinedExecutionCallback) pipelined
+ * execution}.
+ *
+ * @param <I> the generic type of the items
+ * @param <T> The generic type of the result's payload
+ * @param <A> The generic type of the result's attribute
+ * @since 1.10
+ */
+@MinMuleVersion("4.10.0")
+public interface PipelinedExecutionCallback<I, T, A> {
+
+  /**
+   * Invoked when the execution for the given {@code item} succeeded
+   *
+   * @param item   the item
+   * @param result the {@link Result} of its execution
+   */
+  void onSuccess(I item, Result<T, A> result);
+
+  /**
+   * Invoked when the execution for the given {@code item} failed
+   *
+   * @param item  the item
+   * @param error the failure
+   */
+  void onFailure(I item, Throwable error);
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.client;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.sdk.api.annotation.MinMuleVersion;
+
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+
+/**
+ * Options for a
+ * {@link PreparedOperation#executeAll(Iterator, BiConsumer, PipelinedExecutionOptions, PipelinedExecutionCallback) pipelined
+ * execution}.
+ * <p>
+ * Instances are immutable and created through a {@link #builder()}.
+ *
+ * @since 1.10
+ */
+@MinMuleVersion("4.10.0")
+public final class PipelinedExecutionOptions {
+
+  /**
+   * The default value for {@link #getMaxConcurrency()}
+   */
+  public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+  /**
+   * @return a new {@link Builder}
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Builds instances of {@link PipelinedExecutionOptions}
+   */
+  public static final class Builder {
+
+    private final PipelinedExecutionOptions product = new PipelinedExecutionOptions();
+
+    private Builder() {}
+
+    /**
+     * @param maxConcurrency the maximum amount of executions in flight. Defaults to {@link #DEFAULT_MAX_CONCURRENCY}.
+     * @return {@code this} builder
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     */
+    public Builder setMaxConcurrency(int maxConcurrency) {
+      checkArgument(maxConcurrency > 0, "maxConcurrency must be positive");
+      product.maxConcurrency = maxConcurrency;
+      return this;
+    }
+
+    /**
+     * @param ordered whether the outcomes are notified in the order of the items. Defaults to {@code true}.
+     * @return {@code this} builder
+     */
+    public Builder setOrdered(boolean ordered) {
+      product.ordered = ordered;
+      return this;
+    }
+
+    /**
+     * @param stopOnFailure whether no more items are executed once an execution fails. Defaults to {@code false}.
+     * @return {@code this} builder
+     */
+    public Builder setStopOnFailure(boolean stopOnFailure) {
+      product.stopOnFailure = stopOnFailure;
+      return this;
+    }
+
+    /**
+     * @return the built {@link PipelinedExecutionOptions}
+     */
+    public PipelinedExecutionOptions build() {
+      return product;
+    }
+  }
+
+  private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+  private boolean ordered = true;
+  private boolean stopOnFailure = false;
+
+  private PipelinedExecutionOptions() {}
+
+  /**
+   * @return the maximum amount of executions in flight
+   */
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  /**
+   * @return whether the outcomes are notified in the order of the items
+   */
+  public boolean isOrdered() {
+    return ordered;
+  }
+
+  /**
+   * @return whether no more items are executed once an execution fails
+   */
+  public boolean isStopOnFailure() {
+    return stopOnFailure;
+  }
+}
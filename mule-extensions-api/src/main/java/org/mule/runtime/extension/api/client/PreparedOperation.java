@@ -0,0 +1,114 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.client;
+
+import org.mule.api.annotation.NoImplement;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.sdk.api.annotation.MinMuleVersion;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * An operation located and partially parameterized once through {@link ExtensionsClient#prepare(String, String, Consumer)}, to
+ * be executed many times with different parameters.
+ * <p>
+ * The parameters given when preparing the operation, such as the config reference or the ones whose value doesn't change, apply
+ * to every execution. The ones given on each execution are applied after them, so they take precedence.
+ * <p>
+ * Besides single executions, many executions can be pipelined through {@link #executeAll(Iterator, BiConsumer,
+ * PipelinedExecutionOptions, PipelinedExecutionCallback)}, which keeps up to a maximum amount of them in flight.
+ *
+ * @since 1.10
+ */
+@MinMuleVersion("4.10.0")
+@NoImplement
+public interface PreparedOperation {
+
+  /**
+   * Executes the operation asynchronously, just like {@link ExtensionsClient#execute(String, String, Consumer)}.
+   *
+   * @param parameters consumes an {@link OperationParameterizer} used to configure this execution, on top of the parameters given
+   *                   when preparing the operation
+   * @param <T>        The generic type of the result's payload
+   * @param <A>        The generic type of the result's attribute
+   * @return a {@link CompletableFuture} instance that completes into a {@link Result} with the payload content and the
+   *         corresponding attributes.
+   */
+  <T, A> CompletableFuture<Result<T, A>> execute(Consumer<OperationParameterizer> parameters);
+
+  /**
+   * Executes the operation once for each one of the given {@code items}, keeping up to
+   * {@link PipelinedExecutionOptions#getMaxConcurrency()} executions in flight.
+   * <p>
+   * Items are only taken from the {@code items} {@link Iterator} when there's room for executing them, so a lazy iterator, such
+   * as one reading from a stream, is back-pressured by the executions. The outcome of each execution is notified to the
+   * {@code callback}, either in the order of the items or as soon as each execution completes, depending on
+   * {@link PipelinedExecutionOptions#isOrdered()}. When ordered, executions which completed but can't be notified yet still count
+   * as in flight, so the amount of buffered outcomes is bounded too.
+   * <p>
+   * The {@code callback} is never invoked concurrently, but may be invoked from different threads.
+   *
+   * @param items      the items to execute the operation for
+   * @param parameters populates the {@link OperationParameterizer} of the execution of each item
+   * @param options    the {@link PipelinedExecutionOptions}
+   * @param callback   the {@link PipelinedExecutionCallback} notified of the outcome of each execution
+   * @param <I>        the generic type of the items
+   * @param <T>        The generic type of the result's payload
+   * @param <A>        The generic type of the result's attribute
+   * @return a {@link CompletableFuture} which completes once all the executions have been notified. If
+   *         {@link PipelinedExecutionOptions#isStopOnFailure()} is set and an execution fails, it completes exceptionally with
+   *         that failure once the executions in flight are done, and no more items are executed.
+   */
+  <I, T, A> CompletableFuture<Void> executeAll(Iterator<I> items,
+                                               BiConsumer<I, OperationParameterizer> parameters,
+                                               PipelinedExecutionOptions options,
+                                               PipelinedExecutionCallback<I, T, A> callback);
+
+  /**
+   * Executes the operation once for each one of the given {@code items}, keeping up to {@code maxConcurrency} executions in
+   * flight, and collects their results.
+   * <p>
+   * No more items are executed once an execution fails.
+   *
+   * @param items          the items to execute the operation for
+   * @param parameters     populates the {@link OperationParameterizer} of the execution of each item
+   * @param maxConcurrency the maximum amount of executions in flight
+   * @param <I>            the generic type of the items
+   * @param <T>            The generic type of the result's payload
+   * @param <A>            The generic type of the result's attribute
+   * @return a {@link CompletableFuture} which completes into the {@link Result} of each item, in the same order as the
+   *         {@code items}, or exceptionally with the first failure
+   */
+  default <I, T, A> CompletableFuture<List<Result<T, A>>> executeAll(List<I> items,
+                                                                     BiConsumer<I, OperationParameterizer> parameters,
+                                                                     int maxConcurrency) {
+    List<Result<T, A>> results = new ArrayList<>(items.size());
+    PipelinedExecutionOptions options = PipelinedExecutionOptions.builder()
+        .setMaxConcurrency(maxConcurrency)
+        .setOrdered(true)
+        .setStopOnFailure(true)
+        .build();
+
+    return this.<I, T, A>executeAll(items.iterator(), parameters, options, new PipelinedExecutionCallback<I, T, A>() {
+
+      @Override
+      public void onSuccess(I item, Result<T, A> result) {
+        results.add(result);
+      }
+
+      @Override
+      public void onFailure(I item, Throwable error) {
+        // the returned future completes with the failure
+      }
+    }).thenApply(v -> results);
+  }
+}
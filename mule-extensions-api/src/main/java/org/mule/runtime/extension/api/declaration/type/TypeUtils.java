@@ -7,9 +7,6 @@
 package org.mule.runtime.extension.api.declaration.type;
 
 import static java.lang.String.format;
-import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toList;
-import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import org.mule.metadata.api.model.MetadataType;
 import org.mule.runtime.api.meta.model.display.ClassValueModel;
@@ -30,16 +27,16 @@ import org.mule.runtime.extension.api.annotation.param.display.Placement;
 import org.mule.runtime.extension.api.annotation.param.display.Summary;
 import org.mule.runtime.extension.api.annotation.param.display.Text;
 import org.mule.runtime.extension.api.exception.IllegalParameterModelDefinitionException;
+import org.mule.runtime.extension.internal.loader.util.JavaFieldDescriptor;
 import org.mule.runtime.extension.internal.loader.util.JavaParserUtils;
+import org.mule.runtime.extension.internal.loader.util.JavaTypeDescriptor;
 import org.mule.sdk.api.annotation.semantics.file.FilePath;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.List;
-import java.util.function.Function;
-import java.util.stream.Stream;
 
 /**
  * Utility class to handle Java types and their relationship with the {@link MetadataType} model
@@ -60,9 +57,7 @@ public final class TypeUtils {
    * @return a {@link Collection} of {@link Field fields}. May be empty but will never be {@code null}
    */
   public static Collection<Field> getParameterFields(Class<?> declaringType) {
-    return getAllFields(declaringType).stream()
-        .filter(field -> isParameter(field) || isParameterGroup(field))
-        .collect(toList());
+    return new ArrayList<>(JavaTypeDescriptor.of(declaringType).getParameterFields());
   }
 
   /**
@@ -74,9 +69,7 @@ public final class TypeUtils {
    * @return a {@link Collection} of {@link Field fields}. May be empty but will never be {@code null}
    */
   public static Collection<Field> getAllFields(Class<?> declaringType) {
-    return getAllSuperClasses(declaringType).stream()
-        .flatMap(type -> Stream.of(type.getDeclaredFields()))
-        .collect(toList());
+    return new ArrayList<>(JavaTypeDescriptor.of(declaringType).getAllFields());
   }
 
   /**
@@ -86,13 +79,7 @@ public final class TypeUtils {
    * @return all the type's super classes
    */
   public static Collection<Class<?>> getAllSuperClasses(final Class<?> type) {
-    List<Class<?>> result = new LinkedList<>();
-    if (type != null && !type.equals(Object.class)) {
-      result.add(type);
-      result.addAll(getAllSuperClasses(type.getSuperclass()));
-    }
-
-    return result;
+    return new LinkedList<>(JavaTypeDescriptor.of(type).getAllSuperClasses());
   }
 
   /**
@@ -105,7 +92,7 @@ public final class TypeUtils {
    */
   @Deprecated
   public static String getAlias(Field field) {
-    return JavaParserUtils.getAlias(field, field::getName);
+    return JavaParserUtils.getAlias(field);
   }
 
   /**
@@ -118,8 +105,7 @@ public final class TypeUtils {
    * @since 4.5
    */
   public static boolean isParameter(Field field) {
-    return field.isAnnotationPresent(Parameter.class)
-        || field.isAnnotationPresent(org.mule.sdk.api.annotation.param.Parameter.class);
+    return JavaFieldDescriptor.of(field).isParameter();
   }
 
 
@@ -133,8 +119,7 @@ public final class TypeUtils {
    * @since 4.5
    */
   public static boolean isParameterGroup(Field field) {
-    return field.isAnnotationPresent(ParameterGroup.class)
-        || field.isAnnotationPresent(org.mule.sdk.api.annotation.param.ParameterGroup.class);
+    return JavaFieldDescriptor.of(field).isParameterGroup();
   }
 
   /**
@@ -146,8 +131,7 @@ public final class TypeUtils {
    * @since 4.5
    */
   public static boolean isOptional(Field field) {
-    return field.isAnnotationPresent(Optional.class)
-        || field.isAnnotationPresent(org.mule.sdk.api.annotation.param.Optional.class);
+    return JavaFieldDescriptor.of(field).isOptional();
   }
 
   /**
@@ -161,14 +145,7 @@ public final class TypeUtils {
    * @since 4.5
    */
   public static java.util.Optional<String> getDisplayName(Field field) {
-    String displayNameValue = getAnnotationValueFromField(
-                                                          field,
-                                                          DisplayName.class,
-                                                          org.mule.sdk.api.annotation.param.display.DisplayName.class,
-                                                          DisplayName::value,
-                                                          org.mule.sdk.api.annotation.param.display.DisplayName::value);
-
-    return ofNullable(displayNameValue);
+    return JavaFieldDescriptor.of(field).getDisplayName();
   }
 
   /**
@@ -182,13 +159,7 @@ public final class TypeUtils {
    * @since 4.5
    */
   public static java.util.Optional<String> getSummaryValue(Field field) {
-    String summaryValue = getAnnotationValueFromField(
-                                                      field,
-                                                      Summary.class,
-                                                      org.mule.sdk.api.annotation.param.display.Summary.class,
-                                                      Summary::value, org.mule.sdk.api.annotation.param.display.Summary::value);
-
-    return ofNullable(summaryValue);
+    return JavaFieldDescriptor.of(field).getSummary();
   }
 
   /**
@@ -201,13 +172,7 @@ public final class TypeUtils {
    * @since 4.5
    */
   public static java.util.Optional<String> getExampleValue(Field field) {
-    String exampleValue = getAnnotationValueFromField(
-                                                      field,
-                                                      Example.class,
-                                                      org.mule.sdk.api.annotation.param.display.Example.class,
-                                                      Example::value, org.mule.sdk.api.annotation.param.display.Example::value);
-
-    return ofNullable(exampleValue);
+    return JavaFieldDescriptor.of(field).getExample();
   }
 
   /**
@@ -219,19 +184,7 @@ public final class TypeUtils {
    * @since 4.5
    */
   public static java.util.Optional<PathModel> getPathModel(Field field) {
-    Function<Path, PathModel> getPathModelFromLegacyAnnotation =
-        (Path path) -> new PathModel(path.type(), path.acceptsUrls(), path.location(), path.acceptedFileExtensions());
-    Function<FilePath, PathModel> getPathModelFromSdkAnnotation =
-        (FilePath filePath) -> new PathModel(filePath.type(), filePath.acceptsUrls(), filePath.location(),
-                                             filePath.acceptedFileExtensions());
-
-    PathModel pathModel = getAnnotationValueFromField(
-                                                      field,
-                                                      Path.class,
-                                                      FilePath.class,
-                                                      getPathModelFromLegacyAnnotation, getPathModelFromSdkAnnotation);
-
-    return ofNullable(pathModel);
+    return JavaFieldDescriptor.of(field).getPathModel();
   }
 
   /**
@@ -245,20 +198,7 @@ public final class TypeUtils {
    * @since 4.5
    */
   public static java.util.Optional<ClassValueModel> getClassValueModel(Field field) {
-    Function<ClassValue, ClassValueModel> getClassValueFromLegacyAnnotation =
-        (ClassValue classValue) -> new ClassValueModel(Stream.of(classValue.extendsOrImplements()).filter(p -> !isBlank(p))
-            .collect(toList()));
-    Function<org.mule.sdk.api.annotation.param.display.ClassValue, ClassValueModel> getClassValueFromSdkAnnotation =
-        (org.mule.sdk.api.annotation.param.display.ClassValue classValue) -> new ClassValueModel(Stream
-            .of(classValue.extendsOrImplements()).filter(p -> !isBlank(p)).collect(toList()));
-    ClassValueModel classValueModel = getAnnotationValueFromField(
-                                                                  field,
-                                                                  ClassValue.class,
-                                                                  org.mule.sdk.api.annotation.param.display.ClassValue.class,
-                                                                  getClassValueFromLegacyAnnotation,
-                                                                  getClassValueFromSdkAnnotation);
-
-    return ofNullable(classValueModel);
+    return JavaFieldDescriptor.of(field).getClassValueModel();
   }
 
   /**
@@ -272,15 +212,7 @@ public final class TypeUtils {
    * @since 4.5
    */
   public static java.util.Optional<Pair<Integer, String>> getPlacementValue(Field field) {
-    Pair<Integer, String> value = getAnnotationValueFromField(field,
-                                                              Placement.class,
-                                                              org.mule.sdk.api.annotation.param.display.Placement.class,
-                                                              (Placement placement) -> new Pair(placement.order(),
-                                                                                                placement.tab()),
-                                                              (org.mule.sdk.api.annotation.param.display.Placement placement) -> new Pair(placement
-                                                                  .order(), placement.tab()));
-
-    return ofNullable(value);
+    return JavaFieldDescriptor.of(field).getPlacement();
   }
 
   /**
@@ -294,7 +226,7 @@ public final class TypeUtils {
    * @since 4.5
    */
   public static boolean isTextField(Field field) {
-    return isAnnotationPresentOnField(field, Text.class, org.mule.sdk.api.annotation.param.display.Text.class);
+    return JavaFieldDescriptor.of(field).isText();
   }
 
   /**
@@ -306,7 +238,7 @@ public final class TypeUtils {
    * @since 4.5
    */
   public static boolean isPasswordField(Field field) {
-    return isAnnotationPresentOnField(field, Password.class);
+    return JavaFieldDescriptor.of(field).isPassword();
   }
 
   /**
@@ -318,7 +250,7 @@ public final class TypeUtils {
    * @since 4.5
    */
   public static boolean isQueryField(Field field) {
-    return isAnnotationPresentOnField(field, Query.class);
+    return JavaFieldDescriptor.of(field).isQuery();
   }
 
   public static <R extends Annotation> boolean isAnnotationPresentOnField(Field field, Class<R> annotationClass) {
@@ -340,29 +272,4 @@ public final class TypeUtils {
     }
   }
 
-  private static <R extends Annotation, S extends Annotation, T> T getAnnotationValueFromField(
-                                                                                               Field field,
-                                                                                               Class<R> legacyAnnotationClass,
-                                                                                               Class<S> sdkAnnotationClass,
-                                                                                               Function<R, T> legacyAnnotationMapping,
-                                                                                               Function<S, T> sdkAnnotationMapping) {
-    R legacyAnnotation = field.getAnnotation(legacyAnnotationClass);
-    S sdkAnnotation = field.getAnnotation(sdkAnnotationClass);
-
-    T value;
-    if (legacyAnnotation != null && sdkAnnotation != null) {
-      throw new IllegalParameterModelDefinitionException(format("Annotations %s and %s are both present at the same time on field %s",
-                                                                legacyAnnotationClass.getName(), sdkAnnotationClass.getName(),
-                                                                field.getName()));
-    } else if (legacyAnnotation != null) {
-      value = legacyAnnotationMapping.apply(legacyAnnotation);
-    } else if (sdkAnnotation != null) {
-      value = sdkAnnotationMapping.apply(sdkAnnotation);
-    } else {
-      value = null;
-    }
-
-    return value;
-  }
-
 }
@@ -15,6 +15,7 @@ import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.api.dsl.DslResolvingContext;
 import org.mule.runtime.extension.api.dsl.syntax.DslElementSyntax;
 import org.mule.runtime.extension.api.dsl.syntax.XmlDslSyntaxResolver;
+import org.mule.runtime.extension.internal.dsl.SharedDslSyntaxResolvers;
 
 import java.util.Optional;
 
@@ -89,4 +90,34 @@ public interface DslSyntaxResolver {
     return new XmlDslSyntaxResolver(model, importTypesStrategy);
   }
 
+  /**
+   * Returns a thread-safe instance of the default implementation which memoizes its results. The memoized results are shared by
+   * all the instances returned for the same {@code model} and {@code context}, for as long as both of them are reachable.
+   *
+   * @param model   the {@link ExtensionModel} that provides context for resolving the component's {@link DslElementSyntax}
+   * @param context the {@link DslResolvingContext} in which the Dsl resolution takes place
+   * @throws IllegalArgumentException if the {@link ExtensionModel} declares an imported type from an {@link ExtensionModel} not
+   *                                  present in the provided {@link DslResolvingContext} or if the imported
+   *                                  {@link ExtensionModel} doesn't have any {@link ImportedTypeModel}
+   * @return a shared {@link DslSyntaxResolver}
+   * @since 1.10
+   */
+  static DslSyntaxResolver getShared(ExtensionModel model, DslResolvingContext context) {
+    return SharedDslSyntaxResolvers.get(model, context);
+  }
+
+  /**
+   * Returns a thread-safe instance of the default implementation which memoizes its results, using a
+   * {@link SingleExtensionImportTypesStrategy}. The memoized results are shared by all the instances returned for the same
+   * {@code model}, for as long as it is reachable. The default implementation is only created once a result needs to be
+   * computed.
+   *
+   * @param model the {@link ExtensionModel} that provides context for resolving the component's {@link DslElementSyntax}
+   * @return a shared {@link DslSyntaxResolver}
+   * @since 1.10
+   */
+  static DslSyntaxResolver getShared(ExtensionModel model) {
+    return SharedDslSyntaxResolvers.get(model);
+  }
+
 }
@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.extension.api.dsql;
 
+import org.mule.runtime.api.util.LazyValue;
+
 import java.util.ServiceLoader;
 
 /**
@@ -22,11 +24,14 @@ public abstract class DsqlParser {
    */
   private static final String DSQL_QUERY_PREFIX = "dsql:";
 
+  private static final LazyValue<DsqlParser> INSTANCE =
+      new LazyValue<>(() -> ServiceLoader.load(DsqlParser.class, DsqlParser.class.getClassLoader()).iterator().next());
+
   /**
-   * @return a new {@link DsqlParser} instance.
+   * @return the {@link DsqlParser} instance. Since 1.10, the same instance is returned on each invocation.
    */
   public static DsqlParser getInstance() {
-    return ServiceLoader.load(DsqlParser.class, DsqlParser.class.getClassLoader()).iterator().next();
+    return INSTANCE.get();
   }
 
   /**
@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.extension.api.dsql;
 
+import static java.lang.String.format;
+
 import java.util.List;
 
 
@@ -59,4 +61,29 @@ public abstract class DsqlQuery {
    */
   public abstract String translate(QueryTranslator queryTranslator);
 
+  /**
+   * Translates {@code this} {@link DsqlQuery} to a query in another query language using a new instance of the given
+   * {@code queryTranslatorType}, created through its public no-args constructor.
+   * <p>
+   * Implementations may memoize the translation for each {@code queryTranslatorType}, so this method should only be used with
+   * translators which output only depends on the translated query.
+   *
+   * @param queryTranslatorType the type of the {@link QueryTranslator} used to translate from DSQL to another query language.
+   * @return a {@link String} that represents a translated query using a {@code queryTranslatorType} instance.
+   * @throws IllegalArgumentException if the {@code queryTranslatorType} cannot be instantiated
+   * @since 1.10
+   */
+  public String translate(Class<? extends QueryTranslator> queryTranslatorType) {
+    QueryTranslator queryTranslator;
+    try {
+      queryTranslator = queryTranslatorType.getConstructor().newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException(format("Could not create a query translator of type '%s'",
+                                                queryTranslatorType.getName()),
+                                         e);
+    }
+
+    return translate(queryTranslator);
+  }
+
 }
@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.extension.api.loader;
 
+import static java.util.Collections.emptyList;
+
 import org.mule.api.annotation.NoImplement;
 import org.mule.metadata.api.ClassTypeLoader;
 import org.mule.runtime.api.artifact.ArtifactCoordinates;
@@ -154,4 +156,20 @@ public interface ExtensionLoadingContext {
   default Optional<ArtifactCoordinates> getArtifactCoordinates() {
     return Optional.empty();
   }
+
+  /**
+   * @return an immutable list with the {@link ExtensionLoadingListener}s to notify while loading the extension
+   * @since 1.10
+   */
+  default List<ExtensionLoadingListener> getLoadingListeners() {
+    return emptyList();
+  }
+
+  /**
+   * @return whether the parts of the built model which are equal to those of other models must be shared with them.
+   * @since 1.10
+   */
+  default boolean isCanonicalizeModel() {
+    return false;
+  }
 }
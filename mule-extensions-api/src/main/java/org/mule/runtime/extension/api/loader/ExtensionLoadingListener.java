@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.loader;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+
+import java.time.Duration;
+
+/**
+ * Receives notifications about the work performed while an {@link ExtensionModelLoader} loads an {@link ExtensionModel}, so
+ * that it can be measured. Listeners are registered through
+ * {@link ExtensionModelLoadingRequest.Builder#addLoadingListener(ExtensionLoadingListener)}. Nothing is measured for a request
+ * which has no listeners.
+ * <p>
+ * The start and the end of each {@link ExtensionLoadingPhase} are notified on the thread which loads the extension, so
+ * implementations may sample per thread counters, such as the allocated bytes, or start and commit profiling events, such as
+ * Java Flight Recorder ones. Validators may be applied concurrently, in which case {@link #onValidatorApplied} is invoked from
+ * other threads, so implementations must be thread-safe.
+ * <p>
+ * Implementations should be cheap and must not throw exceptions. Any exception they throw is logged and ignored.
+ * <p>
+ * All the methods do nothing by default.
+ *
+ * @since 1.10
+ */
+public interface ExtensionLoadingListener {
+
+  /**
+   * Invoked when a {@code phase} starts.
+   *
+   * @param context the {@link ExtensionLoadingContext} of the extension being loaded
+   * @param phase   the {@link ExtensionLoadingPhase} which starts
+   */
+  default void onPhaseStarted(ExtensionLoadingContext context, ExtensionLoadingPhase phase) {}
+
+  /**
+   * Invoked when a {@code phase} finishes, even if it failed.
+   *
+   * @param context  the {@link ExtensionLoadingContext} of the extension being loaded
+   * @param phase    the {@link ExtensionLoadingPhase} which finished
+   * @param duration the time the {@code phase} took
+   */
+  default void onPhaseFinished(ExtensionLoadingContext context, ExtensionLoadingPhase phase, Duration duration) {}
+
+  /**
+   * Invoked once a {@link DeclarationEnricher} has been applied. The {@code duration} of a {@link WalkingDeclarationEnricher}
+   * is the time spent by its delegate during the walk of its {@link DeclarationEnricherPhase}, which is shared with other
+   * enrichers.
+   *
+   * @param context  the {@link ExtensionLoadingContext} of the extension being loaded
+   * @param enricher the applied {@link DeclarationEnricher}
+   * @param duration the time spent applying the {@code enricher}
+   */
+  default void onEnricherApplied(ExtensionLoadingContext context, DeclarationEnricher enricher, Duration duration) {}
+
+  /**
+   * Invoked once an {@link ExtensionModelValidator} has been applied. The {@code duration} of a
+   * {@link WalkingExtensionModelValidator} is the time spent by its delegate during the walk of the {@link ExtensionModel},
+   * which is shared with other validators.
+   *
+   * @param context   the {@link ExtensionLoadingContext} of the extension being loaded
+   * @param validator the applied {@link ExtensionModelValidator}
+   * @param duration  the time spent applying the {@code validator}
+   */
+  default void onValidatorApplied(ExtensionLoadingContext context, ExtensionModelValidator validator, Duration duration) {}
+
+  /**
+   * Invoked once a walk, shared by many enrichers or validators, is finished.
+   *
+   * @param context      the {@link ExtensionLoadingContext} of the extension being loaded
+   * @param phase        {@link ExtensionLoadingPhase#ENRICHMENT} for a walk of the declaration, or
+   *                     {@link ExtensionLoadingPhase#VALIDATION} for a walk of the {@link ExtensionModel}
+   * @param visitedNodes the amount of components visited by the walk, such as configurations, operations or parameters
+   * @param duration     the time the walk took, including the time spent by the delegates
+   */
+  default void onWalkFinished(ExtensionLoadingContext context, ExtensionLoadingPhase phase, long visitedNodes,
+                              Duration duration) {}
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.loader;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+
+/**
+ * The steps in which an {@link ExtensionModelLoader} loads an {@link ExtensionModel}, as reported to the
+ * {@link ExtensionLoadingListener}s.
+ *
+ * @since 1.10
+ */
+public enum ExtensionLoadingPhase {
+
+  /**
+   * The {@link ExtensionModelLoader} declares the extension, usually introspecting its types.
+   */
+  DECLARATION,
+
+  /**
+   * The {@link DeclarationEnricher}s are applied to the declaration.
+   */
+  ENRICHMENT,
+
+  /**
+   * The {@link ExtensionModel} is created from the enriched declaration.
+   */
+  MODEL_CREATION,
+
+  /**
+   * The {@link ExtensionModelValidator}s are applied to the {@link ExtensionModel}. This includes resolving the DSL syntax of
+   * its components, which is done lazily by the validators which need it.
+   */
+  VALIDATION
+}
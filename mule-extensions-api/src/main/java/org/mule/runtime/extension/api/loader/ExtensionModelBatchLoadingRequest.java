@@ -0,0 +1,203 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.loader;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
+
+import org.mule.runtime.api.dsl.DslResolvingContext;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+/**
+ * Parameterizes the loading of many {@link ExtensionModel}s at once, through
+ * {@link ExtensionModelLoader#loadExtensionModels(ExtensionModelBatchLoadingRequest)}.
+ * <p>
+ * Each extension in the batch is identified by a key chosen by the caller, which is used to declare the dependencies between
+ * the extensions of the batch. An extension is only loaded after all the extensions it depends on, and the
+ * {@link DslResolvingContext} of its {@link ExtensionModelLoadingRequest} is extended with their {@link ExtensionModel}s.
+ * Extensions which don't depend on each other are loaded concurrently.
+ *
+ * @since 1.10
+ */
+public final class ExtensionModelBatchLoadingRequest {
+
+  /**
+   * Builder for creating a new {@link ExtensionModelBatchLoadingRequest}
+   */
+  public static final class Builder {
+
+    private final Executor executor;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    private Builder(Executor executor) {
+      checkArgument(executor != null, "executor cannot be null");
+      this.executor = executor;
+    }
+
+    /**
+     * Adds an extension which doesn't depend on any other extension of the batch
+     *
+     * @param key     the key which identifies the extension in the batch
+     * @param loader  the {@link ExtensionModelLoader} with which the extension is loaded
+     * @param request the {@link ExtensionModelLoadingRequest} with which the extension is loaded
+     * @return {@code this} builder
+     * @throws IllegalArgumentException if any argument is {@code null} or the {@code key} is already in use
+     */
+    public Builder addRequest(String key, ExtensionModelLoader loader, ExtensionModelLoadingRequest request) {
+      return addRequest(key, loader, request, emptyList());
+    }
+
+    /**
+     * Adds an extension which depends on other extensions.
+     * <p>
+     * Dependencies which are not part of the batch are expected to be already available in the {@link DslResolvingContext} of
+     * the {@code request}, and are ignored.
+     *
+     * @param key          the key which identifies the extension in the batch
+     * @param loader       the {@link ExtensionModelLoader} with which the extension is loaded
+     * @param request      the {@link ExtensionModelLoadingRequest} with which the extension is loaded
+     * @param dependencies the keys of the extensions this one depends on
+     * @return {@code this} builder
+     * @throws IllegalArgumentException if any argument is {@code null} or the {@code key} is already in use
+     */
+    public Builder addRequest(String key, ExtensionModelLoader loader, ExtensionModelLoadingRequest request,
+                              Collection<String> dependencies) {
+      checkArgument(key != null && key.length() > 0, "key cannot be blank");
+      checkArgument(loader != null, "loader cannot be null");
+      checkArgument(request != null, "request cannot be null");
+      checkArgument(dependencies != null, "dependencies cannot be null");
+      checkArgument(!entries.containsKey(key), format("Extension '%s' was already added to the batch", key));
+
+      entries.put(key, new Entry(key, loader, request, dependencies));
+      return this;
+    }
+
+    /**
+     * @return The built request
+     * @throws IllegalArgumentException if there's a cycle in the dependencies between the extensions of the batch
+     */
+    public ExtensionModelBatchLoadingRequest build() {
+      List<Entry> sorted = new ArrayList<>(entries.size());
+      Set<String> visited = new HashSet<>();
+      for (Entry entry : entries.values()) {
+        sort(entry, sorted, visited, new LinkedHashSet<>());
+      }
+
+      return new ExtensionModelBatchLoadingRequest(executor, sorted);
+    }
+
+    private void sort(Entry entry, List<Entry> sorted, Set<String> visited, Set<String> path) {
+      if (visited.contains(entry.getKey())) {
+        return;
+      }
+      checkArgument(path.add(entry.getKey()),
+                    format("Extensions %s have a circular dependency between them", path));
+
+      for (String dependency : entry.getDependencies()) {
+        Entry dependencyEntry = entries.get(dependency);
+        if (dependencyEntry != null) {
+          sort(dependencyEntry, sorted, visited, path);
+        }
+      }
+
+      path.remove(entry.getKey());
+      visited.add(entry.getKey());
+      sorted.add(entry);
+    }
+  }
+
+  /**
+   * An extension of the batch
+   */
+  public static final class Entry {
+
+    private final String key;
+    private final ExtensionModelLoader loader;
+    private final ExtensionModelLoadingRequest request;
+    private final Set<String> dependencies;
+
+    private Entry(String key, ExtensionModelLoader loader, ExtensionModelLoadingRequest request,
+                  Collection<String> dependencies) {
+      this.key = key;
+      this.loader = loader;
+      this.request = request;
+      this.dependencies = unmodifiableSet(new LinkedHashSet<>(dependencies));
+    }
+
+    /**
+     * @return the key which identifies the extension in the batch
+     */
+    public String getKey() {
+      return key;
+    }
+
+    /**
+     * @return the {@link ExtensionModelLoader} with which the extension is loaded
+     */
+    public ExtensionModelLoader getLoader() {
+      return loader;
+    }
+
+    /**
+     * @return the {@link ExtensionModelLoadingRequest} with which the extension is loaded
+     */
+    public ExtensionModelLoadingRequest getRequest() {
+      return request;
+    }
+
+    /**
+     * @return the keys of the extensions this one depends on
+     */
+    public Set<String> getDependencies() {
+      return dependencies;
+    }
+  }
+
+  /**
+   * @param executor the {@link Executor} in which the extensions are loaded
+   * @return a new {@link Builder}
+   */
+  public static Builder builder(Executor executor) {
+    return new Builder(executor);
+  }
+
+  private final Executor executor;
+  private final List<Entry> entries;
+
+  private ExtensionModelBatchLoadingRequest(Executor executor, List<Entry> entries) {
+    this.executor = executor;
+    this.entries = unmodifiableList(entries);
+  }
+
+  /**
+   * @return the {@link Executor} in which the extensions are loaded
+   */
+  public Executor getExecutor() {
+    return executor;
+  }
+
+  /**
+   * @return the extensions of the batch, sorted so that each one comes after all of its dependencies
+   */
+  public List<Entry> getEntries() {
+    return entries;
+  }
+}
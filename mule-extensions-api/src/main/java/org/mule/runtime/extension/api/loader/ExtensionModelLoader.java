@@ -8,6 +8,7 @@ package org.mule.runtime.extension.api.loader;
 
 
 import static org.mule.runtime.extension.api.loader.ExtensionLoadingContext.EXTENSION_LOADER_PROPERTY_PREFIX;
+import static org.mule.runtime.extension.api.loader.ExtensionLoadingPhase.DECLARATION;
 import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
 
 import static java.lang.Thread.currentThread;
@@ -18,10 +19,13 @@ import org.mule.runtime.api.dsl.DslResolvingContext;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclaration;
 import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclarer;
+import org.mule.runtime.extension.internal.loader.CompositeExtensionLoadingListener;
 import org.mule.runtime.extension.internal.loader.DefaultExtensionLoadingContext;
+import org.mule.runtime.extension.internal.loader.ExtensionModelBatchLoader;
 import org.mule.runtime.extension.internal.loader.ExtensionModelFactory;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Loader of an {@link ExtensionModel} for a Mule plugin artifact from a set of attributes read by the {@link MulePluginModel}.
@@ -136,6 +140,27 @@ public abstract class ExtensionModelLoader {
     }
   }
 
+  /**
+   * Loads all the extensions of the given {@code batch}, each one through its own {@link ExtensionModelLoader}, as described in
+   * {@link #loadExtensionModel(ExtensionModelLoadingRequest)}.
+   * <p>
+   * Extensions are loaded in the executor of the {@code batch}, and those which don't depend on each other are loaded
+   * concurrently. Each extension is only loaded once the extensions it depends on are loaded, and their {@link ExtensionModel}s
+   * are added to its {@link DslResolvingContext}. The context classloader of each loading thread is set to the one of the
+   * extension being loaded, and restored afterwards.
+   * <p>
+   * This method returns right away. If loading an extension fails, its future completes exceptionally, and so do the futures of
+   * all the extensions which depend on it.
+   *
+   * @param batch a {@link ExtensionModelBatchLoadingRequest} which configures the loading operations
+   * @return a future of the {@link ExtensionModelLoadingResult} of each extension, keyed by its key in the {@code batch}
+   * @since 1.10
+   */
+  public static Map<String, CompletableFuture<ExtensionModelLoadingResult>> loadExtensionModels(
+                                                                                                ExtensionModelBatchLoadingRequest batch) {
+    return ExtensionModelBatchLoader.load(batch);
+  }
+
   /**
    * Creates an {@link ExtensionModel} from the {@code context}.
    * <p>
@@ -150,7 +175,7 @@ public abstract class ExtensionModelLoader {
    *                                  one.
    */
   protected ExtensionModel doCreate(ExtensionLoadingContext context) {
-    declareExtension(context);
+    CompositeExtensionLoadingListener.of(context).measure(context, DECLARATION, () -> declareExtension(context));
     context.getArtifactCoordinates().ifPresent(context.getExtensionDeclarer()::withArtifactCoordinates);
     return factory.create(context);
   }
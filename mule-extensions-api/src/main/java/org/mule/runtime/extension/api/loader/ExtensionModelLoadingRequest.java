@@ -95,6 +95,21 @@ public final class ExtensionModelLoadingRequest {
       return this;
     }
 
+    /**
+     * Registers an {@link ExtensionLoadingListener} which is notified of the work performed while loading the extension
+     *
+     * @param listener the added listener
+     * @return {@code this} builder
+     * @throws IllegalArgumentException if the listener is {@code null}
+     * @since 1.10
+     */
+    public Builder addLoadingListener(ExtensionLoadingListener listener) {
+      checkArgument(listener != null, "listener cannot be null");
+      product.loadingListeners.add(listener);
+
+      return this;
+    }
+
     /**
      * Registers a {@link ArtifactCoordinates}
      *
@@ -146,6 +161,44 @@ public final class ExtensionModelLoadingRequest {
       return this;
     }
 
+    /**
+     * Enables or disables the canonicalization of the built model. When enabled, the names, descriptions, types, stereotypes and
+     * display and layout models of the built model which are equal to those of other models loaded with canonicalization are
+     * shared with them rather than copied, reducing the memory held by the models. It's disabled by default.
+     * <p>
+     * Every type of the built model is shared, including object types, since the model is complete by the time it is
+     * canonicalized. Models deserialized with canonicalization through the persistence module don't share the types which contain
+     * object types, so a model loaded this way and an equal deserialized one only share the types without object types.
+     *
+     * @param canonicalizeModel whether the built model must be canonicalized
+     * @return {@code this} builder
+     * @since 1.10
+     */
+    public Builder setCanonicalizeModel(boolean canonicalizeModel) {
+      product.canonicalizeModel = canonicalizeModel;
+
+      return this;
+    }
+
+    /**
+     * Enables or disables sharing the introspected types among the loadings which introspect them through the same
+     * {@link ClassLoader}, so that types which are common to many extensions are only introspected once. It's disabled by
+     * default.
+     * <p>
+     * The shared types never keep a {@link ClassLoader} from being collected, but the Mule Runtime should release them as soon
+     * as the {@link ClassLoader} is disposed, for example when undeploying an artifact, through
+     * {@code org.mule.runtime.extension.internal.loader.SharedClassTypeLoaders#invalidate(ClassLoader)}.
+     *
+     * @param shareTypeLoaders whether the introspected types must be shared with other loadings
+     * @return {@code this} builder
+     * @since 1.10
+     */
+    public Builder setShareTypeLoaders(boolean shareTypeLoaders) {
+      product.shareTypeLoaders = shareTypeLoaders;
+
+      return this;
+    }
+
     /**
      * @return The built request
      */
@@ -163,15 +216,44 @@ public final class ExtensionModelLoadingRequest {
     return new Builder(extensionClassLoader, dslResolvingContext);
   }
 
+  /**
+   * Creates a {@link Builder} initialized with all the configuration of the given {@code request}, but with a different
+   * {@link DslResolvingContext}
+   *
+   * @param request             the request to copy
+   * @param dslResolvingContext a {@link DslResolvingContext}
+   * @return a new {@link Builder}
+   * @since 1.10
+   */
+  public static Builder builder(ExtensionModelLoadingRequest request, DslResolvingContext dslResolvingContext) {
+    Builder builder = new Builder(request.getExtensionClassLoader(), dslResolvingContext);
+    ExtensionModelLoadingRequest product = builder.product;
+    product.validators.addAll(request.validators);
+    product.enrichers.addAll(request.enrichers);
+    product.loadingListeners.addAll(request.loadingListeners);
+    product.parameters.putAll(request.parameters);
+    product.artifactCoordinates = request.artifactCoordinates;
+    product.ocsEnabled = request.ocsEnabled;
+    product.forceExtensionValidation = request.forceExtensionValidation;
+    product.resolveMinMuleVersion = request.resolveMinMuleVersion;
+    product.canonicalizeModel = request.canonicalizeModel;
+    product.shareTypeLoaders = request.shareTypeLoaders;
+
+    return builder;
+  }
+
   private final ClassLoader extensionClassLoader;
   private final DslResolvingContext dslResolvingContext;
   private final List<ExtensionModelValidator> validators = new LinkedList<>();
   private final List<DeclarationEnricher> enrichers = new LinkedList<>();
+  private final List<ExtensionLoadingListener> loadingListeners = new LinkedList<>();
   private final Map<String, Object> parameters = new HashMap<>();
   private ArtifactCoordinates artifactCoordinates;
   private boolean ocsEnabled = false;
   private boolean forceExtensionValidation = false;
   private boolean resolveMinMuleVersion = false;
+  private boolean canonicalizeModel = false;
+  private boolean shareTypeLoaders = false;
 
   private ExtensionModelLoadingRequest(ClassLoader extensionClassLoader, DslResolvingContext dslResolvingContext) {
     checkArgument(extensionClassLoader != null, "extension classLoader cannot be null");
@@ -218,6 +300,22 @@ public final class ExtensionModelLoadingRequest {
     return resolveMinMuleVersion;
   }
 
+  /**
+   * @return whether the built model must be canonicalized.
+   * @since 1.10
+   */
+  public boolean isCanonicalizeModel() {
+    return canonicalizeModel;
+  }
+
+  /**
+   * @return whether the introspected types must be shared with other loadings through the same {@link ClassLoader}.
+   * @since 1.10
+   */
+  public boolean isShareTypeLoaders() {
+    return shareTypeLoaders;
+  }
+
   /**
    * @return an unmodifiable list of custom validators added to the ones applied by default.
    */
@@ -232,6 +330,14 @@ public final class ExtensionModelLoadingRequest {
     return unmodifiableList(enrichers);
   }
 
+  /**
+   * @return an unmodifiable list of the {@link ExtensionLoadingListener}s notified while loading the extension
+   * @since 1.10
+   */
+  public List<ExtensionLoadingListener> getLoadingListeners() {
+    return unmodifiableList(loadingListeners);
+  }
+
   /**
    * @return parameters for this loading request
    */
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.loader;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+
+import java.time.Duration;
+
+/**
+ * The outcome of loading one of the extensions of an {@link ExtensionModelBatchLoadingRequest}
+ *
+ * @since 1.10
+ */
+public final class ExtensionModelLoadingResult {
+
+  private final String key;
+  private final ExtensionModel extensionModel;
+  private final Duration loadingTime;
+
+  /**
+   * Creates a new instance
+   *
+   * @param key            the key which identifies the extension in the batch
+   * @param extensionModel the loaded {@link ExtensionModel}
+   * @param loadingTime    the time it took to load the extension, without the time spent waiting for its dependencies
+   */
+  public ExtensionModelLoadingResult(String key, ExtensionModel extensionModel, Duration loadingTime) {
+    this.key = key;
+    this.extensionModel = extensionModel;
+    this.loadingTime = loadingTime;
+  }
+
+  /**
+   * @return the key which identifies the extension in the batch
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * @return the loaded {@link ExtensionModel}
+   */
+  public ExtensionModel getExtensionModel() {
+    return extensionModel;
+  }
+
+  /**
+   * @return the time it took to load the extension, without the time spent waiting for its dependencies
+   */
+  public Duration getLoadingTime() {
+    return loadingTime;
+  }
+}
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.extension.api.loader;
 
+import static java.util.Collections.synchronizedList;
 import static java.util.Collections.unmodifiableList;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 
@@ -17,14 +18,17 @@ import java.util.List;
  * Collects {@link Problem problems} found while validating an {@link ExtensionModel}.
  *
  * The purpose is to simply notify all the problems found together.
+ * <p>
+ * Problems can be safely reported from many threads at once, as it happens when validators are applied concurrently. The
+ * accessor methods are meant to be used once the validation is finished.
  *
  * @since 1.0
  */
 public final class ProblemsReporter {
 
   private final ExtensionModel extensionModel;
-  private final List<Problem> errors = new LinkedList<>();
-  private final List<Problem> warnings = new LinkedList<>();
+  private final List<Problem> errors = synchronizedList(new LinkedList<>());
+  private final List<Problem> warnings = synchronizedList(new LinkedList<>());
 
   /**
    * Creates a new instance
@@ -9,6 +9,7 @@ package org.mule.runtime.extension.api.model;
 import static com.google.common.collect.ImmutableList.copyOf;
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Optional.ofNullable;
 
@@ -25,13 +26,16 @@ import org.mule.runtime.api.meta.model.operation.OperationModel;
 import org.mule.runtime.api.meta.model.source.HasSourceModels;
 import org.mule.runtime.api.meta.model.source.SourceModel;
 import org.mule.runtime.extension.api.exception.IllegalModelDefinitionException;
+import org.mule.runtime.extension.internal.util.LazyNamedModelList;
 
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -50,6 +54,12 @@ public abstract class AbstractComplexModel extends AbstractNamedImmutableModel
   private final List<SourceModel> messageSources;
   private final DeprecationModel deprecationModel;
 
+  // Name indexes are lazily built and are not part of the model state. They may be null even after construction, since some
+  // serialization mechanisms create instances without invoking any constructor.
+  private transient volatile Map<String, OperationModel> operationsByName;
+  private transient volatile Map<String, ConnectionProviderModel> connectionProvidersByName;
+  private transient volatile Map<String, SourceModel> messageSourcesByName;
+
   public AbstractComplexModel(String name,
                               String description,
                               List<OperationModel> operationModels,
@@ -102,7 +112,11 @@ public abstract class AbstractComplexModel extends AbstractNamedImmutableModel
    */
   @Override
   public Optional<SourceModel> getSourceModel(String name) {
-    return findModel(messageSources, name);
+    Map<String, SourceModel> index = messageSourcesByName;
+    if (index == null) {
+      messageSourcesByName = index = indexByName(messageSources);
+    }
+    return ofNullable(index.get(name));
   }
 
   /**
@@ -110,7 +124,11 @@ public abstract class AbstractComplexModel extends AbstractNamedImmutableModel
    */
   @Override
   public Optional<ConnectionProviderModel> getConnectionProviderModel(String name) {
-    return findModel(connectionProviders, name);
+    Map<String, ConnectionProviderModel> index = connectionProvidersByName;
+    if (index == null) {
+      connectionProvidersByName = index = indexByName(connectionProviders);
+    }
+    return ofNullable(index.get(name));
   }
 
   /**
@@ -118,7 +136,11 @@ public abstract class AbstractComplexModel extends AbstractNamedImmutableModel
    */
   @Override
   public Optional<OperationModel> getOperationModel(String name) {
-    return findModel(operations, name);
+    Map<String, OperationModel> index = operationsByName;
+    if (index == null) {
+      operationsByName = index = indexByName(operations);
+    }
+    return ofNullable(index.get(name));
   }
 
   /**
@@ -141,6 +163,31 @@ public abstract class AbstractComplexModel extends AbstractNamedImmutableModel
     return values.stream().filter(v -> v.getName().equals(name)).findFirst();
   }
 
+  /**
+   * Creates an index of the {@code values} collection by their names. When more than one item has the same name, the first one
+   * wins, so that looking up the index is equivalent to {@link #findModel(Collection, String)}. Indexing a
+   * {@link LazyNamedModelList} doesn't materialize any of its items.
+   *
+   * @param values a {@link Collection} of {@link NamedObject} items
+   * @param <T>    the generic type of the {@code values} items
+   * @return a {@link Map} with the items in {@code values} keyed by their name
+   * @since 1.10
+   */
+  protected <T extends NamedObject> Map<String, T> indexByName(Collection<T> values) {
+    if (values instanceof LazyNamedModelList) {
+      return ((LazyNamedModelList<T>) values).byName();
+    }
+    if (values == null || values.isEmpty()) {
+      return emptyMap();
+    }
+
+    Map<String, T> index = new HashMap<>(values.size() * 4 / 3 + 1);
+    for (T value : values) {
+      index.putIfAbsent(value.getName(), value);
+    }
+    return index;
+  }
+
   protected <T extends DescribedObject> List<T> toList(Collection<T> collection) {
     if (collection == null || collection.isEmpty()) {
       return emptyList();
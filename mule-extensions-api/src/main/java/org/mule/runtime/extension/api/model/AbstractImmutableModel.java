@@ -15,9 +15,9 @@ import static com.google.common.collect.ImmutableSet.of;
 import org.mule.runtime.api.meta.DescribedObject;
 import org.mule.runtime.api.meta.model.EnrichableModel;
 import org.mule.runtime.api.meta.model.ModelProperty;
+import org.mule.runtime.extension.internal.util.LazyNamedModelList;
+import org.mule.runtime.extension.internal.util.ModelPropertyMap;
 
-import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -35,7 +35,8 @@ import com.google.common.collect.ImmutableList;
 public abstract class AbstractImmutableModel implements DescribedObject, EnrichableModel {
 
   protected String description;
-  protected final Map<Class<? extends ModelProperty>, ModelProperty> modelProperties = new LinkedHashMap<>();
+  protected final Map<Class<? extends ModelProperty>, ModelProperty> modelProperties;
+  private transient Set<ModelProperty> modelPropertiesView;
 
   protected static void checkArgument(boolean condition, String message) {
     if (!condition) {
@@ -51,7 +52,7 @@ public abstract class AbstractImmutableModel implements DescribedObject, Enricha
    */
   protected AbstractImmutableModel(String description, Set<ModelProperty> modelProperties) {
     this.description = description != null ? description : "";
-    loadProperties(modelProperties);
+    this.modelProperties = ModelPropertyMap.of(modelProperties);
   }
 
   /**
@@ -76,7 +77,15 @@ public abstract class AbstractImmutableModel implements DescribedObject, Enricha
    */
   @Override
   public Set<ModelProperty> getModelProperties() {
-    return unmodifiableSet(new LinkedHashSet<>(modelProperties.values()));
+    Set<ModelProperty> view = modelPropertiesView;
+    if (view == null) {
+      // instances created through reflection (i.e.: deserialized ones) may hold a different kind of map
+      view = modelProperties instanceof ModelPropertyMap
+          ? ((ModelPropertyMap) modelProperties).valueSet()
+          : unmodifiableSet(new LinkedHashSet<>(modelProperties.values()));
+      modelPropertiesView = view;
+    }
+    return view;
   }
 
   @Override
@@ -92,12 +101,10 @@ public abstract class AbstractImmutableModel implements DescribedObject, Enricha
   }
 
   protected <T> List<T> copy(List<T> values) {
-    return values != null ? ImmutableList.copyOf(values) : ImmutableList.of();
-  }
-
-  private void loadProperties(Collection<ModelProperty> properties) {
-    if (properties != null) {
-      properties.forEach(property -> modelProperties.put(property.getClass(), property));
+    if (values instanceof LazyNamedModelList) {
+      // already immutable, and copying it would materialize all of its items
+      return values;
     }
+    return values != null ? ImmutableList.copyOf(values) : ImmutableList.of();
   }
 }
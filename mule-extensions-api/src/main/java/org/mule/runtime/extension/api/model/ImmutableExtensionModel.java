@@ -10,12 +10,14 @@ import static org.mule.runtime.extension.api.ExtensionConstants.DEFAULT_SUPPORTE
 
 import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableSet;
+import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
 
 import org.mule.metadata.api.model.ObjectType;
 import org.mule.runtime.api.artifact.ArtifactCoordinates;
 import org.mule.runtime.api.meta.Category;
 import org.mule.runtime.api.meta.MuleVersion;
+import org.mule.runtime.api.meta.NamedObject;
 import org.mule.runtime.api.meta.model.ComponentModel;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.ExternalLibraryModel;
@@ -39,8 +41,12 @@ import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.api.meta.model.source.HasSourceModels;
 import org.mule.runtime.api.meta.model.source.SourceModel;
 import org.mule.runtime.extension.api.exception.IllegalModelDefinitionException;
+import org.mule.runtime.extension.internal.util.LazyNamedModelList;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -71,6 +77,11 @@ public class ImmutableExtensionModel extends AbstractComplexModel implements Ext
   private final MuleVersion minMuleVersion;
   private final Set<String> supportedJavaVersions;
 
+  private transient volatile Map<String, ConfigurationModel> configurationsByName;
+  private transient volatile Map<String, ConstructModel> constructModelsByName;
+  private transient volatile Map<String, FunctionModel> functionsByName;
+  private transient volatile Map<String, ComponentLocator> componentsByName;
+
   /**
    * Creates a new instance with the given state
    *
@@ -416,7 +427,11 @@ public class ImmutableExtensionModel extends AbstractComplexModel implements Ext
    */
   @Override
   public Optional<ConfigurationModel> getConfigurationModel(String name) {
-    return findModel(configurations, name);
+    Map<String, ConfigurationModel> index = configurationsByName;
+    if (index == null) {
+      configurationsByName = index = indexByName(configurations);
+    }
+    return ofNullable(index.get(name));
   }
 
   @Override
@@ -426,7 +441,11 @@ public class ImmutableExtensionModel extends AbstractComplexModel implements Ext
 
   @Override
   public Optional<ConstructModel> getConstructModel(String name) {
-    return constructModels.stream().filter(c -> c.getName().equals(name)).findFirst();
+    Map<String, ConstructModel> index = constructModelsByName;
+    if (index == null) {
+      constructModelsByName = index = indexByName(constructModels);
+    }
+    return ofNullable(index.get(name));
   }
 
   /**
@@ -443,7 +462,11 @@ public class ImmutableExtensionModel extends AbstractComplexModel implements Ext
    */
   @Override
   public Optional<FunctionModel> getFunctionModel(String name) {
-    return findModel(functions, name);
+    Map<String, FunctionModel> index = functionsByName;
+    if (index == null) {
+      functionsByName = index = indexByName(functions);
+    }
+    return ofNullable(index.get(name));
   }
 
 
@@ -562,19 +585,12 @@ public class ImmutableExtensionModel extends AbstractComplexModel implements Ext
    */
   @Override
   public Optional<ComponentModel> findComponentModel(String componentName) {
-    Optional<ComponentModel> component = doFindComponentModel(this, componentName);
-    if (component.isPresent()) {
-      return component;
+    Map<String, ComponentLocator> index = componentsByName;
+    if (index == null) {
+      componentsByName = index = indexComponentsByName();
     }
-
-    for (ConfigurationModel configurationModel : configurations) {
-      component = doFindComponentModel(configurationModel, componentName);
-      if (component.isPresent()) {
-        break;
-      }
-    }
-
-    return component;
+    ComponentLocator locator = index.get(componentName);
+    return locator != null ? ofNullable(locator.find(componentName)) : empty();
   }
 
   @Override
@@ -598,23 +614,53 @@ public class ImmutableExtensionModel extends AbstractComplexModel implements Ext
     return supportedJavaVersions;
   }
 
-  private <T extends HasOperationModels & HasSourceModels> Optional<ComponentModel> doFindComponentModel(T owner,
-                                                                                                         String componentName) {
-    Optional component = owner.getOperationModel(componentName);
-    if (component.isPresent()) {
-      return component;
+  /**
+   * Indexes the names of all the components of this extension and its configurations. The names are added following the same
+   * precedence in which they used to be searched for, so that the first match wins: the extension's operations, sources and
+   * constructs, followed by the operations and sources of each configuration.
+   * <p>
+   * Each name is mapped to the name index of its owner, rather than to the component itself, so that building this index doesn't
+   * materialize the components which are lazily loaded.
+   */
+  private Map<String, ComponentLocator> indexComponentsByName() {
+    Map<String, ComponentLocator> index = new HashMap<>();
+    indexComponents(this, index);
+    for (ConfigurationModel configurationModel : configurations) {
+      indexComponents(configurationModel, index);
     }
+    return index;
+  }
 
-    component = owner.getSourceModel(componentName);
-    if (component.isPresent()) {
-      return component;
-    }
+  private <T extends HasOperationModels & HasSourceModels> void indexComponents(T owner, Map<String, ComponentLocator> index) {
+    ComponentLocator operations = name -> owner.getOperationModel(name).orElse(null);
+    namesOf(owner.getOperationModels()).forEach(name -> index.putIfAbsent(name, operations));
+
+    ComponentLocator sources = name -> owner.getSourceModel(name).orElse(null);
+    namesOf(owner.getSourceModels()).forEach(name -> index.putIfAbsent(name, sources));
 
     if (owner instanceof HasConstructModels) {
-      component = ((HasConstructModels) owner).getConstructModel(componentName);
+      HasConstructModels constructOwner = (HasConstructModels) owner;
+      ComponentLocator constructs = name -> constructOwner.getConstructModel(name).orElse(null);
+      namesOf(constructOwner.getConstructModels()).forEach(name -> index.putIfAbsent(name, constructs));
+    }
+  }
+
+  private static List<String> namesOf(List<? extends NamedObject> components) {
+    if (components instanceof LazyNamedModelList) {
+      return ((LazyNamedModelList<?>) components).getNames();
     }
+    List<String> names = new ArrayList<>(components.size());
+    components.forEach(component -> names.add(component.getName()));
+    return names;
+  }
+
+  /**
+   * Finds a component in the name index of the owner it was found in when building the combined index.
+   */
+  @FunctionalInterface
+  private interface ComponentLocator {
 
-    return component;
+    ComponentModel find(String name);
   }
 
   @Override
@@ -16,6 +16,11 @@ import java.util.function.Supplier;
 
 /**
  * This component allows firing {@link ExtensionNotification ExtensionNotifications} with both custom data and default one.
+ * <p>
+ * Components firing notifications with data which is expensive to compute should use
+ * {@link #fireLazy(NotificationActionDefinition, Supplier, DataType)}, or check {@link #isListening(NotificationActionDefinition)}
+ * before computing it, so that it's not computed when nobody is listening. Components firing notifications at a high rate may
+ * use the {@link #asynchronous()} emitter, so that dispatching them doesn't add to their own execution time.
  *
  * @since 1.1
  */
@@ -41,7 +46,43 @@ public interface NotificationEmitter {
    * @since 4.2.0
    */
   default void fireLazy(NotificationActionDefinition action, Supplier<?> dataValue, DataType dataType) {
-    fire(action, new TypedValue<>(dataValue.get(), dataType));
+    if (isListening(action)) {
+      fire(action, new TypedValue<>(dataValue.get(), dataType));
+    }
+  }
+
+  /**
+   * Tells whether notifications with the given {@code action} would be delivered to any listener. This is expected to be cheap,
+   * so it can be checked before computing the data of each notification.
+   * <p>
+   * A {@code true} result doesn't guarantee that a listener will receive the notification, but a {@code false} one does guarantee
+   * that none will, so firing it can be skipped. The default implementation conservatively returns {@code true}.
+   *
+   * @param action the {@link NotificationActionDefinition} to check.
+   * @return whether notifications with the given {@code action} may be delivered to any listener.
+   * @since 1.10
+   */
+  @MinMuleVersion("4.10.0")
+  default boolean isListening(NotificationActionDefinition action) {
+    return true;
+  }
+
+  /**
+   * Returns an emitter which dispatches the fired notifications asynchronously, in batches, so that the component firing them
+   * doesn't wait for the listeners. The suppliers given to {@link #fireLazy(NotificationActionDefinition, Supplier, DataType)}
+   * are only invoked when the notification is dispatched, from another thread, so they must not depend on state which may change
+   * or be released after firing, such as a consumed stream.
+   * <p>
+   * Notifications fired through the returned emitter may be dropped if they are fired faster than they can be dispatched, and
+   * are not guaranteed to be delivered before the execution of the component that fired them completes. The default
+   * implementation returns {@code this} same instance, which dispatches them synchronously.
+   *
+   * @return an asynchronous {@link NotificationEmitter}
+   * @since 1.10
+   */
+  @MinMuleVersion("4.10.0")
+  default NotificationEmitter asynchronous() {
+    return this;
   }
 
 }
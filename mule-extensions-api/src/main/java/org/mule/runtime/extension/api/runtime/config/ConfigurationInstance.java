@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.extension.api.runtime.config;
 
+import static java.util.Optional.empty;
+
 import org.mule.api.annotation.NoImplement;
 import org.mule.runtime.api.connection.ConnectionProvider;
 import org.mule.runtime.api.meta.model.config.ConfigurationModel;
@@ -65,4 +67,17 @@ public interface ConfigurationInstance {
    * @return a {@link ConfigurationState} holding the parameter values for {@code this} instance.
    */
   ConfigurationState getState();
+
+  /**
+   * Returns a snapshot of the throughput, latencies and errors of the operations executed through {@code this} instance, for
+   * monitoring purposes. Taking it doesn't block those executions.
+   * <p>
+   * The default implementation returns {@link Optional#empty()}, meaning the runtime doesn't record them.
+   *
+   * @return an {@link Optional} {@link ConfigurationUsageSnapshot}
+   * @since 1.10
+   */
+  default Optional<ConfigurationUsageSnapshot> getUsageSnapshot() {
+    return empty();
+  }
 }
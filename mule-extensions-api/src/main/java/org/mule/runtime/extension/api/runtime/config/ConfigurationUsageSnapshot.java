@@ -0,0 +1,42 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.runtime.config;
+
+import org.mule.api.annotation.NoImplement;
+import org.mule.runtime.extension.api.error.ErrorTypeDefinition;
+
+import java.util.Map;
+
+/**
+ * Point in time view of the usage of a {@link ConfigurationInstance}: its throughput, latencies and errors, for each of the
+ * operations executed through it.
+ * <p>
+ * Taking a snapshot doesn't block the executions being recorded. The counters are read one by one while executions may still be
+ * finishing, so values of the same snapshot may differ by the executions that finished while it was being taken.
+ *
+ * @see ConfigurationInstance#getUsageSnapshot()
+ * @since 1.10
+ */
+@NoImplement
+public interface ConfigurationUsageSnapshot {
+
+  /**
+   * @return the time in milliseconds at which this snapshot was taken
+   */
+  long getTimestamp();
+
+  /**
+   * @return the {@link OperationUsageSnapshot} of each operation which was executed at least once, by operation name
+   */
+  Map<String, OperationUsageSnapshot> getOperations();
+
+  /**
+   * @return the amount of executions which finished with each {@link ErrorTypeDefinition}. Errors which can't be mapped to an
+   *         {@link ErrorTypeDefinition} are only counted in {@link OperationUsageSnapshot#getErrorCount()}.
+   */
+  Map<ErrorTypeDefinition<?>, Long> getErrorCounts();
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.runtime.config;
+
+import org.mule.api.annotation.NoImplement;
+
+/**
+ * Point in time view of the executions of one operation through a {@link ConfigurationInstance}.
+ * <p>
+ * Latencies are kept in a histogram of bounded size, so percentiles are approximations with a relative error of at most 12.5%.
+ *
+ * @see ConfigurationUsageSnapshot
+ * @since 1.10
+ */
+@NoImplement
+public interface OperationUsageSnapshot {
+
+  /**
+   * @return the amount of executions which finished, either successfully or not
+   */
+  long getExecutionCount();
+
+  /**
+   * @return the amount of executions which finished with an error
+   */
+  long getErrorCount();
+
+  /**
+   * @return the sum of the latencies of all the finished executions, in nanoseconds
+   */
+  long getTotalLatencyNanos();
+
+  /**
+   * @return the highest latency of the finished executions, in nanoseconds, or {@code 0} if none finished
+   */
+  long getMaxLatencyNanos();
+
+  /**
+   * @param percentile a value between {@code 0} and {@code 100}
+   * @return the latency, in nanoseconds, under which the given {@code percentile} of the finished executions took, or {@code 0}
+   *         if none finished
+   */
+  long getLatencyPercentileNanos(double percentile);
+}
@@ -33,4 +33,29 @@ public interface BackPressureContext {
    * @return the {@link SourceCallbackContext} used when pushing the message down the flow
    */
   SourceCallbackContext getSourceCallbackContext();
+
+  /**
+   * When the rejected event was pushed as part of a batch through {@link SourceCallback#handleBatch(java.util.List)} or
+   * {@link SourceCallback#handleBatch(java.util.List, java.util.List)}, the position of its result in that batch. Sources may use
+   * it, along with {@link #getBatchSize()}, to acknowledge or redeliver the rejected records of a batch in bulk.
+   * <p>
+   * The position is only known when the runtime processes the batch as a whole. When it is unknown, which is the case when the
+   * runtime processes each result of the batch on its own, or when the event was not pushed as part of a batch, {@code -1} is
+   * returned.
+   *
+   * @return the position of the rejected event in its batch, or {@code -1} if it is unknown
+   * @since 1.10
+   */
+  default int getBatchIndex() {
+    return -1;
+  }
+
+  /**
+   * @return the size of the batch in which the rejected event was pushed, or {@code -1} if it is unknown, as described in
+   *         {@link #getBatchIndex()}
+   * @since 1.10
+   */
+  default int getBatchSize() {
+    return -1;
+  }
 }
@@ -23,7 +23,8 @@ public enum BackPressureMode {
   FAIL,
 
   /**
-   * Apply back pressure by blocking the {@link SourceCallback#handle(Result)} method
+   * Apply back pressure by blocking the {@link SourceCallback#handle(Result)} method. Batches pushed through
+   * {@link SourceCallback#handleBatch(java.util.List)} block until the whole batch is accepted.
    */
   WAIT,
 
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.runtime.source;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.log;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.round;
+
+import org.mule.sdk.api.annotation.MinMuleVersion;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A {@link PollItemIdTracker} which puts a Bloom filter in front of another tracker, usually the one backed by an object store
+ * which the runtime provides through {@link PollingSource#createIdTracker(String, PollItemIdTracker)}.
+ * <p>
+ * Ids which the filter knows were never tracked are resolved in memory, so only the ids which may be tracked reach the delegate.
+ * Since most of the items of a large poll are new, this saves most of the lookups to the delegate. Every id is still tracked by
+ * the delegate, which remains the source of truth.
+ * <p>
+ * The filter only knows about the ids tracked through {@code this} instance, so it is not used until the delegate is
+ * {@link #clear() cleared}: until then, the delegate may hold ids from previous executions or other cluster nodes. Ids tracked
+ * by other instances over the same delegate are also unknown to the filter, so each delegate should be wrapped only once.
+ * <p>
+ * The filter is sized for an expected amount of ids. Tracking more than that is still correct, but more lookups reach the
+ * delegate.
+ *
+ * @since 1.10
+ */
+@MinMuleVersion("4.10")
+public final class BloomFilterPollItemIdTracker implements PollItemIdTracker {
+
+  private final PollItemIdTracker delegate;
+  private final int bitCount;
+  private final int hashCount;
+
+  // replaced rather than zeroed on clear, so that ids added while clearing are not wiped from the filter
+  private volatile AtomicLongArray bits;
+  private volatile boolean primed = false;
+
+  /**
+   * Creates a new instance
+   *
+   * @param delegate          the {@link PollItemIdTracker} which actually tracks the ids
+   * @param expectedIds       the amount of ids expected to be tracked between {@link #clear() clears}
+   * @param falsePositiveRate the expected rate of lookups to the delegate for ids which are not tracked, between {@code 0} and
+   *                          {@code 1}, exclusive
+   * @throws IllegalArgumentException if {@code expectedIds} is not positive or {@code falsePositiveRate} is out of range
+   */
+  public BloomFilterPollItemIdTracker(PollItemIdTracker delegate, int expectedIds, double falsePositiveRate) {
+    checkArgument(delegate != null, "delegate cannot be null");
+    checkArgument(expectedIds > 0, "expectedIds must be positive");
+    checkArgument(falsePositiveRate > 0 && falsePositiveRate < 1, "falsePositiveRate must be between 0 and 1, exclusive");
+
+    this.delegate = delegate;
+    long optimalBitCount = (long) ceil(-expectedIds * log(falsePositiveRate) / (log(2) * log(2)));
+    bitCount = (int) min(Integer.MAX_VALUE - 63, max(64, optimalBitCount));
+    hashCount = (int) max(1, round((double) bitCount / expectedIds * log(2)));
+    bits = newBits();
+  }
+
+  @Override
+  public boolean contains(String id) {
+    return mightContain(id) && delegate.contains(id);
+  }
+
+  @Override
+  public Set<String> getTracked(Collection<String> ids) {
+    if (!primed) {
+      return delegate.getTracked(ids);
+    }
+
+    List<String> candidates = new ArrayList<>();
+    for (String id : ids) {
+      if (mightContain(id)) {
+        candidates.add(id);
+      }
+    }
+    return delegate.getTracked(candidates);
+  }
+
+  @Override
+  public void add(String id) {
+    delegate.add(id);
+    set(id);
+  }
+
+  @Override
+  public void addAll(Collection<String> ids) {
+    delegate.addAll(ids);
+    for (String id : ids) {
+      set(id);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Bloom filters can't forget values, so the removed id keeps reaching the delegate until the next {@link #clear()}.
+   */
+  @Override
+  public void remove(String id) {
+    delegate.remove(id);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The filter is replaced before clearing the delegate, so an id added concurrently is either cleared from the delegate or set
+   * in the new filter.
+   */
+  @Override
+  public synchronized void clear() {
+    primed = false;
+    bits = newBits();
+    delegate.clear();
+    primed = true;
+  }
+
+  private AtomicLongArray newBits() {
+    return new AtomicLongArray((bitCount + 63) / 64);
+  }
+
+  private boolean mightContain(String id) {
+    if (!primed) {
+      return true;
+    }
+
+    AtomicLongArray bits = this.bits;
+    long hash = hash(id);
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      int bit = index(hash1 + i * hash2);
+      if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void set(String id) {
+    AtomicLongArray bits = this.bits;
+    long hash = hash(id);
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; i++) {
+      int bit = index(hash1 + i * hash2);
+      int word = bit >>> 6;
+      long mask = 1L << bit;
+      long current;
+      do {
+        current = bits.get(word);
+      } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+    }
+  }
+
+  private int index(int combinedHash) {
+    return (combinedHash & Integer.MAX_VALUE) % bitCount;
+  }
+
+  // 64 bits FNV-1a, so that both halves are well distributed
+  private static long hash(String id) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < id.length(); i++) {
+      hash ^= id.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    return hash;
+  }
+}
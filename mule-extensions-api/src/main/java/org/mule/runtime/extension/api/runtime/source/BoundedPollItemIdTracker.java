@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.runtime.source;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.sdk.api.annotation.MinMuleVersion;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link PollItemIdTracker} which keeps up to a maximum amount of ids in memory, forgetting the ones tracked the longest time
+ * ago once that maximum is reached.
+ * <p>
+ * Tracked ids are neither shared across cluster nodes nor kept across restarts, and forgotten ids may be processed again. Use it
+ * for sources which tolerate duplicates in those cases, in exchange of not having an object store entry per polled item.
+ *
+ * @since 1.10
+ */
+@MinMuleVersion("4.10")
+public final class BoundedPollItemIdTracker implements PollItemIdTracker {
+
+  private final Map<String, Boolean> ids;
+
+  /**
+   * Creates a new instance
+   *
+   * @param maxSize the maximum amount of ids to track
+   * @throws IllegalArgumentException if {@code maxSize} is not positive
+   */
+  public BoundedPollItemIdTracker(int maxSize) {
+    checkArgument(maxSize > 0, "maxSize must be positive");
+    ids = new LinkedHashMap<String, Boolean>() {
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  @Override
+  public synchronized boolean contains(String id) {
+    return ids.containsKey(id);
+  }
+
+  @Override
+  public synchronized Set<String> getTracked(Collection<String> ids) {
+    Set<String> tracked = new LinkedHashSet<>();
+    for (String id : ids) {
+      if (this.ids.containsKey(id)) {
+        tracked.add(id);
+      }
+    }
+    return tracked;
+  }
+
+  @Override
+  public synchronized void add(String id) {
+    ids.put(id, Boolean.TRUE);
+  }
+
+  @Override
+  public synchronized void addAll(Collection<String> ids) {
+    for (String id : ids) {
+      this.ids.put(id, Boolean.TRUE);
+    }
+  }
+
+  @Override
+  public synchronized void remove(String id) {
+    ids.remove(id);
+  }
+
+  @Override
+  public synchronized void clear() {
+    ids.clear();
+  }
+
+  /**
+   * @return the amount of tracked ids
+   */
+  public synchronized int size() {
+    return ids.size();
+  }
+}
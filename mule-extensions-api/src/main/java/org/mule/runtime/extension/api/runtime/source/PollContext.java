@@ -12,8 +12,11 @@ import org.mule.runtime.extension.api.runtime.operation.Result;
 import org.mule.sdk.api.annotation.MinMuleVersion;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
@@ -65,6 +68,35 @@ public interface PollContext<T, A> {
    */
   PollItemStatus accept(Consumer<PollItem<T, A>> consumer);
 
+  /**
+   * Submits many items to be processed at once. For each one of the given {@code items}, the runtime supplies a {@link PollItem}
+   * which the {@code populator} fills from it, just like the {@link Consumer} given to {@link #accept(Consumer)}.
+   * <p>
+   * This is equivalent to invoking {@link #accept(Consumer)} for each item, in order, but allows the runtime to evaluate the
+   * watermarks and look up the ids of the whole batch at once, instead of going to the object stores once per item. Sources
+   * which obtain many items on each poll should prefer this method.
+   * <p>
+   * Once an item is rejected with {@link PollItemStatus#SOURCE_STOPPING}, the remaining items are not submitted, so the
+   * {@code populator} is not invoked for them, and their status is {@link PollItemStatus#SOURCE_STOPPING} as well.
+   *
+   * @param items     the items to submit
+   * @param populator a {@link BiConsumer} which populates the {@link PollItem} of each item
+   * @param <I>       the generic type of the items
+   * @return the {@link PollItemStatus} of each item, in the same order as the {@code items}
+   * @since 1.10
+   */
+  default <I> List<PollItemStatus> acceptAll(Iterable<I> items, BiConsumer<I, PollItem<T, A>> populator) {
+    List<PollItemStatus> statuses = new ArrayList<>();
+    PollItemStatus status = null;
+    for (I item : items) {
+      if (status != PollItemStatus.SOURCE_STOPPING) {
+        status = accept(pollItem -> populator.accept(item, pollItem));
+      }
+      statuses.add(status);
+    }
+    return statuses;
+  }
+
   /**
    * The current watermark value at the moment of starting the poll. If watermarking is disabled or this is the first execution,
    * the value will be {@link Optional#empty()}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.runtime.source;
+
+import org.mule.sdk.api.annotation.MinMuleVersion;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Keeps track of the ids of the items polled by a {@link PollingSource}, so that the runtime can tell whether an item with a
+ * given id was already processed.
+ * <p>
+ * By default the runtime tracks each id as an entry of an object store, named after {@link PollingSource#OS_NAME_MASK}. Sources
+ * which poll large amounts of items may provide a more compact implementation through
+ * {@link PollingSource#createIdTracker(String, PollItemIdTracker)}.
+ * <p>
+ * Implementations must be thread-safe. They may forget ids, at the cost of those items being processed again, but must never
+ * report an id as tracked when it was not, since the item would be skipped.
+ *
+ * @see BoundedPollItemIdTracker
+ * @see BloomFilterPollItemIdTracker
+ * @since 1.10
+ */
+@MinMuleVersion("4.10")
+public interface PollItemIdTracker {
+
+  /**
+   * @param id the id of a polled item
+   * @return whether the given {@code id} is tracked
+   */
+  boolean contains(String id);
+
+  /**
+   * Checks which of the given {@code ids} are tracked. Implementations backed by a remote store should override this method to
+   * check all of them at once.
+   *
+   * @param ids the ids of the polled items
+   * @return the subset of the given {@code ids} which are tracked
+   */
+  default Set<String> getTracked(Collection<String> ids) {
+    Set<String> tracked = new LinkedHashSet<>();
+    for (String id : ids) {
+      if (contains(id)) {
+        tracked.add(id);
+      }
+    }
+    return tracked;
+  }
+
+  /**
+   * Tracks the given {@code id}
+   *
+   * @param id the id of a polled item
+   */
+  void add(String id);
+
+  /**
+   * Tracks all the given {@code ids}. Implementations backed by a remote store should override this method to store all of them
+   * at once.
+   *
+   * @param ids the ids of the polled items
+   */
+  default void addAll(Collection<String> ids) {
+    for (String id : ids) {
+      add(id);
+    }
+  }
+
+  /**
+   * Stops tracking the given {@code id}
+   *
+   * @param id the id of a polled item
+   */
+  void remove(String id);
+
+  /**
+   * Stops tracking all the ids
+   */
+  void clear();
+}
@@ -86,4 +86,24 @@ public abstract class PollingSource<T, A> extends Source<T, A> {
    */
   public abstract void onRejectedItem(Result<T, A> result, SourceCallbackContext callbackContext);
 
+  /**
+   * Allows to customize how the ids set through {@link PollContext.PollItem#setId(String)} are tracked. The runtime invokes this
+   * method once for each set of ids it tracks, identified by {@link #RECENTLY_PROCESSED_IDS_OS_NAME_SUFFIX} or
+   * {@link #IDS_ON_UPDATED_WATERMARK_OS_NAME_SUFFIX}, and uses the returned {@link PollItemIdTracker} instead of the default one.
+   * <p>
+   * Sources which obtain large amounts of items on each poll may return a {@link BloomFilterPollItemIdTracker} wrapping the
+   * {@code defaultTracker}, to avoid most of its lookups, or a {@link BoundedPollItemIdTracker}, to avoid an object store entry
+   * per item.
+   * <p>
+   * This implementation returns the {@code defaultTracker}.
+   *
+   * @param name           the name of the set of ids to track
+   * @param defaultTracker the {@link PollItemIdTracker} which tracks each id as an entry of an object store
+   * @return the {@link PollItemIdTracker} to use
+   * @since 1.10
+   */
+  public PollItemIdTracker createIdTracker(String name, PollItemIdTracker defaultTracker) {
+    return defaultTracker;
+  }
+
 }
@@ -13,12 +13,18 @@ import org.mule.runtime.extension.api.runtime.connectivity.ReconnectionCallback;
 import org.mule.runtime.extension.api.runtime.operation.Result;
 import org.mule.sdk.api.annotation.MinMuleVersion;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * A callback to allow {@link Source} implementations to communicate generated messages back to the runtime so that they can be
  * processed.
  * <p>
  * Those messages will be represented as {@link Result} objects using the {@link #handle(Result)} or
- * {@link #handle(Result, SourceCallbackContext)} methods.
+ * {@link #handle(Result, SourceCallbackContext)} methods. Sources which receive messages in batches, such as the records fetched
+ * from a broker in a single poll, may hand over a whole batch at once through {@link #handleBatch(List)} or
+ * {@link #handleBatch(List, List)}, which lets the runtime set up the processing of the batch and check back pressure once for the
+ * whole batch instead of once for each message.
  *
  * @param <T> the generic type of the output values of the generated results
  * @param <A> the generic type of the attributes of the generated results
@@ -49,6 +55,47 @@ public interface SourceCallback<T, A> {
    */
   void handle(Result<T, A> result, SourceCallbackContext context);
 
+  /**
+   * Passes the given {@code results} back to the runtime for processing, as if {@link #handle(Result)} was invoked for each one of
+   * them, in order.
+   * <p>
+   * When the {@link BackPressureMode#WAIT} mode applies, this method blocks until all the {@code results} have been accepted. With
+   * the other modes, each rejected result is notified to the source through its own {@link BackPressureContext}. Runtimes which
+   * process the batch as a whole fill in the {@link BackPressureContext#getBatchIndex() position} of the result in the batch. This
+   * default implementation handles each result on its own, in which case the position is reported as unknown.
+   *
+   * @param results the {@link Result}s to process
+   * @since 1.10
+   */
+  default void handleBatch(List<Result<T, A>> results) {
+    for (Result<T, A> result : results) {
+      handle(result);
+    }
+  }
+
+  /**
+   * Passes the given {@code results} back to the runtime for processing, as if {@link #handle(Result, SourceCallbackContext)} was
+   * invoked for each one of them, in order, with the context in the same position of {@code contexts}.
+   * <p>
+   * Back pressure is applied as described in {@link #handleBatch(List)}. The {@code contexts} should be created using the
+   * {@link #createContexts(int)} or {@link #createContext()} methods of {@code this} same instance.
+   *
+   * @param results  the {@link Result}s to process
+   * @param contexts the {@link SourceCallbackContext} of each result
+   * @throws IllegalArgumentException if {@code results} and {@code contexts} don't have the same size
+   * @since 1.10
+   */
+  default void handleBatch(List<Result<T, A>> results, List<SourceCallbackContext> contexts) {
+    if (results.size() != contexts.size()) {
+      throw new IllegalArgumentException("Expected a context for each one of the " + results.size() + " results, but got "
+          + contexts.size() + " contexts");
+    }
+
+    for (int i = 0; i < results.size(); i++) {
+      handle(results.get(i), contexts.get(i));
+    }
+  }
+
   /**
    * Any started {@link Source} must use this method to communicate the runtime that a {@link ConnectionException}was found trying
    * to produce messages.
@@ -71,4 +118,20 @@ public interface SourceCallback<T, A> {
    *         instance
    */
   SourceCallbackContext createContext();
+
+  /**
+   * Creates the contexts for a batch to be passed to {@link #handleBatch(List, List)}.
+   *
+   * @param count the amount of contexts to create
+   * @return {@code count} new instances of {@link SourceCallbackContext}, only valid for use on {@code this} same
+   *         {@link SourceCallback} instance
+   * @since 1.10
+   */
+  default List<SourceCallbackContext> createContexts(int count) {
+    List<SourceCallbackContext> contexts = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      contexts.add(createContext());
+    }
+    return contexts;
+  }
 }
@@ -8,6 +8,7 @@ package org.mule.runtime.extension.api.runtime.source;
 
 import org.mule.api.annotation.NoImplement;
 import org.mule.runtime.api.connection.ConnectionException;
+import org.mule.runtime.api.metadata.DataType;
 import org.mule.runtime.api.metadata.TypedValue;
 import org.mule.runtime.api.notification.ExtensionNotification;
 import org.mule.runtime.api.tx.TransactionException;
@@ -18,6 +19,7 @@ import org.mule.runtime.extension.api.tx.TransactionHandle;
 import org.mule.sdk.api.annotation.MinMuleVersion;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * A context interface to correlate a message generated by a {@link Source} to a particular state
@@ -128,4 +130,20 @@ public interface SourceCallbackContext {
    * @since 4.1
    */
   void fireOnHandle(NotificationActionDefinition<?> action, TypedValue<?> data);
+
+  /**
+   * Indicates that an {@link ExtensionNotification} should be fired with the desired information when the runtime takes the
+   * source result to process it, computing its data only then, and only if anyone is listening to the given {@code action}.
+   * <p>
+   * The default implementation computes the data right away and delegates to
+   * {@link #fireOnHandle(NotificationActionDefinition, TypedValue)}.
+   *
+   * @param action    the {@link NotificationActionDefinition} to use.
+   * @param dataValue a supplier for the {@link Object} to use as value of the notification data.
+   * @param dataType  the type of the data returned by the provided supplier.
+   * @since 1.10
+   */
+  default void fireOnHandleLazy(NotificationActionDefinition<?> action, Supplier<?> dataValue, DataType dataType) {
+    fireOnHandle(action, new TypedValue<>(dataValue.get(), dataType));
+  }
 }
@@ -6,16 +6,21 @@
  */
 package org.mule.runtime.extension.api.util;
 
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import com.github.benmanes.caffeine.cache.Cache;
+
 /**
  * A utility implementation of {@link Map} which keys are instances of {@link Class} and values are instances of generic type
  * {@code V}.
@@ -42,7 +47,17 @@ import java.util.function.Function;
  * </ul>
  * <p>
  * <h1>Performance considerations</h1> When there's an explicit mapping for a given key, the performance is the same as in the
- * backing map. When a deep search occurs, then the performance drops to O(n^n) (worst case).
+ * backing map. When a deep search occurs, then the performance drops to O(n^n) (worst case). The outcome of each deep search,
+ * including the fact that nothing was found, is memoized per requested key, so that subsequent lookups for the same key take
+ * constant time. The requested keys are only weakly held, so that memoizing them doesn't keep their classes, or their
+ * {@link ClassLoader}s, from being collected. The memoized results are discarded each time this map is modified through its own
+ * mutating methods. Modifications performed directly on the backing map or through the {@link #keySet()}, {@link #values()}
+ * or {@link #entrySet()} views are not tracked.
+ * <p>
+ * Concurrent lookups are safe as long as the backing map supports concurrent reads.
+ * <p>
+ * When a hierarchical lookup is satisfied by an entry which maps to {@code null}, {@link #get(Object)} returns {@code null} and
+ * {@link #containsKey(Object)} returns {@code true}, as it would for an exact match.
  * <h1>Other methods</h1> Other than {@link #get(Object)} and {@link #containsKey(Object)}, no other method has been overridden.
  * Behaviour will be that of the backing map.
  *
@@ -53,6 +68,12 @@ public class HierarchyClassMap<V> implements Map<Class<?>, V> {
 
   private final Map<Class<?>, V> delegate;
 
+  /**
+   * Maps each key for which a deep search was performed to the key of the backing map which satisfied it, or to
+   * {@link Optional#empty()} if none did. Keys are compared by identity and weakly held.
+   */
+  private volatile ConcurrentMap<Class<?>, Optional<Class<?>>> resolutionCache = newResolutionCache();
+
   /**
    * Creates a new instance which behaves like a {@link HashMap}
    */
@@ -81,25 +102,46 @@ public class HierarchyClassMap<V> implements Map<Class<?>, V> {
       return delegate.get(key);
     }
 
-    Class<?> searchKey = (Class<?>) key;
+    return resolve((Class<?>) key).map(delegate::get).orElse(null);
+  }
+
+  private Optional<Class<?>> resolve(Class<?> key) {
+    if (key == null) {
+      return Optional.empty();
+    }
+
+    // capture the cache first, so that a result computed before an invalidation is never published into the new cache
+    final ConcurrentMap<Class<?>, Optional<Class<?>>> cache = resolutionCache;
+    Optional<Class<?>> resolved = cache.get(key);
+    if (resolved == null) {
+      resolved = searchAssignableFrom(key);
+      cache.putIfAbsent(key, resolved);
+    }
+
+    return resolved;
+  }
+
+  private Optional<Class<?>> searchAssignableFrom(Class<?> key) {
+    Class<?> searchKey = key;
     while (searchKey != null && !Object.class.equals(searchKey)) {
-      V value = searchAssignableFrom(searchKey);
-      if (value == null) {
-        searchKey = searchKey.getSuperclass();
-      } else {
-        return value;
+      for (Class<?> candidate : delegate.keySet()) {
+        if (searchKey.isAssignableFrom(candidate)) {
+          return Optional.of(candidate);
+        }
       }
+      searchKey = searchKey.getSuperclass();
     }
 
-    return null;
+    return Optional.empty();
+  }
+
+  private void invalidate() {
+    resolutionCache = newResolutionCache();
   }
 
-  private V searchAssignableFrom(Class<?> searchKey) {
-    return entrySet().stream()
-        .filter(entry -> searchKey.isAssignableFrom(entry.getKey()))
-        .map(Entry::getValue)
-        .findFirst()
-        .orElse(null);
+  private static ConcurrentMap<Class<?>, Optional<Class<?>>> newResolutionCache() {
+    Cache<Class<?>, Optional<Class<?>>> cache = newBuilder().weakKeys().build();
+    return cache.asMap();
   }
 
   @Override
@@ -120,25 +162,7 @@ public class HierarchyClassMap<V> implements Map<Class<?>, V> {
    */
   @Override
   public boolean containsKey(Object key) {
-    if (delegate.containsKey(key)) {
-      return true;
-    }
-
-    Class<?> searchKey = (Class<?>) key;
-    while (searchKey != null && !Object.class.equals(searchKey)) {
-      final Class<?> lambdaKey = searchKey;
-      Optional<Class<?>> foundKey = delegate.keySet().stream()
-          .filter(clazz -> lambdaKey.isAssignableFrom(clazz))
-          .findFirst();
-
-      if (foundKey.isPresent()) {
-        return true;
-      } else {
-        searchKey = searchKey.getSuperclass();
-      }
-    }
-
-    return false;
+    return delegate.containsKey(key) || resolve((Class<?>) key).isPresent();
   }
 
   @Override
@@ -149,22 +173,38 @@ public class HierarchyClassMap<V> implements Map<Class<?>, V> {
 
   @Override
   public V put(Class<?> key, V value) {
-    return delegate.put(key, value);
+    try {
+      return delegate.put(key, value);
+    } finally {
+      invalidate();
+    }
   }
 
   @Override
   public V remove(Object key) {
-    return delegate.remove(key);
+    try {
+      return delegate.remove(key);
+    } finally {
+      invalidate();
+    }
   }
 
   @Override
   public void putAll(Map<? extends Class<?>, ? extends V> m) {
-    delegate.putAll(m);
+    try {
+      delegate.putAll(m);
+    } finally {
+      invalidate();
+    }
   }
 
   @Override
   public void clear() {
-    delegate.clear();
+    try {
+      delegate.clear();
+    } finally {
+      invalidate();
+    }
   }
 
   @Override
@@ -211,12 +251,20 @@ public class HierarchyClassMap<V> implements Map<Class<?>, V> {
 
   @Override
   public V putIfAbsent(Class<?> key, V value) {
-    return delegate.putIfAbsent(key, value);
+    try {
+      return delegate.putIfAbsent(key, value);
+    } finally {
+      invalidate();
+    }
   }
 
   @Override
   public boolean remove(Object key, Object value) {
-    return delegate.remove(key, value);
+    try {
+      return delegate.remove(key, value);
+    } finally {
+      invalidate();
+    }
   }
 
   @Override
@@ -231,21 +279,37 @@ public class HierarchyClassMap<V> implements Map<Class<?>, V> {
 
   @Override
   public V computeIfAbsent(Class<?> key, Function<? super Class<?>, ? extends V> mappingFunction) {
-    return delegate.computeIfAbsent(key, mappingFunction);
+    try {
+      return delegate.computeIfAbsent(key, mappingFunction);
+    } finally {
+      invalidate();
+    }
   }
 
   @Override
   public V computeIfPresent(Class<?> key, BiFunction<? super Class<?>, ? super V, ? extends V> remappingFunction) {
-    return delegate.computeIfPresent(key, remappingFunction);
+    try {
+      return delegate.computeIfPresent(key, remappingFunction);
+    } finally {
+      invalidate();
+    }
   }
 
   @Override
   public V compute(Class<?> key, BiFunction<? super Class<?>, ? super V, ? extends V> remappingFunction) {
-    return delegate.compute(key, remappingFunction);
+    try {
+      return delegate.compute(key, remappingFunction);
+    } finally {
+      invalidate();
+    }
   }
 
   @Override
   public V merge(Class<?> key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
-    return delegate.merge(key, value, remappingFunction);
+    try {
+      return delegate.merge(key, value, remappingFunction);
+    } finally {
+      invalidate();
+    }
   }
 }
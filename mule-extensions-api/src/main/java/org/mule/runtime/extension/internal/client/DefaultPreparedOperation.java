@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.client;
+
+import org.mule.runtime.extension.api.client.ExtensionsClient;
+import org.mule.runtime.extension.api.client.OperationParameterizer;
+import org.mule.runtime.extension.api.client.PipelinedExecutionCallback;
+import org.mule.runtime.extension.api.client.PipelinedExecutionOptions;
+import org.mule.runtime.extension.api.client.PreparedOperation;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Default {@link PreparedOperation}, which executes the operation through {@link ExtensionsClient#execute(String, String,
+ * Consumer)}, applying the prepared parameters before the ones of each execution.
+ * <p>
+ * This class is not part of the API and should not be used by anyone (or anything) but the runtime. Backwards compatibility not
+ * guaranteed on this class.
+ *
+ * @since 1.10
+ */
+public class DefaultPreparedOperation implements PreparedOperation {
+
+  private final ExtensionsClient client;
+  private final String extension;
+  private final String operation;
+  private final Consumer<OperationParameterizer> preparedParameters;
+
+  public DefaultPreparedOperation(ExtensionsClient client, String extension, String operation,
+                                  Consumer<OperationParameterizer> preparedParameters) {
+    this.client = client;
+    this.extension = extension;
+    this.operation = operation;
+    this.preparedParameters = preparedParameters;
+  }
+
+  @Override
+  public <T, A> CompletableFuture<Result<T, A>> execute(Consumer<OperationParameterizer> parameters) {
+    return client.execute(extension, operation, preparedParameters.andThen(parameters));
+  }
+
+  @Override
+  public <I, T, A> CompletableFuture<Void> executeAll(Iterator<I> items,
+                                                      BiConsumer<I, OperationParameterizer> parameters,
+                                                      PipelinedExecutionOptions options,
+                                                      PipelinedExecutionCallback<I, T, A> callback) {
+    return new OperationPipeline<I, T, A>(items,
+                                          item -> execute(parameterizer -> parameters.accept(item, parameterizer)),
+                                          options, callback)
+                                              .start();
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.client;
+
+import org.mule.runtime.extension.api.client.PipelinedExecutionCallback;
+import org.mule.runtime.extension.api.client.PipelinedExecutionOptions;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Executes an operation for each one of the items of an {@link Iterator}, keeping up to a maximum amount of executions in flight
+ * and notifying their outcomes to a {@link PipelinedExecutionCallback}.
+ * <p>
+ * The state of the pipeline is only accessed by one thread at a time: the one which, upon starting or completing an execution,
+ * finds no other thread draining the pipeline. Other threads just enqueue their outcome, which the draining thread picks up
+ * before finishing. This way, neither the {@link Iterator} nor the {@link PipelinedExecutionCallback} are accessed concurrently,
+ * and executions which complete synchronously don't make the stack grow.
+ * <p>
+ * This class is not part of the API and should not be used by anyone (or anything) but the runtime. Backwards compatibility not
+ * guaranteed on this class.
+ *
+ * @param <I> the generic type of the items
+ * @param <T> The generic type of the result's payload
+ * @param <A> The generic type of the result's attribute
+ * @since 1.10
+ */
+public class OperationPipeline<I, T, A> {
+
+  private final Iterator<I> items;
+  private final Function<I, CompletableFuture<Result<T, A>>> execution;
+  private final PipelinedExecutionCallback<I, T, A> callback;
+  private final int maxConcurrency;
+  private final boolean ordered;
+  private final boolean stopOnFailure;
+
+  private final CompletableFuture<Void> completion = new CompletableFuture<>();
+  private final Queue<Outcome<I, T, A>> outcomes = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger drainRequests = new AtomicInteger();
+
+  // only accessed by the draining thread
+  private final Map<Long, Outcome<I, T, A>> pendingOutcomes = new HashMap<>();
+  private long nextSequence = 0;
+  private long nextToNotify = 0;
+  private int inFlight = 0;
+  private boolean exhausted = false;
+  private Throwable failure;
+
+  public OperationPipeline(Iterator<I> items,
+                           Function<I, CompletableFuture<Result<T, A>>> execution,
+                           PipelinedExecutionOptions options,
+                           PipelinedExecutionCallback<I, T, A> callback) {
+    this.items = items;
+    this.execution = execution;
+    this.callback = callback;
+    this.maxConcurrency = options.getMaxConcurrency();
+    this.ordered = options.isOrdered();
+    this.stopOnFailure = options.isStopOnFailure();
+  }
+
+  /**
+   * Starts executing the items
+   *
+   * @return a {@link CompletableFuture} which completes once the outcome of all the executions has been notified
+   */
+  public CompletableFuture<Void> start() {
+    drain();
+    return completion;
+  }
+
+  private void drain() {
+    if (drainRequests.getAndIncrement() != 0) {
+      return;
+    }
+
+    int requests = 1;
+    do {
+      notifyOutcomes();
+      submit();
+      complete();
+      requests = drainRequests.addAndGet(-requests);
+    } while (requests != 0);
+  }
+
+  private void notifyOutcomes() {
+    Outcome<I, T, A> outcome;
+    while ((outcome = outcomes.poll()) != null) {
+      if (ordered) {
+        pendingOutcomes.put(outcome.sequence, outcome);
+      } else {
+        notifyOutcome(outcome);
+      }
+    }
+
+    if (ordered) {
+      while ((outcome = pendingOutcomes.remove(nextToNotify)) != null) {
+        nextToNotify++;
+        notifyOutcome(outcome);
+      }
+    }
+  }
+
+  private void notifyOutcome(Outcome<I, T, A> outcome) {
+    inFlight--;
+    try {
+      if (outcome.error == null) {
+        callback.onSuccess(outcome.item, outcome.result);
+      } else {
+        callback.onFailure(outcome.item, outcome.error);
+      }
+    } catch (Throwable t) {
+      fail(t);
+      return;
+    }
+
+    if (outcome.error != null && stopOnFailure) {
+      fail(outcome.error);
+    }
+  }
+
+  private void submit() {
+    while (!exhausted && failure == null && inFlight < maxConcurrency) {
+      I item;
+      try {
+        if (!items.hasNext()) {
+          exhausted = true;
+          return;
+        }
+        item = items.next();
+      } catch (Throwable t) {
+        fail(t);
+        return;
+      }
+
+      long sequence = nextSequence++;
+      inFlight++;
+
+      CompletableFuture<Result<T, A>> future;
+      try {
+        future = execution.apply(item);
+      } catch (Throwable t) {
+        future = new CompletableFuture<>();
+        future.completeExceptionally(t);
+      }
+
+      future.whenComplete((result, error) -> {
+        outcomes.add(new Outcome<>(sequence, item, result, error));
+        drain();
+      });
+    }
+  }
+
+  private void complete() {
+    if (inFlight == 0 && (exhausted || failure != null) && !completion.isDone()) {
+      if (failure != null) {
+        completion.completeExceptionally(failure);
+      } else {
+        completion.complete(null);
+      }
+    }
+  }
+
+  private void fail(Throwable t) {
+    if (failure == null) {
+      failure = t;
+    }
+  }
+
+  private static final class Outcome<I, T, A> {
+
+    private final long sequence;
+    private final I item;
+    private final Result<T, A> result;
+    private final Throwable error;
+
+    private Outcome(long sequence, I item, Result<T, A> result, Throwable error) {
+      this.sequence = sequence;
+      this.item = item;
+      this.result = result;
+      this.error = error;
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsl;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.meta.NamedObject;
+import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.api.util.LazyValue;
+import org.mule.runtime.extension.api.dsl.syntax.DslElementSyntax;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+
+import java.lang.ref.WeakReference;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Thread-safe {@link DslSyntaxResolver} which memoizes the results of a delegate.
+ * <p>
+ * Results are kept in a {@link ResolutionCache}, which may be shared by many instances. They are keyed by the identity of the
+ * resolved component, parameter, type or group, which are weakly referenced. Each kind of result is bounded to
+ * {@link #MAX_ENTRIES}. Cached results are served without locking. On a miss, the delegate is invoked while holding its monitor,
+ * since the default implementation is not thread-safe.
+ * <p>
+ * The delegate is only obtained on the first miss.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class CachingDslSyntaxResolver implements DslSyntaxResolver {
+
+  static final long MAX_ENTRIES = 10_000;
+
+  private final ResolutionCache cache;
+  private final LazyValue<DslSyntaxResolver> delegate;
+
+  public CachingDslSyntaxResolver(DslSyntaxResolver delegate) {
+    this(new ResolutionCache(), () -> delegate);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param cache           the {@link ResolutionCache} in which results are kept
+   * @param delegateFactory creates the delegate, if the {@code cache} doesn't already hold one that is still in use
+   */
+  public CachingDslSyntaxResolver(ResolutionCache cache, Supplier<DslSyntaxResolver> delegateFactory) {
+    this.cache = cache;
+    this.delegate = new LazyValue<>(() -> cache.delegate(delegateFactory));
+  }
+
+  @Override
+  public DslElementSyntax resolve(NamedObject component) {
+    return resolve(cache.components, component, c -> delegate.get().resolve(c));
+  }
+
+  @Override
+  public DslElementSyntax resolve(ParameterModel parameter) {
+    return resolve(cache.parameters, parameter, p -> delegate.get().resolve(p));
+  }
+
+  @Override
+  public Optional<DslElementSyntax> resolve(MetadataType type) {
+    return resolve(cache.types, type, t -> delegate.get().resolve(t));
+  }
+
+  @Override
+  public DslElementSyntax resolveInline(ParameterGroupModel group) {
+    return resolve(cache.inlineGroups, group, g -> delegate.get().resolveInline(g));
+  }
+
+  private <K, V> V resolve(Cache<K, V> cache, K key, Function<K, V> resolver) {
+    V value = cache.getIfPresent(key);
+    if (value == null) {
+      final DslSyntaxResolver resolverDelegate = delegate.get();
+      synchronized (resolverDelegate) {
+        value = cache.get(key, resolver);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * The results memoized by one or more {@link CachingDslSyntaxResolver}s resolving the same model in the same context.
+   * <p>
+   * It never holds a strong reference to the delegate, which in turn references the resolved model and context, so that a
+   * {@link ResolutionCache} associated to a model doesn't keep it from being collected. The delegate is only reused while a
+   * resolver still references it.
+   *
+   * @since 1.10
+   */
+  public static final class ResolutionCache {
+
+    private final Cache<NamedObject, DslElementSyntax> components = newCache();
+    private final Cache<ParameterModel, DslElementSyntax> parameters = newCache();
+    private final Cache<MetadataType, Optional<DslElementSyntax>> types = newCache();
+    private final Cache<ParameterGroupModel, DslElementSyntax> inlineGroups = newCache();
+
+    private WeakReference<DslSyntaxResolver> delegate = new WeakReference<>(null);
+
+    private static <K, V> Cache<K, V> newCache() {
+      return newBuilder().weakKeys().maximumSize(MAX_ENTRIES).build();
+    }
+
+    /**
+     * @param delegateFactory creates a new delegate
+     * @return the delegate in use by the resolvers of this cache, or a new one if none is in use
+     */
+    public synchronized DslSyntaxResolver delegate(Supplier<DslSyntaxResolver> delegateFactory) {
+      DslSyntaxResolver current = delegate.get();
+      if (current == null) {
+        current = delegateFactory.get();
+        delegate = new WeakReference<>(current);
+      }
+      return current;
+    }
+  }
+}
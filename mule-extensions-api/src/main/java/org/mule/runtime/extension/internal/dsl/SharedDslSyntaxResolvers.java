@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsl;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
+import org.mule.runtime.api.dsl.DslResolvingContext;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.dsl.syntax.XmlDslSyntaxResolver;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.SingleExtensionImportTypesStrategy;
+import org.mule.runtime.extension.internal.dsl.CachingDslSyntaxResolver.ResolutionCache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Registry of the {@link ResolutionCache}s shared by all the {@link CachingDslSyntaxResolver}s which resolve the DSL of a given
+ * {@link ExtensionModel}.
+ * <p>
+ * Entries are weakly keyed by the {@link ExtensionModel} instance and, for a given {@link DslResolvingContext}, weakly keyed by
+ * the context instance. The cached values never reference their keys: only the returned resolvers hold the model and the
+ * context. So an entry lives for as long as its model is reachable from elsewhere, and is dropped with it. The amount of models
+ * tracked at any time is also bounded.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class SharedDslSyntaxResolvers {
+
+  private static final long MAX_MODELS = 512;
+
+  private static final Cache<ExtensionModel, ModelResolutionCaches> CACHES =
+      newBuilder().weakKeys().maximumSize(MAX_MODELS).build();
+
+  private SharedDslSyntaxResolvers() {}
+
+  /**
+   * Returns a resolver for the given {@code model} which shares its results with the other resolvers of the same model, and
+   * resolves imported types as described by {@link SingleExtensionImportTypesStrategy}.
+   *
+   * @param model the {@link ExtensionModel} which DSL is to be resolved
+   * @return a thread-safe {@link DslSyntaxResolver}
+   */
+  public static DslSyntaxResolver get(ExtensionModel model) {
+    return new CachingDslSyntaxResolver(cachesOf(model).singleExtension,
+                                        () -> new XmlDslSyntaxResolver(model, new SingleExtensionImportTypesStrategy()));
+  }
+
+  /**
+   * Returns a resolver for the given {@code model} within the given {@code context}, which shares its results with the other
+   * resolvers of the same model and context.
+   *
+   * @param model   the {@link ExtensionModel} which DSL is to be resolved
+   * @param context the {@link DslResolvingContext} in which the resolution takes place
+   * @return a thread-safe {@link DslSyntaxResolver}
+   * @throws IllegalArgumentException in the same cases as
+   *                                  {@link DslSyntaxResolver#getDefault(ExtensionModel, DslResolvingContext)}
+   */
+  public static DslSyntaxResolver get(ExtensionModel model, DslResolvingContext context) {
+    ResolutionCache cache = cachesOf(model).byContext.get(context, ctx -> new ResolutionCache());
+    // obtained eagerly, so that an invalid context fails right away
+    DslSyntaxResolver delegate = cache.delegate(() -> new XmlDslSyntaxResolver(model, context));
+    return new CachingDslSyntaxResolver(cache, () -> delegate);
+  }
+
+  private static ModelResolutionCaches cachesOf(ExtensionModel model) {
+    return CACHES.get(model, m -> new ModelResolutionCaches());
+  }
+
+  private static final class ModelResolutionCaches {
+
+    private final ResolutionCache singleExtension = new ResolutionCache();
+    private final Cache<DslResolvingContext, ResolutionCache> byContext = newBuilder().weakKeys().build();
+  }
+}
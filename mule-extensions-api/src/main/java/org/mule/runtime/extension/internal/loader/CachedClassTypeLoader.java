@@ -8,6 +8,7 @@ package org.mule.runtime.extension.internal.loader;
 
 import static org.mule.metadata.java.api.utils.ClassUtils.getInnerClassName;
 
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
@@ -19,16 +20,31 @@ import org.mule.metadata.api.model.MetadataType;
 import org.mule.metadata.api.utils.MetadataTypeUtils;
 
 import java.lang.reflect.Type;
-import java.util.Map;
 import java.util.Optional;
-import java.util.WeakHashMap;
 
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Thread-safe {@link ClassTypeLoader} which memoizes the types loaded by a delegate, both by {@link Type} and by type
+ * identifier.
+ * <p>
+ * Each kind of entry is bounded to {@link #MAX_ENTRIES}. Cached types are served without locking. On a miss, the delegate is
+ * invoked while holding its monitor, since it is not guaranteed to be thread-safe.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ */
 public class CachedClassTypeLoader implements ClassTypeLoader {
 
+  static final long MAX_ENTRIES = 10_000;
+
   private final ClassTypeLoader classTypeLoader;
 
-  private final Map<String, Optional<MetadataType>> typeIdentifierMetadataTypeMap = new WeakHashMap<>();
-  private final Map<Type, MetadataType> typeMetadataTypeMap = new WeakHashMap<>();
+  private final Cache<String, Optional<MetadataType>> typeIdentifierMetadataTypeMap = newCache();
+  private final Cache<Type, MetadataType> typeMetadataTypeMap = newCache();
+
+  private static <K, V> Cache<K, V> newCache() {
+    return newBuilder().maximumSize(MAX_ENTRIES).recordStats().build();
+  }
 
   public CachedClassTypeLoader(ClassTypeLoader classTypeLoader) {
     requireNonNull(classTypeLoader, "classTypeLoader cannot be null");
@@ -38,8 +54,16 @@ public class CachedClassTypeLoader implements ClassTypeLoader {
 
   @Override
   public Optional<MetadataType> load(String typeIdentifier) {
-    return typeIdentifierMetadataTypeMap.computeIfAbsent(typeIdentifier,
-                                                         this::doLoad);
+    Optional<MetadataType> metadataType = typeIdentifierMetadataTypeMap.getIfPresent(typeIdentifier);
+    if (metadataType == null) {
+      // not computed within the cache, since loading the type registers its identifier
+      metadataType = doLoad(typeIdentifier);
+      Optional<MetadataType> previous = typeIdentifierMetadataTypeMap.asMap().putIfAbsent(typeIdentifier, metadataType);
+      if (previous != null) {
+        metadataType = previous;
+      }
+    }
+    return metadataType;
   }
 
   private Optional<MetadataType> doLoad(String typeIdentifier) {
@@ -65,14 +89,17 @@ public class CachedClassTypeLoader implements ClassTypeLoader {
 
   @Override
   public MetadataType load(Type type) {
-    return typeMetadataTypeMap.computeIfAbsent(type, k -> {
-      final MetadataType metadataType = classTypeLoader.load(k);
-
-      MetadataTypeUtils.getTypeId(metadataType)
-          .ifPresent(t -> typeIdentifierMetadataTypeMap.put(t, of(metadataType)));
+    MetadataType metadataType = typeMetadataTypeMap.getIfPresent(type);
+    if (metadataType == null) {
+      synchronized (classTypeLoader) {
+        metadataType = typeMetadataTypeMap.asMap().computeIfAbsent(type, classTypeLoader::load);
+      }
 
-      return metadataType;
-    });
+      final MetadataType loaded = metadataType;
+      MetadataTypeUtils.getTypeId(loaded)
+          .ifPresent(t -> typeIdentifierMetadataTypeMap.asMap().putIfAbsent(t, of(loaded)));
+    }
+    return metadataType;
   }
 
   @Override
@@ -80,4 +107,27 @@ public class CachedClassTypeLoader implements ClassTypeLoader {
     return classTypeLoader.getClassLoader();
   }
 
+  /**
+   * @return the amount of lookups, either by {@link Type} or by identifier, which found a cached type
+   * @since 1.10
+   */
+  public long getHitCount() {
+    return typeMetadataTypeMap.stats().hitCount() + typeIdentifierMetadataTypeMap.stats().hitCount();
+  }
+
+  /**
+   * @return the amount of lookups, either by {@link Type} or by identifier, which required loading the type
+   * @since 1.10
+   */
+  public long getMissCount() {
+    return typeMetadataTypeMap.stats().missCount() + typeIdentifierMetadataTypeMap.stats().missCount();
+  }
+
+  /**
+   * @return the amount of cached types which were evicted to keep the cache within its bounds
+   * @since 1.10
+   */
+  public long getEvictionCount() {
+    return typeMetadataTypeMap.stats().evictionCount() + typeIdentifierMetadataTypeMap.stats().evictionCount();
+  }
 }
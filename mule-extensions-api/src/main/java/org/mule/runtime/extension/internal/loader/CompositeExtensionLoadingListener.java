@@ -0,0 +1,135 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import static java.lang.System.nanoTime;
+import static java.time.Duration.ofNanos;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.extension.api.loader.DeclarationEnricher;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingListener;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingPhase;
+import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+
+/**
+ * {@link ExtensionLoadingListener} which notifies the listeners of an {@link ExtensionLoadingContext}, isolating the loading
+ * from their failures.
+ * <p>
+ * Callers are expected to check {@link #isEnabled()} before measuring anything, so that loading an extension without listeners
+ * doesn't pay for it.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class CompositeExtensionLoadingListener implements ExtensionLoadingListener {
+
+  private static final Logger LOGGER = getLogger(CompositeExtensionLoadingListener.class);
+
+  private final List<ExtensionLoadingListener> listeners;
+
+  /**
+   * @param context an {@link ExtensionLoadingContext}
+   * @return a listener which notifies the {@link ExtensionLoadingContext#getLoadingListeners()} of the given {@code context}
+   */
+  public static CompositeExtensionLoadingListener of(ExtensionLoadingContext context) {
+    return new CompositeExtensionLoadingListener(context.getLoadingListeners());
+  }
+
+  private CompositeExtensionLoadingListener(List<ExtensionLoadingListener> listeners) {
+    this.listeners = listeners;
+  }
+
+  /**
+   * @return whether there is any listener to notify
+   */
+  public boolean isEnabled() {
+    return !listeners.isEmpty();
+  }
+
+  /**
+   * Runs the given {@code task} as the given {@code phase}, notifying its start and end if {@link #isEnabled() enabled}.
+   *
+   * @param context the {@link ExtensionLoadingContext} of the extension being loaded
+   * @param phase   the {@link ExtensionLoadingPhase} performed by the {@code task}
+   * @param task    the task to run
+   */
+  public void measure(ExtensionLoadingContext context, ExtensionLoadingPhase phase, Runnable task) {
+    measure(context, phase, () -> {
+      task.run();
+      return null;
+    });
+  }
+
+  /**
+   * Runs the given {@code task} as the given {@code phase}, notifying its start and end if {@link #isEnabled() enabled}.
+   *
+   * @param context the {@link ExtensionLoadingContext} of the extension being loaded
+   * @param phase   the {@link ExtensionLoadingPhase} performed by the {@code task}
+   * @param task    the task to run
+   * @param <T>     the generic type of the result of the {@code task}
+   * @return the result of the {@code task}
+   */
+  public <T> T measure(ExtensionLoadingContext context, ExtensionLoadingPhase phase, Supplier<T> task) {
+    if (!isEnabled()) {
+      return task.get();
+    }
+
+    onPhaseStarted(context, phase);
+    final long start = nanoTime();
+    try {
+      return task.get();
+    } finally {
+      onPhaseFinished(context, phase, ofNanos(nanoTime() - start));
+    }
+  }
+
+  @Override
+  public void onPhaseStarted(ExtensionLoadingContext context, ExtensionLoadingPhase phase) {
+    notifyListeners(l -> l.onPhaseStarted(context, phase));
+  }
+
+  @Override
+  public void onPhaseFinished(ExtensionLoadingContext context, ExtensionLoadingPhase phase, Duration duration) {
+    notifyListeners(l -> l.onPhaseFinished(context, phase, duration));
+  }
+
+  @Override
+  public void onEnricherApplied(ExtensionLoadingContext context, DeclarationEnricher enricher, Duration duration) {
+    notifyListeners(l -> l.onEnricherApplied(context, enricher, duration));
+  }
+
+  @Override
+  public void onValidatorApplied(ExtensionLoadingContext context, ExtensionModelValidator validator, Duration duration) {
+    notifyListeners(l -> l.onValidatorApplied(context, validator, duration));
+  }
+
+  @Override
+  public void onWalkFinished(ExtensionLoadingContext context, ExtensionLoadingPhase phase, long visitedNodes,
+                             Duration duration) {
+    notifyListeners(l -> l.onWalkFinished(context, phase, visitedNodes, duration));
+  }
+
+  private void notifyListeners(Consumer<ExtensionLoadingListener> notification) {
+    for (ExtensionLoadingListener listener : listeners) {
+      try {
+        notification.accept(listener);
+      } catch (RuntimeException e) {
+        LOGGER.warn("Extension loading listener " + listener + " failed", e);
+      }
+    }
+  }
+}
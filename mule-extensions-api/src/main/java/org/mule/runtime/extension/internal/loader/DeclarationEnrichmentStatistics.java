@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclaration;
+import org.mule.runtime.extension.api.loader.DeclarationEnricher;
+import org.mule.runtime.extension.api.loader.DeclarationEnricherPhase;
+
+/**
+ * Measures the work performed by the {@link ExtensionModelFactory} while applying the {@link DeclarationEnricher}s to an
+ * {@link ExtensionDeclaration}.
+ * <p>
+ * A walk is a full traversal of the declaration tree, shared by all the walk delegates of the same
+ * {@link DeclarationEnricherPhase}. A visit is each node of the tree reached by a walk, such as a configuration, an operation or
+ * a parameter.
+ * <p>
+ * Only the shared walks are measured. The enrichers which are applied on their own, such as the ones which are not
+ * {@link org.mule.runtime.extension.api.loader.WalkingDeclarationEnricher}s or the aggregator enrichers, may walk the declaration
+ * internally, but those walks and their visits are not counted, since they are opaque to the {@link ExtensionModelFactory}.
+ * Those enrichers are only reflected in {@link #getEnricherCount()}.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class DeclarationEnrichmentStatistics {
+
+  private int walkCount;
+  private long visitCount;
+  private int enricherCount;
+
+  void walked() {
+    walkCount++;
+  }
+
+  void visited() {
+    visitCount++;
+  }
+
+  void enriched() {
+    enricherCount++;
+  }
+
+  /**
+   * @return the amount of shared walks of the declaration tree, not including the ones performed internally by enrichers which
+   *         are applied on their own
+   */
+  public int getWalkCount() {
+    return walkCount;
+  }
+
+  /**
+   * @return the total amount of nodes of the declaration tree visited across all the shared walks
+   */
+  public long getVisitCount() {
+    return visitCount;
+  }
+
+  /**
+   * @return the amount of {@link DeclarationEnricher}s which were applied, either through a walk or on their own
+   */
+  public int getEnricherCount() {
+    return enricherCount;
+  }
+
+  @Override
+  public String toString() {
+    return "enrichers: " + enricherCount + ", walks: " + walkCount + ", visits: " + visitCount;
+  }
+}
@@ -10,6 +10,7 @@ import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
 import static org.mule.runtime.extension.internal.ocs.PlatformManagedOAuthUtils.isPlatformManagedOAuthEnabled;
 
+import static java.lang.Thread.currentThread;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Optional.ofNullable;
 
@@ -20,6 +21,7 @@ import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclarer;
 import org.mule.runtime.extension.api.declaration.type.ExtensionsTypeLoaderFactory;
 import org.mule.runtime.extension.api.loader.DeclarationEnricher;
 import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingListener;
 import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
 import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
 
@@ -65,7 +67,9 @@ public final class DefaultExtensionLoadingContext implements ExtensionLoadingCon
     checkArgument(request != null, "request cannot be null");
 
     this.extensionDeclarer = extensionDeclarer;
-    this.typeLoader = new CachedClassTypeLoader(ExtensionsTypeLoaderFactory.getDefault().createTypeLoader());
+    this.typeLoader = request.isShareTypeLoaders()
+        ? SharedClassTypeLoaders.get(currentThread().getContextClassLoader())
+        : new CachedClassTypeLoader(ExtensionsTypeLoaderFactory.getDefault().createTypeLoader());
 
     customParameters = new HashMap<>(request.getParameters());
     this.request = request;
@@ -186,6 +190,11 @@ public final class DefaultExtensionLoadingContext implements ExtensionLoadingCon
     return request.isResolveMinMuleVersion();
   }
 
+  @Override
+  public boolean isCanonicalizeModel() {
+    return request.isCanonicalizeModel();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -218,4 +227,12 @@ public final class DefaultExtensionLoadingContext implements ExtensionLoadingCon
     return unmodifiableList(validators);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<ExtensionLoadingListener> getLoadingListeners() {
+    return request.getLoadingListeners();
+  }
+
 }
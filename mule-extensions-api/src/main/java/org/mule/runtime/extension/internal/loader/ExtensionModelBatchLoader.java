@@ -0,0 +1,166 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import static java.lang.System.nanoTime;
+import static java.time.Duration.ofNanos;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Optional.ofNullable;
+import static java.util.concurrent.CompletableFuture.allOf;
+
+import org.mule.runtime.api.dsl.DslResolvingContext;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.type.TypeCatalog;
+import org.mule.runtime.api.util.LazyValue;
+import org.mule.runtime.extension.api.loader.ExtensionModelBatchLoadingRequest;
+import org.mule.runtime.extension.api.loader.ExtensionModelBatchLoadingRequest.Entry;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingResult;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Loads the extensions of an {@link ExtensionModelBatchLoadingRequest}.
+ * <p>
+ * Each extension is loaded in the executor of the batch as soon as all the extensions it depends on are loaded. The
+ * {@link ExtensionModelLoadingRequest} of an extension with dependencies in the batch is copied with a
+ * {@link DslResolvingContext} which extends its own with the {@link ExtensionModel}s of those dependencies, including the
+ * transitive ones. If loading an extension fails, so does the loading of all the extensions which depend on it.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class ExtensionModelBatchLoader {
+
+  private ExtensionModelBatchLoader() {}
+
+  /**
+   * Starts loading all the extensions of the given {@code batch}
+   *
+   * @param batch the extensions to load
+   * @return a future of the result of each extension, keyed by the extension's key, in dependency order
+   */
+  public static Map<String, CompletableFuture<ExtensionModelLoadingResult>> load(ExtensionModelBatchLoadingRequest batch) {
+    Map<String, Entry> entries = new LinkedHashMap<>();
+    Map<String, CompletableFuture<ExtensionModelLoadingResult>> results = new LinkedHashMap<>();
+
+    // nothing starts until all the futures are created, so that the maps are not read while being populated
+    CompletableFuture<Void> start = new CompletableFuture<>();
+
+    // entries are sorted, so the futures of the dependencies are always created first
+    for (Entry entry : batch.getEntries()) {
+      entries.put(entry.getKey(), entry);
+
+      List<CompletableFuture<ExtensionModelLoadingResult>> dependencies = new ArrayList<>();
+      for (String dependency : entry.getDependencies()) {
+        CompletableFuture<ExtensionModelLoadingResult> result = results.get(dependency);
+        if (result != null) {
+          dependencies.add(result);
+        }
+      }
+
+      CompletableFuture<ExtensionModelLoadingResult> result;
+      if (dependencies.isEmpty()) {
+        result = start.thenApplyAsync(v -> load(entry, entry.getRequest()), batch.getExecutor());
+      } else {
+        result = allOf(dependencies.toArray(new CompletableFuture[dependencies.size()]))
+            .thenApplyAsync(v -> load(entry, withDependencies(entry, entries, results)), batch.getExecutor());
+      }
+      results.put(entry.getKey(), result);
+    }
+
+    start.complete(null);
+    return unmodifiableMap(results);
+  }
+
+  private static ExtensionModelLoadingResult load(Entry entry, ExtensionModelLoadingRequest request) {
+    long start = nanoTime();
+    ExtensionModel extensionModel = entry.getLoader().loadExtensionModel(request);
+    return new ExtensionModelLoadingResult(entry.getKey(), extensionModel, ofNanos(nanoTime() - start));
+  }
+
+  private static ExtensionModelLoadingRequest withDependencies(Entry entry, Map<String, Entry> entries,
+                                                               Map<String, CompletableFuture<ExtensionModelLoadingResult>> results) {
+    DslResolvingContext context = entry.getRequest().getDslResolvingContext();
+    Set<ExtensionModel> dependencies = new LinkedHashSet<>();
+    collectDependencies(entry, entries, results, new LinkedHashSet<>(), dependencies);
+    dependencies.removeIf(dependency -> context.getExtension(dependency.getName()).isPresent());
+
+    if (dependencies.isEmpty()) {
+      return entry.getRequest();
+    }
+    return ExtensionModelLoadingRequest.builder(entry.getRequest(), new DependenciesDslResolvingContext(context, dependencies))
+        .build();
+  }
+
+  private static void collectDependencies(Entry entry, Map<String, Entry> entries,
+                                          Map<String, CompletableFuture<ExtensionModelLoadingResult>> results,
+                                          Set<String> visited, Set<ExtensionModel> extensions) {
+    for (String dependency : entry.getDependencies()) {
+      Entry dependencyEntry = entries.get(dependency);
+      if (dependencyEntry != null && visited.add(dependency)) {
+        // already completed, since this extension waited for all its direct dependencies
+        extensions.add(results.get(dependency).join().getExtensionModel());
+        collectDependencies(dependencyEntry, entries, results, visited, extensions);
+      }
+    }
+  }
+
+  /**
+   * A {@link DslResolvingContext} which extends the one of the caller with the {@link ExtensionModel}s of the dependencies loaded
+   * in the batch. The extensions of the caller's context take precedence, and its type catalog is replaced by one which also
+   * contains the types of the dependencies.
+   */
+  private static final class DependenciesDslResolvingContext implements DslResolvingContext {
+
+    private final DslResolvingContext delegate;
+    private final Map<String, ExtensionModel> dependencies = new LinkedHashMap<>();
+    private final Set<ExtensionModel> extensions;
+    private final LazyValue<TypeCatalog> typeCatalog;
+
+    private DependenciesDslResolvingContext(DslResolvingContext delegate, Set<ExtensionModel> dependencies) {
+      this.delegate = delegate;
+      dependencies.forEach(dependency -> this.dependencies.put(dependency.getName(), dependency));
+
+      Set<ExtensionModel> extensions = new LinkedHashSet<>(delegate.getExtensions());
+      extensions.addAll(dependencies);
+      this.extensions = unmodifiableSet(extensions);
+      this.typeCatalog = new LazyValue<>(() -> TypeCatalog.getDefault(this.extensions));
+    }
+
+    @Override
+    public Optional<ExtensionModel> getExtension(String name) {
+      Optional<ExtensionModel> extension = delegate.getExtension(name);
+      return extension.isPresent() ? extension : ofNullable(dependencies.get(name));
+    }
+
+    @Override
+    public Optional<ExtensionModel> getExtensionForType(String typeId) {
+      Optional<ExtensionModel> extension = delegate.getExtensionForType(typeId);
+      return extension.isPresent() ? extension : getTypeCatalog().getDeclaringExtension(typeId).flatMap(this::getExtension);
+    }
+
+    @Override
+    public Set<ExtensionModel> getExtensions() {
+      return extensions;
+    }
+
+    @Override
+    public TypeCatalog getTypeCatalog() {
+      return typeCatalog.get();
+    }
+  }
+}
@@ -12,6 +12,9 @@ import static org.mule.runtime.api.meta.ExpressionSupport.REQUIRED;
 import static org.mule.runtime.api.meta.model.parameter.ParameterGroupModel.DEFAULT_GROUP_NAME;
 import static org.mule.runtime.api.util.MuleSystemProperties.isTestingMode;
 import static org.mule.runtime.extension.api.ExtensionConstants.DEFAULT_SUPPORTED_JAVA_VERSIONS;
+import static org.mule.runtime.extension.api.loader.ExtensionLoadingPhase.ENRICHMENT;
+import static org.mule.runtime.extension.api.loader.ExtensionLoadingPhase.MODEL_CREATION;
+import static org.mule.runtime.extension.api.loader.ExtensionLoadingPhase.VALIDATION;
 import static org.mule.runtime.extension.api.stereotype.MuleStereotypes.CONFIG;
 import static org.mule.runtime.extension.api.stereotype.MuleStereotypes.CONNECTION;
 import static org.mule.runtime.extension.api.stereotype.MuleStereotypes.PROCESSOR;
@@ -19,16 +22,23 @@ import static org.mule.runtime.extension.api.stereotype.MuleStereotypes.SOURCE;
 import static org.mule.runtime.extension.api.util.ExtensionMetadataTypeUtils.getId;
 import static org.mule.runtime.extension.api.util.NameUtils.alphaSortDescribedList;
 
+import static java.lang.Boolean.getBoolean;
 import static java.lang.String.format;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.time.Duration.ofNanos;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Comparator.comparing;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.runAsync;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 import static com.google.common.collect.ImmutableSet.of;
+import static org.slf4j.LoggerFactory.getLogger;
 
 import org.mule.metadata.api.builder.BaseTypeBuilder;
 import org.mule.metadata.api.model.ObjectType;
@@ -75,7 +85,6 @@ import org.mule.runtime.api.meta.model.source.SourceCallbackModel;
 import org.mule.runtime.api.meta.model.source.SourceModel;
 import org.mule.runtime.api.meta.model.stereotype.StereotypeModel;
 import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
-import org.mule.runtime.extension.api.dsl.syntax.resolver.SingleExtensionImportTypesStrategy;
 import org.mule.runtime.extension.api.exception.IllegalModelDefinitionException;
 import org.mule.runtime.extension.api.exception.IllegalParameterModelDefinitionException;
 import org.mule.runtime.extension.api.loader.DeclarationEnricher;
@@ -83,6 +92,8 @@ import org.mule.runtime.extension.api.loader.DeclarationEnricherPhase;
 import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
 import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
 import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator.ExtensionModelValidatorWalkDelegate;
 import org.mule.runtime.extension.api.loader.WalkingDeclarationEnricher;
 import org.mule.runtime.extension.api.loader.WalkingDeclarationEnricher.DeclarationEnricherWalkDelegate;
 import org.mule.runtime.extension.api.model.ImmutableExtensionModel;
@@ -132,6 +143,7 @@ import org.mule.runtime.extension.internal.loader.validator.ConfigurationModelVa
 import org.mule.runtime.extension.internal.loader.validator.ConnectionProviderNameModelValidator;
 import org.mule.runtime.extension.internal.loader.validator.ContentParameterModelValidator;
 import org.mule.runtime.extension.internal.loader.validator.ExclusiveParameterModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.ExtensionModelValidatorWalker;
 import org.mule.runtime.extension.internal.loader.validator.FunctionModelValidator;
 import org.mule.runtime.extension.internal.loader.validator.NameClashModelValidator;
 import org.mule.runtime.extension.internal.loader.validator.NameModelValidator;
@@ -141,15 +153,17 @@ import org.mule.runtime.extension.internal.loader.validator.ParameterModelValida
 import org.mule.runtime.extension.internal.loader.validator.SubtypesModelValidator;
 import org.mule.runtime.extension.internal.loader.validator.TransactionalParametersValidator;
 import org.mule.runtime.extension.internal.loader.validator.ValidatorModelValidator;
+import org.mule.runtime.extension.internal.util.ModelCanonicalizationUtils;
 import org.mule.runtime.extension.privileged.loader.ProblemsHandler;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 
@@ -158,6 +172,8 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 
+import org.slf4j.Logger;
+
 /**
  * A factory that can take an {@link ExtensionDeclarer} and transform it into an actual {@link ExtensionModel}.
  * <p>
@@ -172,11 +188,33 @@ import com.google.common.util.concurrent.UncheckedExecutionException;
 public final class ExtensionModelFactory {
 
   public static final String PROBLEMS_HANDLER = "PROBLEMS_HANDLER";
+
+  /**
+   * Key of the parameter of the {@link ExtensionLoadingContext} in which the {@link DeclarationEnrichmentStatistics} of the
+   * enrichment of the declaration are made available once the {@link ExtensionModel} is created.
+   *
+   * @since 1.10
+   */
+  public static final String ENRICHMENT_STATISTICS = "ENRICHMENT_STATISTICS";
+
+  private static final Logger LOGGER = getLogger(ExtensionModelFactory.class);
+
+  /**
+   * System property which, when set to {@code true}, makes the validators run concurrently on the common
+   * {@link java.util.concurrent.ForkJoinPool}. All the {@link WalkingExtensionModelValidator}s are applied together on a single
+   * walk, and each of the remaining validators is applied on its own. All of them share the same thread-safe
+   * {@link DslSyntaxResolver}.
+   *
+   * @since 1.10
+   */
+  public static final String PARALLEL_VALIDATION_PROPERTY = "mule.extensions.validation.parallel";
+
   private static final String AGGREGATORS_PACKAGE = "org.mule.extension.aggregator";
 
   private final List<DeclarationEnricher> declarationEnrichers;
   private final List<ExtensionModelValidator> extensionModelValidators;
   private final boolean testingMode;
+  private final boolean parallelValidation;
 
   public ExtensionModelFactory() {
     declarationEnrichers = unmodifiableList(asList(
@@ -219,10 +257,10 @@ public final class ExtensionModelFactory {
                                                        new NameModelValidator(),
                                                        new BackPressureModelValidator(),
                                                        new NoWrapperModelValidator(),
-                                                       new ConnectionProviderNameModelValidator(),
                                                        new ConfigurationModelValidator()));
 
     testingMode = isTestingMode();
+    parallelValidation = getBoolean(PARALLEL_VALIDATION_PROPERTY);
   }
 
   /**
@@ -233,15 +271,19 @@ public final class ExtensionModelFactory {
    * @return an {@link ExtensionModel}
    */
   public ExtensionModel create(ExtensionLoadingContext extensionLoadingContext) {
+    final CompositeExtensionLoadingListener listener = CompositeExtensionLoadingListener.of(extensionLoadingContext);
 
-    enrichDeclaration(extensionLoadingContext);
+    listener.measure(extensionLoadingContext, ENRICHMENT, () -> enrichDeclaration(extensionLoadingContext, listener));
 
-    ExtensionModel extensionModel =
-        new FactoryDelegate().toExtension(extensionLoadingContext.getExtensionDeclarer().getDeclaration());
+    ExtensionModel extensionModel = listener.measure(extensionLoadingContext, MODEL_CREATION,
+                                                     () -> new FactoryDelegate(extensionLoadingContext.isCanonicalizeModel())
+                                                         .toExtension(extensionLoadingContext.getExtensionDeclarer()
+                                                             .getDeclaration()));
 
     if (shouldValidate(extensionLoadingContext)) {
       ProblemsReporter problemsReporter = new ProblemsReporter(extensionModel);
-      validate(extensionModel, problemsReporter, extensionLoadingContext);
+      listener.measure(extensionLoadingContext, VALIDATION,
+                       () -> validate(extensionModel, problemsReporter, extensionLoadingContext, listener));
       getProblemsHandler(extensionLoadingContext, extensionModel).handleProblems(problemsReporter);
     }
 
@@ -252,14 +294,135 @@ public final class ExtensionModelFactory {
     return testingMode || extensionLoadingContext.isForceExtensionValidation();
   }
 
+  /**
+   * Each validator reports on its own {@link ProblemsReporter}, which are then merged in the order in which the validators are
+   * registered. That way, problems are reported in the same order regardless of which validators are applied on the shared walk
+   * or concurrently.
+   */
   private void validate(ExtensionModel extensionModel, ProblemsReporter problemsReporter,
-                        ExtensionLoadingContext extensionLoadingContext) {
-    List<ExtensionModelValidator> validators = new LinkedList<>(extensionModelValidators);
+                        ExtensionLoadingContext extensionLoadingContext, CompositeExtensionLoadingListener listener) {
+    List<ExtensionModelValidator> validators = new ArrayList<>(extensionModelValidators);
     validators.addAll(extensionLoadingContext.getCustomValidators());
 
-    final DslSyntaxResolver dslSyntaxResolver = DslSyntaxResolver.getDefault(extensionModel,
-                                                                             new SingleExtensionImportTypesStrategy());
-    validators.forEach(v -> v.validate(extensionModel, dslSyntaxResolver, problemsReporter));
+    List<ValidatorProblems> allProblems = new ArrayList<>(validators.size());
+    List<ValidatorProblems> walkingValidators = new ArrayList<>(validators.size());
+    List<ValidatorProblems> otherValidators = new ArrayList<>(validators.size());
+    for (ExtensionModelValidator validator : validators) {
+      ValidatorProblems validatorProblems = new ValidatorProblems(validator, new ProblemsReporter(extensionModel));
+      allProblems.add(validatorProblems);
+      if (validator instanceof WalkingExtensionModelValidator) {
+        walkingValidators.add(validatorProblems);
+      } else {
+        otherValidators.add(validatorProblems);
+      }
+    }
+
+    final DslSyntaxResolver dslSyntaxResolver = DslSyntaxResolver.getShared(extensionModel);
+    if (parallelValidation) {
+      validateConcurrently(extensionModel, dslSyntaxResolver, walkingValidators, otherValidators, extensionLoadingContext,
+                           listener);
+    } else {
+      walkValidators(extensionModel, dslSyntaxResolver, walkingValidators, extensionLoadingContext, listener);
+      otherValidators.forEach(v -> applyValidator(v, extensionModel, dslSyntaxResolver, extensionLoadingContext, listener));
+    }
+
+    for (ValidatorProblems validatorProblems : allProblems) {
+      validatorProblems.reporter.getErrors().forEach(problemsReporter::addError);
+      validatorProblems.reporter.getWarnings().forEach(problemsReporter::addWarning);
+    }
+  }
+
+  private void applyValidator(ValidatorProblems validatorProblems, ExtensionModel extensionModel,
+                              DslSyntaxResolver dslSyntaxResolver, ExtensionLoadingContext extensionLoadingContext,
+                              CompositeExtensionLoadingListener listener) {
+    final ExtensionModelValidator validator = validatorProblems.validator;
+    if (!listener.isEnabled()) {
+      validator.validate(extensionModel, dslSyntaxResolver, validatorProblems.reporter);
+      return;
+    }
+
+    final long start = nanoTime();
+    try {
+      validator.validate(extensionModel, dslSyntaxResolver, validatorProblems.reporter);
+    } finally {
+      listener.onValidatorApplied(extensionLoadingContext, validator, ofNanos(nanoTime() - start));
+    }
+  }
+
+  private void walkValidators(ExtensionModel extensionModel, DslSyntaxResolver dslSyntaxResolver,
+                              List<ValidatorProblems> walkingValidators, ExtensionLoadingContext extensionLoadingContext,
+                              CompositeExtensionLoadingListener listener) {
+    List<ExtensionModelValidatorWalkDelegate> walkDelegates = new ArrayList<>(walkingValidators.size());
+    for (ValidatorProblems validatorProblems : walkingValidators) {
+      final ExtensionModelValidator validator = validatorProblems.validator;
+      final long start = listener.isEnabled() ? nanoTime() : 0;
+      Optional<ExtensionModelValidatorWalkDelegate> walkDelegate =
+          ((WalkingExtensionModelValidator) validator).getWalkDelegate(extensionModel, dslSyntaxResolver,
+                                                                       validatorProblems.reporter);
+
+      if (!listener.isEnabled()) {
+        walkDelegate.ifPresent(walkDelegates::add);
+      } else if (walkDelegate.isPresent()) {
+        walkDelegates.add(new TimedExtensionModelValidatorWalkDelegate(validator, walkDelegate.get(), nanoTime() - start));
+      } else {
+        listener.onValidatorApplied(extensionLoadingContext, validator, ofNanos(nanoTime() - start));
+      }
+    }
+
+    ExtensionModelValidatorWalker walker = new ExtensionModelValidatorWalker(walkDelegates);
+    if (!listener.isEnabled() || walkDelegates.isEmpty()) {
+      walker.validate(extensionModel);
+      return;
+    }
+
+    final long start = nanoTime();
+    walker.validate(extensionModel);
+    listener.onWalkFinished(extensionLoadingContext, VALIDATION, walker.getVisitCount(), ofNanos(nanoTime() - start));
+    for (ExtensionModelValidatorWalkDelegate walkDelegate : walkDelegates) {
+      TimedExtensionModelValidatorWalkDelegate timedDelegate = (TimedExtensionModelValidatorWalkDelegate) walkDelegate;
+      listener.onValidatorApplied(extensionLoadingContext, timedDelegate.getValidator(),
+                                  ofNanos(timedDelegate.getElapsedNanos()));
+    }
+  }
+
+  private void validateConcurrently(ExtensionModel extensionModel, DslSyntaxResolver dslSyntaxResolver,
+                                    List<ValidatorProblems> walkingValidators,
+                                    List<ValidatorProblems> otherValidators,
+                                    ExtensionLoadingContext extensionLoadingContext,
+                                    CompositeExtensionLoadingListener listener) {
+    final ClassLoader contextClassLoader = currentThread().getContextClassLoader();
+    List<CompletableFuture<Void>> tasks = new ArrayList<>(otherValidators.size() + 1);
+
+    tasks.add(runAsync(() -> withContextClassLoader(contextClassLoader,
+                                                     () -> walkValidators(extensionModel, dslSyntaxResolver,
+                                                                          walkingValidators, extensionLoadingContext,
+                                                                          listener))));
+    for (ValidatorProblems validatorProblems : otherValidators) {
+      tasks.add(runAsync(() -> withContextClassLoader(contextClassLoader,
+                                                       () -> applyValidator(validatorProblems, extensionModel,
+                                                                            dslSyntaxResolver, extensionLoadingContext,
+                                                                            listener))));
+    }
+
+    try {
+      allOf(tasks.toArray(new CompletableFuture[tasks.size()])).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private void withContextClassLoader(ClassLoader classLoader, Runnable task) {
+    final Thread thread = currentThread();
+    final ClassLoader originalClassLoader = thread.getContextClassLoader();
+    thread.setContextClassLoader(classLoader);
+    try {
+      task.run();
+    } finally {
+      thread.setContextClassLoader(originalClassLoader);
+    }
   }
 
   private void validateMuleVersion(ExtensionDeclaration extensionDeclaration) {
@@ -277,34 +440,50 @@ public final class ExtensionModelFactory {
     }
   }
 
-  private void enrichDeclaration(ExtensionLoadingContext extensionLoadingContext) {
+  private void enrichDeclaration(ExtensionLoadingContext extensionLoadingContext, CompositeExtensionLoadingListener listener) {
     final int enricherCount = declarationEnrichers.size() + extensionLoadingContext.getCustomDeclarationEnrichers().size();
     List<DeclarationEnricher> enrichers = new ArrayList<>(enricherCount);
     enrichers.addAll(extensionLoadingContext.getCustomDeclarationEnrichers());
     enrichers.addAll(declarationEnrichers);
     enrichers.sort(comparing(DeclarationEnricher::getExecutionPhase));
 
+    DeclarationEnrichmentStatistics statistics = new DeclarationEnrichmentStatistics();
     List<DeclarationEnricherWalkDelegate> walkDelegates = new ArrayList<>(enricherCount);
+    List<DeclarationEnricher> aggregatorEnrichers = new ArrayList<>();
 
     DeclarationEnricherPhase currentPhase = DeclarationEnricherPhase.values()[0];
     for (DeclarationEnricher enricher : enrichers) {
       DeclarationEnricherPhase enricherPhase = enricher.getExecutionPhase();
       if (currentPhase != enricherPhase) {
-        processEnricherWalkDelegates(extensionLoadingContext, walkDelegates);
+        applyEnrichersWithProxyDeclaration(extensionLoadingContext, aggregatorEnrichers, listener);
+        processEnricherWalkDelegates(extensionLoadingContext, walkDelegates, statistics, listener);
         walkDelegates.clear();
         currentPhase = enricherPhase;
       }
 
+      statistics.enriched();
+      if (isAggregatorEnricher(enricher) && !(enricher instanceof WalkingDeclarationEnricher)) {
+        // consecutive aggregator enrichers share the same proxy constructs
+        aggregatorEnrichers.add(enricher);
+        continue;
+      }
+
+      applyEnrichersWithProxyDeclaration(extensionLoadingContext, aggregatorEnrichers, listener);
       if (enricher instanceof WalkingDeclarationEnricher) {
-        ((WalkingDeclarationEnricher) enricher).getWalkDelegate(extensionLoadingContext).ifPresent(walkDelegates::add);
-      } else if (isAggregatorEnricher(enricher)) {
-        applyEnricherWithProxyDeclaration(extensionLoadingContext, enricher);
+        addWalkDelegate((WalkingDeclarationEnricher) enricher, walkDelegates, extensionLoadingContext, listener);
       } else {
-        enricher.enrich(extensionLoadingContext);
+        applyEnricher(enricher, extensionLoadingContext, listener);
       }
     }
 
-    processEnricherWalkDelegates(extensionLoadingContext, walkDelegates);
+    applyEnrichersWithProxyDeclaration(extensionLoadingContext, aggregatorEnrichers, listener);
+    processEnricherWalkDelegates(extensionLoadingContext, walkDelegates, statistics, listener);
+
+    extensionLoadingContext.addParameter(ENRICHMENT_STATISTICS, statistics);
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Enriched declaration of extension '{}' ({})",
+                   extensionLoadingContext.getExtensionDeclarer().getDeclaration().getName(), statistics);
+    }
   }
 
   /**
@@ -315,11 +494,52 @@ public final class ExtensionModelFactory {
    * 
    * @since 1.7
    */
-  private void applyEnricherWithProxyDeclaration(ExtensionLoadingContext extensionLoadingContext, DeclarationEnricher enricher) {
+  private void applyEnrichersWithProxyDeclaration(ExtensionLoadingContext extensionLoadingContext,
+                                                  List<DeclarationEnricher> enrichers,
+                                                  CompositeExtensionLoadingListener listener) {
+    if (enrichers.isEmpty()) {
+      return;
+    }
+
     final ExtensionDeclaration extensionDeclaration = extensionLoadingContext.getExtensionDeclarer().getDeclaration();
     List<ConstructDeclaration> oldConstructs = addRoutersAsProxyConstructs(extensionDeclaration);
-    enricher.enrich(extensionLoadingContext);
-    extensionDeclaration.setConstructs(oldConstructs);
+    try {
+      enrichers.forEach(enricher -> applyEnricher(enricher, extensionLoadingContext, listener));
+    } finally {
+      extensionDeclaration.setConstructs(oldConstructs);
+      enrichers.clear();
+    }
+  }
+
+  private void applyEnricher(DeclarationEnricher enricher, ExtensionLoadingContext extensionLoadingContext,
+                             CompositeExtensionLoadingListener listener) {
+    if (!listener.isEnabled()) {
+      enricher.enrich(extensionLoadingContext);
+      return;
+    }
+
+    final long start = nanoTime();
+    try {
+      enricher.enrich(extensionLoadingContext);
+    } finally {
+      listener.onEnricherApplied(extensionLoadingContext, enricher, ofNanos(nanoTime() - start));
+    }
+  }
+
+  private void addWalkDelegate(WalkingDeclarationEnricher enricher, List<DeclarationEnricherWalkDelegate> walkDelegates,
+                               ExtensionLoadingContext extensionLoadingContext, CompositeExtensionLoadingListener listener) {
+    if (!listener.isEnabled()) {
+      enricher.getWalkDelegate(extensionLoadingContext).ifPresent(walkDelegates::add);
+      return;
+    }
+
+    final long start = nanoTime();
+    Optional<DeclarationEnricherWalkDelegate> walkDelegate = enricher.getWalkDelegate(extensionLoadingContext);
+    if (walkDelegate.isPresent()) {
+      walkDelegates.add(new TimedDeclarationEnricherWalkDelegate(enricher, walkDelegate.get(), nanoTime() - start));
+    } else {
+      listener.onEnricherApplied(extensionLoadingContext, enricher, ofNanos(nanoTime() - start));
+    }
   }
 
   private boolean isAggregatorEnricher(DeclarationEnricher enricher) {
@@ -337,52 +557,77 @@ public final class ExtensionModelFactory {
   }
 
   private void processEnricherWalkDelegates(ExtensionLoadingContext extensionLoadingContext,
-                                            List<DeclarationEnricherWalkDelegate> walkDelegates) {
-    if (!walkDelegates.isEmpty()) {
-      new DeclarationWalker() {
+                                            List<DeclarationEnricherWalkDelegate> walkDelegates,
+                                            DeclarationEnrichmentStatistics statistics,
+                                            CompositeExtensionLoadingListener listener) {
+    if (walkDelegates.isEmpty()) {
+      return;
+    }
 
-        @Override
-        protected void onConfiguration(ConfigurationDeclaration declaration) {
-          walkDelegates.forEach(d -> d.onConfiguration(declaration));
-        }
+    final long start = listener.isEnabled() ? nanoTime() : 0;
+    final long previousVisitCount = statistics.getVisitCount();
+    statistics.walked();
+    new DeclarationWalker() {
 
-        @Override
-        protected void onOperation(WithOperationsDeclaration owner, OperationDeclaration declaration) {
-          walkDelegates.forEach(d -> d.onOperation(owner, declaration));
-        }
+      @Override
+      protected void onConfiguration(ConfigurationDeclaration declaration) {
+        statistics.visited();
+        walkDelegates.forEach(d -> d.onConfiguration(declaration));
+      }
 
-        @Override
-        protected void onFunction(WithFunctionsDeclaration owner, FunctionDeclaration declaration) {
-          walkDelegates.forEach(d -> d.onFunction(owner, declaration));
-        }
+      @Override
+      protected void onOperation(WithOperationsDeclaration owner, OperationDeclaration declaration) {
+        statistics.visited();
+        walkDelegates.forEach(d -> d.onOperation(owner, declaration));
+      }
 
-        @Override
-        protected void onConstruct(WithConstructsDeclaration owner, ConstructDeclaration declaration) {
-          walkDelegates.forEach(d -> d.onConstruct(owner, declaration));
-        }
+      @Override
+      protected void onFunction(WithFunctionsDeclaration owner, FunctionDeclaration declaration) {
+        statistics.visited();
+        walkDelegates.forEach(d -> d.onFunction(owner, declaration));
+      }
 
-        @Override
-        protected void onConnectionProvider(ConnectedDeclaration owner, ConnectionProviderDeclaration declaration) {
-          walkDelegates.forEach(d -> d.onConnectionProvider(owner, declaration));
-        }
+      @Override
+      protected void onConstruct(WithConstructsDeclaration owner, ConstructDeclaration declaration) {
+        statistics.visited();
+        walkDelegates.forEach(d -> d.onConstruct(owner, declaration));
+      }
 
-        @Override
-        protected void onSource(WithSourcesDeclaration owner, SourceDeclaration declaration) {
-          walkDelegates.forEach(d -> d.onSource(owner, declaration));
-        }
+      @Override
+      protected void onConnectionProvider(ConnectedDeclaration owner, ConnectionProviderDeclaration declaration) {
+        statistics.visited();
+        walkDelegates.forEach(d -> d.onConnectionProvider(owner, declaration));
+      }
 
-        @Override
-        protected void onParameterGroup(ParameterizedDeclaration owner, ParameterGroupDeclaration declaration) {
-          walkDelegates.forEach(d -> d.onParameterGroup(owner, declaration));
-        }
+      @Override
+      protected void onSource(WithSourcesDeclaration owner, SourceDeclaration declaration) {
+        statistics.visited();
+        walkDelegates.forEach(d -> d.onSource(owner, declaration));
+      }
 
-        @Override
-        protected void onParameter(ParameterizedDeclaration owner, ParameterGroupDeclaration parameterGroup,
-                                   ParameterDeclaration declaration) {
-          walkDelegates.forEach(d -> d.onParameter(owner, parameterGroup, declaration));
-        }
-      }.walk(extensionLoadingContext.getExtensionDeclarer().getDeclaration());
-      walkDelegates.forEach(DeclarationEnricherWalkDelegate::onWalkFinished);
+      @Override
+      protected void onParameterGroup(ParameterizedDeclaration owner, ParameterGroupDeclaration declaration) {
+        statistics.visited();
+        walkDelegates.forEach(d -> d.onParameterGroup(owner, declaration));
+      }
+
+      @Override
+      protected void onParameter(ParameterizedDeclaration owner, ParameterGroupDeclaration parameterGroup,
+                                 ParameterDeclaration declaration) {
+        statistics.visited();
+        walkDelegates.forEach(d -> d.onParameter(owner, parameterGroup, declaration));
+      }
+    }.walk(extensionLoadingContext.getExtensionDeclarer().getDeclaration());
+    walkDelegates.forEach(DeclarationEnricherWalkDelegate::onWalkFinished);
+
+    if (listener.isEnabled()) {
+      listener.onWalkFinished(extensionLoadingContext, ENRICHMENT, statistics.getVisitCount() - previousVisitCount,
+                              ofNanos(nanoTime() - start));
+      for (DeclarationEnricherWalkDelegate walkDelegate : walkDelegates) {
+        TimedDeclarationEnricherWalkDelegate timedDelegate = (TimedDeclarationEnricherWalkDelegate) walkDelegate;
+        listener.onEnricherApplied(extensionLoadingContext, timedDelegate.getEnricher(),
+                                   ofNanos(timedDelegate.getElapsedNanos()));
+      }
     }
   }
 
@@ -393,11 +638,17 @@ public final class ExtensionModelFactory {
   private class FactoryDelegate {
 
     private final Cache<ParameterizedDeclaration, ParameterizedModel> modelCache = CacheBuilder.newBuilder().build();
+    private final boolean canonicalize;
+
+    private FactoryDelegate(boolean canonicalize) {
+      this.canonicalize = canonicalize;
+    }
 
     private ExtensionModel toExtension(ExtensionDeclaration extensionDeclaration) {
       validateMuleVersion(extensionDeclaration);
       ExtensionModel extensionModel =
-          new ImmutableExtensionModel(extensionDeclaration.getName(), extensionDeclaration.getDescription(),
+          new ImmutableExtensionModel(canonical(extensionDeclaration.getName()),
+                                      canonical(extensionDeclaration.getDescription()),
                                       extensionDeclaration.getVersion(), extensionDeclaration.getVendor(),
                                       extensionDeclaration.getCategory(),
                                       sortConfigurations(toConfigurations(extensionDeclaration.getConfigurations())),
@@ -406,10 +657,11 @@ public final class ExtensionModelFactory {
                                       toMessageSources(extensionDeclaration.getMessageSources()),
                                       toFunctions(extensionDeclaration.getFunctions()),
                                       toConstructs(extensionDeclaration.getConstructs()),
-                                      extensionDeclaration.getDisplayModel(),
+                                      canonical(extensionDeclaration.getDisplayModel()),
                                       extensionDeclaration.getXmlDslModel(),
                                       extensionDeclaration.getSubTypes(),
-                                      toExtensionTypes(extensionDeclaration.getTypes(), extensionDeclaration.getImportedTypes()),
+                                      canonicalTypes(toExtensionTypes(extensionDeclaration.getTypes(),
+                                                                       extensionDeclaration.getImportedTypes())),
                                       extensionDeclaration.getResources(),
                                       extensionDeclaration.getImportedTypes(),
                                       extensionDeclaration.getErrorModels(),
@@ -459,14 +711,14 @@ public final class ExtensionModelFactory {
 
     private ConfigurationModel toConfiguration(ConfigurationDeclaration declaration) {
       return fromCache(declaration,
-                       () -> new ImmutableConfigurationModel(declaration.getName(),
-                                                             declaration.getDescription(),
+                       () -> new ImmutableConfigurationModel(canonical(declaration.getName()),
+                                                             canonical(declaration.getDescription()),
                                                              toParameterGroups(declaration.getParameterGroups()),
                                                              toOperations(declaration.getOperations()),
                                                              toConnectionProviders(declaration.getConnectionProviders()),
                                                              toMessageSources(declaration.getMessageSources()),
                                                              declaration.getExternalLibraryModels(),
-                                                             declaration.getDisplayModel(),
+                                                             canonical(declaration.getDisplayModel()),
                                                              getConfigStereotype(declaration.getStereotype()),
                                                              declaration.getModelProperties(),
                                                              declaration.getDeprecation().orElse(null),
@@ -475,7 +727,7 @@ public final class ExtensionModelFactory {
 
     private StereotypeModel getConfigStereotype(StereotypeModel stereotypeModel) {
       if (stereotypeModel != null) {
-        return stereotypeModel;
+        return canonical(stereotypeModel);
       }
 
       return CONFIG;
@@ -487,12 +739,12 @@ public final class ExtensionModelFactory {
 
     private ConstructModel toConstruct(ConstructDeclaration declaration) {
       return fromCache(declaration,
-                       () -> new ImmutableConstructModel(declaration.getName(),
-                                                         declaration.getDescription(),
+                       () -> new ImmutableConstructModel(canonical(declaration.getName()),
+                                                         canonical(declaration.getDescription()),
                                                          toParameterGroups(declaration.getParameterGroups()),
                                                          toNestedComponentModels(declaration.getNestedComponents()),
                                                          declaration.allowsTopLevelDefinition(),
-                                                         declaration.getDisplayModel(),
+                                                         canonical(declaration.getDisplayModel()),
                                                          declaration.getErrorModels(),
                                                          getProcessorStereotype(declaration.getStereotype()),
                                                          declaration.getVisibility(),
@@ -508,7 +760,8 @@ public final class ExtensionModelFactory {
 
     private SourceModel toMessageSource(SourceDeclaration declaration) {
       return fromCache(declaration,
-                       () -> new ImmutableSourceModel(declaration.getName(), declaration.getDescription(),
+                       () -> new ImmutableSourceModel(canonical(declaration.getName()),
+                                                      canonical(declaration.getDescription()),
                                                       declaration.hasResponse(),
                                                       declaration.isRunsOnPrimaryNodeOnly(),
                                                       toParameterGroups(declaration.getParameterGroups()),
@@ -521,7 +774,7 @@ public final class ExtensionModelFactory {
                                                       declaration.isRequiresConnection(),
                                                       declaration.isTransactional(),
                                                       declaration.isSupportsStreaming(),
-                                                      declaration.getDisplayModel(),
+                                                      canonical(declaration.getDisplayModel()),
                                                       getSourceStereotypes(declaration),
                                                       declaration.getErrorModels(),
                                                       declaration.getVisibility(),
@@ -536,18 +789,18 @@ public final class ExtensionModelFactory {
 
     private StereotypeModel getSourceStereotypes(SourceDeclaration declaration) {
       if (declaration.getStereotype() != null) {
-        return declaration.getStereotype();
+        return canonical(declaration.getStereotype());
       }
 
       return SOURCE;
     }
 
     private Optional<SourceCallbackModel> toSourceCallback(Optional<SourceCallbackDeclaration> callbackDeclaration) {
-      return callbackDeclaration.map(callback -> new ImmutableSourceCallbackModel(callback.getName(),
-                                                                                  callback.getDescription(),
+      return callbackDeclaration.map(callback -> new ImmutableSourceCallbackModel(canonical(callback.getName()),
+                                                                                  canonical(callback.getDescription()),
                                                                                   toParameterGroups(callback
                                                                                       .getParameterGroups()),
-                                                                                  callback.getDisplayModel(),
+                                                                                  canonical(callback.getDisplayModel()),
                                                                                   callback.getModelProperties()));
     }
 
@@ -561,7 +814,7 @@ public final class ExtensionModelFactory {
 
     private StereotypeModel getProcessorStereotype(StereotypeModel stereotypeModel) {
       if (stereotypeModel != null) {
-        return stereotypeModel;
+        return canonical(stereotypeModel);
       }
 
       return PROCESSOR;
@@ -575,8 +828,8 @@ public final class ExtensionModelFactory {
       return fromCache(declaration, () -> {
         OperationModel operation;
 
-        operation = new ImmutableOperationModel(declaration.getName(),
-                                                declaration.getDescription(),
+        operation = new ImmutableOperationModel(canonical(declaration.getName()),
+                                                canonical(declaration.getDescription()),
                                                 toParameterGroups(declaration.getParameterGroups()),
                                                 toNestedComponentModels(declaration.getNestedComponents()),
                                                 toOutputModel(declaration.getOutput()),
@@ -586,7 +839,7 @@ public final class ExtensionModelFactory {
                                                 declaration.isRequiresConnection(),
                                                 declaration.isTransactional(),
                                                 declaration.isSupportsStreaming(),
-                                                declaration.getDisplayModel(),
+                                                canonical(declaration.getDisplayModel()),
                                                 declaration.getErrorModels(),
                                                 getProcessorStereotype(declaration.getStereotype()),
                                                 declaration.getVisibility(),
@@ -608,14 +861,14 @@ public final class ExtensionModelFactory {
     private NestableElementModel toNestedComponent(NestableElementDeclaration declaration) {
       if (declaration instanceof NestedRouteDeclaration) {
         return new ImmutableNestedRouteModel(
-                                             declaration.getName(),
-                                             declaration.getDescription(),
+                                             canonical(declaration.getName()),
+                                             canonical(declaration.getDescription()),
                                              toParameterGroups(declaration.getParameterGroups()),
-                                             declaration.getDisplayModel(),
+                                             canonical(declaration.getDisplayModel()),
                                              declaration.getMinOccurs(),
                                              declaration.getMaxOccurs(),
                                              toNestedComponentModels(declaration.getNestedComponents()),
-                                             declaration.getStereotype(),
+                                             canonical(declaration.getStereotype()),
                                              declaration.getVisibility(),
                                              declaration.getModelProperties(),
                                              (DeprecationModel) declaration.getDeprecation().orElse(null),
@@ -624,16 +877,16 @@ public final class ExtensionModelFactory {
       }
       if (declaration instanceof NestedChainDeclaration) {
         return new ImmutableNestedChainModel(
-                                             declaration.getName(),
-                                             declaration.getDescription(),
+                                             canonical(declaration.getName()),
+                                             canonical(declaration.getDescription()),
                                              toParameterGroups(declaration.getParameterGroups()),
                                              declaration.isRequired(),
                                              getProcessorStereotypes(((NestedChainDeclaration) declaration)
                                                  .getAllowedStereotypes()),
                                              toNestedComponentModels(declaration.getNestedComponents()),
-                                             declaration.getDisplayModel(),
+                                             canonical(declaration.getDisplayModel()),
                                              declaration.getErrorModels(),
-                                             declaration.getStereotype(),
+                                             canonical(declaration.getStereotype()),
                                              declaration.getVisibility(),
                                              declaration.getModelProperties(),
                                              (DeprecationModel) declaration.getDeprecation().orElse(null),
@@ -642,17 +895,17 @@ public final class ExtensionModelFactory {
                                              ((NestedChainDeclaration) declaration).getOccurrence());
       }
       return new ImmutableNestedComponentModel(
-                                               declaration.getName(),
-                                               declaration.getDescription(),
+                                               canonical(declaration.getName()),
+                                               canonical(declaration.getDescription()),
                                                toParameterGroups(declaration.getParameterGroups()),
                                                declaration.getMinOccurs(),
                                                declaration.getMaxOccurs(),
                                                getProcessorStereotypes(((NestedComponentDeclaration) declaration)
                                                    .getAllowedStereotypes()),
                                                toNestedComponentModels(declaration.getNestedComponents()),
-                                               declaration.getDisplayModel(),
+                                               canonical(declaration.getDisplayModel()),
                                                declaration.getErrorModels(),
-                                               declaration.getStereotype(),
+                                               canonical(declaration.getStereotype()),
                                                declaration.getVisibility(),
                                                declaration.getModelProperties(),
                                                (DeprecationModel) declaration.getDeprecation().orElse(null),
@@ -666,20 +919,20 @@ public final class ExtensionModelFactory {
 
     private OutputModel toOutputModel(OutputDeclaration declaration) {
       return declaration != null
-          ? new ImmutableOutputModel(declaration.getDescription(), declaration.getType(), declaration.hasDynamicType(),
-                                     declaration.getModelProperties())
+          ? new ImmutableOutputModel(canonical(declaration.getDescription()), canonical(declaration.getType()),
+                                     declaration.hasDynamicType(), declaration.getModelProperties())
           : new ImmutableOutputModel("", BaseTypeBuilder.create(JAVA).voidType().build(), false, emptySet());
     }
 
     private ConnectionProviderModel toConnectionProvider(ConnectionProviderDeclaration declaration) {
       return fromCache(declaration,
-                       () -> new ImmutableConnectionProviderModel(declaration.getName(),
-                                                                  declaration.getDescription(),
+                       () -> new ImmutableConnectionProviderModel(canonical(declaration.getName()),
+                                                                  canonical(declaration.getDescription()),
                                                                   toParameterGroups(declaration.getParameterGroups()),
                                                                   declaration.getConnectionManagementType(),
                                                                   declaration.isSupportsConnectivityTesting(),
                                                                   declaration.getExternalLibraryModels(),
-                                                                  declaration.getDisplayModel(),
+                                                                  canonical(declaration.getDisplayModel()),
                                                                   getConnectionStereotype(declaration.getStereotype()),
                                                                   declaration.getModelProperties(),
                                                                   declaration.getDeprecation().orElse(null),
@@ -689,7 +942,7 @@ public final class ExtensionModelFactory {
 
     private StereotypeModel getConnectionStereotype(StereotypeModel stereotypeModel) {
       if (stereotypeModel != null) {
-        return stereotypeModel;
+        return canonical(stereotypeModel);
       }
 
       return CONNECTION;
@@ -716,13 +969,13 @@ public final class ExtensionModelFactory {
     }
 
     private ParameterGroupModel toParameterGroup(ParameterGroupDeclaration declaration) {
-      return new ImmutableParameterGroupModel(declaration.getName(),
-                                              declaration.getDescription(),
+      return new ImmutableParameterGroupModel(canonical(declaration.getName()),
+                                              canonical(declaration.getDescription()),
                                               toParameters(declaration.getParameters()),
                                               toExclusiveParametersModels(declaration),
                                               declaration.isShowInDsl(),
-                                              declaration.getDisplayModel(),
-                                              declaration.getLayoutModel(),
+                                              canonical(declaration.getDisplayModel()),
+                                              canonical(declaration.getLayoutModel()),
                                               declaration.getModelProperties());
     }
 
@@ -759,9 +1012,9 @@ public final class ExtensionModelFactory {
         }
       }
 
-      return new ImmutableParameterModel(parameter.getName(),
-                                         parameter.getDescription(),
-                                         parameter.getType(),
+      return new ImmutableParameterModel(canonical(parameter.getName()),
+                                         canonical(parameter.getDescription()),
+                                         canonical(parameter.getType()),
                                          parameter.hasDynamicType(),
                                          parameter.isRequired(),
                                          parameter.isConfigOverride(),
@@ -770,10 +1023,10 @@ public final class ExtensionModelFactory {
                                          parameter.getDefaultValue(),
                                          parameter.getRole(),
                                          parameter.getDslConfiguration(),
-                                         parameter.getDisplayModel(),
-                                         parameter.getLayoutModel(),
+                                         canonical(parameter.getDisplayModel()),
+                                         canonical(parameter.getLayoutModel()),
                                          parameter.getValueProviderModel(),
-                                         parameter.getAllowedStereotypeModels(),
+                                         canonicalList(parameter.getAllowedStereotypeModels()),
                                          parameter.getModelProperties(),
                                          parameter.getDeprecation().orElse(null),
                                          parameter.getSemanticTerms(),
@@ -783,17 +1036,33 @@ public final class ExtensionModelFactory {
 
     private List<FunctionModel> toFunctions(List<FunctionDeclaration> expressionFunctions) {
       return unmodifiableList(expressionFunctions.stream()
-          .map(declaration -> new ImmutableFunctionModel(declaration.getName(),
-                                                         declaration.getDescription(),
+          .map(declaration -> new ImmutableFunctionModel(canonical(declaration.getName()),
+                                                         canonical(declaration.getDescription()),
                                                          toParameterGroups(
                                                                            declaration.getParameterGroups()),
                                                          toOutputModel(declaration.getOutput()),
-                                                         declaration.getDisplayModel(),
+                                                         canonical(declaration.getDisplayModel()),
                                                          declaration.getModelProperties(),
                                                          declaration.getDeprecation().orElse(null),
                                                          declaration.getMinMuleVersion().orElse(null)))
           .collect(toList()));
     }
+
+    private <T> T canonical(T value) {
+      return canonicalize ? ModelCanonicalizationUtils.canonical(value) : value;
+    }
+
+    private <T> List<T> canonicalList(List<T> values) {
+      return canonicalize ? ModelCanonicalizationUtils.canonicalList(values) : values;
+    }
+
+    private Set<ObjectType> canonicalTypes(Set<ObjectType> types) {
+      if (!canonicalize) {
+        return types;
+      }
+
+      return types.stream().map(ModelCanonicalizationUtils::canonical).collect(toCollection(LinkedHashSet::new));
+    }
   }
 
   private Set<ObjectType> toExtensionTypes(Set<ObjectType> types, Set<ImportedTypeModel> importedTypes) {
@@ -812,4 +1081,18 @@ public final class ExtensionModelFactory {
     return (ProblemsHandler) extensionLoadingContext.getParameter(PROBLEMS_HANDLER)
         .orElseGet(() -> new DefaultProblemsHandler(extensionModel));
   }
+
+  /**
+   * A validator along with the {@link ProblemsReporter} on which it reports.
+   */
+  private static final class ValidatorProblems {
+
+    private final ExtensionModelValidator validator;
+    private final ProblemsReporter reporter;
+
+    private ValidatorProblems(ExtensionModelValidator validator, ProblemsReporter reporter) {
+      this.validator = validator;
+      this.reporter = reporter;
+    }
+  }
 }
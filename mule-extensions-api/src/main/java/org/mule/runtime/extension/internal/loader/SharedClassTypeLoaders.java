@@ -0,0 +1,163 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+import static java.util.Collections.synchronizedMap;
+
+import org.mule.metadata.api.ClassTypeLoader;
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.extension.api.declaration.type.ExtensionsTypeLoaderFactory;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Provides {@link CachedClassTypeLoader}s which share the types they introspect with all the other loaders of the same
+ * {@link ClassLoader}, so that types which are common to many extensions are only introspected once. Used when
+ * {@link ExtensionModelLoadingRequest#isShareTypeLoaders()} is enabled.
+ * <p>
+ * The types introspected from a {@link Class} are attached to that {@link Class} through a {@link ClassValue}, so they are
+ * only reachable through the {@link Class} they describe and never keep it, or its {@link ClassLoader}, from being collected.
+ * They are further keyed by a token which represents the introspecting {@link ClassLoader}. That token is weakly held by the
+ * attached types and strongly held only by a registry weakly keyed by the {@link ClassLoader}, and by the loaders in use. So
+ * the shared types of a {@link ClassLoader} are released once it is collected, or as soon as it is
+ * {@link #invalidate(ClassLoader) invalidated}.
+ * <p>
+ * The Mule Runtime should {@link #invalidate(ClassLoader) invalidate} the {@link ClassLoader} of an artifact when it is
+ * undeployed, which releases its shared types right away rather than when the {@link ClassLoader} is collected.
+ * <p>
+ * Statistics about the shared types are kept across all the loaders, since each loader returned by {@link #get(ClassLoader)}
+ * only knows about its own lookups.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class SharedClassTypeLoaders {
+
+  private static final LongAdder HITS = new LongAdder();
+  private static final LongAdder MISSES = new LongAdder();
+  private static final LongAdder EVICTIONS = new LongAdder();
+
+  private static final Cache<ClassLoader, Object> TOKENS = newBuilder()
+      .weakKeys()
+      .executor(Runnable::run)
+      .<ClassLoader, Object>removalListener((classLoader, token, cause) -> EVICTIONS.increment())
+      .build();
+
+  private static final ClassValue<Map<Object, MetadataType>> TYPES = new ClassValue<Map<Object, MetadataType>>() {
+
+    @Override
+    protected Map<Object, MetadataType> computeValue(Class<?> type) {
+      return synchronizedMap(new WeakHashMap<>(4));
+    }
+  };
+
+  private SharedClassTypeLoaders() {}
+
+  /**
+   * Returns a loader for the given {@code classLoader}, which delegates into a {@link ClassTypeLoader} created through the
+   * default {@link ExtensionsTypeLoaderFactory} and shares the types loaded from a {@link Class} with the other loaders returned
+   * for the same {@code classLoader}.
+   *
+   * @param classLoader the {@link ClassLoader} through which types are introspected. When {@code null}, a loader which doesn't
+   *                    share its types is returned.
+   * @return a thread-safe {@link CachedClassTypeLoader}
+   */
+  public static CachedClassTypeLoader get(ClassLoader classLoader) {
+    ClassTypeLoader typeLoader = ExtensionsTypeLoaderFactory.getDefault().createTypeLoader(classLoader);
+    if (classLoader == null) {
+      return new CachedClassTypeLoader(typeLoader);
+    }
+    return new CachedClassTypeLoader(new SharingClassTypeLoader(typeLoader, TOKENS.get(classLoader, cl -> new Object())));
+  }
+
+  /**
+   * Discards the types shared by the loaders of the given {@code classLoader}, if any. The loaders already in use keep the types
+   * they already loaded.
+   *
+   * @param classLoader a {@link ClassLoader} which is no longer used
+   */
+  public static void invalidate(ClassLoader classLoader) {
+    TOKENS.invalidate(classLoader);
+  }
+
+  /**
+   * @return the amount of lookups of a {@link Class} which found a type shared by another loader of the same {@link ClassLoader}
+   */
+  public static long getHitCount() {
+    return HITS.sum();
+  }
+
+  /**
+   * @return the amount of lookups of a {@link Class} which required introspecting it
+   */
+  public static long getMissCount() {
+    return MISSES.sum();
+  }
+
+  /**
+   * @return the amount of {@link ClassLoader}s whose shared types were released, either because they were
+   *         {@link #invalidate(ClassLoader) invalidated} or collected
+   */
+  public static long getEvictionCount() {
+    return EVICTIONS.sum();
+  }
+
+  /**
+   * A {@link ClassTypeLoader} which looks up the types loaded from a {@link Class} among the ones shared for its {@code token}
+   * before introspecting it.
+   */
+  private static final class SharingClassTypeLoader implements ClassTypeLoader {
+
+    private final ClassTypeLoader delegate;
+    private final Object token;
+
+    private SharingClassTypeLoader(ClassTypeLoader delegate, Object token) {
+      this.delegate = delegate;
+      this.token = token;
+    }
+
+    @Override
+    public MetadataType load(Type type) {
+      if (!(type instanceof Class)) {
+        return delegate.load(type);
+      }
+
+      Map<Object, MetadataType> shared = TYPES.get((Class<?>) type);
+      MetadataType metadataType = shared.get(token);
+      if (metadataType != null) {
+        HITS.increment();
+      } else {
+        MISSES.increment();
+        metadataType = delegate.load(type);
+        MetadataType previous = shared.putIfAbsent(token, metadataType);
+        if (previous != null) {
+          metadataType = previous;
+        }
+      }
+      return metadataType;
+    }
+
+    @Override
+    public Optional<MetadataType> load(String typeIdentifier) {
+      return delegate.load(typeIdentifier);
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+      return delegate.getClassLoader();
+    }
+  }
+}
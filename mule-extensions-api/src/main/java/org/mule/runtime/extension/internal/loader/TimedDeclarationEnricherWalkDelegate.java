@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import static java.lang.System.nanoTime;
+
+import org.mule.runtime.api.meta.model.declaration.fluent.ConfigurationDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ConnectedDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ConnectionProviderDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ConstructDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.FunctionDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.OperationDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ParameterDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ParameterGroupDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.ParameterizedDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.SourceDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.WithConstructsDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.WithFunctionsDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.WithOperationsDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.WithSourcesDeclaration;
+import org.mule.runtime.extension.api.loader.DeclarationEnricher;
+import org.mule.runtime.extension.api.loader.WalkingDeclarationEnricher.DeclarationEnricherWalkDelegate;
+
+/**
+ * {@link DeclarationEnricherWalkDelegate} which accumulates the time spent by the delegate of a {@link DeclarationEnricher}, so
+ * that it can be reported even though the walk is shared with other enrichers.
+ *
+ * @since 1.10
+ */
+final class TimedDeclarationEnricherWalkDelegate extends DeclarationEnricherWalkDelegate {
+
+  private final DeclarationEnricher enricher;
+  private final DeclarationEnricherWalkDelegate delegate;
+  private long elapsedNanos;
+
+  TimedDeclarationEnricherWalkDelegate(DeclarationEnricher enricher, DeclarationEnricherWalkDelegate delegate,
+                                       long elapsedNanos) {
+    this.enricher = enricher;
+    this.delegate = delegate;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  DeclarationEnricher getEnricher() {
+    return enricher;
+  }
+
+  long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  @Override
+  public void onConfiguration(ConfigurationDeclaration declaration) {
+    final long start = nanoTime();
+    delegate.onConfiguration(declaration);
+    elapsedNanos += nanoTime() - start;
+  }
+
+  @Override
+  public void onOperation(WithOperationsDeclaration owner, OperationDeclaration declaration) {
+    final long start = nanoTime();
+    delegate.onOperation(owner, declaration);
+    elapsedNanos += nanoTime() - start;
+  }
+
+  @Override
+  public void onFunction(WithFunctionsDeclaration owner, FunctionDeclaration declaration) {
+    final long start = nanoTime();
+    delegate.onFunction(owner, declaration);
+    elapsedNanos += nanoTime() - start;
+  }
+
+  @Override
+  public void onConstruct(WithConstructsDeclaration owner, ConstructDeclaration declaration) {
+    final long start = nanoTime();
+    delegate.onConstruct(owner, declaration);
+    elapsedNanos += nanoTime() - start;
+  }
+
+  @Override
+  public void onConnectionProvider(ConnectedDeclaration owner, ConnectionProviderDeclaration declaration) {
+    final long start = nanoTime();
+    delegate.onConnectionProvider(owner, declaration);
+    elapsedNanos += nanoTime() - start;
+  }
+
+  @Override
+  public void onSource(WithSourcesDeclaration owner, SourceDeclaration declaration) {
+    final long start = nanoTime();
+    delegate.onSource(owner, declaration);
+    elapsedNanos += nanoTime() - start;
+  }
+
+  @Override
+  public void onParameterGroup(ParameterizedDeclaration owner, ParameterGroupDeclaration declaration) {
+    final long start = nanoTime();
+    delegate.onParameterGroup(owner, declaration);
+    elapsedNanos += nanoTime() - start;
+  }
+
+  @Override
+  public void onParameter(ParameterizedDeclaration owner, ParameterGroupDeclaration parameterGroup,
+                          ParameterDeclaration declaration) {
+    final long start = nanoTime();
+    delegate.onParameter(owner, parameterGroup, declaration);
+    elapsedNanos += nanoTime() - start;
+  }
+
+  @Override
+  public void onWalkFinished() {
+    final long start = nanoTime();
+    delegate.onWalkFinished();
+    elapsedNanos += nanoTime() - start;
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import static java.lang.System.nanoTime;
+
+import org.mule.runtime.api.meta.model.config.ConfigurationModel;
+import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
+import org.mule.runtime.api.meta.model.connection.HasConnectionProviderModels;
+import org.mule.runtime.api.meta.model.construct.ConstructModel;
+import org.mule.runtime.api.meta.model.construct.HasConstructModels;
+import org.mule.runtime.api.meta.model.function.FunctionModel;
+import org.mule.runtime.api.meta.model.function.HasFunctionModels;
+import org.mule.runtime.api.meta.model.operation.HasOperationModels;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
+import org.mule.runtime.api.meta.model.source.HasSourceModels;
+import org.mule.runtime.api.meta.model.source.SourceModel;
+import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator.ExtensionModelValidatorWalkDelegate;
+
+/**
+ * {@link ExtensionModelValidatorWalkDelegate} which accumulates the time spent by the delegate of an
+ * {@link ExtensionModelValidator}, so that it can be reported even though the walk is shared with other validators.
+ *
+ * @since 1.10
+ */
+final class TimedExtensionModelValidatorWalkDelegate extends ExtensionModelValidatorWalkDelegate {
+
+  private final ExtensionModelValidator validator;
+  private final ExtensionModelValidatorWalkDelegate delegate;
+  private long elapsedNanos;
+
+  TimedExtensionModelValidatorWalkDelegate(ExtensionModelValidator validator, ExtensionModelValidatorWalkDelegate delegate,
+                                           long elapsedNanos) {
+    this.validator = validator;
+    this.delegate = delegate;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  ExtensionModelValidator getValidator() {
+    return validator;
+  }
+
+  long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  @Override
+  public void onConfiguration(ConfigurationModel model) {
+    final long start = nanoTime();
+    delegate.onConfiguration(model);
+    elapsedNanos += nanoTime() - start;
+  }
+
+  @Override
+  public void onOperation(HasOperationModels owner, OperationModel model) {
+    final long start = nanoTime();
+    delegate.onOperation(owner, model);
+    elapsedNanos += nanoTime() - start;
+  }
+
+  @Override
+  public void onFunction(HasFunctionModels owner, FunctionModel model) {
+    final long start = nanoTime();
+    delegate.onFunction(owner, model);
+    elapsedNanos += nanoTime() - start;
+  }
+
+  @Override
+  public void onConstruct(HasConstructModels owner, ConstructModel model) {
+    final long start = nanoTime();
+    delegate.onConstruct(owner, model);
+    elapsedNanos += nanoTime() - start;
+  }
+
+  @Override
+  public void onConnectionProvider(HasConnectionProviderModels owner, ConnectionProviderModel model) {
+    final long start = nanoTime();
+    delegate.onConnectionProvider(owner, model);
+    elapsedNanos += nanoTime() - start;
+  }
+
+  @Override
+  public void onSource(HasSourceModels owner, SourceModel model) {
+    final long start = nanoTime();
+    delegate.onSource(owner, model);
+    elapsedNanos += nanoTime() - start;
+  }
+
+  @Override
+  public void onParameterGroup(ParameterizedModel owner, ParameterGroupModel model) {
+    final long start = nanoTime();
+    delegate.onParameterGroup(owner, model);
+    elapsedNanos += nanoTime() - start;
+  }
+
+  @Override
+  public void onParameter(ParameterizedModel owner, ParameterGroupModel groupModel, ParameterModel model) {
+    final long start = nanoTime();
+    delegate.onParameter(owner, groupModel, model);
+    elapsedNanos += nanoTime() - start;
+  }
+
+  @Override
+  public void onWalkFinished() {
+    final long start = nanoTime();
+    delegate.onWalkFinished();
+    elapsedNanos += nanoTime() - start;
+  }
+}
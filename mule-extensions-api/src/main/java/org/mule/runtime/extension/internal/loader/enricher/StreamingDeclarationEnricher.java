@@ -10,6 +10,7 @@ import static java.util.Optional.of;
 import static org.mule.runtime.extension.api.loader.DeclarationEnricherPhase.STRUCTURE;
 import static org.mule.runtime.extension.api.util.XmlModelUtils.MULE_ABSTRACT_BYTE_STREAMING_STRATEGY_QNAME;
 import static org.mule.runtime.extension.api.util.XmlModelUtils.MULE_ABSTRACT_OBJECT_STREAMING_STRATEGY_QNAME;
+import static org.mule.runtime.extension.internal.loader.util.InfrastructureParameterBuilder.addPagePrefetchParameter;
 import static org.mule.runtime.extension.internal.loader.util.InfrastructureParameterBuilder.addStreamingParameter;
 
 import org.mule.metadata.api.model.MetadataType;
@@ -22,6 +23,7 @@ import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
 import org.mule.runtime.extension.api.loader.IdempotentDeclarationEnricherWalkDelegate;
 import org.mule.runtime.extension.api.loader.WalkingDeclarationEnricher;
 import org.mule.runtime.extension.internal.property.NoStreamingConfigurationModelProperty;
+import org.mule.runtime.extension.internal.property.PagePrefetchModelProperty;
 import org.mule.runtime.extension.internal.property.PagedOperationModelProperty;
 
 import java.io.InputStream;
@@ -30,7 +32,8 @@ import java.util.Optional;
 import javax.xml.namespace.QName;
 
 /**
- * Adds infrastructure parameters to sources and operations which returns {@link InputStream} objects.
+ * Adds infrastructure parameters to sources and operations which returns {@link InputStream} objects, and to paged operations
+ * which support fetching pages ahead of their consumer.
  *
  * @since 1.0
  */
@@ -48,6 +51,7 @@ public class StreamingDeclarationEnricher implements WalkingDeclarationEnricher
       @Override
       protected void onOperation(OperationDeclaration declaration) {
         enrich(declaration);
+        enrichPagePrefetch(declaration);
       }
 
       @Override
@@ -75,4 +79,11 @@ public class StreamingDeclarationEnricher implements WalkingDeclarationEnricher
     addStreamingParameter(declaration, type, qName);
   }
 
+  private void enrichPagePrefetch(OperationDeclaration declaration) {
+    if (declaration.getModelProperty(PagedOperationModelProperty.class).isPresent()
+        && declaration.getModelProperty(PagePrefetchModelProperty.class).isPresent()) {
+      addPagePrefetchParameter(declaration);
+    }
+  }
+
 }
@@ -18,6 +18,8 @@ import static org.mule.runtime.extension.api.ExtensionConstants.ERROR_MAPPINGS_P
 import static org.mule.runtime.extension.api.ExtensionConstants.ERROR_MAPPINGS_PARAMETER_NAME;
 import static org.mule.runtime.extension.api.ExtensionConstants.EXPIRATION_POLICY_DESCRIPTION;
 import static org.mule.runtime.extension.api.ExtensionConstants.EXPIRATION_POLICY_PARAMETER_NAME;
+import static org.mule.runtime.extension.api.ExtensionConstants.PAGE_PREFETCH_PARAMETER_DESCRIPTION;
+import static org.mule.runtime.extension.api.ExtensionConstants.PAGE_PREFETCH_PARAMETER_NAME;
 import static org.mule.runtime.extension.api.ExtensionConstants.POOLING_PROFILE_PARAMETER_DESCRIPTION;
 import static org.mule.runtime.extension.api.ExtensionConstants.POOLING_PROFILE_PARAMETER_NAME;
 import static org.mule.runtime.extension.api.ExtensionConstants.PRIMARY_NODE_ONLY_PARAMETER_DESCRIPTION;
@@ -213,6 +215,22 @@ public final class InfrastructureParameterBuilder {
     return parameter;
   }
 
+  public static ParameterDeclaration addPagePrefetchParameter(OperationDeclaration declaration) {
+    ParameterDeclaration parameter = new ParameterDeclaration(PAGE_PREFETCH_PARAMETER_NAME);
+    parameter.setDescription(PAGE_PREFETCH_PARAMETER_DESCRIPTION);
+    parameter.setType(create(JAVA).numberType().integer().build(), false);
+    parameter.setExpressionSupport(NOT_SUPPORTED);
+    parameter.setRequired(false);
+    parameter.setDefaultValue(0);
+    parameter.setParameterRole(BEHAVIOUR);
+    parameter.setLayoutModel(LayoutModel.builder().tabName(ADVANCED_TAB).build());
+    markAsInfrastructure(parameter, 13);
+
+    declaration.getParameterGroup(DEFAULT_GROUP_NAME).addParameter(parameter);
+
+    return parameter;
+  }
+
   public static ParameterDeclaration addExpirationPolicy(ConfigurationDeclaration config) {
     ParameterDeclaration parameter = new ParameterDeclaration(EXPIRATION_POLICY_PARAMETER_NAME);
     parameter.setDescription(EXPIRATION_POLICY_DESCRIPTION);
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader.util;
+
+import static java.lang.String.format;
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import org.mule.runtime.api.meta.ExpressionSupport;
+import org.mule.runtime.api.meta.model.display.ClassValueModel;
+import org.mule.runtime.api.meta.model.display.PathModel;
+import org.mule.runtime.api.util.Pair;
+import org.mule.runtime.extension.api.annotation.param.Optional;
+import org.mule.runtime.extension.api.annotation.param.Parameter;
+import org.mule.runtime.extension.api.annotation.param.ParameterGroup;
+import org.mule.runtime.extension.api.annotation.param.Query;
+import org.mule.runtime.extension.api.annotation.param.display.ClassValue;
+import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
+import org.mule.runtime.extension.api.annotation.param.display.Example;
+import org.mule.runtime.extension.api.annotation.param.display.Password;
+import org.mule.runtime.extension.api.annotation.param.display.Path;
+import org.mule.runtime.extension.api.annotation.param.display.Placement;
+import org.mule.runtime.extension.api.annotation.param.display.Summary;
+import org.mule.runtime.extension.api.annotation.param.display.Text;
+import org.mule.runtime.extension.api.exception.IllegalParameterModelDefinitionException;
+import org.mule.sdk.api.annotation.semantics.file.FilePath;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Immutable description of a Java {@link Field}, holding the merged information of both the legacy Extensions API annotations
+ * and their SDK API counterparts.
+ * <p>
+ * All the information is resolved when the descriptor is created. Since each piece of information is only expected to be valid
+ * when it is requested, any failure found while resolving it (for example, the field being annotated with both the legacy and
+ * the SDK version of the same annotation) is kept and thrown when that piece of information is requested.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class JavaFieldDescriptor {
+
+  /**
+   * @param field a java Field
+   * @return the descriptor of the given {@code field}, which is resolved only once per field
+   */
+  public static JavaFieldDescriptor of(Field field) {
+    return JavaTypeDescriptor.of(field.getDeclaringClass()).getFieldDescriptor(field);
+  }
+
+  private final Field field;
+  private final String alias;
+  private final boolean parameter;
+  private final boolean parameterGroup;
+  private final boolean optional;
+  private final boolean configOverride;
+  private final boolean password;
+  private final boolean query;
+  private final Resolution<Boolean> text;
+  private final Resolution<java.util.Optional<String>> displayName;
+  private final Resolution<java.util.Optional<String>> summary;
+  private final Resolution<java.util.Optional<String>> example;
+  private final Resolution<java.util.Optional<PathModel>> pathModel;
+  private final Resolution<java.util.Optional<ClassValueModel>> classValueModel;
+  private final Resolution<java.util.Optional<Pair<Integer, String>>> placement;
+  private final Resolution<java.util.Optional<ExpressionSupport>> expressionSupport;
+  private final Resolution<java.util.Optional<Class<?>>> nullSafeDefaultImplementedType;
+
+  JavaFieldDescriptor(Field field) {
+    this.field = field;
+    alias = JavaParserUtils.getAlias(field, field::getName);
+    parameter = isAnyAnnotationPresent(Parameter.class, org.mule.sdk.api.annotation.param.Parameter.class);
+    parameterGroup = isAnyAnnotationPresent(ParameterGroup.class, org.mule.sdk.api.annotation.param.ParameterGroup.class);
+    optional = isAnyAnnotationPresent(Optional.class, org.mule.sdk.api.annotation.param.Optional.class);
+    configOverride = JavaParserUtils.resolveConfigOverride(field);
+    password = field.getAnnotation(Password.class) != null;
+    query = field.getAnnotation(Query.class) != null;
+
+    text = resolve(() -> mapAnnotation(Text.class, org.mule.sdk.api.annotation.param.display.Text.class,
+                                       ann -> true, ann -> true) != null);
+    displayName = resolve(() -> ofNullable(mapAnnotation(DisplayName.class,
+                                                         org.mule.sdk.api.annotation.param.display.DisplayName.class,
+                                                         DisplayName::value,
+                                                         org.mule.sdk.api.annotation.param.display.DisplayName::value)));
+    summary = resolve(() -> ofNullable(mapAnnotation(Summary.class,
+                                                     org.mule.sdk.api.annotation.param.display.Summary.class,
+                                                     Summary::value,
+                                                     org.mule.sdk.api.annotation.param.display.Summary::value)));
+    example = resolve(() -> ofNullable(mapAnnotation(Example.class,
+                                                     org.mule.sdk.api.annotation.param.display.Example.class,
+                                                     Example::value,
+                                                     org.mule.sdk.api.annotation.param.display.Example::value)));
+    pathModel = resolve(() -> ofNullable(mapAnnotation(Path.class, FilePath.class,
+                                                       path -> new PathModel(path.type(), path.acceptsUrls(), path.location(),
+                                                                             path.acceptedFileExtensions()),
+                                                       path -> new PathModel(path.type(), path.acceptsUrls(), path.location(),
+                                                                             path.acceptedFileExtensions()))));
+    classValueModel = resolve(() -> ofNullable(mapAnnotation(ClassValue.class,
+                                                             org.mule.sdk.api.annotation.param.display.ClassValue.class,
+                                                             ann -> toClassValueModel(ann.extendsOrImplements()),
+                                                             ann -> toClassValueModel(ann.extendsOrImplements()))));
+    placement = resolve(() -> ofNullable(mapAnnotation(Placement.class,
+                                                       org.mule.sdk.api.annotation.param.display.Placement.class,
+                                                       ann -> new Pair<>(ann.order(), ann.tab()),
+                                                       ann -> new Pair<>(ann.order(), ann.tab()))));
+    expressionSupport = resolve(() -> JavaParserUtils.resolveExpressionSupport(field));
+    nullSafeDefaultImplementedType = resolve(() -> JavaParserUtils.resolveNullSafeDefaultImplementedType(field));
+  }
+
+  /**
+   * @return the described {@link Field}
+   */
+  public Field getField() {
+    return field;
+  }
+
+  /**
+   * @return the field's alias, as defined by any of the {@code @Alias} annotations, or the field's name if none is present
+   */
+  public String getAlias() {
+    return alias;
+  }
+
+  /**
+   * @return whether the field is annotated with any of the {@code @Parameter} annotations
+   */
+  public boolean isParameter() {
+    return parameter;
+  }
+
+  /**
+   * @return whether the field is annotated with any of the {@code @ParameterGroup} annotations
+   */
+  public boolean isParameterGroup() {
+    return parameterGroup;
+  }
+
+  /**
+   * @return whether the field is annotated with any of the {@code @Optional} annotations
+   */
+  public boolean isOptional() {
+    return optional;
+  }
+
+  /**
+   * @return whether the field is annotated with any of the {@code @ConfigOverride} annotations
+   */
+  public boolean isConfigOverride() {
+    return configOverride;
+  }
+
+  /**
+   * @return whether the field is annotated with {@link Password}
+   */
+  public boolean isPassword() {
+    return password;
+  }
+
+  /**
+   * @return whether the field is annotated with {@link Query}
+   */
+  public boolean isQuery() {
+    return query;
+  }
+
+  /**
+   * @return whether the field is annotated with any of the {@code @Text} annotations
+   * @throws IllegalParameterModelDefinitionException if both annotations are present
+   */
+  public boolean isText() {
+    return text.get();
+  }
+
+  /**
+   * @return the display name defined by any of the {@code @DisplayName} annotations
+   * @throws IllegalParameterModelDefinitionException if both annotations are present
+   */
+  public java.util.Optional<String> getDisplayName() {
+    return displayName.get();
+  }
+
+  /**
+   * @return the summary defined by any of the {@code @Summary} annotations
+   * @throws IllegalParameterModelDefinitionException if both annotations are present
+   */
+  public java.util.Optional<String> getSummary() {
+    return summary.get();
+  }
+
+  /**
+   * @return the example defined by any of the {@code @Example} annotations
+   * @throws IllegalParameterModelDefinitionException if both annotations are present
+   */
+  public java.util.Optional<String> getExample() {
+    return example.get();
+  }
+
+  /**
+   * @return the {@link PathModel} defined by either the {@link Path} or the {@link FilePath} annotation
+   * @throws IllegalParameterModelDefinitionException if both annotations are present
+   */
+  public java.util.Optional<PathModel> getPathModel() {
+    return pathModel.get();
+  }
+
+  /**
+   * @return the {@link ClassValueModel} defined by any of the {@code @ClassValue} annotations
+   * @throws IllegalParameterModelDefinitionException if both annotations are present
+   */
+  public java.util.Optional<ClassValueModel> getClassValueModel() {
+    return classValueModel.get();
+  }
+
+  /**
+   * @return the order and tab defined by any of the {@code @Placement} annotations
+   * @throws IllegalParameterModelDefinitionException if both annotations are present
+   */
+  public java.util.Optional<Pair<Integer, String>> getPlacement() {
+    return placement.get();
+  }
+
+  /**
+   * @return the {@link ExpressionSupport} defined by any of the {@code @Expression} annotations
+   */
+  public java.util.Optional<ExpressionSupport> getExpressionSupport() {
+    return expressionSupport.get();
+  }
+
+  /**
+   * @return the default implementing type defined by any of the {@code @NullSafe} annotations
+   */
+  public java.util.Optional<Class<?>> getNullSafeDefaultImplementedType() {
+    return nullSafeDefaultImplementedType.get();
+  }
+
+  private boolean isAnyAnnotationPresent(Class<? extends Annotation> legacyAnnotationClass,
+                                         Class<? extends Annotation> sdkAnnotationClass) {
+    return field.isAnnotationPresent(legacyAnnotationClass) || field.isAnnotationPresent(sdkAnnotationClass);
+  }
+
+  private <R extends Annotation, S extends Annotation, T> T mapAnnotation(Class<R> legacyAnnotationClass,
+                                                                          Class<S> sdkAnnotationClass,
+                                                                          Function<R, T> legacyAnnotationMapping,
+                                                                          Function<S, T> sdkAnnotationMapping) {
+    R legacyAnnotation = field.getAnnotation(legacyAnnotationClass);
+    S sdkAnnotation = field.getAnnotation(sdkAnnotationClass);
+
+    if (legacyAnnotation != null && sdkAnnotation != null) {
+      throw new IllegalParameterModelDefinitionException(format("Annotations %s and %s are both present at the same time on field %s",
+                                                                legacyAnnotationClass.getName(), sdkAnnotationClass.getName(),
+                                                                field.getName()));
+    } else if (legacyAnnotation != null) {
+      return legacyAnnotationMapping.apply(legacyAnnotation);
+    } else if (sdkAnnotation != null) {
+      return sdkAnnotationMapping.apply(sdkAnnotation);
+    } else {
+      return null;
+    }
+  }
+
+  private static ClassValueModel toClassValueModel(String[] extendsOrImplements) {
+    return new ClassValueModel(Stream.of(extendsOrImplements).filter(p -> !isBlank(p)).collect(toList()));
+  }
+
+  private static <T> Resolution<T> resolve(Supplier<T> resolver) {
+    try {
+      return new Resolution<>(resolver.get(), null);
+    } catch (RuntimeException e) {
+      return new Resolution<>(null, e);
+    }
+  }
+
+  /**
+   * The outcome of resolving a piece of information: either a value or the failure to obtain it.
+   */
+  private static final class Resolution<T> {
+
+    private final T value;
+    private final RuntimeException failure;
+
+    private Resolution(T value, RuntimeException failure) {
+      this.value = value;
+      this.failure = failure;
+    }
+
+    private T get() {
+      if (failure != null) {
+        throw failure;
+      }
+      return value;
+    }
+  }
+}
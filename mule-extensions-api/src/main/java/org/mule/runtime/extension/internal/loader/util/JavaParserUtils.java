@@ -45,7 +45,7 @@ public final class JavaParserUtils {
    * @return the field's alias, as defined by any of the {@code @Alias} annotations
    */
   public static String getAlias(Field field) {
-    return getAlias(field::getAnnotation, field::getName);
+    return JavaFieldDescriptor.of(field).getAlias();
   }
 
   /**
@@ -98,6 +98,13 @@ public final class JavaParserUtils {
    * @return the {@link ExpressionSupport} defined for the element, if defined. {@link Optional#empty()} otherwise.
    */
   public static Optional<ExpressionSupport> getExpressionSupport(AnnotatedElement element) {
+    if (element instanceof Field) {
+      return JavaFieldDescriptor.of((Field) element).getExpressionSupport();
+    }
+    return resolveExpressionSupport(element);
+  }
+
+  static Optional<ExpressionSupport> resolveExpressionSupport(AnnotatedElement element) {
     return mapReduceAnnotation(element::getAnnotation,
                                Expression.class,
                                org.mule.sdk.api.annotation.Expression.class,
@@ -111,6 +118,10 @@ public final class JavaParserUtils {
    *         {@link org.mule.sdk.api.annotation.param.ConfigOverride}
    */
   public static boolean isConfigOverride(Field field) {
+    return JavaFieldDescriptor.of(field).isConfigOverride();
+  }
+
+  static boolean resolveConfigOverride(Field field) {
     ConfigOverride legacyOverride = field.getAnnotation(ConfigOverride.class);
     org.mule.sdk.api.annotation.param.ConfigOverride sdkOverride =
         field.getAnnotation(org.mule.sdk.api.annotation.param.ConfigOverride.class);
@@ -126,6 +137,10 @@ public final class JavaParserUtils {
   }
 
   public static Optional<Class<?>> getNullSafeDefaultImplementedType(Field field) {
+    return JavaFieldDescriptor.of(field).getNullSafeDefaultImplementedType();
+  }
+
+  static Optional<Class<?>> resolveNullSafeDefaultImplementedType(Field field) {
     return mapReduceAnnotation(field::getAnnotation,
                                NullSafe.class,
                                org.mule.sdk.api.annotation.param.NullSafe.class,
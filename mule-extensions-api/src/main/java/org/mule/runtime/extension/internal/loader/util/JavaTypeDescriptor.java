@@ -0,0 +1,141 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader.util;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable description of the structure of a Java {@link Class}, as required to introspect it through the Extensions API
+ * annotations.
+ * <p>
+ * Descriptors are resolved once per class and attached to it through a {@link ClassValue}, so they go away together with the
+ * class. Each part of the descriptor is only resolved the first time it is requested, so that describing the hierarchy of a
+ * class doesn't fail because of the types of its fields.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class JavaTypeDescriptor {
+
+  private static final ClassValue<JavaTypeDescriptor> DESCRIPTORS = new ClassValue<JavaTypeDescriptor>() {
+
+    @Override
+    protected JavaTypeDescriptor computeValue(Class<?> type) {
+      return new JavaTypeDescriptor(type);
+    }
+  };
+
+  private static final JavaTypeDescriptor EMPTY = new JavaTypeDescriptor();
+
+  /**
+   * @param type a Java class. May be {@code null}
+   * @return the descriptor of the given {@code type}. {@link Object} and {@code null} are described as having no classes and no
+   *         fields.
+   */
+  public static JavaTypeDescriptor of(Class<?> type) {
+    return type == null || type.equals(Object.class) ? EMPTY : DESCRIPTORS.get(type);
+  }
+
+  private final Class<?> type;
+  private final JavaTypeDescriptor parent;
+  private final List<Class<?>> superClasses;
+
+  private volatile List<Field> allFields;
+  private volatile List<Field> parameterFields;
+  private volatile Map<String, JavaFieldDescriptor> fieldDescriptors;
+
+  private JavaTypeDescriptor() {
+    type = null;
+    parent = null;
+    superClasses = emptyList();
+    allFields = emptyList();
+    parameterFields = emptyList();
+    fieldDescriptors = emptyMap();
+  }
+
+  private JavaTypeDescriptor(Class<?> type) {
+    this.type = type;
+    parent = of(type.getSuperclass());
+
+    List<Class<?>> superClasses = new ArrayList<>(parent.superClasses.size() + 1);
+    superClasses.add(type);
+    superClasses.addAll(parent.superClasses);
+    this.superClasses = unmodifiableList(superClasses);
+  }
+
+  /**
+   * @return the described class followed by all its superclasses, without including {@link Object}
+   */
+  public List<Class<?>> getAllSuperClasses() {
+    return superClasses;
+  }
+
+  /**
+   * @return all the {@link Field}s declared by the described class or any of its superclasses
+   */
+  public List<Field> getAllFields() {
+    List<Field> fields = allFields;
+    if (fields == null) {
+      Field[] declaredFields = type.getDeclaredFields();
+      List<Field> parentFields = parent.getAllFields();
+
+      fields = new ArrayList<>(declaredFields.length + parentFields.size());
+      fields.addAll(asList(declaredFields));
+      fields.addAll(parentFields);
+      allFields = fields = unmodifiableList(fields);
+    }
+    return fields;
+  }
+
+  /**
+   * @return the {@link Field}s in {@link #getAllFields()} which are either parameters or parameter groups
+   */
+  public List<Field> getParameterFields() {
+    List<Field> fields = parameterFields;
+    if (fields == null) {
+      fields = new ArrayList<>();
+      for (Field field : getAllFields()) {
+        JavaFieldDescriptor descriptor = JavaFieldDescriptor.of(field);
+        if (descriptor.isParameter() || descriptor.isParameterGroup()) {
+          fields.add(field);
+        }
+      }
+      parameterFields = fields = unmodifiableList(fields);
+    }
+    return fields;
+  }
+
+  /**
+   * @param field a {@link Field} declared by the described class
+   * @return the descriptor of the given {@code field}
+   */
+  JavaFieldDescriptor getFieldDescriptor(Field field) {
+    Map<String, JavaFieldDescriptor> descriptors = fieldDescriptors;
+    if (descriptors == null) {
+      Field[] declaredFields = type.getDeclaredFields();
+      descriptors = new HashMap<>(declaredFields.length * 4 / 3 + 1);
+      for (Field declaredField : declaredFields) {
+        descriptors.put(declaredField.getName(), new JavaFieldDescriptor(declaredField));
+      }
+      fieldDescriptors = descriptors = unmodifiableMap(descriptors);
+    }
+
+    JavaFieldDescriptor descriptor = descriptors.get(field.getName());
+    return descriptor != null && descriptor.getField().equals(field) ? descriptor : new JavaFieldDescriptor(field);
+  }
+}
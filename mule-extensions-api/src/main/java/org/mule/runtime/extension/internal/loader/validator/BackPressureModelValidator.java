@@ -15,10 +15,11 @@ import org.mule.metadata.api.model.StringType;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.api.meta.model.source.SourceModel;
-import org.mule.runtime.api.meta.model.util.IdempotentExtensionWalker;
-import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+import org.mule.runtime.extension.api.loader.IdempotentExtensionModelValidatorWalkDelegate;
 import org.mule.runtime.extension.api.loader.Problem;
 import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
 import org.mule.runtime.extension.api.runtime.source.BackPressureMode;
 
 import java.util.List;
@@ -30,13 +31,15 @@ import java.util.stream.Stream;
  *
  * @since 1.1
  */
-public class BackPressureModelValidator implements ExtensionModelValidator {
+public class BackPressureModelValidator implements WalkingExtensionModelValidator {
 
   private static final String ERROR_PREFIX = "backPressureStrategy parameter ";
 
   @Override
-  public void validate(ExtensionModel model, ProblemsReporter problemsReporter) {
-    new IdempotentExtensionWalker() {
+  public Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel model,
+                                                                       DslSyntaxResolver syntaxResolver,
+                                                                       ProblemsReporter problemsReporter) {
+    return of(new IdempotentExtensionModelValidatorWalkDelegate() {
 
       @Override
       protected void onSource(SourceModel model) {
@@ -44,7 +47,7 @@ public class BackPressureModelValidator implements ExtensionModelValidator {
             .findAny()
             .ifPresent(p -> validateBackPressureStrategyParameter(model, p, problemsReporter));
       }
-    }.walk(model);
+    });
   }
 
   private void validateBackPressureStrategyParameter(SourceModel source, ParameterModel parameter,
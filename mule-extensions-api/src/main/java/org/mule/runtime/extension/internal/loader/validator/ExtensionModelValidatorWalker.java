@@ -0,0 +1,117 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader.validator;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.config.ConfigurationModel;
+import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
+import org.mule.runtime.api.meta.model.connection.HasConnectionProviderModels;
+import org.mule.runtime.api.meta.model.construct.ConstructModel;
+import org.mule.runtime.api.meta.model.construct.HasConstructModels;
+import org.mule.runtime.api.meta.model.function.FunctionModel;
+import org.mule.runtime.api.meta.model.function.HasFunctionModels;
+import org.mule.runtime.api.meta.model.operation.HasOperationModels;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
+import org.mule.runtime.api.meta.model.source.HasSourceModels;
+import org.mule.runtime.api.meta.model.source.SourceModel;
+import org.mule.runtime.api.meta.model.util.ExtensionWalker;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator.ExtensionModelValidatorWalkDelegate;
+
+import java.util.List;
+
+/**
+ * {@link ExtensionWalker} which notifies every found component to a list of {@link ExtensionModelValidatorWalkDelegate}s, so
+ * that many validators can be applied on a single walk. Once the walk is finished,
+ * {@link ExtensionModelValidatorWalkDelegate#onWalkFinished()} is invoked on each delegate.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class ExtensionModelValidatorWalker extends ExtensionWalker {
+
+  private final List<ExtensionModelValidatorWalkDelegate> delegates;
+  private long visitCount;
+
+  public ExtensionModelValidatorWalker(List<ExtensionModelValidatorWalkDelegate> delegates) {
+    this.delegates = delegates;
+  }
+
+  /**
+   * Walks the given {@code extensionModel} and then notifies every delegate that the walk is finished. Nothing is done if there
+   * are no delegates.
+   *
+   * @param extensionModel the {@link ExtensionModel} to validate
+   */
+  public void validate(ExtensionModel extensionModel) {
+    if (delegates.isEmpty()) {
+      return;
+    }
+
+    visitCount = 0;
+    walk(extensionModel);
+    delegates.forEach(ExtensionModelValidatorWalkDelegate::onWalkFinished);
+  }
+
+  /**
+   * @return the amount of components visited by the last walk, such as configurations, operations or parameters
+   */
+  public long getVisitCount() {
+    return visitCount;
+  }
+
+  @Override
+  protected void onConfiguration(ConfigurationModel model) {
+    visitCount++;
+    delegates.forEach(d -> d.onConfiguration(model));
+  }
+
+  @Override
+  protected void onOperation(HasOperationModels owner, OperationModel model) {
+    visitCount++;
+    delegates.forEach(d -> d.onOperation(owner, model));
+  }
+
+  @Override
+  protected void onFunction(HasFunctionModels owner, FunctionModel model) {
+    visitCount++;
+    delegates.forEach(d -> d.onFunction(owner, model));
+  }
+
+  @Override
+  protected void onConstruct(HasConstructModels owner, ConstructModel model) {
+    visitCount++;
+    delegates.forEach(d -> d.onConstruct(owner, model));
+  }
+
+  @Override
+  protected void onConnectionProvider(HasConnectionProviderModels owner, ConnectionProviderModel model) {
+    visitCount++;
+    delegates.forEach(d -> d.onConnectionProvider(owner, model));
+  }
+
+  @Override
+  protected void onSource(HasSourceModels owner, SourceModel model) {
+    visitCount++;
+    delegates.forEach(d -> d.onSource(owner, model));
+  }
+
+  @Override
+  protected void onParameterGroup(ParameterizedModel owner, ParameterGroupModel model) {
+    visitCount++;
+    delegates.forEach(d -> d.onParameterGroup(owner, model));
+  }
+
+  @Override
+  protected void onParameter(ParameterizedModel owner, ParameterGroupModel groupModel, ParameterModel model) {
+    visitCount++;
+    delegates.forEach(d -> d.onParameter(owner, groupModel, model));
+  }
+}
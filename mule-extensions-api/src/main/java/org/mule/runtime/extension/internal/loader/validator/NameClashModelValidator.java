@@ -15,6 +15,7 @@ import static org.mule.runtime.extension.api.util.NameUtils.getComponentModelTyp
 
 import static java.lang.String.format;
 import static java.util.Arrays.stream;
+import static java.util.Optional.of;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
@@ -46,16 +47,14 @@ import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
 import org.mule.runtime.api.meta.model.source.HasSourceModels;
 import org.mule.runtime.api.meta.model.source.SourceCallbackModel;
 import org.mule.runtime.api.meta.model.source.SourceModel;
-import org.mule.runtime.api.meta.model.util.ExtensionWalker;
 import org.mule.runtime.api.util.MultiMap;
 import org.mule.runtime.api.util.Reference;
 import org.mule.runtime.extension.api.annotation.param.Content;
 import org.mule.runtime.extension.api.dsl.syntax.DslElementSyntax;
 import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
-import org.mule.runtime.extension.api.dsl.syntax.resolver.SingleExtensionImportTypesStrategy;
-import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
 import org.mule.runtime.extension.api.loader.Problem;
 import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
 import org.mule.runtime.extension.api.util.ExtensionMetadataTypeUtils;
 import org.mule.runtime.extension.api.util.ExtensionModelUtils;
 
@@ -90,21 +89,16 @@ import org.apache.commons.lang3.StringUtils;
  *
  * @since 1.0
  */
-public final class NameClashModelValidator implements ExtensionModelValidator {
+public final class NameClashModelValidator implements WalkingExtensionModelValidator {
 
   @Override
-  public void validate(ExtensionModel model, ProblemsReporter problemsReporter) {
-    new ValidationDelegate(model,
-                           DslSyntaxResolver.getDefault(model, new SingleExtensionImportTypesStrategy()),
-                           problemsReporter).validate();
+  public Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel model,
+                                                                       DslSyntaxResolver syntaxResolver,
+                                                                       ProblemsReporter problemsReporter) {
+    return of(new ValidationDelegate(model, syntaxResolver, problemsReporter));
   }
 
-  @Override
-  public void validate(ExtensionModel model, DslSyntaxResolver syntaxResolver, ProblemsReporter problemsReporter) {
-    new ValidationDelegate(model, syntaxResolver, problemsReporter).validate();
-  }
-
-  private class ValidationDelegate {
+  private class ValidationDelegate extends ExtensionModelValidatorWalkDelegate {
 
     public static final String SINGULARIZED_CLASH_MESSAGE =
         "Extension '%s' contains %d parameters that clash when singularized. %s";
@@ -128,91 +122,89 @@ public final class NameClashModelValidator implements ExtensionModelValidator {
       this.dslSyntaxResolver = syntaxResolver;
     }
 
-    private void validate() {
-      new ExtensionWalker() {
+    @Override
+    public void onConfiguration(ConfigurationModel model) {
+      final String elementName = dslSyntaxResolver.resolve(model).getElementName();
 
-        @Override
-        public void onConfiguration(ConfigurationModel model) {
-          final String elementName = dslSyntaxResolver.resolve(model).getElementName();
+      defaultValidation(model, elementName);
+    }
 
-          defaultValidation(model, elementName);
-        }
+    @Override
+    public void onConnectionProvider(HasConnectionProviderModels owner, ConnectionProviderModel model) {
+      final String elementName = dslSyntaxResolver.resolve(model).getElementName();
 
-        @Override
-        public void onConnectionProvider(HasConnectionProviderModels owner, ConnectionProviderModel model) {
-          final String elementName = dslSyntaxResolver.resolve(model).getElementName();
+      defaultValidation(model, elementName);
+    }
 
-          defaultValidation(model, elementName);
-        }
+    @Override
+    public void onOperation(HasOperationModels owner, OperationModel model) {
+      Map<ParameterModel, DslElementSyntax> paramsDsl = model.getAllParameterModels()
+          .stream()
+          .collect(toMap(identity(), dslSyntaxResolver::resolve, (x, y) -> x, IdentityHashMap::new));
+      final String elementName = dslSyntaxResolver.resolve(model).getElementName();
 
-        @Override
-        public void onOperation(HasOperationModels owner, OperationModel model) {
-          Map<ParameterModel, DslElementSyntax> paramsDsl = model.getAllParameterModels()
-              .stream()
-              .collect(toMap(identity(), dslSyntaxResolver::resolve, (x, y) -> x, IdentityHashMap::new));
-          final String elementName = dslSyntaxResolver.resolve(model).getElementName();
-
-          validateComponent(model, paramsDsl, elementName);
-          registerNamedObject(model, elementName);
-          validateSingularizedNameClash(model, elementName);
-          splitParametersByContent(model, paramsDsl);
-        }
+      validateComponent(model, paramsDsl, elementName);
+      registerNamedObject(model, elementName);
+      validateSingularizedNameClash(model, elementName);
+      splitParametersByContent(model, paramsDsl);
+    }
 
-        @Override
-        public void onFunction(HasFunctionModels owner, FunctionModel model) {
-          functionNames.put(model.getName(), model);
-        }
+    @Override
+    public void onFunction(HasFunctionModels owner, FunctionModel model) {
+      functionNames.put(model.getName(), model);
+    }
 
-        @Override
-        public void onSource(HasSourceModels owner, SourceModel model) {
-          Map<ParameterModel, DslElementSyntax> paramsDsl = model.getAllParameterModels()
-              .stream()
-              .collect(toMap(identity(), dslSyntaxResolver::resolve, (x, y) -> x, IdentityHashMap::new));
-          final String elementName = dslSyntaxResolver.resolve(model).getElementName();
-
-          validateCallbackNames(model.getSuccessCallback(), model);
-          validateCallbackNames(model.getErrorCallback(), model);
-          defaultValidation(model, elementName);
-          splitParametersByContent(model, paramsDsl);
-        }
+    @Override
+    public void onSource(HasSourceModels owner, SourceModel model) {
+      Map<ParameterModel, DslElementSyntax> paramsDsl = model.getAllParameterModels()
+          .stream()
+          .collect(toMap(identity(), dslSyntaxResolver::resolve, (x, y) -> x, IdentityHashMap::new));
+      final String elementName = dslSyntaxResolver.resolve(model).getElementName();
 
-        @Override
-        public void onParameter(ParameterizedModel owner, ParameterGroupModel groupModel, ParameterModel model) {
-          if (!(owner instanceof FunctionModel)) {
-            validateTopLevelParameter(model, owner);
-          }
-        }
+      validateCallbackNames(model.getSuccessCallback(), model);
+      validateCallbackNames(model.getErrorCallback(), model);
+      defaultValidation(model, elementName);
+      splitParametersByContent(model, paramsDsl);
+    }
 
-        @Override
-        public void onConstruct(HasConstructModels owner, ConstructModel model) {
-          Map<ParameterModel, DslElementSyntax> paramsDsl = model.getAllParameterModels()
-              .stream()
-              .collect(toMap(identity(), dslSyntaxResolver::resolve, (x, y) -> x, IdentityHashMap::new));
-          final String elementName = dslSyntaxResolver.resolve(model).getElementName();
-
-          validateComponent(model, paramsDsl, elementName);
-          registerNamedObject(model, elementName);
-          validateSingularizedNameClash(model, elementName);
-          splitParametersByContent(model, paramsDsl);
-        }
+    @Override
+    public void onParameter(ParameterizedModel owner, ParameterGroupModel groupModel, ParameterModel model) {
+      if (!(owner instanceof FunctionModel)) {
+        validateTopLevelParameter(model, owner);
+      }
+    }
 
-        private void defaultValidation(ParameterizedModel model, String elementName) {
-          validateNamesWithinGroups(model);
-          registerNamedObject(model, elementName);
-          validateSingularizedNameClash(model, elementName);
-        }
+    @Override
+    public void onConstruct(HasConstructModels owner, ConstructModel model) {
+      Map<ParameterModel, DslElementSyntax> paramsDsl = model.getAllParameterModels()
+          .stream()
+          .collect(toMap(identity(), dslSyntaxResolver::resolve, (x, y) -> x, IdentityHashMap::new));
+      final String elementName = dslSyntaxResolver.resolve(model).getElementName();
 
-        private void registerNamedObject(ParameterizedModel named, String elementName) {
-          namedObjects.add(new DescribedReference<>(named, elementName));
-        }
+      validateComponent(model, paramsDsl, elementName);
+      registerNamedObject(model, elementName);
+      validateSingularizedNameClash(model, elementName);
+      splitParametersByContent(model, paramsDsl);
+    }
 
-        private void validateCallbackNames(Optional<SourceCallbackModel> sourceCallback, SourceModel model) {
-          sourceCallback.ifPresent(cb -> validateNamesWithinGroups(cb, concat(model.getParameterGroupModels().stream(),
-                                                                              cb.getParameterGroupModels().stream())
-                                                                                  .collect(toList())));
-        }
-      }.walk(extensionModel);
+    private void defaultValidation(ParameterizedModel model, String elementName) {
+      validateNamesWithinGroups(model);
+      registerNamedObject(model, elementName);
+      validateSingularizedNameClash(model, elementName);
+    }
 
+    private void registerNamedObject(ParameterizedModel named, String elementName) {
+      namedObjects.add(new DescribedReference<>(named, elementName));
+    }
+
+    private void validateCallbackNames(Optional<SourceCallbackModel> sourceCallback, SourceModel model) {
+      sourceCallback.ifPresent(cb -> validateNamesWithinGroups(cb, concat(model.getParameterGroupModels().stream(),
+                                                                          cb.getParameterGroupModels().stream())
+                                                                              .collect(toList())));
+    }
+
+    @Override
+    public void onWalkFinished() {
       validateSubtypes(extensionModel.getSubTypes());
       validateSingularizeNameClashesWithTopLevels();
       validateSingularizeNameClashesWithNamedObjects();
@@ -7,6 +7,7 @@
 package org.mule.runtime.extension.internal.loader.validator;
 
 import static java.lang.String.format;
+import static java.util.Optional.of;
 import static org.apache.commons.lang3.CharUtils.isAsciiNumeric;
 import static org.apache.commons.lang3.StringUtils.isAlphanumeric;
 import static org.mule.runtime.extension.api.util.NameUtils.getComponentModelTypeName;
@@ -27,19 +28,21 @@ import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
 import org.mule.runtime.api.meta.model.source.HasSourceModels;
 import org.mule.runtime.api.meta.model.source.SourceModel;
-import org.mule.runtime.api.meta.model.util.ExtensionWalker;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
 import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
 import org.mule.runtime.extension.api.loader.Problem;
 import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 /**
  * {@link ExtensionModelValidator} which validates that the given names are valid.
  *
  * @since 1.0
  */
-public class NameModelValidator implements ExtensionModelValidator {
+public class NameModelValidator implements WalkingExtensionModelValidator {
 
   private static final byte[] CHARS = new byte[65536];
 
@@ -47,41 +50,43 @@ public class NameModelValidator implements ExtensionModelValidator {
       "The name of the %s [%s] is not a valid one. Names should follow: http://www.w3.org/TR/xmlschema-2/#NCName";
 
   @Override
-  public void validate(ExtensionModel extensionModel, ProblemsReporter problemsReporter) {
-    new ExtensionWalker() {
+  public Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel extensionModel,
+                                                                       DslSyntaxResolver syntaxResolver,
+                                                                       ProblemsReporter problemsReporter) {
+    return of(new ExtensionModelValidatorWalkDelegate() {
 
       @Override
-      protected void onOperation(HasOperationModels owner, OperationModel model) {
+      public void onOperation(HasOperationModels owner, OperationModel model) {
         validateName(model, problemsReporter);
       }
 
       @Override
-      protected void onParameter(ParameterizedModel owner, ParameterGroupModel groupModel, ParameterModel model) {
+      public void onParameter(ParameterizedModel owner, ParameterGroupModel groupModel, ParameterModel model) {
         validateName(model, problemsReporter, "parameter");
       }
 
       @Override
-      protected void onConfiguration(ConfigurationModel model) {
+      public void onConfiguration(ConfigurationModel model) {
         validateName(model, problemsReporter);
       }
 
       @Override
-      protected void onConnectionProvider(HasConnectionProviderModels owner, ConnectionProviderModel model) {
+      public void onConnectionProvider(HasConnectionProviderModels owner, ConnectionProviderModel model) {
         validateName(model, problemsReporter);
       }
 
       @Override
-      protected void onSource(HasSourceModels owner, SourceModel model) {
+      public void onSource(HasSourceModels owner, SourceModel model) {
         validateName(model, problemsReporter);
       }
 
       @Override
-      protected void onConstruct(HasConstructModels owner, ConstructModel model) {
+      public void onConstruct(HasConstructModels owner, ConstructModel model) {
         validateName(model, problemsReporter);
       }
 
       @Override
-      protected void onFunction(HasFunctionModels owner, FunctionModel model) {
+      public void onFunction(HasFunctionModels owner, FunctionModel model) {
         String name = model.getName();
         if (isAsciiNumeric(name.toCharArray()[0])) {
           problemsReporter.addError(new Problem(model,
@@ -94,7 +99,7 @@ public class NameModelValidator implements ExtensionModelValidator {
                                                        name)));
         }
       }
-    }.walk(extensionModel);
+    });
   }
 
   private void validateName(ParameterizedModel model, ProblemsReporter problemsReporter) {
@@ -13,6 +13,7 @@ import static org.mule.runtime.extension.internal.util.ExtensionValidationUtils.
 import static org.mule.runtime.extension.privileged.util.ComponentDeclarationUtils.isConnectionProvisioningRequired;
 
 import static java.lang.String.format;
+import static java.util.Optional.of;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
@@ -30,14 +31,13 @@ import org.mule.runtime.api.meta.model.nested.NestedRouteModel;
 import org.mule.runtime.api.meta.model.operation.HasOperationModels;
 import org.mule.runtime.api.meta.model.operation.OperationModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
-import org.mule.runtime.api.meta.model.util.ExtensionWalker;
 import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
-import org.mule.runtime.extension.api.dsl.syntax.resolver.SingleExtensionImportTypesStrategy;
-import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
 import org.mule.runtime.extension.api.loader.Problem;
 import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -45,18 +45,13 @@ import java.util.concurrent.atomic.AtomicInteger;
  *
  * @since 1.0
  */
-public final class OperationModelValidator implements ExtensionModelValidator {
+public final class OperationModelValidator implements WalkingExtensionModelValidator {
 
   @Override
-  public void validate(ExtensionModel extensionModel, ProblemsReporter problemsReporter) {
-    new ValidatorDelegate().validate(extensionModel,
-                                     DslSyntaxResolver.getDefault(extensionModel, new SingleExtensionImportTypesStrategy()),
-                                     problemsReporter);
-  }
-
-  @Override
-  public void validate(ExtensionModel extensionModel, DslSyntaxResolver syntaxResolver, ProblemsReporter problemsReporter) {
-    new ValidatorDelegate().validate(extensionModel, syntaxResolver, problemsReporter);
+  public Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel extensionModel,
+                                                                       DslSyntaxResolver syntaxResolver,
+                                                                       ProblemsReporter problemsReporter) {
+    return of(new ValidatorDelegate().getWalkDelegate(extensionModel, syntaxResolver, problemsReporter));
   }
 
   private static class ValidatorDelegate {
@@ -64,16 +59,17 @@ public final class OperationModelValidator implements ExtensionModelValidator {
     private ProblemsReporter problemsReporter;
     private DslSyntaxResolver dsl;
 
-    void validate(ExtensionModel extensionModel, DslSyntaxResolver syntaxResolver, ProblemsReporter problemsReporter) {
+    ExtensionModelValidatorWalkDelegate getWalkDelegate(ExtensionModel extensionModel, DslSyntaxResolver syntaxResolver,
+                                                        ProblemsReporter problemsReporter) {
       this.problemsReporter = problemsReporter;
       this.dsl = syntaxResolver;
       final boolean hasGlobalConnectionProviders = !extensionModel.getConnectionProviders().isEmpty();
       final boolean extensionWithoutErrors = extensionModel.getErrorModels().isEmpty();
 
-      new ExtensionWalker() {
+      return new ExtensionModelValidatorWalkDelegate() {
 
         @Override
-        protected void onConstruct(HasConstructModels owner, ConstructModel model) {
+        public void onConstruct(HasConstructModels owner, ConstructModel model) {
           validateErrors(extensionModel, model, problemsReporter);
           if (isScope(model)) {
             validateScope(model);
@@ -83,7 +79,7 @@ public final class OperationModelValidator implements ExtensionModelValidator {
         }
 
         @Override
-        protected void onOperation(HasOperationModels owner, OperationModel model) {
+        public void onOperation(HasOperationModels owner, OperationModel model) {
           validateErrors(extensionModel, model, problemsReporter);
           validateOutput(model);
           validateConnection(owner, model, hasGlobalConnectionProviders);
@@ -116,7 +112,7 @@ public final class OperationModelValidator implements ExtensionModelValidator {
                                                          undeclared.stream().map(ErrorModel::getType).collect(joining(", ")))));
           }
         }
-      }.walk(extensionModel);
+      };
     }
 
     private void validateScope(ComponentModel model) {
@@ -7,6 +7,7 @@
 package org.mule.runtime.extension.internal.loader.validator;
 
 import static java.lang.String.format;
+import static java.util.Optional.of;
 import static java.util.stream.Collectors.toList;
 import static org.mule.runtime.api.meta.ExpressionSupport.NOT_SUPPORTED;
 import static org.mule.runtime.api.meta.model.parameter.ParameterRole.BEHAVIOUR;
@@ -32,14 +33,15 @@ import org.mule.runtime.api.meta.model.operation.OperationModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
-import org.mule.runtime.api.meta.model.util.ExtensionWalker;
 import org.mule.runtime.extension.api.connectivity.oauth.OAuthParameterModelProperty;
-import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
 import org.mule.runtime.extension.api.loader.Problem;
 import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -57,32 +59,30 @@ import java.util.stream.Stream;
  *
  * @since 1.0.0
  */
-public final class ParameterModelValidator implements ExtensionModelValidator {
+public final class ParameterModelValidator implements WalkingExtensionModelValidator {
 
   @Override
-  public void validate(ExtensionModel model, ProblemsReporter problemsReporter) {
-    new ValidatorDelegate().validate(model, problemsReporter);
+  public Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel model,
+                                                                       DslSyntaxResolver syntaxResolver,
+                                                                       ProblemsReporter problemsReporter) {
+    return of(new ValidatorDelegate(problemsReporter));
   }
 
-  private class ValidatorDelegate implements ExtensionModelValidator {
+  private class ValidatorDelegate extends ExtensionModelValidatorWalkDelegate {
 
-    private ProblemsReporter problemsReporter;
-    private Set<String> validatedComponentIdContainers = new HashSet<>();
+    private final ProblemsReporter problemsReporter;
+    private final Set<String> validatedComponentIdContainers = new HashSet<>();
 
-    @Override
-    public void validate(ExtensionModel extensionModel, ProblemsReporter problemsReporter) {
+    private ValidatorDelegate(ProblemsReporter problemsReporter) {
       this.problemsReporter = problemsReporter;
+    }
 
-      new ExtensionWalker() {
-
-        @Override
-        public void onParameter(ParameterizedModel owner, ParameterGroupModel groupModel, ParameterModel model) {
-          String ownerName = owner.getName();
-          String ownerModelType = getComponentModelTypeName(owner);
-          validateParameter(model, ownerName, ownerModelType, owner);
-          validateOAuthParameter(model, ownerName, ownerModelType);
-        }
-      }.walk(extensionModel);
+    @Override
+    public void onParameter(ParameterizedModel owner, ParameterGroupModel groupModel, ParameterModel model) {
+      String ownerName = owner.getName();
+      String ownerModelType = getComponentModelTypeName(owner);
+      validateParameter(model, ownerName, ownerModelType, owner);
+      validateOAuthParameter(model, ownerName, ownerModelType);
     }
 
     private void validateParameter(ParameterModel parameterModel, String ownerName, String ownerModelType,
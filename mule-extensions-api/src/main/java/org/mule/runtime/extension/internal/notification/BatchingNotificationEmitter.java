@@ -0,0 +1,196 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.notification;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.extension.api.notification.NotificationActionDefinition;
+import org.mule.runtime.extension.api.notification.NotificationEmitter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+
+/**
+ * {@link NotificationEmitter} which queues the fired notifications and dispatches them in batches to a delegate emitter, from
+ * tasks submitted to an {@link Executor}. The data of lazy notifications is computed when they are dispatched, and not at all if
+ * the delegate is not {@link NotificationEmitter#isListening(NotificationActionDefinition) listening} to their action when they
+ * are fired.
+ * <p>
+ * At most one dispatch task is pending at any time. When the queue is full, fired notifications are dropped and counted. When
+ * the {@link Executor} rejects a dispatch task, the firing thread drains the queue itself.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class BatchingNotificationEmitter implements NotificationEmitter {
+
+  private static final Logger LOGGER = getLogger(BatchingNotificationEmitter.class);
+
+  private final NotificationEmitter delegate;
+  private final Executor executor;
+  private final int maxBatchSize;
+  private final BlockingQueue<PendingNotification> queue;
+  private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+
+  private final AtomicLong droppedCount = new AtomicLong();
+  private final AtomicLong dispatchedCount = new AtomicLong();
+
+  /**
+   * Creates a new instance
+   *
+   * @param delegate     the {@link NotificationEmitter} to which the notifications are dispatched
+   * @param executor     the {@link Executor} in which the dispatch tasks are run
+   * @param capacity     the maximum amount of notifications waiting to be dispatched
+   * @param maxBatchSize the maximum amount of notifications dispatched by each task
+   */
+  public BatchingNotificationEmitter(NotificationEmitter delegate, Executor executor, int capacity, int maxBatchSize) {
+    checkArgument(capacity > 0, "capacity must be greater than 0");
+    checkArgument(maxBatchSize > 0, "maxBatchSize must be greater than 0");
+    this.delegate = delegate;
+    this.executor = executor;
+    this.maxBatchSize = maxBatchSize;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+  }
+
+  @Override
+  public void fire(NotificationActionDefinition action, TypedValue<?> data) {
+    if (delegate.isListening(action)) {
+      enqueue(new PendingNotification(action, data, null, null));
+    }
+  }
+
+  @Override
+  public void fireLazy(NotificationActionDefinition action, Supplier<?> dataValue, DataType dataType) {
+    if (delegate.isListening(action)) {
+      enqueue(new PendingNotification(action, null, dataValue, dataType));
+    }
+  }
+
+  @Override
+  public boolean isListening(NotificationActionDefinition action) {
+    return delegate.isListening(action);
+  }
+
+  @Override
+  public NotificationEmitter asynchronous() {
+    return this;
+  }
+
+  /**
+   * Dispatches, in the calling thread, all the notifications waiting to be dispatched.
+   */
+  public void flush() {
+    while (dispatchBatch() > 0) {
+      // keep draining
+    }
+  }
+
+  /**
+   * @return the amount of notifications which were dropped because the queue was full
+   */
+  public long getDroppedCount() {
+    return droppedCount.get();
+  }
+
+  /**
+   * @return the amount of notifications which were dispatched to the delegate
+   */
+  public long getDispatchedCount() {
+    return dispatchedCount.get();
+  }
+
+  private void enqueue(PendingNotification notification) {
+    if (!queue.offer(notification)) {
+      droppedCount.incrementAndGet();
+      return;
+    }
+    scheduleDispatch();
+  }
+
+  private void scheduleDispatch() {
+    while (dispatchScheduled.compareAndSet(false, true)) {
+      try {
+        executor.execute(this::dispatch);
+        return;
+      } catch (RejectedExecutionException e) {
+        LOGGER.debug("Notification dispatch rejected by the executor, dispatching in the current thread", e);
+      }
+
+      // drain here instead of going through dispatch(), which would try the executor again for each remaining batch
+      try {
+        flush();
+      } finally {
+        dispatchScheduled.set(false);
+      }
+
+      // notifications enqueued after the queue was drained and before the flag was cleared would be left behind otherwise
+      if (queue.isEmpty()) {
+        return;
+      }
+    }
+  }
+
+  private void dispatch() {
+    try {
+      dispatchBatch();
+    } finally {
+      dispatchScheduled.set(false);
+    }
+
+    // notifications enqueued after the batch was taken and before the flag was cleared would be left behind otherwise
+    if (!queue.isEmpty()) {
+      scheduleDispatch();
+    }
+  }
+
+  private int dispatchBatch() {
+    int dispatched = 0;
+    PendingNotification notification;
+    while (dispatched < maxBatchSize && (notification = queue.poll()) != null) {
+      try {
+        delegate.fire(notification.action, notification.getData());
+        dispatchedCount.incrementAndGet();
+      } catch (Throwable t) {
+        LOGGER.warn("Could not dispatch notification for action " + notification.action, t);
+      }
+      dispatched++;
+    }
+    return dispatched;
+  }
+
+  private static final class PendingNotification {
+
+    private final NotificationActionDefinition action;
+    private final TypedValue<?> data;
+    private final Supplier<?> dataValue;
+    private final DataType dataType;
+
+    private PendingNotification(NotificationActionDefinition action, TypedValue<?> data, Supplier<?> dataValue,
+                                DataType dataType) {
+      this.action = action;
+      this.data = data;
+      this.dataValue = dataValue;
+      this.dataType = dataType;
+    }
+
+    private TypedValue<?> getData() {
+      return data != null ? data : new TypedValue<>(dataValue.get(), dataType);
+    }
+  }
+}
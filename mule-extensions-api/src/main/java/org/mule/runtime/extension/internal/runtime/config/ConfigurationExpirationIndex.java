@@ -0,0 +1,187 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.runtime.config;
+
+import static java.lang.Math.max;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.runtime.extension.api.runtime.ExpirationPolicy;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationStats;
+import org.mule.runtime.extension.api.runtime.config.ExpirableConfigurationProvider;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Index of the {@link ConfigurationInstance}s of a dynamic configuration which allows an {@link ExpirableConfigurationProvider}
+ * to find the expired ones without checking every instance.
+ * <p>
+ * Instances are kept ordered by the time they were last used, which the provider records by calling {@link #touch(Object)} each
+ * time it hands an instance out. Since all the instances share the same {@link ExpirationPolicy}, the least recently used ones
+ * are the first to expire, so {@link #removeExpired()} stops at the first instance which is not expired. Its cost is
+ * proportional to the amount of expired instances rather than to the amount of live ones.
+ * <p>
+ * Before an instance is deemed expired, its {@link ConfigurationStats} are checked. An instance whose
+ * {@link ConfigurationStats#getLastUsedMillis()} shows a use which was not recorded in the index, or which still has
+ * {@link ConfigurationStats#getActiveComponents() active components}, is not expired and is moved back as if used at that
+ * time, or now respectively.
+ * <p>
+ * Use times which are earlier than the latest recorded one are recorded as the latest, so that the order holds even when the
+ * clock goes backwards. This may only delay the expiration of an instance, never bring it forward.
+ * <p>
+ * Instances are thread-safe.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @param <K> the type of the keys with which the provider identifies each instance
+ * @since 1.10
+ */
+public final class ConfigurationExpirationIndex<K> {
+
+  private final ExpirationPolicy expirationPolicy;
+  private final LongSupplier clock;
+
+  private final LinkedHashMap<K, IndexEntry<K>> entries = new LinkedHashMap<>();
+  private long latestUse = Long.MIN_VALUE;
+  private long visitCount;
+
+  /**
+   * Creates a new instance which takes the use times from {@link System#currentTimeMillis()}
+   *
+   * @param expirationPolicy the {@link ExpirationPolicy} of the dynamic configuration
+   */
+  public ConfigurationExpirationIndex(ExpirationPolicy expirationPolicy) {
+    this(expirationPolicy, System::currentTimeMillis);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param expirationPolicy the {@link ExpirationPolicy} of the dynamic configuration
+   * @param clock            supplies the current time in milliseconds, in the same time base the {@code expirationPolicy} and
+   *                         the {@link ConfigurationStats} use
+   */
+  public ConfigurationExpirationIndex(ExpirationPolicy expirationPolicy, LongSupplier clock) {
+    this.expirationPolicy = expirationPolicy;
+    this.clock = clock;
+  }
+
+  /**
+   * Adds an instance to the index, as used now. If the {@code key} was already indexed, its previous instance is replaced.
+   *
+   * @param key      the key of the instance
+   * @param instance the {@link ConfigurationInstance}
+   */
+  public synchronized void put(K key, ConfigurationInstance instance) {
+    entries.remove(key);
+    entries.put(key, new IndexEntry<>(key, instance, ordered(clock.getAsLong())));
+  }
+
+  /**
+   * Records that the instance with the given {@code key} was used now. Does nothing if the {@code key} is not indexed.
+   *
+   * @param key the key of the instance
+   */
+  public synchronized void touch(K key) {
+    IndexEntry<K> entry = entries.remove(key);
+    if (entry != null) {
+      entry.lastUsed = ordered(clock.getAsLong());
+      entries.put(key, entry);
+    }
+  }
+
+  /**
+   * Removes the instance with the given {@code key} from the index.
+   *
+   * @param key the key of the instance
+   * @return the removed {@link ConfigurationInstance}, or {@link Optional#empty()} if the {@code key} was not indexed
+   */
+  public synchronized Optional<ConfigurationInstance> remove(K key) {
+    IndexEntry<K> entry = entries.remove(key);
+    return entry != null ? of(entry.instance) : empty();
+  }
+
+  /**
+   * Removes the expired instances from the index.
+   *
+   * @return the removed {@link ConfigurationInstance}s, by key, from the least to the most recently used
+   */
+  public synchronized Map<K, ConfigurationInstance> removeExpired() {
+    Map<K, ConfigurationInstance> expired = new LinkedHashMap<>();
+    List<IndexEntry<K>> rearmed = new ArrayList<>();
+
+    Iterator<IndexEntry<K>> iterator = entries.values().iterator();
+    while (iterator.hasNext()) {
+      IndexEntry<K> entry = iterator.next();
+      visitCount++;
+      if (!expirationPolicy.isExpired(entry.lastUsed, MILLISECONDS)) {
+        break;
+      }
+
+      iterator.remove();
+      ConfigurationStats stats = entry.instance.getStatistics();
+      long statsLastUsed = stats.getLastUsedMillis();
+      if (statsLastUsed > entry.lastUsed && !expirationPolicy.isExpired(statsLastUsed, MILLISECONDS)) {
+        entry.lastUsed = statsLastUsed;
+        rearmed.add(entry);
+      } else if (stats.getActiveComponents() > 0) {
+        entry.lastUsed = clock.getAsLong();
+        rearmed.add(entry);
+      } else {
+        expired.put(entry.key, entry.instance);
+      }
+    }
+
+    // entries can't be moved to the end while iterating
+    for (IndexEntry<K> entry : rearmed) {
+      entry.lastUsed = ordered(entry.lastUsed);
+      entries.put(entry.key, entry);
+    }
+
+    return expired;
+  }
+
+  /**
+   * @return the amount of indexed instances
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * @return the total amount of instances checked by {@link #removeExpired()} since this index was created
+   */
+  public synchronized long getVisitCount() {
+    return visitCount;
+  }
+
+  private long ordered(long time) {
+    latestUse = max(latestUse, time);
+    return latestUse;
+  }
+
+  private static final class IndexEntry<K> {
+
+    private final K key;
+    private final ConfigurationInstance instance;
+    private long lastUsed;
+
+    private IndexEntry(K key, ConfigurationInstance instance, long lastUsed) {
+      this.key = key;
+      this.instance = instance;
+      this.lastUsed = lastUsed;
+    }
+  }
+}
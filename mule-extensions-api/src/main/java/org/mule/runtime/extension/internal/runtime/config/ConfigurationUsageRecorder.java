@@ -0,0 +1,199 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.runtime.config;
+
+import static java.lang.Math.min;
+import static java.util.Collections.unmodifiableMap;
+
+import org.mule.runtime.extension.api.error.ErrorTypeDefinition;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationUsageSnapshot;
+import org.mule.runtime.extension.api.runtime.config.OperationUsageSnapshot;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Records the executions of the operations of a {@link ConfigurationInstance} and provides the
+ * {@link ConfigurationUsageSnapshot}s of it.
+ * <p>
+ * Counters are striped {@link LongAdder}s, so that concurrent executions don't contend on them, and latencies are kept in a
+ * {@link LatencyHistogram} per operation, of fixed size. Taking a snapshot reads the counters without locking, so it never
+ * delays the executions being recorded.
+ * <p>
+ * Instances are thread-safe.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class ConfigurationUsageRecorder {
+
+  private final LongSupplier clock;
+  private final Map<String, OperationUsage> operations = new ConcurrentHashMap<>();
+  private final Map<ErrorTypeDefinition<?>, LongAdder> errorCounts = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance which timestamps the snapshots with {@link System#currentTimeMillis()}
+   */
+  public ConfigurationUsageRecorder() {
+    this(System::currentTimeMillis);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param clock supplies the current time in milliseconds, with which the snapshots are timestamped
+   */
+  public ConfigurationUsageRecorder(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Records an execution of the given operation which finished successfully.
+   *
+   * @param operationName the name of the operation
+   * @param latencyNanos  the time the execution took, in nanoseconds
+   */
+  public void recordSuccess(String operationName, long latencyNanos) {
+    operationUsage(operationName).record(latencyNanos);
+  }
+
+  /**
+   * Records an execution of the given operation which finished with an error.
+   *
+   * @param operationName the name of the operation
+   * @param errorType     the {@link ErrorTypeDefinition} of the error, or {@code null} if it can't be mapped to one
+   * @param latencyNanos  the time the execution took, in nanoseconds
+   */
+  public void recordError(String operationName, ErrorTypeDefinition<?> errorType, long latencyNanos) {
+    OperationUsage usage = operationUsage(operationName);
+    usage.record(latencyNanos);
+    usage.errors.increment();
+    if (errorType != null) {
+      errorCounts.computeIfAbsent(errorType, k -> new LongAdder()).increment();
+    }
+  }
+
+  /**
+   * @return a {@link ConfigurationUsageSnapshot} of the executions recorded so far
+   */
+  public ConfigurationUsageSnapshot snapshot() {
+    Map<String, OperationUsageSnapshot> operationSnapshots = new LinkedHashMap<>();
+    operations.forEach((name, usage) -> operationSnapshots.put(name, usage.snapshot()));
+
+    Map<ErrorTypeDefinition<?>, Long> errorCountsSnapshot = new LinkedHashMap<>();
+    errorCounts.forEach((errorType, count) -> errorCountsSnapshot.put(errorType, count.sum()));
+
+    return new DefaultConfigurationUsageSnapshot(clock.getAsLong(), unmodifiableMap(operationSnapshots),
+                                                 unmodifiableMap(errorCountsSnapshot));
+  }
+
+  private OperationUsage operationUsage(String operationName) {
+    OperationUsage usage = operations.get(operationName);
+    // avoid the locking of computeIfAbsent on the hot path, once the operation was executed
+    return usage != null ? usage : operations.computeIfAbsent(operationName, k -> new OperationUsage());
+  }
+
+  private static final class OperationUsage {
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final LongAccumulator maxLatency = new LongAccumulator(Long::max, 0);
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    private void record(long latencyNanos) {
+      executions.increment();
+      totalLatency.add(latencyNanos);
+      maxLatency.accumulate(latencyNanos);
+      latencies.record(latencyNanos);
+    }
+
+    private OperationUsageSnapshot snapshot() {
+      return new DefaultOperationUsageSnapshot(executions.sum(), errors.sum(), totalLatency.sum(), maxLatency.get(),
+                                               latencies.copyCounts());
+    }
+  }
+
+  private static final class DefaultConfigurationUsageSnapshot implements ConfigurationUsageSnapshot {
+
+    private final long timestamp;
+    private final Map<String, OperationUsageSnapshot> operations;
+    private final Map<ErrorTypeDefinition<?>, Long> errorCounts;
+
+    private DefaultConfigurationUsageSnapshot(long timestamp, Map<String, OperationUsageSnapshot> operations,
+                                              Map<ErrorTypeDefinition<?>, Long> errorCounts) {
+      this.timestamp = timestamp;
+      this.operations = operations;
+      this.errorCounts = errorCounts;
+    }
+
+    @Override
+    public long getTimestamp() {
+      return timestamp;
+    }
+
+    @Override
+    public Map<String, OperationUsageSnapshot> getOperations() {
+      return operations;
+    }
+
+    @Override
+    public Map<ErrorTypeDefinition<?>, Long> getErrorCounts() {
+      return errorCounts;
+    }
+  }
+
+  private static final class DefaultOperationUsageSnapshot implements OperationUsageSnapshot {
+
+    private final long executionCount;
+    private final long errorCount;
+    private final long totalLatencyNanos;
+    private final long maxLatencyNanos;
+    private final long[] latencyCounts;
+
+    private DefaultOperationUsageSnapshot(long executionCount, long errorCount, long totalLatencyNanos, long maxLatencyNanos,
+                                          long[] latencyCounts) {
+      this.executionCount = executionCount;
+      this.errorCount = errorCount;
+      this.totalLatencyNanos = totalLatencyNanos;
+      this.maxLatencyNanos = maxLatencyNanos;
+      this.latencyCounts = latencyCounts;
+    }
+
+    @Override
+    public long getExecutionCount() {
+      return executionCount;
+    }
+
+    @Override
+    public long getErrorCount() {
+      return errorCount;
+    }
+
+    @Override
+    public long getTotalLatencyNanos() {
+      return totalLatencyNanos;
+    }
+
+    @Override
+    public long getMaxLatencyNanos() {
+      return maxLatencyNanos;
+    }
+
+    @Override
+    public long getLatencyPercentileNanos(double percentile) {
+      // the bucket bound may be higher than any recorded value
+      return min(LatencyHistogram.percentile(latencyCounts, percentile), maxLatencyNanos);
+    }
+  }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.streaming;
+
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import static java.lang.Math.max;
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.emptyList;
+
+import org.mule.runtime.api.connection.ConnectionHandler;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.extension.api.runtime.streaming.PagingProvider;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A {@link PagingProvider} which fetches up to a given amount of pages from another one ahead of the consumer, so that the
+ * latency of fetching each page overlaps with the processing of the previous ones.
+ * <p>
+ * Pages are still fetched one at a time and in order, since the {@link PagingProvider}s are stateful, but from the threads of the
+ * given {@link Executor}. Connections are obtained following the same rules the runtime applies to the delegate:
+ * <ul>
+ * <li>If the delegate {@link PagingProvider#useStickyConnections() uses sticky connections}, all the pages are fetched with the
+ * connection received on the first invocation of {@link #getPage(Object)}, which the runtime keeps until
+ * {@link #close(Object)}.</li>
+ * <li>Otherwise, each page fetched ahead uses a connection obtained from the given supplier, which is released right after.</li>
+ * </ul>
+ * If the {@link Executor} rejects a fetch, the page is fetched on the consumer thread when it's needed, as without prefetching.
+ * Failures fetching a page ahead are thrown to the consumer once it has consumed the pages fetched before it.
+ * <p>
+ * The runtime should not prefetch pages of operations executed within a transaction, since the transactional connection is bound
+ * to the consumer thread.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @param <C> connection type expected to handle the operations.
+ * @param <T> the type of the returned pages.
+ * @since 1.10
+ */
+public final class PrefetchingPagingProvider<C, T> implements PagingProvider<C, T> {
+
+  private final PagingProvider<C, T> delegate;
+  private final int pagesAhead;
+  private final Executor executor;
+  private final Callable<ConnectionHandler<C>> connectionSupplier;
+
+  // guards the invocations to the delegate, so that it's never invoked concurrently
+  private final Object fetchLock = new Object();
+
+  private final Deque<List<T>> buffer = new ArrayDeque<>();
+  private boolean fetching = false;
+  private boolean exhausted = false;
+  private volatile boolean closed = false;
+  private Throwable failure;
+  private C stickyConnection;
+
+  private long fetchedPages;
+  private long prefetchedPages;
+  private int peakBufferedPages;
+  private long underruns;
+
+  /**
+   * Creates a new instance
+   *
+   * @param delegate           the {@link PagingProvider} to fetch pages from
+   * @param pagesAhead         the maximum amount of pages to fetch ahead of the consumer
+   * @param executor           the {@link Executor} on which pages are fetched ahead. It should be bounded.
+   * @param connectionSupplier supplies the connections with which pages are fetched ahead when the delegate doesn't use sticky
+   *                           connections
+   * @throws IllegalArgumentException if {@code pagesAhead} is not positive
+   */
+  public PrefetchingPagingProvider(PagingProvider<C, T> delegate, int pagesAhead, Executor executor,
+                                   Callable<ConnectionHandler<C>> connectionSupplier) {
+    checkArgument(pagesAhead > 0, "pagesAhead must be positive");
+    this.delegate = delegate;
+    this.pagesAhead = pagesAhead;
+    this.executor = executor;
+    this.connectionSupplier = connectionSupplier;
+  }
+
+  @Override
+  public List<T> getPage(C connection) {
+    List<T> page;
+    synchronized (this) {
+      checkNotClosed();
+      if (stickyConnection == null && delegate.useStickyConnections()) {
+        stickyConnection = connection;
+      }
+      if (buffer.isEmpty() && fetchedPages > 0 && !exhausted && failure == null) {
+        underruns++;
+      }
+
+      while (buffer.isEmpty() && fetching) {
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          currentThread().interrupt();
+          throw new MuleRuntimeException(createStaticMessage("Interrupted while waiting for the next page"), e);
+        }
+        checkNotClosed();
+      }
+
+      page = buffer.poll();
+      if (page == null) {
+        if (failure != null) {
+          throw propagate(failure);
+        }
+        if (exhausted) {
+          return emptyList();
+        }
+        // nothing fetched ahead nor being fetched, so it's fetched on the consumer thread
+        fetching = true;
+      }
+    }
+
+    if (page == null) {
+      boolean fetched = false;
+      try {
+        synchronized (fetchLock) {
+          page = delegate.getPage(connection);
+        }
+        fetched = true;
+      } finally {
+        synchronized (this) {
+          fetching = false;
+          if (fetched) {
+            onFetched(page);
+          }
+          notifyAll();
+        }
+      }
+    }
+
+    prefetch();
+    return page == null ? emptyList() : page;
+  }
+
+  @Override
+  public Optional<Integer> getTotalResults(C connection) {
+    synchronized (fetchLock) {
+      return delegate.getTotalResults(connection);
+    }
+  }
+
+  @Override
+  public boolean useStickyConnections() {
+    return delegate.useStickyConnections();
+  }
+
+  /**
+   * Stops fetching pages ahead, discards the ones already fetched and closes the delegate once the page being fetched ahead, if
+   * any, is done.
+   */
+  @Override
+  public void close(C connection) throws MuleException {
+    synchronized (this) {
+      closed = true;
+      buffer.clear();
+      notifyAll();
+    }
+    synchronized (fetchLock) {
+      delegate.close(connection);
+    }
+  }
+
+  /**
+   * @return the amount of pages fetched ahead and not consumed yet
+   */
+  public synchronized int getBufferedPages() {
+    return buffer.size();
+  }
+
+  /**
+   * @return the maximum amount of pages which were fetched ahead and not consumed at the same time
+   */
+  public synchronized int getPeakBufferedPages() {
+    return peakBufferedPages;
+  }
+
+  /**
+   * @return the amount of pages fetched, either ahead or on the consumer thread
+   */
+  public synchronized long getFetchedPages() {
+    return fetchedPages;
+  }
+
+  /**
+   * @return the amount of pages fetched ahead of the consumer
+   */
+  public synchronized long getPrefetchedPages() {
+    return prefetchedPages;
+  }
+
+  /**
+   * @return the amount of times the consumer requested a page which was not fetched yet, not counting the first one
+   */
+  public synchronized long getUnderruns() {
+    return underruns;
+  }
+
+  private void prefetch() {
+    synchronized (this) {
+      if (closed || exhausted || failure != null || fetching || buffer.size() >= pagesAhead) {
+        return;
+      }
+      fetching = true;
+    }
+
+    try {
+      executor.execute(this::fetchAhead);
+    } catch (RejectedExecutionException e) {
+      synchronized (this) {
+        fetching = false;
+        notifyAll();
+      }
+    }
+  }
+
+  private void fetchAhead() {
+    List<T> page = null;
+    Throwable error = null;
+    try {
+      page = doFetchAhead();
+    } catch (Throwable t) {
+      error = t;
+    }
+
+    synchronized (this) {
+      fetching = false;
+      if (!closed) {
+        if (error != null) {
+          failure = error;
+        } else {
+          if (page != null && !page.isEmpty()) {
+            buffer.add(page);
+            prefetchedPages++;
+            peakBufferedPages = max(peakBufferedPages, buffer.size());
+          }
+          onFetched(page);
+        }
+      }
+      notifyAll();
+    }
+
+    if (error == null) {
+      prefetch();
+    }
+  }
+
+  private List<T> doFetchAhead() throws Exception {
+    synchronized (fetchLock) {
+      if (closed) {
+        return null;
+      }
+
+      if (delegate.useStickyConnections()) {
+        return delegate.getPage(stickyConnection);
+      }
+
+      ConnectionHandler<C> connectionHandler = connectionSupplier.call();
+      try {
+        return delegate.getPage(connectionHandler.getConnection());
+      } finally {
+        connectionHandler.release();
+      }
+    }
+  }
+
+  // invoked holding the monitor of this instance
+  private void onFetched(List<T> page) {
+    fetchedPages++;
+    if (page == null || page.isEmpty()) {
+      exhausted = true;
+    }
+  }
+
+  private void checkNotClosed() {
+    if (closed) {
+      throw new IllegalStateException("Paging provider already closed");
+    }
+  }
+
+  private static RuntimeException propagate(Throwable t) {
+    if (t instanceof RuntimeException) {
+      return (RuntimeException) t;
+    }
+    if (t instanceof Error) {
+      throw (Error) t;
+    }
+    return new MuleRuntimeException(createStaticMessage("Could not fetch the next page"), t);
+  }
+}
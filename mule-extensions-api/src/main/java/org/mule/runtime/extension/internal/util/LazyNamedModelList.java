@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.util;
+
+import static java.util.Collections.unmodifiableList;
+
+import org.mule.runtime.api.meta.NamedObject;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * Immutable {@link List} of {@link NamedObject}s which are only materialized the first time they are accessed.
+ * <p>
+ * The names of the items are known up front, so items can be looked up by name through {@link #byName()} without materializing
+ * any other item. Each item is materialized at most once, even when accessed concurrently.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @param <T> the generic type of the items
+ * @since 1.10
+ */
+public final class LazyNamedModelList<T extends NamedObject> extends AbstractList<T> implements RandomAccess {
+
+  private final List<String> names;
+  private final IntFunction<T> loader;
+  private final AtomicReferenceArray<T> items;
+  private volatile Map<String, T> byName;
+
+  /**
+   * Creates a new instance
+   *
+   * @param names  the names of the items, in order
+   * @param loader materializes the item at the given position. It is invoked at most once per position.
+   */
+  public LazyNamedModelList(List<String> names, IntFunction<T> loader) {
+    this.names = unmodifiableList(new ArrayList<>(names));
+    this.loader = loader;
+    this.items = new AtomicReferenceArray<>(names.size());
+  }
+
+  @Override
+  public T get(int index) {
+    T item = items.get(index);
+    if (item == null) {
+      synchronized (this) {
+        item = items.get(index);
+        if (item == null) {
+          item = loader.apply(index);
+          items.set(index, item);
+        }
+      }
+    }
+    return item;
+  }
+
+  @Override
+  public int size() {
+    return names.size();
+  }
+
+  /**
+   * @return the names of the items, in order, without materializing any of them
+   */
+  public List<String> getNames() {
+    return names;
+  }
+
+  /**
+   * @param index the position of the item
+   * @return whether the item at the given position has already been materialized
+   */
+  public boolean isLoaded(int index) {
+    return items.get(index) != null;
+  }
+
+  /**
+   * Returns a {@link Map} view of this list keyed by the items names. Looking up an item only materializes that item. When more
+   * than one item has the same name, the first one wins.
+   *
+   * @return an immutable {@link Map} view of this list
+   */
+  public Map<String, T> byName() {
+    Map<String, T> view = byName;
+    if (view == null) {
+      byName = view = new ByNameView();
+    }
+    return view;
+  }
+
+  private final class ByNameView extends AbstractMap<String, T> {
+
+    private final Map<String, Integer> positions = new HashMap<>(names.size() * 4 / 3 + 1);
+
+    private ByNameView() {
+      for (int i = 0; i < names.size(); i++) {
+        positions.putIfAbsent(names.get(i), i);
+      }
+    }
+
+    @Override
+    public T get(Object key) {
+      Integer position = positions.get(key);
+      return position != null ? LazyNamedModelList.this.get(position) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return positions.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+      return positions.size();
+    }
+
+    @Override
+    public Set<Entry<String, T>> entrySet() {
+      return new AbstractSet<Entry<String, T>>() {
+
+        @Override
+        public Iterator<Entry<String, T>> iterator() {
+          Iterator<Entry<String, Integer>> delegate = positions.entrySet().iterator();
+          return new Iterator<Entry<String, T>>() {
+
+            @Override
+            public boolean hasNext() {
+              return delegate.hasNext();
+            }
+
+            @Override
+            public Entry<String, T> next() {
+              Entry<String, Integer> entry = delegate.next();
+              return new SimpleImmutableEntry<>(entry.getKey(), LazyNamedModelList.this.get(entry.getValue()));
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return positions.size();
+        }
+      };
+    }
+  }
+}
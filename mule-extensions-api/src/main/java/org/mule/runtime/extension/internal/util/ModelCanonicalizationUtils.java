@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.util;
+
+import static java.util.Collections.unmodifiableList;
+
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.display.DisplayModel;
+import org.mule.runtime.api.meta.model.display.LayoutModel;
+import org.mule.runtime.api.meta.model.stereotype.StereotypeModel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Utilities for sharing the parts of {@link ExtensionModel}s which are equal, so that the many models loaded in the same runtime
+ * don't hold a copy of each of them.
+ * <p>
+ * Values are kept in a pool shared by all the models, which only holds them weakly: a value is removed from the pool once no
+ * model references it anymore. Only immutable values with structural {@code equals} and {@code hashCode} can be shared, such as
+ * {@link String}s, {@link MetadataType}s, {@link StereotypeModel}s, {@link DisplayModel}s and {@link LayoutModel}s.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class ModelCanonicalizationUtils {
+
+  private static final Interner<Object> POOL = Interners.newWeakInterner();
+
+  private ModelCanonicalizationUtils() {}
+
+  /**
+   * @param value an immutable value, or {@code null}
+   * @param <T>   the type of the value
+   * @return the pooled instance equal to {@code value}, or {@code value} itself if there was none, in which case it is added to
+   *         the pool
+   */
+  public static <T> T canonical(T value) {
+    return value != null ? (T) POOL.intern(value) : null;
+  }
+
+  /**
+   * @param values immutable values
+   * @param <T>    the type of the values
+   * @return an unmodifiable {@link List} with the {@link #canonical(Object) canonical} instance of each of the {@code values}, in
+   *         the same order
+   */
+  public static <T> List<T> canonicalList(List<T> values) {
+    if (values == null || values.isEmpty()) {
+      return values;
+    }
+
+    List<T> canonicalValues = new ArrayList<>(values.size());
+    for (T value : values) {
+      canonicalValues.add(canonical(value));
+    }
+    return unmodifiableList(canonicalValues);
+  }
+}
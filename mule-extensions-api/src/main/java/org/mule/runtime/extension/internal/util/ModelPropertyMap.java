@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.util;
+
+import org.mule.runtime.api.meta.model.EnrichableModel;
+import org.mule.runtime.api.meta.model.ModelProperty;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Immutable {@link java.util.Map} of {@link ModelProperty} instances keyed by their concrete class, backed by a single array.
+ * <p>
+ * {@link EnrichableModel}s usually carry between zero and a handful of properties, for which a linear scan comparing class
+ * identities is faster than hashing and takes a fraction of the memory of a {@link java.util.LinkedHashMap}. Iteration order is
+ * the order in which the properties were first added.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class ModelPropertyMap extends AbstractMap<Class<? extends ModelProperty>, ModelProperty> {
+
+  private static final ModelProperty[] NO_PROPERTIES = new ModelProperty[0];
+  private static final ModelPropertyMap EMPTY = new ModelPropertyMap(NO_PROPERTIES);
+
+  /**
+   * Creates a new instance holding the given {@code properties}. If more than one property of the same class is given, the last
+   * one wins but keeps the position of the first one.
+   *
+   * @param properties the properties to hold. May be {@code null}
+   * @return a {@link ModelPropertyMap}
+   */
+  public static ModelPropertyMap of(Collection<? extends ModelProperty> properties) {
+    if (properties == null || properties.isEmpty()) {
+      return EMPTY;
+    }
+
+    ModelProperty[] values = new ModelProperty[properties.size()];
+    int size = 0;
+    for (ModelProperty property : properties) {
+      int index = indexOf(values, size, property.getClass());
+      if (index == -1) {
+        values[size++] = property;
+      } else {
+        values[index] = property;
+      }
+    }
+
+    return new ModelPropertyMap(size == values.length ? values : Arrays.copyOf(values, size));
+  }
+
+  private static int indexOf(ModelProperty[] values, int size, Object key) {
+    for (int i = 0; i < size; i++) {
+      if (values[i].getClass() == key) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private final ModelProperty[] values;
+  private final Set<ModelProperty> valueSet;
+
+  private ModelPropertyMap(ModelProperty[] values) {
+    this.values = values;
+    this.valueSet = new ArraySet<>(values, Function.identity());
+  }
+
+  @Override
+  public ModelProperty get(Object key) {
+    int index = indexOf(values, values.length, key);
+    return index == -1 ? null : values[index];
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(values, values.length, key) != -1;
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return values.length == 0;
+  }
+
+  /**
+   * @return an unmodifiable {@link Set} view of the properties in this map. Always returns the same instance.
+   */
+  public Set<ModelProperty> valueSet() {
+    return valueSet;
+  }
+
+  @Override
+  public Set<Entry<Class<? extends ModelProperty>, ModelProperty>> entrySet() {
+    return new ArraySet<>(values, ModelPropertyMap::toEntry);
+  }
+
+  private static Entry<Class<? extends ModelProperty>, ModelProperty> toEntry(ModelProperty property) {
+    return new SimpleImmutableEntry<>(property.getClass(), property);
+  }
+
+  private static final class ArraySet<T> extends AbstractSet<T> {
+
+    private final ModelProperty[] values;
+    private final Function<ModelProperty, T> mapper;
+
+    private ArraySet(ModelProperty[] values, Function<ModelProperty, T> mapper) {
+      this.values = values;
+      this.mapper = mapper;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return new Iterator<T>() {
+
+        private int next = 0;
+
+        @Override
+        public boolean hasNext() {
+          return next < values.length;
+        }
+
+        @Override
+        public T next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          return mapper.apply(values[next++]);
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+  }
+}
@@ -24,6 +24,7 @@ import org.mule.runtime.extension.internal.property.NoErrorMappingModelProperty;
 import org.mule.runtime.extension.internal.property.NoReconnectionStrategyModelProperty;
 import org.mule.runtime.extension.internal.property.NoStreamingConfigurationModelProperty;
 import org.mule.runtime.extension.internal.property.NoTransactionalActionModelProperty;
+import org.mule.runtime.extension.internal.property.PagePrefetchModelProperty;
 import org.mule.runtime.extension.internal.property.PagedOperationModelProperty;
 import org.mule.runtime.extension.internal.property.TargetModelProperty;
 import org.mule.runtime.extension.internal.property.TransactionalActionModelProperty;
@@ -113,6 +114,19 @@ public final class ComponentDeclarationUtils {
     declarer.withModelProperty(new PagedOperationModelProperty());
   }
 
+  /**
+   * Marks that the pages of the paged operation being declared by the {@code declarer} may be fetched ahead of its consumer. Such
+   * operations get a parameter to configure how many pages to fetch ahead.
+   * <p>
+   * Only mark operations whose {@code PagingProvider} can be invoked from a thread other than the one consuming the pages.
+   *
+   * @param declarer the declarer of the operation to mark.
+   * @since 1.10
+   */
+  public static void withPagePrefetch(OperationDeclarer declarer) {
+    declarer.withModelProperty(new PagePrefetchModelProperty());
+  }
+
   /**
    * @param componentModel the component to check for.
    * @return whether {@code componentModel} may not have a configuring transactionalAction.
@@ -137,6 +151,15 @@ public final class ComponentDeclarationUtils {
     return componentModel.getModelProperty(PagedOperationModelProperty.class).isPresent();
   }
 
+  /**
+   * @param componentModel the component to check for.
+   * @return whether the pages of {@code componentModel} may be fetched ahead of its consumer.
+   * @since 1.10
+   */
+  public static boolean supportsPagePrefetch(ComponentModel componentModel) {
+    return componentModel.getModelProperty(PagePrefetchModelProperty.class).isPresent();
+  }
+
   /**
    * @param paramModel the parameter to check for.
    * @return whether {@code paramModel} is the parameter considered to inject the value of the Transactional Action.
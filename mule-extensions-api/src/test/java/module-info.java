@@ -42,16 +42,23 @@ module org.mule.runtime.extensions.api.test {
   exports org.mule.runtime.extension.api.test.dsl;
   exports org.mule.runtime.extension.api.test.dsl.model;
   exports org.mule.runtime.extension.api.test.internal;
+  exports org.mule.runtime.extension.api.test.internal.client;
+  exports org.mule.runtime.extension.api.test.internal.dsl;
   exports org.mule.runtime.extension.api.test.internal.loader;
   exports org.mule.runtime.extension.api.test.internal.loader.declaration.type.annotation;
   exports org.mule.runtime.extension.api.test.internal.loader.enricher;
   exports org.mule.runtime.extension.api.test.internal.loader.util;
   exports org.mule.runtime.extension.api.test.internal.loader.validator;
+  exports org.mule.runtime.extension.api.test.internal.notification;
+  exports org.mule.runtime.extension.api.test.internal.runtime.config;
   exports org.mule.runtime.extension.api.test.internal.semantic;
+  exports org.mule.runtime.extension.api.test.internal.streaming;
+  exports org.mule.runtime.extension.api.test.internal.util;
   exports org.mule.runtime.extension.api.test.mimetype;
   exports org.mule.runtime.extension.api.test.runtime;
   exports org.mule.runtime.extension.api.test.runtime.operation;
   exports org.mule.runtime.extension.api.test.runtime.parameters;
+  exports org.mule.runtime.extension.api.test.runtime.source;
   exports org.mule.runtime.extension.api.test.stereotype;
   exports org.mule.runtime.extension.api.test.util;
 
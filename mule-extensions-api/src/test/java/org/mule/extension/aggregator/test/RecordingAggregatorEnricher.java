@@ -0,0 +1,40 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.aggregator.test;
+
+import static org.mule.runtime.extension.api.loader.DeclarationEnricherPhase.STRUCTURE;
+
+import org.mule.runtime.api.meta.model.declaration.fluent.ConstructDeclaration;
+import org.mule.runtime.extension.api.loader.DeclarationEnricher;
+import org.mule.runtime.extension.api.loader.DeclarationEnricherPhase;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link DeclarationEnricher} which, by living in the aggregators package, is applied as an aggregator enricher. Records the
+ * constructs of the declaration it enriches.
+ */
+public class RecordingAggregatorEnricher implements DeclarationEnricher {
+
+  private final List<List<ConstructDeclaration>> seenConstructs;
+
+  public RecordingAggregatorEnricher(List<List<ConstructDeclaration>> seenConstructs) {
+    this.seenConstructs = seenConstructs;
+  }
+
+  @Override
+  public DeclarationEnricherPhase getExecutionPhase() {
+    return STRUCTURE;
+  }
+
+  @Override
+  public void enrich(ExtensionLoadingContext extensionLoadingContext) {
+    seenConstructs.add(new ArrayList<>(extensionLoadingContext.getExtensionDeclarer().getDeclaration().getConstructs()));
+  }
+}
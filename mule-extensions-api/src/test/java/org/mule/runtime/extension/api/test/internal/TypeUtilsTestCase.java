@@ -7,12 +7,16 @@
 package org.mule.runtime.extension.api.test.internal;
 
 import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import org.mule.runtime.extension.api.annotation.param.Parameter;
 import org.mule.runtime.extension.api.annotation.param.ParameterGroup;
+import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
 import org.mule.runtime.extension.api.declaration.type.TypeUtils;
+import org.mule.runtime.extension.api.exception.IllegalParameterModelDefinitionException;
 
 import java.lang.reflect.Field;
 import java.util.Collection;
@@ -30,6 +34,33 @@ public class TypeUtilsTestCase {
                containsInAnyOrder("name", "description", "group"));
   }
 
+  @Test
+  public void getAllFieldsIncludesSuperClasses() {
+    Collection<Field> fields = TypeUtils.getAllFields(ChildTestObject.class);
+    assertThat(fields.stream().map(Field::getName).collect(toList()),
+               containsInAnyOrder("childName", "name", "description", "group"));
+
+    fields.clear();
+    assertThat(TypeUtils.getAllFields(ChildTestObject.class), hasSize(4));
+    assertThat(TypeUtils.getAllSuperClasses(ChildTestObject.class), contains(ChildTestObject.class, TestObject.class));
+  }
+
+  @Test
+  public void conflictingAnnotationsOnlyFailWhenRequested() throws Exception {
+    assertThat(TypeUtils.getParameterFields(ConflictingTestObject.class), hasSize(1));
+
+    Field field = ConflictingTestObject.class.getDeclaredField("name");
+    assertThat(TypeUtils.isParameter(field), is(true));
+    for (int i = 0; i < 2; i++) {
+      try {
+        TypeUtils.getDisplayName(field);
+        throw new AssertionError("Conflicting annotations were not detected");
+      } catch (IllegalParameterModelDefinitionException e) {
+        // expected
+      }
+    }
+  }
+
 
   public static class TestObject {
 
@@ -49,4 +80,20 @@ public class TypeUtilsTestCase {
     @Parameter
     private String groupParameter;
   }
+
+
+  public static class ChildTestObject extends TestObject {
+
+    @Parameter
+    private String childName;
+  }
+
+
+  public static class ConflictingTestObject {
+
+    @Parameter
+    @DisplayName("legacy")
+    @org.mule.sdk.api.annotation.param.display.DisplayName("sdk")
+    private String name;
+  }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.client;
+
+import static java.util.Arrays.asList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.extension.api.client.ExtensionsClient;
+import org.mule.runtime.extension.api.client.OperationParameterizer;
+import org.mule.runtime.extension.api.client.PipelinedExecutionCallback;
+import org.mule.runtime.extension.api.client.PipelinedExecutionOptions;
+import org.mule.runtime.extension.api.client.PreparedOperation;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.extension.internal.client.DefaultPreparedOperation;
+import org.mule.runtime.extension.internal.client.OperationPipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+
+public class PreparedOperationTestCase {
+
+  private final List<Integer> executed = new ArrayList<>();
+  private final List<CompletableFuture<Result<Integer, Object>>> executions = new ArrayList<>();
+  private final List<Integer> notified = new ArrayList<>();
+
+  @Test
+  public void preparedParametersAreAppliedBeforeExecutionParameters() {
+    ExtensionsClient client = mock(ExtensionsClient.class);
+    List<Consumer<OperationParameterizer>> parameterizations = new ArrayList<>();
+    when(client.execute(eq("extension"), eq("operation"), any(Consumer.class))).thenAnswer(invocation -> {
+      parameterizations.add(invocation.getArgument(2));
+      return new CompletableFuture<>();
+    });
+
+    PreparedOperation operation = new DefaultPreparedOperation(client, "extension", "operation",
+                                                               parameterizer -> parameterizer.withConfigRef("config"));
+    operation.execute(parameterizer -> parameterizer.withParameter("id", 1));
+
+    OperationParameterizer parameterizer = mock(OperationParameterizer.class);
+    parameterizations.get(0).accept(parameterizer);
+
+    InOrder inOrder = inOrder(parameterizer);
+    inOrder.verify(parameterizer).withConfigRef("config");
+    inOrder.verify(parameterizer).withParameter("id", 1);
+  }
+
+  @Test
+  public void orderedPipelineKeepsWindow() {
+    CompletableFuture<Void> completion = pipeline(5, true);
+
+    assertThat(executed, contains(0, 1));
+
+    succeed(1);
+    assertThat(notified, is(empty()));
+    assertThat(executed, contains(0, 1));
+
+    succeed(0);
+    assertThat(notified, contains(0, 1));
+    assertThat(executed, contains(0, 1, 2, 3));
+
+    succeed(3);
+    succeed(2);
+    succeed(4);
+    assertThat(notified, contains(0, 1, 2, 3, 4));
+    assertThat(completion.isDone(), is(true));
+  }
+
+  @Test
+  public void unorderedPipelineNotifiesOnCompletion() {
+    CompletableFuture<Void> completion = pipeline(3, false);
+
+    succeed(1);
+    assertThat(notified, contains(1));
+    assertThat(executed, contains(0, 1, 2));
+
+    succeed(2);
+    succeed(0);
+    assertThat(notified, contains(1, 2, 0));
+    assertThat(completion.isDone(), is(true));
+  }
+
+  @Test
+  public void executeAllStopsOnFailure() throws Exception {
+    ExtensionsClient client = mock(ExtensionsClient.class);
+    when(client.execute(eq("extension"), eq("operation"), any(Consumer.class))).thenAnswer(invocation -> {
+      int item = executed.size();
+      executed.add(item);
+      CompletableFuture<Result<Integer, Object>> future = new CompletableFuture<>();
+      if (item == 1) {
+        future.completeExceptionally(new IllegalStateException("expected"));
+      } else {
+        future.complete(Result.<Integer, Object>builder().output(item).build());
+      }
+      return future;
+    });
+
+    PreparedOperation operation = new DefaultPreparedOperation(client, "extension", "operation", parameterizer -> {
+    });
+    CompletableFuture<List<Result<Integer, Object>>> results =
+        operation.executeAll(asList(0, 1, 2, 3), (item, parameterizer) -> parameterizer.withParameter("id", item), 1);
+
+    try {
+      results.get();
+      fail("Expected the execution to fail");
+    } catch (ExecutionException e) {
+      assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+    }
+    assertThat(executed, contains(0, 1));
+  }
+
+  private CompletableFuture<Void> pipeline(int items, boolean ordered) {
+    List<Integer> input = new ArrayList<>();
+    for (int i = 0; i < items; i++) {
+      input.add(i);
+    }
+
+    PipelinedExecutionOptions options = PipelinedExecutionOptions.builder()
+        .setMaxConcurrency(2)
+        .setOrdered(ordered)
+        .build();
+
+    return new OperationPipeline<Integer, Integer, Object>(input.iterator(), item -> {
+      executed.add(item);
+      CompletableFuture<Result<Integer, Object>> future = new CompletableFuture<>();
+      executions.add(future);
+      return future;
+    }, options, new PipelinedExecutionCallback<Integer, Integer, Object>() {
+
+      @Override
+      public void onSuccess(Integer item, Result<Integer, Object> result) {
+        notified.add(item);
+      }
+
+      @Override
+      public void onFailure(Integer item, Throwable error) {
+        fail("Unexpected failure");
+      }
+    }).start();
+  }
+
+  private void succeed(int item) {
+    executions.get(item).complete(Result.<Integer, Object>builder().output(item).build());
+  }
+}
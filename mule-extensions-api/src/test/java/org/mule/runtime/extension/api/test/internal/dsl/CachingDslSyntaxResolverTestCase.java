@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.dsl;
+
+import static java.util.Optional.empty;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.extension.api.dsl.syntax.DslElementSyntax;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+import org.mule.runtime.extension.internal.dsl.CachingDslSyntaxResolver;
+import org.mule.runtime.extension.internal.dsl.CachingDslSyntaxResolver.ResolutionCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+public class CachingDslSyntaxResolverTestCase {
+
+  private final DslSyntaxResolver delegate = mock(DslSyntaxResolver.class);
+  private final DslSyntaxResolver resolver = new CachingDslSyntaxResolver(delegate);
+
+  @Test
+  public void componentIsResolvedOnce() {
+    OperationModel operation = mock(OperationModel.class);
+    DslElementSyntax syntax = mock(DslElementSyntax.class);
+    when(delegate.resolve(operation)).thenReturn(syntax);
+
+    assertThat(resolver.resolve(operation), is(sameInstance(syntax)));
+    assertThat(resolver.resolve(operation), is(sameInstance(syntax)));
+    verify(delegate, times(1)).resolve(operation);
+  }
+
+  @Test
+  public void parameterIsResolvedOnce() {
+    ParameterModel parameter = mock(ParameterModel.class);
+    DslElementSyntax syntax = mock(DslElementSyntax.class);
+    when(delegate.resolve(parameter)).thenReturn(syntax);
+
+    assertThat(resolver.resolve(parameter), is(sameInstance(syntax)));
+    assertThat(resolver.resolve(parameter), is(sameInstance(syntax)));
+    verify(delegate, times(1)).resolve(parameter);
+  }
+
+  @Test
+  public void unsupportedTypeIsResolvedOnce() {
+    MetadataType type = mock(MetadataType.class);
+    when(delegate.resolve(type)).thenReturn(empty());
+
+    assertThat(resolver.resolve(type).isPresent(), is(false));
+    assertThat(resolver.resolve(type).isPresent(), is(false));
+    verify(delegate, times(1)).resolve(type);
+  }
+
+  @Test
+  public void concurrentResolution() throws Exception {
+    OperationModel operation = mock(OperationModel.class);
+    DslElementSyntax syntax = mock(DslElementSyntax.class);
+    when(delegate.resolve(operation)).thenReturn(syntax);
+
+    ExecutorService executor = newFixedThreadPool(4);
+    try {
+      List<Callable<DslElementSyntax>> tasks = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        tasks.add(() -> resolver.resolve(operation));
+      }
+
+      for (Future<DslElementSyntax> result : executor.invokeAll(tasks)) {
+        assertThat(result.get(), is(sameInstance(syntax)));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    verify(delegate, times(1)).resolve(operation);
+  }
+
+  @Test
+  public void resolversWithSameCacheShareResults() {
+    OperationModel operation = mock(OperationModel.class);
+    DslElementSyntax syntax = mock(DslElementSyntax.class);
+    when(delegate.resolve(operation)).thenReturn(syntax);
+
+    ResolutionCache cache = new ResolutionCache();
+    Supplier<DslSyntaxResolver> otherFactory = mock(Supplier.class);
+
+    assertThat(new CachingDslSyntaxResolver(cache, () -> delegate).resolve(operation), is(sameInstance(syntax)));
+    assertThat(new CachingDslSyntaxResolver(cache, otherFactory).resolve(operation), is(sameInstance(syntax)));
+    verify(delegate, times(1)).resolve(operation);
+    verify(otherFactory, never()).get();
+  }
+
+  @Test
+  public void delegateIsCreatedOnFirstMiss() {
+    Supplier<DslSyntaxResolver> factory = mock(Supplier.class);
+    when(factory.get()).thenReturn(delegate);
+
+    DslSyntaxResolver lazyResolver = new CachingDslSyntaxResolver(new ResolutionCache(), factory);
+    verify(factory, never()).get();
+
+    lazyResolver.resolve(mock(ParameterModel.class));
+    lazyResolver.resolve(mock(ParameterModel.class));
+    verify(factory, times(1)).get();
+  }
+}
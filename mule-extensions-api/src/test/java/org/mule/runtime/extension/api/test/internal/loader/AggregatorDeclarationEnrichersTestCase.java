@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.api.meta.Category.COMMUNITY;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+
+import static java.util.Collections.emptySet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.assertThat;
+
+import org.mule.extension.aggregator.test.RecordingAggregatorEnricher;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.XmlDslModel;
+import org.mule.runtime.api.meta.model.declaration.fluent.ConstructDeclaration;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class AggregatorDeclarationEnrichersTestCase {
+
+  private final ExtensionModelLoader loader = new ExtensionModelLoader() {
+
+    @Override
+    public String getId() {
+      return "test";
+    }
+
+    @Override
+    protected void declareExtension(ExtensionLoadingContext context) {
+      context.getExtensionDeclarer().named("test")
+          .onVersion("1.0")
+          .fromVendor("MuleSoft")
+          .withCategory(COMMUNITY)
+          .withXmlDsl(XmlDslModel.builder().setPrefix("test").build())
+          .withOperation("router").describedAs("router")
+          .withRoute("route").withChain();
+    }
+  };
+
+  @Test
+  public void consecutiveAggregatorEnrichersShareProxyConstructs() {
+    List<List<ConstructDeclaration>> seenConstructs = new ArrayList<>();
+    ExtensionModel extensionModel = loader.loadExtensionModel(builder(getClass().getClassLoader(), getDefault(emptySet()))
+        .addEnricher(new RecordingAggregatorEnricher(seenConstructs))
+        .addEnricher(new RecordingAggregatorEnricher(seenConstructs))
+        .build());
+
+    assertThat(seenConstructs, hasSize(2));
+    assertThat(seenConstructs.get(0), hasSize(1));
+    assertThat(seenConstructs.get(0).get(0).getName(), is("router"));
+    assertThat(seenConstructs.get(1), hasSize(1));
+    assertThat(seenConstructs.get(1).get(0), is(sameInstance(seenConstructs.get(0).get(0))));
+
+    // the proxies are removed once the enrichers are applied
+    assertThat(extensionModel.getConstructModels(), is(empty()));
+    assertThat(extensionModel.getOperationModel("router").isPresent(), is(true));
+  }
+}
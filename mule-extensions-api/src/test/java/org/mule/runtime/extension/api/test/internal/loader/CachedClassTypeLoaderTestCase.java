@@ -6,13 +6,31 @@
  */
 package org.mule.runtime.extension.api.test.internal.loader;
 
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+
+import static java.util.Collections.emptySet;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 
 import org.mule.metadata.api.ClassTypeLoader;
 import org.mule.metadata.api.model.MetadataType;
 import org.mule.runtime.extension.api.declaration.type.ExtensionsTypeLoaderFactory;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
 import org.mule.runtime.extension.internal.loader.CachedClassTypeLoader;
+import org.mule.runtime.extension.internal.loader.DefaultExtensionLoadingContext;
+import org.mule.runtime.extension.internal.loader.SharedClassTypeLoaders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -53,4 +71,78 @@ public class CachedClassTypeLoaderTestCase {
 
     assertThat(cachedLoader.load(TestingClass.class), sameInstance(metadataType));
   }
+
+  @Test
+  public void statistics() {
+    CachedClassTypeLoader loader = new CachedClassTypeLoader(ExtensionsTypeLoaderFactory.getDefault().createTypeLoader());
+    loader.load(TestingClass.class);
+    loader.load(TestingClass.class);
+
+    assertThat(loader.getMissCount(), is(1L));
+    assertThat(loader.getHitCount(), is(1L));
+    assertThat(loader.getEvictionCount(), is(0L));
+  }
+
+  @Test
+  public void concurrentLoad() throws Exception {
+    ExecutorService executor = newFixedThreadPool(4);
+    try {
+      List<Callable<MetadataType>> tasks = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        tasks.add(i % 2 == 0 ? () -> cachedLoader.load(TestingClass.class)
+            : () -> cachedLoader.load(TestingClass.class.getName()).get());
+      }
+
+      MetadataType metadataType = cachedLoader.load(TestingClass.class);
+      for (Future<MetadataType> result : executor.invokeAll(tasks)) {
+        assertThat(result.get(), sameInstance(metadataType));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void sharedPerClassLoader() {
+    ClassLoader classLoader = getClass().getClassLoader();
+    MetadataType metadataType = SharedClassTypeLoaders.get(classLoader).load(TestingClass.class);
+
+    assertThat(SharedClassTypeLoaders.get(classLoader).load(TestingClass.class), sameInstance(metadataType));
+    assertThat(SharedClassTypeLoaders.get(classLoader).load(TestingClass.class.getName()).get(), sameInstance(metadataType));
+
+    SharedClassTypeLoaders.invalidate(classLoader);
+    assertThat(SharedClassTypeLoaders.get(classLoader).load(TestingClass.class), not(sameInstance(metadataType)));
+  }
+
+  @Test
+  public void sharedStatsAcrossLoaders() {
+    ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {};
+    long hits = SharedClassTypeLoaders.getHitCount();
+    long misses = SharedClassTypeLoaders.getMissCount();
+    long evictions = SharedClassTypeLoaders.getEvictionCount();
+
+    SharedClassTypeLoaders.get(classLoader).load(TestingClass.class);
+    assertThat(SharedClassTypeLoaders.getMissCount(), is(misses + 1));
+    assertThat(SharedClassTypeLoaders.getHitCount(), is(hits));
+
+    SharedClassTypeLoaders.get(classLoader).load(TestingClass.class);
+    assertThat(SharedClassTypeLoaders.getMissCount(), is(misses + 1));
+    assertThat(SharedClassTypeLoaders.getHitCount(), is(hits + 1));
+
+    SharedClassTypeLoaders.invalidate(classLoader);
+    assertThat(SharedClassTypeLoaders.getEvictionCount(), is(greaterThan(evictions)));
+  }
+
+  @Test
+  public void loadingContextsShareTypesOnlyWhenRequested() {
+    assertThat(loadInContext(false), not(sameInstance(loadInContext(false))));
+    assertThat(loadInContext(true), sameInstance(loadInContext(true)));
+  }
+
+  private MetadataType loadInContext(boolean shareTypeLoaders) {
+    ExtensionModelLoadingRequest request = builder(getClass().getClassLoader(), getDefault(emptySet()))
+        .setShareTypeLoaders(shareTypeLoaders)
+        .build();
+    return new DefaultExtensionLoadingContext(request).getTypeLoader().load(TestingClass.class);
+  }
 }
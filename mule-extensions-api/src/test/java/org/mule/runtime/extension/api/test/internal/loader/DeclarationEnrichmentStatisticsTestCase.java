@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.api.meta.Category.COMMUNITY;
+import static org.mule.runtime.api.util.MuleSystemProperties.TESTING_MODE_PROPERTY_NAME;
+import static org.mule.runtime.extension.api.loader.DeclarationEnricherPhase.INITIALIZE;
+import static org.mule.runtime.extension.api.loader.DeclarationEnricherPhase.STRUCTURE;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+import static org.mule.runtime.extension.internal.loader.ExtensionModelFactory.ENRICHMENT_STATISTICS;
+
+import static java.util.Collections.emptySet;
+import static java.util.Optional.of;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.api.meta.model.XmlDslModel;
+import org.mule.runtime.api.meta.model.declaration.fluent.OperationDeclaration;
+import org.mule.runtime.api.meta.model.declaration.fluent.WithOperationsDeclaration;
+import org.mule.runtime.extension.api.loader.DeclarationEnricher;
+import org.mule.runtime.extension.api.loader.DeclarationEnricherPhase;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+import org.mule.runtime.extension.api.loader.WalkingDeclarationEnricher;
+import org.mule.runtime.extension.internal.loader.DeclarationEnrichmentStatistics;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class DeclarationEnrichmentStatisticsTestCase {
+
+  @BeforeClass
+  public static void beforeClass() {
+    System.setProperty(TESTING_MODE_PROPERTY_NAME, "true");
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    System.clearProperty(TESTING_MODE_PROPERTY_NAME);
+  }
+
+  private final AtomicReference<ExtensionLoadingContext> loadingContext = new AtomicReference<>();
+
+  private final ExtensionModelLoader loader = new ExtensionModelLoader() {
+
+    @Override
+    public String getId() {
+      return "test";
+    }
+
+    @Override
+    protected void declareExtension(ExtensionLoadingContext context) {
+      loadingContext.set(context);
+      context.getExtensionDeclarer().named("test")
+          .onVersion("1.0")
+          .fromVendor("MuleSoft")
+          .withCategory(COMMUNITY)
+          .withXmlDsl(XmlDslModel.builder().setPrefix("test").build())
+          .withConfig("config").describedAs("config")
+          .withOperation("operation").describedAs("operation");
+    }
+  };
+
+  @Test
+  public void walkingEnricherInPhaseWithWalkIsMerged() {
+    DeclarationEnrichmentStatistics builtIn = load();
+    AtomicInteger visitedOperations = new AtomicInteger();
+    DeclarationEnrichmentStatistics withCustom = load(new CountingEnricher(STRUCTURE, visitedOperations));
+
+    assertThat(visitedOperations.get(), is(1));
+    assertThat(withCustom.getWalkCount(), is(builtIn.getWalkCount()));
+    assertThat(withCustom.getVisitCount(), is(builtIn.getVisitCount()));
+    assertThat(withCustom.getEnricherCount(), is(builtIn.getEnricherCount() + 1));
+  }
+
+  @Test
+  public void walkingEnricherInPhaseWithoutWalkAddsOne() {
+    DeclarationEnrichmentStatistics builtIn = load();
+    AtomicInteger visitedOperations = new AtomicInteger();
+    DeclarationEnrichmentStatistics withCustom = load(new CountingEnricher(INITIALIZE, visitedOperations));
+
+    assertThat(visitedOperations.get(), is(1));
+    assertThat(withCustom.getWalkCount(), is(builtIn.getWalkCount() + 1));
+    assertThat(withCustom.getVisitCount(), is(greaterThan(builtIn.getVisitCount())));
+  }
+
+  @Test
+  public void atMostOneWalkPerPhase() {
+    DeclarationEnrichmentStatistics statistics = load();
+
+    assertThat(statistics.getWalkCount(), is(greaterThan(0)));
+    assertThat(statistics.getWalkCount(), is(lessThanOrEqualTo(DeclarationEnricherPhase.values().length)));
+    assertThat(statistics.getVisitCount(), is(greaterThan(0L)));
+  }
+
+  private DeclarationEnrichmentStatistics load(DeclarationEnricher... enrichers) {
+    ExtensionModelLoadingRequest.Builder request = builder(getClass().getClassLoader(), getDefault(emptySet()));
+    for (DeclarationEnricher enricher : enrichers) {
+      request.addEnricher(enricher);
+    }
+    loader.loadExtensionModel(request.build());
+
+    Optional<DeclarationEnrichmentStatistics> statistics = loadingContext.get().getParameter(ENRICHMENT_STATISTICS);
+    return statistics.get();
+  }
+
+  private static class CountingEnricher implements WalkingDeclarationEnricher {
+
+    private final DeclarationEnricherPhase phase;
+    private final AtomicInteger visitedOperations;
+
+    private CountingEnricher(DeclarationEnricherPhase phase, AtomicInteger visitedOperations) {
+      this.phase = phase;
+      this.visitedOperations = visitedOperations;
+    }
+
+    @Override
+    public DeclarationEnricherPhase getExecutionPhase() {
+      return phase;
+    }
+
+    @Override
+    public Optional<DeclarationEnricherWalkDelegate> getWalkDelegate(ExtensionLoadingContext extensionLoadingContext) {
+      return of(new DeclarationEnricherWalkDelegate() {
+
+        @Override
+        public void onOperation(WithOperationsDeclaration owner, OperationDeclaration declaration) {
+          visitedOperations.incrementAndGet();
+        }
+      });
+    }
+  }
+}
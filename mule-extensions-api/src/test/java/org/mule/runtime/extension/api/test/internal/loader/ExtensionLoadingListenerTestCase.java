@@ -0,0 +1,160 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.api.meta.Category.COMMUNITY;
+import static org.mule.runtime.api.util.MuleSystemProperties.TESTING_MODE_PROPERTY_NAME;
+import static org.mule.runtime.extension.api.loader.ExtensionLoadingPhase.DECLARATION;
+import static org.mule.runtime.extension.api.loader.ExtensionLoadingPhase.ENRICHMENT;
+import static org.mule.runtime.extension.api.loader.ExtensionLoadingPhase.MODEL_CREATION;
+import static org.mule.runtime.extension.api.loader.ExtensionLoadingPhase.VALIDATION;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+import static org.mule.runtime.extension.internal.loader.ExtensionModelFactory.ENRICHMENT_STATISTICS;
+
+import static java.util.Collections.emptySet;
+
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.XmlDslModel;
+import org.mule.runtime.extension.api.loader.DeclarationEnricher;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingListener;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingPhase;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.internal.loader.DeclarationEnrichmentStatistics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ExtensionLoadingListenerTestCase {
+
+  @BeforeClass
+  public static void beforeClass() {
+    System.setProperty(TESTING_MODE_PROPERTY_NAME, "true");
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    System.clearProperty(TESTING_MODE_PROPERTY_NAME);
+  }
+
+  private ExtensionLoadingContext loadingContext;
+
+  private final ExtensionModelLoader loader = new ExtensionModelLoader() {
+
+    @Override
+    public String getId() {
+      return "test";
+    }
+
+    @Override
+    protected void declareExtension(ExtensionLoadingContext context) {
+      loadingContext = context;
+      context.getExtensionDeclarer().named("test")
+          .onVersion("1.0")
+          .fromVendor("MuleSoft")
+          .withCategory(COMMUNITY)
+          .withXmlDsl(XmlDslModel.builder().setPrefix("test").build())
+          .withConfig("config").describedAs("config")
+          .withOperation("operation").describedAs("operation");
+    }
+  };
+
+  @Test
+  public void notifiesLoading() {
+    RecordingListener listener = new RecordingListener();
+    ExtensionModelValidator validator = new NoOpValidator();
+    loader.loadExtensionModel(builder(getClass().getClassLoader(), getDefault(emptySet()))
+        .addLoadingListener(listener)
+        .addValidator(validator)
+        .build());
+
+    assertThat(listener.startedPhases, contains(DECLARATION, ENRICHMENT, MODEL_CREATION, VALIDATION));
+    assertThat(listener.finishedPhases, contains(DECLARATION, ENRICHMENT, MODEL_CREATION, VALIDATION));
+
+    DeclarationEnrichmentStatistics statistics =
+        loadingContext.<DeclarationEnrichmentStatistics>getParameter(ENRICHMENT_STATISTICS).get();
+    assertThat(listener.enrichers.size(), is(statistics.getEnricherCount()));
+    assertThat(listener.enrichmentWalks, is(statistics.getWalkCount()));
+    assertThat(listener.enrichmentVisits, is(statistics.getVisitCount()));
+
+    assertThat(listener.validators, hasItem(validator));
+  }
+
+  @Test
+  public void failingListenerDoesNotBreakLoading() {
+    ExtensionModel extensionModel = loader.loadExtensionModel(builder(getClass().getClassLoader(), getDefault(emptySet()))
+        .addLoadingListener(new ExtensionLoadingListener() {
+
+          @Override
+          public void onPhaseStarted(ExtensionLoadingContext context, ExtensionLoadingPhase phase) {
+            throw new IllegalStateException("expected");
+          }
+        })
+        .build());
+
+    assertThat(extensionModel.getName(), is("test"));
+  }
+
+  private static class RecordingListener implements ExtensionLoadingListener {
+
+    private final List<ExtensionLoadingPhase> startedPhases = new ArrayList<>();
+    private final List<ExtensionLoadingPhase> finishedPhases = new ArrayList<>();
+    private final List<DeclarationEnricher> enrichers = new ArrayList<>();
+    private final List<ExtensionModelValidator> validators = new CopyOnWriteArrayList<>();
+    private int enrichmentWalks;
+    private long enrichmentVisits;
+
+    @Override
+    public void onPhaseStarted(ExtensionLoadingContext context, ExtensionLoadingPhase phase) {
+      startedPhases.add(phase);
+    }
+
+    @Override
+    public void onPhaseFinished(ExtensionLoadingContext context, ExtensionLoadingPhase phase, Duration duration) {
+      finishedPhases.add(phase);
+    }
+
+    @Override
+    public void onEnricherApplied(ExtensionLoadingContext context, DeclarationEnricher enricher, Duration duration) {
+      enrichers.add(enricher);
+    }
+
+    @Override
+    public void onValidatorApplied(ExtensionLoadingContext context, ExtensionModelValidator validator, Duration duration) {
+      validators.add(validator);
+    }
+
+    @Override
+    public void onWalkFinished(ExtensionLoadingContext context, ExtensionLoadingPhase phase, long visitedNodes,
+                               Duration duration) {
+      if (phase == ENRICHMENT) {
+        enrichmentWalks++;
+        enrichmentVisits += visitedNodes;
+      }
+    }
+  }
+
+  private static class NoOpValidator implements ExtensionModelValidator {
+
+    @Override
+    public void validate(ExtensionModel model, ProblemsReporter problemsReporter) {}
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.api.meta.Category.COMMUNITY;
+import static org.mule.runtime.api.util.MuleSystemProperties.TESTING_MODE_PROPERTY_NAME;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoader.loadExtensionModels;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+
+import static java.lang.Thread.currentThread;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
+import static java.util.Optional.of;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.stream.Collectors.toSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.dsl.DslResolvingContext;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.XmlDslModel;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelBatchLoadingRequest;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingResult;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ExtensionModelBatchLoaderTestCase {
+
+  private static final String NAME = "name";
+
+  @BeforeClass
+  public static void beforeClass() {
+    System.setProperty(TESTING_MODE_PROPERTY_NAME, "true");
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    System.clearProperty(TESTING_MODE_PROPERTY_NAME);
+  }
+
+  private final ExecutorService executor = newFixedThreadPool(4);
+  private final Map<String, Set<String>> visibleExtensions = new ConcurrentHashMap<>();
+  private final Map<String, ClassLoader> contextClassLoaders = new ConcurrentHashMap<>();
+  private final Map<String, DslResolvingContext> dslResolvingContexts = new ConcurrentHashMap<>();
+  private final ClassLoader extensionClassLoader = new ClassLoader(getClass().getClassLoader()) {};
+
+  private final ExtensionModelLoader loader = new ExtensionModelLoader() {
+
+    @Override
+    public String getId() {
+      return "test";
+    }
+
+    @Override
+    protected void declareExtension(ExtensionLoadingContext context) {
+      String name = (String) context.getParameter(NAME).get();
+      visibleExtensions.put(name, context.getDslResolvingContext().getExtensions().stream()
+          .map(ExtensionModel::getName)
+          .collect(toSet()));
+      contextClassLoaders.put(name, currentThread().getContextClassLoader());
+      dslResolvingContexts.put(name, context.getDslResolvingContext());
+
+      context.getExtensionDeclarer().named(name)
+          .onVersion("1.0")
+          .fromVendor("MuleSoft")
+          .withCategory(COMMUNITY)
+          .withXmlDsl(XmlDslModel.builder().setPrefix(name).build())
+          .withConfig("config").describedAs("config");
+    }
+  };
+
+  @After
+  public void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void loadWithDependencies() throws Exception {
+    ExtensionModelBatchLoadingRequest batch = ExtensionModelBatchLoadingRequest.builder(executor)
+        .addRequest("http", loader, request("http"), asList("sockets"))
+        .addRequest("sockets", loader, request("sockets"))
+        .addRequest("oauth", loader, request("oauth"), asList("http", "external"))
+        .addRequest("db", loader, request("db"))
+        .build();
+
+    Map<String, CompletableFuture<ExtensionModelLoadingResult>> results = loadExtensionModels(batch);
+    assertThat(results.keySet(), contains("sockets", "http", "oauth", "db"));
+
+    for (Map.Entry<String, CompletableFuture<ExtensionModelLoadingResult>> entry : results.entrySet()) {
+      ExtensionModelLoadingResult result = entry.getValue().get();
+      assertThat(result.getKey(), is(entry.getKey()));
+      assertThat(result.getExtensionModel().getName(), is(entry.getKey()));
+      assertThat(result.getLoadingTime().isNegative(), is(false));
+      assertThat(contextClassLoaders.get(entry.getKey()), is(sameInstance(extensionClassLoader)));
+    }
+
+    assertThat(visibleExtensions.get("sockets"), is(empty()));
+    assertThat(visibleExtensions.get("db"), is(empty()));
+    assertThat(visibleExtensions.get("http"), contains("sockets"));
+    assertThat(visibleExtensions.get("oauth"), containsInAnyOrder("http", "sockets"));
+  }
+
+  @Test
+  public void dependenciesExtendTheCallerContext() throws Exception {
+    ExtensionModel custom = mock(ExtensionModel.class);
+    DslResolvingContext callerContext = mock(DslResolvingContext.class);
+    when(callerContext.getExtension("custom")).thenReturn(of(custom));
+
+    ExtensionModelBatchLoadingRequest batch = ExtensionModelBatchLoadingRequest.builder(executor)
+        .addRequest("sockets", loader, request("sockets"))
+        .addRequest("http", loader, builder(extensionClassLoader, callerContext).addParameter(NAME, "http").build(),
+                    asList("sockets"))
+        .build();
+
+    loadExtensionModels(batch).get("http").get();
+
+    DslResolvingContext context = dslResolvingContexts.get("http");
+    assertThat(context.getExtension("custom").get(), is(sameInstance(custom)));
+    assertThat(context.getExtension("sockets").get().getName(), is("sockets"));
+    assertThat(visibleExtensions.get("http"), contains("sockets"));
+  }
+
+  @Test
+  public void failureIsPropagatedToDependents() throws Exception {
+    ExtensionModelBatchLoadingRequest batch = ExtensionModelBatchLoadingRequest.builder(executor)
+        .addRequest("broken", loader, builder(extensionClassLoader, getDefault(emptySet())).build())
+        .addRequest("http", loader, request("http"), asList("broken"))
+        .addRequest("db", loader, request("db"))
+        .build();
+
+    Map<String, CompletableFuture<ExtensionModelLoadingResult>> results = loadExtensionModels(batch);
+    assertThat(results.get("db").get().getExtensionModel().getName(), is("db"));
+    assertFailed(results.get("broken"));
+    assertFailed(results.get("http"));
+    assertThat(visibleExtensions.containsKey("http"), is(false));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void circularDependency() {
+    ExtensionModelBatchLoadingRequest.builder(executor)
+        .addRequest("a", loader, request("a"), asList("b"))
+        .addRequest("b", loader, request("b"), asList("a"))
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void duplicateKey() {
+    ExtensionModelBatchLoadingRequest.builder(executor)
+        .addRequest("a", loader, request("a"))
+        .addRequest("a", loader, request("a"));
+  }
+
+  private void assertFailed(CompletableFuture<ExtensionModelLoadingResult> result) throws InterruptedException {
+    try {
+      result.get();
+      throw new AssertionError("Loading was expected to fail");
+    } catch (ExecutionException e) {
+      // expected
+    }
+  }
+
+  private ExtensionModelLoadingRequest request(String name) {
+    return builder(extensionClassLoader, getDefault(emptySet())).addParameter(NAME, name).build();
+  }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader;
+
+import static org.mule.metadata.api.model.MetadataFormat.JAVA;
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.api.meta.Category.COMMUNITY;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+import static org.mule.runtime.extension.internal.loader.ExtensionModelFactory.PARALLEL_VALIDATION_PROPERTY;
+import static org.mule.runtime.extension.internal.loader.ExtensionModelFactory.PROBLEMS_HANDLER;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
+import static java.util.Optional.of;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.stream.Collectors.toList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import org.mule.metadata.api.builder.BaseTypeBuilder;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.XmlDslModel;
+import org.mule.runtime.api.meta.model.operation.HasOperationModels;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.Problem;
+import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator.ExtensionModelValidatorWalkDelegate;
+import org.mule.runtime.extension.internal.loader.validator.ConfigurationModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.ExclusiveParameterModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.ExtensionModelValidatorWalker;
+import org.mule.runtime.extension.internal.loader.validator.NameClashModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.NameModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.OperationModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.ParameterModelValidator;
+import org.mule.runtime.extension.privileged.loader.ProblemsHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+public class ExtensionModelValidationTestCase {
+
+  private static final int CONCURRENT_VALIDATORS = 8;
+
+  @Test
+  public void fusedWalkReportsTheSameProblemsAsEachValidator() {
+    ExtensionModel extensionModel = newLoader().loadExtensionModel(builder(getClass().getClassLoader(), getDefault(emptySet()))
+        .build());
+    List<WalkingExtensionModelValidator> validators = asList(new NameModelValidator(),
+                                                             new NameClashModelValidator(),
+                                                             new OperationModelValidator(),
+                                                             new ParameterModelValidator(),
+                                                             new ExclusiveParameterModelValidator(),
+                                                             new ConfigurationModelValidator());
+
+    List<ProblemsReporter> oneByOne = new ArrayList<>();
+    for (WalkingExtensionModelValidator validator : validators) {
+      ProblemsReporter problemsReporter = new ProblemsReporter(extensionModel);
+      validator.validate(extensionModel, problemsReporter);
+      oneByOne.add(problemsReporter);
+    }
+
+    DslSyntaxResolver syntaxResolver = DslSyntaxResolver.getShared(extensionModel);
+    List<ProblemsReporter> fused = new ArrayList<>();
+    List<ExtensionModelValidatorWalkDelegate> delegates = new ArrayList<>();
+    for (WalkingExtensionModelValidator validator : validators) {
+      ProblemsReporter problemsReporter = new ProblemsReporter(extensionModel);
+      validator.getWalkDelegate(extensionModel, syntaxResolver, problemsReporter).ifPresent(delegates::add);
+      fused.add(problemsReporter);
+    }
+    new ExtensionModelValidatorWalker(delegates).validate(extensionModel);
+
+    assertThat(messages(oneByOne.get(0).getErrors()), is(not(empty())));
+    for (int i = 0; i < validators.size(); i++) {
+      assertThat(messages(fused.get(i).getErrors()), is(equalTo(messages(oneByOne.get(i).getErrors()))));
+      assertThat(messages(fused.get(i).getWarnings()), is(equalTo(messages(oneByOne.get(i).getWarnings()))));
+    }
+  }
+
+  @Test
+  public void parallelValidationReportsInRegistrationOrder() {
+    ExtensionModelLoader loader;
+    System.setProperty(PARALLEL_VALIDATION_PROPERTY, "true");
+    try {
+      loader = newLoader();
+    } finally {
+      System.clearProperty(PARALLEL_VALIDATION_PROPERTY);
+    }
+
+    List<ProblemsReporter> handled = new ArrayList<>();
+    ExtensionModelLoadingRequest.Builder request = builder(getClass().getClassLoader(), getDefault(emptySet()))
+        .setForceExtensionValidation(true)
+        .addParameter(PROBLEMS_HANDLER, (ProblemsHandler) handled::add);
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < CONCURRENT_VALIDATORS; i++) {
+      // the first registered validators take the longest, so that they are the last ones to report
+      request.addValidator(i % 2 == 0
+          ? new SlowValidator("custom " + i, CONCURRENT_VALIDATORS - i)
+          : new SlowWalkingValidator("custom " + i, CONCURRENT_VALIDATORS - i));
+      expected.add("custom " + i);
+    }
+    loader.loadExtensionModel(request.build());
+
+    assertThat(handled, hasSize(1));
+    assertThat(customMessages(handled.get(0).getErrors()), is(equalTo(expected)));
+    assertThat(customMessages(handled.get(0).getWarnings()), is(equalTo(expected)));
+  }
+
+  @Test
+  public void problemsReporterKeepsConcurrentlyReportedProblems() throws Exception {
+    final int problemsPerValidator = 1000;
+    ExtensionModel extensionModel = newLoader().loadExtensionModel(builder(getClass().getClassLoader(), getDefault(emptySet()))
+        .build());
+    ProblemsReporter problemsReporter = new ProblemsReporter(extensionModel);
+    CountDownLatch start = new CountDownLatch(1);
+
+    ExecutorService executor = newFixedThreadPool(CONCURRENT_VALIDATORS);
+    try {
+      List<Future<?>> validators = new ArrayList<>();
+      for (int i = 0; i < CONCURRENT_VALIDATORS; i++) {
+        validators.add(executor.submit(() -> {
+          start.await();
+          for (int j = 0; j < problemsPerValidator; j++) {
+            problemsReporter.addError(new Problem(extensionModel, "error"));
+            problemsReporter.addWarning(new Problem(extensionModel, "warning"));
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> validator : validators) {
+        validator.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(problemsReporter.getErrors(), hasSize(CONCURRENT_VALIDATORS * problemsPerValidator));
+    assertThat(problemsReporter.getWarnings(), hasSize(CONCURRENT_VALIDATORS * problemsPerValidator));
+  }
+
+  private ExtensionModelLoader newLoader() {
+    return new ExtensionModelLoader() {
+
+      @Override
+      public String getId() {
+        return "test";
+      }
+
+      @Override
+      protected void declareExtension(ExtensionLoadingContext context) {
+        context.getExtensionDeclarer().named("test")
+            .onVersion("1.0")
+            .fromVendor("MuleSoft")
+            .withCategory(COMMUNITY)
+            .withXmlDsl(XmlDslModel.builder().setPrefix("test").build())
+            .withConfig("config").describedAs("config")
+            .withOperation("inval;id").describedAs("operation with an invalid name")
+            .onDefaultParameterGroup()
+            .withRequiredParameter("other;invalid").describedAs("parameter with an invalid name")
+            .ofType(BaseTypeBuilder.create(JAVA).stringType().build());
+      }
+    };
+  }
+
+  private List<String> messages(List<Problem> problems) {
+    return problems.stream().map(Problem::getMessage).collect(toList());
+  }
+
+  private List<String> customMessages(List<Problem> problems) {
+    return messages(problems).stream().filter(message -> message.startsWith("custom ")).collect(toList());
+  }
+
+  private static void pause(int units) {
+    try {
+      Thread.sleep(units * 10L);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static class SlowValidator implements ExtensionModelValidator {
+
+    private final String message;
+    private final int delay;
+
+    private SlowValidator(String message, int delay) {
+      this.message = message;
+      this.delay = delay;
+    }
+
+    @Override
+    public void validate(ExtensionModel model, ProblemsReporter problemsReporter) {
+      pause(delay);
+      problemsReporter.addError(new Problem(model, message));
+      problemsReporter.addWarning(new Problem(model, message));
+    }
+  }
+
+  private static class SlowWalkingValidator implements WalkingExtensionModelValidator {
+
+    private final String message;
+    private final int delay;
+
+    private SlowWalkingValidator(String message, int delay) {
+      this.message = message;
+      this.delay = delay;
+    }
+
+    @Override
+    public Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel model,
+                                                                         DslSyntaxResolver syntaxResolver,
+                                                                         ProblemsReporter problemsReporter) {
+      return of(new ExtensionModelValidatorWalkDelegate() {
+
+        @Override
+        public void onOperation(HasOperationModels owner, OperationModel operation) {
+          pause(delay);
+        }
+
+        @Override
+        public void onWalkFinished() {
+          problemsReporter.addError(new Problem(model, message));
+          problemsReporter.addWarning(new Problem(model, message));
+        }
+      });
+    }
+  }
+}
@@ -57,6 +57,7 @@ import static org.mule.runtime.api.util.NameUtils.underscorize;
 import static org.mule.runtime.extension.api.ExtensionConstants.EXPIRATION_POLICY_DESCRIPTION;
 import static org.mule.runtime.extension.api.ExtensionConstants.EXPIRATION_POLICY_PARAMETER_NAME;
 import static org.mule.runtime.extension.api.ExtensionConstants.NAME_PARAM_DESCRIPTION;
+import static org.mule.runtime.extension.api.ExtensionConstants.PAGE_PREFETCH_PARAMETER_NAME;
 import static org.mule.runtime.extension.api.ExtensionConstants.RECONNECTION_CONFIG_PARAMETER_DESCRIPTION;
 import static org.mule.runtime.extension.api.ExtensionConstants.RECONNECTION_CONFIG_PARAMETER_NAME;
 import static org.mule.runtime.extension.api.ExtensionConstants.RECONNECTION_STRATEGY_PARAMETER_DESCRIPTION;
@@ -74,10 +75,16 @@ import static org.mule.runtime.extension.api.stereotype.MuleStereotypes.CONNECTI
 import static org.mule.runtime.extension.api.stereotype.MuleStereotypes.PROCESSOR;
 import static org.mule.runtime.extension.api.stereotype.MuleStereotypes.SOURCE;
 
+import static java.util.Arrays.asList;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertThat;
@@ -112,12 +119,15 @@ import org.mule.runtime.extension.api.declaration.type.RedeliveryPolicyTypeBuild
 import org.mule.runtime.extension.api.declaration.type.StreamingStrategyTypeBuilder;
 import org.mule.runtime.extension.api.exception.IllegalModelDefinitionException;
 import org.mule.runtime.extension.api.exception.IllegalParameterModelDefinitionException;
+import org.mule.runtime.extension.api.property.InfrastructureParameterModelProperty;
+import org.mule.runtime.extension.internal.property.PagePrefetchModelProperty;
 import org.mule.runtime.extension.internal.property.PagedOperationModelProperty;
 
 import java.io.InputStream;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import io.qameta.allure.Description;
 import io.qameta.allure.Issue;
@@ -208,6 +218,21 @@ public class FlatExtensionModelFactoryTestCase extends BaseExtensionModelFactory
     assertThat(extensionModel.getOperationModel("fake").isPresent(), is(false));
   }
 
+  @Test
+  public void findComponentModel() throws Exception {
+    assertThat(extensionModel.findComponentModel(CONSUMER).get(),
+               is(sameInstance(extensionModel.getOperationModel(CONSUMER).get())));
+    assertThat(extensionModel.findComponentModel(LISTENER).get(),
+               is(sameInstance(extensionModel.getSourceModel(LISTENER).get())));
+  }
+
+  @Test
+  public void noSuchComponent() throws Exception {
+    assertThat(extensionModel.findComponentModel("fake").isPresent(), is(false));
+    assertThat(extensionModel.getSourceModel("fake").isPresent(), is(false));
+    assertThat(extensionModel.getConnectionProviderModel("fake").isPresent(), is(false));
+  }
+
   @Test
   public void operations() throws Exception {
     List<OperationModel> operationModels = extensionModel.getOperationModels();
@@ -421,6 +446,56 @@ public class FlatExtensionModelFactoryTestCase extends BaseExtensionModelFactory
     assertObjectStreamingStrategyParameter(streamingStrategy);
   }
 
+  @Test
+  public void pagePrefetch() {
+    final String LIST_TYPES_OPERATION = "LIST_TYPES";
+    final String LIST_TYPES_AHEAD_OPERATION = "LIST_TYPES_AHEAD";
+    declare(extensionDeclarer -> {
+      reference.declareOn(extensionDeclarer);
+      for (String operationName : asList(LIST_TYPES_OPERATION, LIST_TYPES_AHEAD_OPERATION)) {
+        OperationDeclarer operation = extensionDeclarer.withOperation(operationName).describedAs("List types");
+        operation.supportsStreaming(true).withOutput().ofType(typeLoader.load(Iterator.class));
+        operation.withOutputAttributes().ofType(voidType);
+        operation.withModelProperty(new PagedOperationModelProperty());
+        if (operationName.equals(LIST_TYPES_AHEAD_OPERATION)) {
+          operation.withModelProperty(new PagePrefetchModelProperty());
+        }
+      }
+    });
+
+    ExtensionModel extensionModel = load();
+
+    OperationModel operation = extensionModel.getOperationModel(LIST_TYPES_OPERATION).orElseThrow(IllegalArgumentException::new);
+    assertThat(operation.getAllParameterModels().stream().anyMatch(p -> p.getName().equals(PAGE_PREFETCH_PARAMETER_NAME)),
+               is(false));
+
+    OperationModel aheadOperation =
+        extensionModel.getOperationModel(LIST_TYPES_AHEAD_OPERATION).orElseThrow(IllegalArgumentException::new);
+    ParameterModel pagePrefetch = aheadOperation.getAllParameterModels().stream()
+        .filter(p -> p.getName().equals(PAGE_PREFETCH_PARAMETER_NAME))
+        .findFirst()
+        .orElseThrow(IllegalArgumentException::new);
+
+    assertThat(pagePrefetch.isRequired(), is(false));
+    assertThat(pagePrefetch.getDefaultValue(), is(0));
+    assertThat(pagePrefetch.getExpressionSupport(), is(NOT_SUPPORTED));
+
+    List<ParameterModel> infrastructureParameters = aheadOperation.getAllParameterModels().stream()
+        .filter(p -> p.getModelProperty(InfrastructureParameterModelProperty.class).isPresent())
+        .sorted(comparing(this::infrastructureSequence))
+        .collect(toList());
+    List<String> infrastructureParameterNames = infrastructureParameters.stream().map(ParameterModel::getName).collect(toList());
+    Set<Integer> sequences = infrastructureParameters.stream().map(this::infrastructureSequence).collect(toSet());
+
+    assertThat(sequences, hasSize(infrastructureParameters.size()));
+    assertThat(infrastructureParameterNames.indexOf(PAGE_PREFETCH_PARAMETER_NAME),
+               is(greaterThan(infrastructureParameterNames.indexOf(STREAMING_STRATEGY_PARAMETER_NAME))));
+  }
+
+  private Integer infrastructureSequence(ParameterModel parameter) {
+    return parameter.getModelProperty(InfrastructureParameterModelProperty.class).get().getSequence();
+  }
+
   @Test
   @Issue("MULE-18457")
   @Description("For crafted extensions that do not set a stereotype in the models, a default is set.")
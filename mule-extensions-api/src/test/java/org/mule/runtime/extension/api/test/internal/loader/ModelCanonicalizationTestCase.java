@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader;
+
+import static org.mule.metadata.api.model.MetadataFormat.JAVA;
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.api.meta.Category.COMMUNITY;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+
+import static java.util.Collections.emptySet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.mule.metadata.api.builder.BaseTypeBuilder;
+import org.mule.metadata.api.builder.ObjectTypeBuilder;
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.XmlDslModel;
+import org.mule.runtime.api.meta.model.display.DisplayModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+
+import org.junit.Test;
+
+public class ModelCanonicalizationTestCase {
+
+  private final ExtensionModelLoader loader = new ExtensionModelLoader() {
+
+    @Override
+    public String getId() {
+      return "test";
+    }
+
+    @Override
+    protected void declareExtension(ExtensionLoadingContext context) {
+      // every part is built again on each load, so that equal parts are never the same instance unless canonicalized
+      BaseTypeBuilder typeBuilder = BaseTypeBuilder.create(JAVA);
+      ObjectTypeBuilder pojo = typeBuilder.objectType().id("org.mule.test.Pojo");
+      pojo.addField().key("name").value().stringType();
+
+      context.getExtensionDeclarer().named("test")
+          .onVersion("1.0")
+          .fromVendor("MuleSoft")
+          .withCategory(COMMUNITY)
+          .withXmlDsl(XmlDslModel.builder().setPrefix("test").build())
+          .withConfig("config").describedAs("config")
+          .withOperation("operation").describedAs("operation")
+          .onDefaultParameterGroup()
+          .withRequiredParameter("pojo")
+          .describedAs(new String("A pojo"))
+          .withDisplayModel(DisplayModel.builder().displayName(new String("Pojo")).build())
+          .ofType(pojo.build());
+    }
+  };
+
+  @Test
+  public void canonicalizedModelsShareEqualParts() {
+    ParameterModel first = getPojoParameter(load(true));
+    ParameterModel second = getPojoParameter(load(true));
+
+    assertThat(second.getType(), is(sameInstance(first.getType())));
+    assertThat(second.getDescription(), is(sameInstance(first.getDescription())));
+    assertThat(second.getDisplayModel().get(), is(sameInstance(first.getDisplayModel().get())));
+  }
+
+  @Test
+  public void modelsAreNotCanonicalizedByDefault() {
+    ParameterModel first = getPojoParameter(load(false));
+    ParameterModel second = getPojoParameter(load(false));
+
+    MetadataType firstType = first.getType();
+    assertThat(second.getType(), is(equalTo(firstType)));
+    assertThat(second.getType(), is(not(sameInstance(firstType))));
+    assertThat(second.getDescription(), is(not(sameInstance(first.getDescription()))));
+  }
+
+  private ExtensionModel load(boolean canonicalize) {
+    return loader.loadExtensionModel(builder(getClass().getClassLoader(), getDefault(emptySet()))
+        .setCanonicalizeModel(canonicalize)
+        .build());
+  }
+
+  private ParameterModel getPojoParameter(ExtensionModel extensionModel) {
+    return extensionModel.getConfigurationModel("config").get()
+        .getOperationModel("operation").get()
+        .getAllParameterModels().stream()
+        .filter(p -> p.getName().equals("pojo"))
+        .findFirst().get();
+  }
+}
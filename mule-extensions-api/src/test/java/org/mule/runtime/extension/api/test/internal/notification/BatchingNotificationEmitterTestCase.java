@@ -0,0 +1,179 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.notification;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.extension.api.notification.NotificationActionDefinition;
+import org.mule.runtime.extension.api.notification.NotificationEmitter;
+import org.mule.runtime.extension.internal.notification.BatchingNotificationEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class BatchingNotificationEmitterTestCase {
+
+  private final NotificationActionDefinition action = mock(NotificationActionDefinition.class);
+  private final List<Runnable> tasks = new ArrayList<>();
+  private final List<Object> fired = new ArrayList<>();
+
+  private NotificationEmitter delegate;
+
+  @Before
+  public void before() {
+    delegate = mock(NotificationEmitter.class);
+    when(delegate.isListening(any())).thenReturn(true);
+    doAnswer(invocation -> {
+      fired.add(((TypedValue<?>) invocation.getArgument(1)).getValue());
+      return null;
+    }).when(delegate).fire(any(), any());
+  }
+
+  @Test
+  public void defaultFireLazySkipsSupplierWhenNotListening() {
+    NotificationEmitter emitter = mock(NotificationEmitter.class, CALLS_REAL_METHODS);
+    when(emitter.isListening(action)).thenReturn(false);
+    AtomicInteger computed = new AtomicInteger();
+
+    emitter.fireLazy(action, computed::incrementAndGet, DataType.NUMBER);
+
+    assertThat(computed.get(), is(0));
+    verify(emitter, never()).fire(any(), any());
+  }
+
+  @Test
+  public void lazyDataIsComputedOnDispatch() {
+    BatchingNotificationEmitter emitter = new BatchingNotificationEmitter(delegate, tasks::add, 16, 16);
+    AtomicInteger computed = new AtomicInteger();
+
+    emitter.fireLazy(action, computed::incrementAndGet, DataType.NUMBER);
+    emitter.fireLazy(action, computed::incrementAndGet, DataType.NUMBER);
+
+    assertThat(computed.get(), is(0));
+    assertThat(tasks, hasSize(1));
+
+    runTasks();
+    assertThat(computed.get(), is(2));
+    assertThat(fired, contains(1, 2));
+    assertThat(emitter.getDispatchedCount(), is(2L));
+  }
+
+  @Test
+  public void notListeningIsNotQueued() {
+    when(delegate.isListening(action)).thenReturn(false);
+    BatchingNotificationEmitter emitter = new BatchingNotificationEmitter(delegate, tasks::add, 16, 16);
+    AtomicInteger computed = new AtomicInteger();
+
+    emitter.fireLazy(action, computed::incrementAndGet, DataType.NUMBER);
+    emitter.fire(action, new TypedValue<>("eager", DataType.STRING));
+
+    assertThat(tasks, is(empty()));
+    assertThat(computed.get(), is(0));
+  }
+
+  @Test
+  public void dispatchesInBatches() {
+    BatchingNotificationEmitter emitter = new BatchingNotificationEmitter(delegate, tasks::add, 16, 2);
+    for (int i = 0; i < 5; i++) {
+      emitter.fire(action, new TypedValue<>(i, DataType.NUMBER));
+    }
+
+    assertThat(tasks, hasSize(1));
+    tasks.remove(0).run();
+    assertThat(fired, contains(0, 1));
+    assertThat(tasks, hasSize(1));
+
+    runTasks();
+    assertThat(fired, contains(0, 1, 2, 3, 4));
+  }
+
+  @Test
+  public void dropsWhenFull() {
+    BatchingNotificationEmitter emitter = new BatchingNotificationEmitter(delegate, tasks::add, 2, 16);
+    for (int i = 0; i < 5; i++) {
+      emitter.fire(action, new TypedValue<>(i, DataType.NUMBER));
+    }
+
+    assertThat(emitter.getDroppedCount(), is(3L));
+    emitter.flush();
+    assertThat(fired, contains(0, 1));
+  }
+
+  @Test
+  public void rejectedDispatchRunsInline() {
+    BatchingNotificationEmitter emitter = new BatchingNotificationEmitter(delegate, task -> {
+      throw new RejectedExecutionException();
+    }, 16, 16);
+
+    emitter.fire(action, new TypedValue<>(1, DataType.NUMBER));
+
+    assertThat(fired, contains(1));
+  }
+
+  @Test
+  public void rejectingExecutorDrainsBacklogInline() {
+    final int backlog = 100_000;
+    AtomicBoolean shutdown = new AtomicBoolean();
+    BatchingNotificationEmitter emitter = new BatchingNotificationEmitter(delegate, task -> {
+      if (shutdown.get()) {
+        throw new RejectedExecutionException();
+      }
+      tasks.add(task);
+    }, backlog, 1);
+
+    for (int i = 0; i < backlog; i++) {
+      emitter.fire(action, new TypedValue<>(i, DataType.NUMBER));
+    }
+    assertThat(tasks, hasSize(1));
+
+    shutdown.set(true);
+    runTasks();
+
+    assertThat(emitter.getDispatchedCount(), is((long) backlog));
+    assertThat(fired, hasSize(backlog));
+  }
+
+  @Test
+  public void failingSupplierDoesNotStopDispatch() {
+    AtomicInteger computed = new AtomicInteger();
+    BatchingNotificationEmitter emitter = new BatchingNotificationEmitter(delegate, tasks::add, 16, 16);
+
+    emitter.fireLazy(action, () -> {
+      throw new IllegalStateException("expected");
+    }, DataType.NUMBER);
+    emitter.fireLazy(action, computed::incrementAndGet, DataType.NUMBER);
+    runTasks();
+
+    assertThat(fired, contains(1));
+    assertThat(emitter.getDispatchedCount(), is(1L));
+  }
+
+  private void runTasks() {
+    while (!tasks.isEmpty()) {
+      tasks.remove(0).run();
+    }
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.runtime.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.extension.api.runtime.ExpirationPolicy;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationInstance;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationStats;
+import org.mule.runtime.extension.internal.runtime.config.ConfigurationExpirationIndex;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ConfigurationExpirationIndexTestCase {
+
+  private static final long MAX_IDLE = 1000;
+
+  private final AtomicLong clock = new AtomicLong(10000);
+  private final Map<String, ConfigurationStats> stats = new HashMap<>();
+
+  private ConfigurationExpirationIndex<String> index;
+
+  @Before
+  public void before() {
+    ExpirationPolicy policy = mock(ExpirationPolicy.class);
+    when(policy.isExpired(anyLong(), any())).thenAnswer(invocation -> {
+      long lastUsed = invocation.getArgument(0);
+      TimeUnit timeUnit = invocation.getArgument(1);
+      return clock.get() - timeUnit.toMillis(lastUsed) > MAX_IDLE;
+    });
+    index = new ConfigurationExpirationIndex<>(policy, clock::get);
+  }
+
+  @Test
+  public void onlyIdleInstancesExpire() {
+    put("a");
+    advance(500);
+    put("b");
+    advance(501);
+
+    assertThat(index.removeExpired().keySet(), contains("a"));
+    assertThat(index.size(), is(1));
+
+    advance(500);
+    assertThat(index.removeExpired().keySet(), contains("b"));
+    assertThat(index.size(), is(0));
+  }
+
+  @Test
+  public void touchedInstanceDoesNotExpire() {
+    put("a");
+    put("b");
+    advance(600);
+    index.touch("a");
+    advance(600);
+
+    assertThat(index.removeExpired().keySet(), contains("b"));
+    advance(500);
+    assertThat(index.removeExpired().keySet(), contains("a"));
+  }
+
+  @Test
+  public void sweepVisitsOnlyExpiredInstances() {
+    for (int i = 0; i < 1000; i++) {
+      put("old" + i);
+    }
+    advance(600);
+    for (int i = 0; i < 1000; i++) {
+      put("new" + i);
+    }
+    advance(600);
+
+    long visitsBefore = index.getVisitCount();
+    assertThat(index.removeExpired().size(), is(1000));
+    assertThat(index.getVisitCount() - visitsBefore, is(lessThanOrEqualTo(1001L)));
+
+    visitsBefore = index.getVisitCount();
+    assertThat(index.removeExpired().size(), is(0));
+    assertThat(index.getVisitCount() - visitsBefore, is(1L));
+  }
+
+  @Test
+  public void useRecordedOnlyInStatsDelaysExpiration() {
+    put("a");
+    put("b");
+    advance(600);
+    when(stats.get("a").getLastUsedMillis()).thenReturn(clock.get());
+    advance(600);
+
+    assertThat(index.removeExpired().keySet(), contains("b"));
+    advance(500);
+    assertThat(index.removeExpired().keySet(), contains("a"));
+  }
+
+  @Test
+  public void instanceWithActiveComponentsDoesNotExpire() {
+    put("a");
+    when(stats.get("a").getActiveComponents()).thenReturn(1);
+    advance(2000);
+
+    assertThat(index.removeExpired().isEmpty(), is(true));
+    assertThat(index.size(), is(1));
+
+    when(stats.get("a").getActiveComponents()).thenReturn(0);
+    advance(1001);
+    assertThat(index.removeExpired().keySet(), contains("a"));
+  }
+
+  @Test
+  public void removedInstanceDoesNotExpire() {
+    ConfigurationInstance instance = put("a");
+    assertThat(index.remove("a").get(), is(instance));
+    advance(2000);
+
+    assertThat(index.removeExpired().isEmpty(), is(true));
+    assertThat(index.remove("a").isPresent(), is(false));
+  }
+
+  private ConfigurationInstance put(String key) {
+    ConfigurationStats instanceStats = mock(ConfigurationStats.class);
+    when(instanceStats.getLastUsedMillis()).thenReturn(clock.get());
+    stats.put(key, instanceStats);
+
+    ConfigurationInstance instance = mock(ConfigurationInstance.class);
+    when(instance.getStatistics()).thenReturn(instanceStats);
+    index.put(key, instance);
+    return instance;
+  }
+
+  private void advance(long millis) {
+    clock.addAndGet(millis);
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.runtime.config;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.mule.runtime.extension.api.error.ErrorTypeDefinition;
+import org.mule.runtime.extension.api.runtime.config.ConfigurationUsageSnapshot;
+import org.mule.runtime.extension.api.runtime.config.OperationUsageSnapshot;
+import org.mule.runtime.extension.internal.runtime.config.ConfigurationUsageRecorder;
+
+import java.util.concurrent.ExecutorService;
+
+import org.junit.Test;
+
+public class ConfigurationUsageRecorderTestCase {
+
+  private final ConfigurationUsageRecorder recorder = new ConfigurationUsageRecorder(() -> 1234L);
+
+  @Test
+  public void countsExecutionsAndErrors() {
+    recorder.recordSuccess("publish", 100);
+    recorder.recordSuccess("publish", 300);
+    recorder.recordError("publish", TestError.CONNECTIVITY, 200);
+    recorder.recordError("consume", TestError.TIMEOUT, 50);
+    recorder.recordError("consume", null, 50);
+
+    ConfigurationUsageSnapshot snapshot = recorder.snapshot();
+    assertThat(snapshot.getTimestamp(), is(1234L));
+
+    OperationUsageSnapshot publish = snapshot.getOperations().get("publish");
+    assertThat(publish.getExecutionCount(), is(3L));
+    assertThat(publish.getErrorCount(), is(1L));
+    assertThat(publish.getTotalLatencyNanos(), is(600L));
+    assertThat(publish.getMaxLatencyNanos(), is(300L));
+
+    OperationUsageSnapshot consume = snapshot.getOperations().get("consume");
+    assertThat(consume.getExecutionCount(), is(2L));
+    assertThat(consume.getErrorCount(), is(2L));
+
+    assertThat(snapshot.getErrorCounts().get(TestError.CONNECTIVITY), is(1L));
+    assertThat(snapshot.getErrorCounts().get(TestError.TIMEOUT), is(1L));
+    assertThat(snapshot.getOperations().get("subscribe"), is(nullValue()));
+  }
+
+  @Test
+  public void percentilesAreWithinHistogramPrecision() {
+    for (int i = 1; i <= 1000; i++) {
+      recorder.recordSuccess("publish", i * 1000L);
+    }
+
+    OperationUsageSnapshot publish = recorder.snapshot().getOperations().get("publish");
+    assertApproximately(publish.getLatencyPercentileNanos(50), 500_000);
+    assertApproximately(publish.getLatencyPercentileNanos(99), 990_000);
+    assertThat(publish.getLatencyPercentileNanos(100), is(1_000_000L));
+    assertThat(publish.getLatencyPercentileNanos(0), is(lessThanOrEqualTo(1_125L)));
+  }
+
+  @Test
+  public void zeroLatencyPercentileIsZero() {
+    recorder.recordSuccess("publish", 0);
+    assertThat(recorder.snapshot().getOperations().get("publish").getLatencyPercentileNanos(50), is(0L));
+  }
+
+  @Test
+  public void snapshotIsNotAffectedByLaterExecutions() {
+    recorder.recordSuccess("publish", 100);
+    ConfigurationUsageSnapshot snapshot = recorder.snapshot();
+    recorder.recordSuccess("publish", 100);
+
+    assertThat(snapshot.getOperations().get("publish").getExecutionCount(), is(1L));
+    assertThat(recorder.snapshot().getOperations().get("publish").getExecutionCount(), is(2L));
+  }
+
+  @Test
+  public void concurrentRecording() throws Exception {
+    int threads = 4;
+    int executionsPerThread = 10000;
+    ExecutorService executor = newFixedThreadPool(threads);
+    try {
+      for (int t = 0; t < threads; t++) {
+        executor.execute(() -> {
+          for (int i = 0; i < executionsPerThread; i++) {
+            recorder.recordSuccess("publish", i);
+            if (i % 100 == 0) {
+              recorder.snapshot();
+            }
+          }
+        });
+      }
+    } finally {
+      executor.shutdown();
+      executor.awaitTermination(10, SECONDS);
+    }
+
+    assertThat(recorder.snapshot().getOperations().get("publish").getExecutionCount(), is((long) threads * executionsPerThread));
+  }
+
+  private static void assertApproximately(long actual, long expected) {
+    assertThat(actual, allOf(greaterThanOrEqualTo(expected), lessThanOrEqualTo(expected + expected / 8)));
+  }
+
+  private enum TestError implements ErrorTypeDefinition<TestError> {
+    CONNECTIVITY, TIMEOUT
+  }
+}
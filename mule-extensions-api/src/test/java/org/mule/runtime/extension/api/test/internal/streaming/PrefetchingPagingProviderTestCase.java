@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.streaming;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Optional.empty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.connection.ConnectionHandler;
+import org.mule.runtime.extension.api.runtime.streaming.PagingProvider;
+import org.mule.runtime.extension.internal.streaming.PrefetchingPagingProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class PrefetchingPagingProviderTestCase {
+
+  private static final String CONSUMER_CONNECTION = "consumerConnection";
+  private static final String PREFETCH_CONNECTION = "prefetchConnection";
+
+  private static final Executor DIRECT = Runnable::run;
+
+  private ConnectionHandler<String> connectionHandler;
+
+  @Before
+  public void before() throws Exception {
+    connectionHandler = mock(ConnectionHandler.class);
+    when(connectionHandler.getConnection()).thenReturn(PREFETCH_CONNECTION);
+  }
+
+  @Test
+  public void fetchesPagesAhead() {
+    TestPagingProvider delegate = new TestPagingProvider(5, false);
+    PrefetchingPagingProvider<String, Integer> provider = prefetching(delegate, 2, DIRECT);
+
+    assertThat(provider.getPage(CONSUMER_CONNECTION), contains(0));
+    assertThat(delegate.connections.size(), is(3));
+    assertThat(provider.getBufferedPages(), is(2));
+    assertThat(provider.getPeakBufferedPages(), is(2));
+
+    List<Integer> items = new ArrayList<>();
+    List<Integer> page;
+    while (!(page = provider.getPage(CONSUMER_CONNECTION)).isEmpty()) {
+      items.addAll(page);
+    }
+
+    assertThat(items, contains(1, 2, 3, 4));
+    assertThat(provider.getUnderruns(), is(0L));
+  }
+
+  @Test
+  public void nonStickyProviderFetchesAheadWithSuppliedConnections() {
+    TestPagingProvider delegate = new TestPagingProvider(3, false);
+    PrefetchingPagingProvider<String, Integer> provider = prefetching(delegate, 1, DIRECT);
+
+    provider.getPage(CONSUMER_CONNECTION);
+    provider.getPage(CONSUMER_CONNECTION);
+
+    assertThat(delegate.connections, contains(CONSUMER_CONNECTION, PREFETCH_CONNECTION, PREFETCH_CONNECTION));
+    verify(connectionHandler, times(2)).release();
+  }
+
+  @Test
+  public void stickyProviderFetchesAheadWithConsumerConnection() {
+    TestPagingProvider delegate = new TestPagingProvider(3, true);
+    PrefetchingPagingProvider<String, Integer> provider = prefetching(delegate, 2, DIRECT);
+
+    provider.getPage(CONSUMER_CONNECTION);
+
+    assertThat(delegate.connections, everyItem(is(CONSUMER_CONNECTION)));
+    verify(connectionHandler, times(0)).release();
+  }
+
+  @Test
+  public void failureFetchingAheadIsThrownAfterFetchedPages() {
+    TestPagingProvider delegate = new TestPagingProvider(5, false);
+    delegate.failOnPage = 2;
+    PrefetchingPagingProvider<String, Integer> provider = prefetching(delegate, 3, DIRECT);
+
+    assertThat(provider.getPage(CONSUMER_CONNECTION), contains(0));
+    assertThat(provider.getPage(CONSUMER_CONNECTION), contains(1));
+    try {
+      provider.getPage(CONSUMER_CONNECTION);
+      fail("Expected the failure fetching the page to be thrown");
+    } catch (IllegalStateException e) {
+      assertThat(e.getMessage(), is("page 2"));
+    }
+  }
+
+  @Test
+  public void rejectedFetchesAreDoneOnConsumerThread() {
+    TestPagingProvider delegate = new TestPagingProvider(2, false);
+    PrefetchingPagingProvider<String, Integer> provider = prefetching(delegate, 2, command -> {
+      throw new RejectedExecutionException();
+    });
+
+    assertThat(provider.getPage(CONSUMER_CONNECTION), contains(0));
+    assertThat(provider.getPage(CONSUMER_CONNECTION), contains(1));
+    assertThat(provider.getPage(CONSUMER_CONNECTION), is(emptyList()));
+
+    assertThat(delegate.connections, everyItem(is(CONSUMER_CONNECTION)));
+    assertThat(provider.getPrefetchedPages(), is(0L));
+  }
+
+  @Test
+  public void closeStopsFetchingAhead() throws Exception {
+    TestPagingProvider delegate = new TestPagingProvider(5, false);
+    List<Runnable> pending = new ArrayList<>();
+    PrefetchingPagingProvider<String, Integer> provider = prefetching(delegate, 2, pending::add);
+
+    provider.getPage(CONSUMER_CONNECTION);
+    provider.close(CONSUMER_CONNECTION);
+    pending.forEach(Runnable::run);
+
+    assertThat(delegate.closed, is(true));
+    assertThat(delegate.connections.size(), is(1));
+    assertThat(provider.getBufferedPages(), is(0));
+  }
+
+  private PrefetchingPagingProvider<String, Integer> prefetching(TestPagingProvider delegate, int pagesAhead,
+                                                                  Executor executor) {
+    return new PrefetchingPagingProvider<>(delegate, pagesAhead, executor, () -> connectionHandler);
+  }
+
+  private static class TestPagingProvider implements PagingProvider<String, Integer> {
+
+    private final int pages;
+    private final boolean sticky;
+    private final List<String> connections = new ArrayList<>();
+    private int failOnPage = -1;
+    private boolean closed;
+
+    private TestPagingProvider(int pages, boolean sticky) {
+      this.pages = pages;
+      this.sticky = sticky;
+    }
+
+    @Override
+    public List<Integer> getPage(String connection) {
+      int page = connections.size();
+      connections.add(connection);
+      if (page == failOnPage) {
+        throw new IllegalStateException("page " + page);
+      }
+      return page < pages ? singletonList(page) : emptyList();
+    }
+
+    @Override
+    public Optional<Integer> getTotalResults(String connection) {
+      return empty();
+    }
+
+    @Override
+    public boolean useStickyConnections() {
+      return sticky;
+    }
+
+    @Override
+    public void close(String connection) {
+      closed = true;
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.util;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.api.meta.model.ModelProperty;
+import org.mule.runtime.extension.internal.util.ModelPropertyMap;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+public class ModelPropertyMapTestCase {
+
+  private final FirstProperty first = new FirstProperty();
+  private final SecondProperty second = new SecondProperty();
+
+  @Test
+  public void get() {
+    Map<Class<? extends ModelProperty>, ModelProperty> map = ModelPropertyMap.of(asList(first, second));
+
+    assertThat(map.size(), is(2));
+    assertThat(map.get(FirstProperty.class), is(sameInstance(first)));
+    assertThat(map.get(SecondProperty.class), is(sameInstance(second)));
+    assertThat(map.get(ModelProperty.class), is(nullValue()));
+    assertThat(map.containsKey(SecondProperty.class), is(true));
+  }
+
+  @Test
+  public void keepsInsertionOrder() {
+    ModelPropertyMap map = ModelPropertyMap.of(asList(second, first));
+
+    assertThat(map.valueSet(), contains(second, first));
+    assertThat(map.keySet(), contains(SecondProperty.class, FirstProperty.class));
+  }
+
+  @Test
+  public void lastDuplicateWins() {
+    FirstProperty other = new FirstProperty();
+    ModelPropertyMap map = ModelPropertyMap.of(asList(first, second, other));
+
+    assertThat(map.size(), is(2));
+    assertThat(map.valueSet(), contains(other, second));
+  }
+
+  @Test
+  public void valueSetIsCached() {
+    ModelPropertyMap map = ModelPropertyMap.of(asList(first, second));
+    assertThat(map.valueSet(), is(sameInstance(map.valueSet())));
+  }
+
+  @Test
+  public void empty() {
+    assertThat(ModelPropertyMap.of(null).isEmpty(), is(true));
+    assertThat(ModelPropertyMap.of(emptySet()), is(sameInstance(ModelPropertyMap.of(null))));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void immutable() {
+    ModelPropertyMap.of(asList(first)).valueSet().remove(first);
+  }
+
+  private static class FirstProperty implements ModelProperty {
+
+    @Override
+    public String getName() {
+      return "first";
+    }
+
+    @Override
+    public boolean isPublic() {
+      return false;
+    }
+  }
+
+  private static class SecondProperty implements ModelProperty {
+
+    @Override
+    public String getName() {
+      return "second";
+    }
+
+    @Override
+    public boolean isPublic() {
+      return false;
+    }
+  }
+}
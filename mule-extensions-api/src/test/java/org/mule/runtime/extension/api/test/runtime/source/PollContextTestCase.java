@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.runtime.source;
+
+import static org.mule.runtime.extension.api.runtime.source.PollContext.PollItemStatus.ACCEPTED;
+import static org.mule.runtime.extension.api.runtime.source.PollContext.PollItemStatus.ALREADY_IN_PROCESS;
+import static org.mule.runtime.extension.api.runtime.source.PollContext.PollItemStatus.FILTERED_BY_WATERMARK;
+import static org.mule.runtime.extension.api.runtime.source.PollContext.PollItemStatus.SOURCE_STOPPING;
+
+import static java.util.Arrays.asList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.extension.api.runtime.source.PollContext;
+import org.mule.runtime.extension.api.runtime.source.PollContext.PollItem;
+import org.mule.runtime.extension.api.runtime.source.PollContext.PollItemStatus;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class PollContextTestCase {
+
+  private final List<String> populatedItems = new ArrayList<>();
+  private final PollItem<String, Void> pollItem = mock(PollItem.class);
+  private PollContext<String, Void> pollContext;
+
+  @Before
+  public void setUp() {
+    pollContext = mock(PollContext.class);
+    when(pollContext.acceptAll(any(), any())).thenCallRealMethod();
+  }
+
+  @Test
+  public void acceptAllSubmitsEachItemInOrder() {
+    statuses(ACCEPTED, FILTERED_BY_WATERMARK, ALREADY_IN_PROCESS);
+
+    List<PollItemStatus> statuses = pollContext.acceptAll(asList("a", "b", "c"), (item, polledItem) -> populatedItems.add(item));
+
+    assertThat(statuses, contains(ACCEPTED, FILTERED_BY_WATERMARK, ALREADY_IN_PROCESS));
+    assertThat(populatedItems, contains("a", "b", "c"));
+    verify(pollContext, times(3)).accept(any());
+  }
+
+  @Test
+  public void acceptAllStopsSubmittingOnceSourceIsStopping() {
+    statuses(ACCEPTED, SOURCE_STOPPING);
+
+    List<PollItemStatus> statuses =
+        pollContext.acceptAll(asList("a", "b", "c", "d"), (item, polledItem) -> populatedItems.add(item));
+
+    assertThat(statuses, contains(ACCEPTED, SOURCE_STOPPING, SOURCE_STOPPING, SOURCE_STOPPING));
+    assertThat(populatedItems, contains("a", "b"));
+    verify(pollContext, times(2)).accept(any());
+  }
+
+  @Test
+  public void acceptAllWithoutItems() {
+    assertThat(pollContext.acceptAll(new ArrayList<String>(), (item, polledItem) -> populatedItems.add(item)).isEmpty(),
+               is(true));
+    verify(pollContext, times(0)).accept(any());
+  }
+
+  private void statuses(PollItemStatus... statuses) {
+    Iterator<PollItemStatus> next = asList(statuses).iterator();
+    when(pollContext.accept(any())).thenAnswer(invocation -> {
+      Consumer<PollItem<String, Void>> consumer = invocation.getArgument(0);
+      consumer.accept(pollItem);
+      return next.next();
+    });
+  }
+}
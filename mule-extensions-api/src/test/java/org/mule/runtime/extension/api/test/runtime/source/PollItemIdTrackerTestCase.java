@@ -0,0 +1,133 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.runtime.source;
+
+import static java.util.Arrays.asList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import org.mule.runtime.extension.api.runtime.source.BloomFilterPollItemIdTracker;
+import org.mule.runtime.extension.api.runtime.source.BoundedPollItemIdTracker;
+import org.mule.runtime.extension.api.runtime.source.PollItemIdTracker;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class PollItemIdTrackerTestCase {
+
+  @Test
+  public void boundedTrackerForgetsOldestIds() {
+    BoundedPollItemIdTracker tracker = new BoundedPollItemIdTracker(2);
+    tracker.addAll(asList("a", "b", "c"));
+
+    assertThat(tracker.size(), is(2));
+    assertThat(tracker.contains("a"), is(false));
+    assertThat(tracker.getTracked(asList("a", "b", "c", "d")), contains("b", "c"));
+  }
+
+  @Test
+  public void bloomFilterTrackerDelegatesUntilCleared() {
+    CountingTracker delegate = new CountingTracker();
+    delegate.add("fromPreviousExecution");
+    PollItemIdTracker tracker = new BloomFilterPollItemIdTracker(delegate, 100, 0.01);
+
+    assertThat(tracker.contains("fromPreviousExecution"), is(true));
+    assertThat(tracker.contains("new"), is(false));
+    assertThat(delegate.lookups, is(2));
+  }
+
+  @Test
+  public void bloomFilterTrackerSkipsDelegateForUntrackedIds() {
+    CountingTracker delegate = new CountingTracker();
+    PollItemIdTracker tracker = new BloomFilterPollItemIdTracker(delegate, 1000, 0.01);
+    tracker.clear();
+
+    List<String> tracked = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      tracked.add("tracked" + i);
+    }
+    tracker.addAll(tracked);
+
+    List<String> untracked = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      untracked.add("untracked" + i);
+    }
+
+    assertThat(tracker.getTracked(untracked), is(empty()));
+    assertThat(delegate.lookups, is(lessThan(50)));
+
+    delegate.lookups = 0;
+    assertThat(tracker.getTracked(tracked).size(), is(tracked.size()));
+    assertThat(delegate.lookups, is(tracked.size()));
+  }
+
+  @Test
+  public void bloomFilterTrackerRemovesFromDelegate() {
+    PollItemIdTracker tracker = new BloomFilterPollItemIdTracker(new CountingTracker(), 100, 0.01);
+    tracker.clear();
+    tracker.add("id");
+    tracker.remove("id");
+
+    assertThat(tracker.contains("id"), is(false));
+  }
+
+  @Test
+  public void bloomFilterTrackerKeepsIdsAddedWhileClearing() {
+    CountingTracker delegate = new CountingTracker();
+    PollItemIdTracker tracker = new BloomFilterPollItemIdTracker(delegate, 100, 0.01);
+    // another thread adding an id right after the delegate is cleared, but before the clear finishes
+    delegate.afterClear = () -> tracker.add("addedWhileClearing");
+    tracker.clear();
+
+    assertThat(tracker.contains("addedWhileClearing"), is(true));
+    assertThat(tracker.getTracked(asList("addedWhileClearing", "new")), contains("addedWhileClearing"));
+  }
+
+  private static class CountingTracker implements PollItemIdTracker {
+
+    private final PollItemIdTracker tracker = new BoundedPollItemIdTracker(Integer.MAX_VALUE);
+    private int lookups;
+    private Runnable afterClear = () -> {
+    };
+
+    @Override
+    public boolean contains(String id) {
+      lookups++;
+      return tracker.contains(id);
+    }
+
+    @Override
+    public Set<String> getTracked(Collection<String> ids) {
+      lookups += ids.size();
+      return tracker.getTracked(ids);
+    }
+
+    @Override
+    public void add(String id) {
+      tracker.add(id);
+    }
+
+    @Override
+    public void remove(String id) {
+      tracker.remove(id);
+    }
+
+    @Override
+    public void clear() {
+      tracker.clear();
+      afterClear.run();
+    }
+  }
+}
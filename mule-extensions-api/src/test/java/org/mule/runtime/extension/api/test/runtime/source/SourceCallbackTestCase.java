@@ -0,0 +1,86 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.runtime.source;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.extension.api.runtime.source.SourceCallback;
+import org.mule.runtime.extension.api.runtime.source.SourceCallbackContext;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+public class SourceCallbackTestCase {
+
+  private SourceCallback<String, Object> callback;
+
+  private final Result<String, Object> first = Result.<String, Object>builder().output("first").build();
+  private final Result<String, Object> second = Result.<String, Object>builder().output("second").build();
+
+  @Before
+  public void before() {
+    callback = mock(SourceCallback.class, CALLS_REAL_METHODS);
+  }
+
+  @Test
+  public void handleBatchHandlesEachResultInOrder() {
+    callback.handleBatch(asList(first, second));
+
+    InOrder inOrder = inOrder(callback);
+    inOrder.verify(callback).handle(first);
+    inOrder.verify(callback).handle(second);
+  }
+
+  @Test
+  public void handleBatchWithContextsHandlesEachResultWithItsContext() {
+    SourceCallbackContext firstContext = mock(SourceCallbackContext.class);
+    SourceCallbackContext secondContext = mock(SourceCallbackContext.class);
+
+    callback.handleBatch(asList(first, second), asList(firstContext, secondContext));
+
+    InOrder inOrder = inOrder(callback);
+    inOrder.verify(callback).handle(first, firstContext);
+    inOrder.verify(callback).handle(second, secondContext);
+  }
+
+  @Test
+  public void handleBatchWithMissingContexts() {
+    try {
+      callback.handleBatch(asList(first, second), singletonList(mock(SourceCallbackContext.class)));
+      fail("Expected the batch to be rejected");
+    } catch (IllegalArgumentException e) {
+      verify(callback, never()).handle(any(), any());
+    }
+  }
+
+  @Test
+  public void createContexts() {
+    when(callback.createContext()).thenReturn(mock(SourceCallbackContext.class));
+
+    List<SourceCallbackContext> contexts = callback.createContexts(3);
+
+    assertThat(contexts, hasSize(3));
+    verify(callback, times(3)).createContext();
+  }
+}
@@ -8,10 +8,17 @@ package org.mule.runtime.extension.api.test.util;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 import org.mule.runtime.extension.api.util.HierarchyClassMap;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
 import java.util.stream.Stream;
 
 import org.junit.Before;
@@ -55,6 +62,110 @@ public class HierarchyClassMapTestCase {
     assertThat(map.containsKey(Dog.class), is(true));
   }
 
+  @Test
+  public void missIsInvalidatedOnPut() {
+    assertThat(map.containsKey(Animal.class), is(false));
+    assertThat(map.get(Animal.class), is(nullValue()));
+
+    map.put(Cat.class, new Cat());
+
+    assertThat(map.containsKey(Animal.class), is(true));
+    assertThat(map.get(Animal.class), is(instanceOf(Cat.class)));
+  }
+
+  @Test
+  public void hitIsInvalidatedOnRemove() {
+    map.put(Cat.class, new Cat());
+    assertThat(map.get(Animal.class), is(instanceOf(Cat.class)));
+
+    map.remove(Cat.class);
+
+    assertThat(map.containsKey(Animal.class), is(false));
+    assertThat(map.get(Animal.class), is(nullValue()));
+  }
+
+  @Test
+  public void hierarchicalMatchOfNullValue() {
+    map.put(Cat.class, null);
+
+    assertThat(map.containsKey(Animal.class), is(true));
+    assertThat(map.get(Animal.class), is(nullValue()));
+    assertThat(map.getOrDefault(Animal.class, new Cat()), is(nullValue()));
+  }
+
+  @Test
+  public void lookedUpClassesCanBeCollected() throws Exception {
+    WeakReference<ClassLoader> classLoader = lookUpIsolatedClass();
+    for (int i = 0; i < 50 && classLoader.get() != null; i++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+
+    assertThat(classLoader.get(), is(nullValue()));
+  }
+
+  private WeakReference<ClassLoader> lookUpIsolatedClass() throws Exception {
+    ClassLoader classLoader = new IsolatingClassLoader(getClass().getClassLoader());
+    Class<?> stray = classLoader.loadClass(Stray.class.getName());
+    assertThat(stray, is(not(sameInstance(Stray.class))));
+
+    assertThat(map.containsKey(stray), is(false));
+    assertThat(map.get(stray), is(nullValue()));
+    return new WeakReference<>(classLoader);
+  }
+
+  /**
+   * Defines its own copy of {@link Stray}, so that it can be collected along with this class loader.
+   */
+  private static class IsolatingClassLoader extends ClassLoader {
+
+    private IsolatingClassLoader(ClassLoader parent) {
+      super(parent);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if (!Stray.class.getName().equals(name)) {
+        return super.loadClass(name, resolve);
+      }
+
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> loaded = findLoadedClass(name);
+        if (loaded == null) {
+          byte[] bytes = readClass(name);
+          loaded = defineClass(name, bytes, 0, bytes.length);
+        }
+        return loaded;
+      }
+    }
+
+    private byte[] readClass(String name) throws ClassNotFoundException {
+      try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+          out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+      } catch (IOException e) {
+        throw new ClassNotFoundException(name, e);
+      }
+    }
+  }
+
+  public static class Stray {
+
+  }
+
+
+  public interface Animal {
+
+  }
+
+  public static class Cat implements Animal {
+
+  }
 
   public static class Dog {
 